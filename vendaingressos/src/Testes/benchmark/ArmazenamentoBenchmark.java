@@ -0,0 +1,104 @@
+package Testes.benchmark;
+
+import aplication.filemanagement.Armazenamento;
+import aplication.filemanagement.FabricaArmazenamento;
+import aplication.filemanagement.FileManager;
+import aplication.filemanagement.TipoArmazenamento;
+import aplication.model.Ingresso;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark de vazão comum a todos os formatos de armazenamento, para escolher o formato de cada entidade.
+ * <p>
+ * Para cada formato: grava um lote de ingressos, faz atualizações individuais (como o cancelamento de um
+ * ingresso), relê tudo em uma nova instância e mede o espaço ocupado em disco.
+ * <p>
+ * Uso: {@code java Testes.benchmark.ArmazenamentoBenchmark [itens] [atualizacoes]}.
+ */
+public class ArmazenamentoBenchmark {
+    private static final Type TIPO = new TypeToken<List<Ingresso>>() {}.getType();
+
+    private static class RepositorioIngressos extends FileManager<Ingresso> {
+        RepositorioIngressos(String caminho, Armazenamento<Ingresso> armazenamento) {
+            super(caminho, TIPO, armazenamento, true);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int itens = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int atualizacoes = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        System.out.printf("%-9s %14s %16s %14s %12s%n", "formato", "lote (itens/s)", "atualiz. (ops/s)",
+                "leitura (ms)", "disco (KB)");
+        for (TipoArmazenamento tipo : TipoArmazenamento.values()) {
+            Path pasta = Files.createTempDirectory("benchmark-" + tipo.name().toLowerCase());
+            try {
+                medir(tipo, pasta, itens, atualizacoes);
+            } finally {
+                apagar(pasta);
+            }
+        }
+    }
+
+    private static void medir(TipoArmazenamento tipo, Path pasta, int itens, int atualizacoes) throws IOException {
+        String caminho = new File(pasta.toFile(), "ingressos.json").getPath();
+
+        List<Ingresso> ingressos = new ArrayList<>(itens);
+        UUID evento = UUID.randomUUID();
+        for (int i = 0; i < itens; i++) {
+            ingressos.add(new Ingresso(evento, UUID.randomUUID(), 150.0, "A" + i));
+        }
+
+        RepositorioIngressos repositorio = new RepositorioIngressos(caminho,
+                FabricaArmazenamento.criar(tipo, "ingressos", caminho, TIPO));
+        long inicio = System.nanoTime();
+        repositorio.saveAll(ingressos);
+        double lote = itens / segundosDesde(inicio);
+
+        inicio = System.nanoTime();
+        for (int i = 0; i < atualizacoes; i++) {
+            Ingresso ingresso = ingressos.get((i * 7919) % itens);
+            ingresso.setAtivo(!ingresso.isAtivo());
+            repositorio.update(ingresso);
+        }
+        double atualizacoesPorSegundo = atualizacoes / segundosDesde(inicio);
+
+        inicio = System.nanoTime();
+        int lidos = new RepositorioIngressos(caminho, FabricaArmazenamento.criar(tipo, "ingressos", caminho, TIPO))
+                .getAll().size();
+        double leituraMs = segundosDesde(inicio) * 1000;
+        if (lidos != itens) {
+            throw new IllegalStateException(tipo + ": " + lidos + " itens lidos, " + itens + " esperados");
+        }
+
+        System.out.printf("%-9s %14.0f %16.0f %14.1f %12d%n", tipo.name().toLowerCase(), lote, atualizacoesPorSegundo,
+                leituraMs, tamanho(pasta) / 1024);
+    }
+
+    private static double segundosDesde(long inicio) {
+        return (System.nanoTime() - inicio) / 1e9;
+    }
+
+    private static long tamanho(Path pasta) throws IOException {
+        try (Stream<Path> arquivos = Files.walk(pasta)) {
+            return arquivos.filter(Files::isRegularFile).mapToLong(arquivo -> arquivo.toFile().length()).sum();
+        }
+    }
+
+    private static void apagar(Path pasta) throws IOException {
+        try (Stream<Path> arquivos = Files.walk(pasta)) {
+            arquivos.sorted(Comparator.reverseOrder()).forEach(arquivo -> arquivo.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package Testes.benchmark;
+
+import aplication.filemanagement.EventoFileManager;
+import aplication.model.Evento;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark do autocompletar de eventos ({@link EventoFileManager#INDICE_AUTOCOMPLETAR}): tempo da primeira
+ * sugestão após a carga, que ordena as chaves, e tempo médio de uma sugestão a cada tecla, com prefixos curtos
+ * (faixas grandes do índice) e longos, e logo após a atualização de um evento.
+ * <p>
+ * Uso: {@code java Testes.benchmark.AutocompletarBenchmark [eventos] [repeticoes]}.
+ */
+public class AutocompletarBenchmark {
+    private static final String[] TIPOS = {"Show", "Festival", "Teatro", "Concerto", "Stand-up", "Ópera", "Balé", "Exposição"};
+    private static final String[] PALAVRAS = {"rock", "jazz", "samba", "clássica", "acústico", "infantil", "nacional",
+            "internacional", "orquestra", "banda", "comédia", "dança", "música", "arte", "cinema", "poesia", "pagode",
+            "eletrônica", "forró", "sertanejo", "instrumental", "coral", "circo", "mágica", "improviso"};
+    private static final int LIMITE = 8;
+
+    public static void main(String[] args) throws IOException {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int repeticoes = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+        Path pasta = Files.createTempDirectory("benchmark-autocompletar");
+        try {
+            EventoFileManager eventos = new EventoFileManager(new File(pasta.toFile(), "eventos.json").getPath());
+            Random aleatorio = new Random(42);
+            List<Evento> lista = new ArrayList<>(quantidade);
+            long agora = System.currentTimeMillis();
+            for (int i = 0; i < quantidade; i++) {
+                String nome = TIPOS[aleatorio.nextInt(TIPOS.length)] + " de " + PALAVRAS[aleatorio.nextInt(PALAVRAS.length)] + " " + i;
+                Date data = new Date(agora + (aleatorio.nextInt(730) - 365) * 86_400_000L); // Metade já aconteceu
+                lista.add(new Evento(nome, "Descrição", data, 50.0));
+            }
+            eventos.saveAll(lista);
+
+            // Um FileManager novo relê o arquivo e reconstrói todos os índices; a primeira sugestão ordena as chaves
+            EventoFileManager relido = new EventoFileManager(new File(pasta.toFile(), "eventos.json").getPath());
+            relido.getById(lista.get(0).getId());
+            long inicio = System.nanoTime();
+            sugerir(relido, "j");
+            System.out.printf("primeira sugestão após a carga de %d eventos: %.1f ms%n", quantidade, (System.nanoTime() - inicio) / 1e6);
+
+            System.out.printf("%-40s %12s %14s%n", "prefixo", "sugestões", "us/sugestão");
+            medir(relido, "j", repeticoes);
+            medir(relido, "ja", repeticoes);
+            medir(relido, "jazz", repeticoes);
+            medir(relido, "show de j", repeticoes);
+            medir(relido, lista.get(quantidade / 2).getNome().substring(0, 12), repeticoes);
+
+            // Cada atualização deixa uma chave pendente, intercalada na sugestão seguinte
+            long total = 0;
+            for (int i = 0; i < 50; i++) {
+                Evento evento = lista.get(aleatorio.nextInt(quantidade));
+                evento.setNome("Festival de jazz " + i);
+                relido.update(evento);
+                long antes = System.nanoTime();
+                sugerir(relido, "ja");
+                total += System.nanoTime() - antes;
+            }
+            System.out.printf("%-40s %12s %14.1f%n", "após atualização (ja)", "-", total / 1e3 / 50);
+        } finally {
+            try (Stream<Path> arquivos = Files.walk(pasta)) {
+                arquivos.sorted(Comparator.reverseOrder()).forEach(arquivo -> arquivo.toFile().delete());
+            }
+        }
+    }
+
+    private static List<Evento> sugerir(EventoFileManager eventos, String prefixo) {
+        return eventos.findByPrefixo(EventoFileManager.INDICE_AUTOCOMPLETAR, prefixo, System.currentTimeMillis() + 1, evento -> true, LIMITE);
+    }
+
+    private static void medir(EventoFileManager eventos, String prefixo, int repeticoes) {
+        // Aquecimento, para medir o código já compilado pelo JIT
+        for (int i = 0; i < Math.min(repeticoes, 200); i++) {
+            sugerir(eventos, prefixo);
+        }
+        int resultados = 0;
+        long inicio = System.nanoTime();
+        for (int i = 0; i < repeticoes; i++) {
+            resultados = sugerir(eventos, prefixo).size();
+        }
+        System.out.printf("%-40s %12d %14.1f%n", prefixo, resultados, (System.nanoTime() - inicio) / 1e3 / repeticoes);
+    }
+}
@@ -0,0 +1,79 @@
+package Testes.benchmark;
+
+import aplication.filemanagement.EventoFileManager;
+import aplication.model.Evento;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark da busca textual de eventos ({@link EventoFileManager#INDICE_TEXTO}): tempo de indexação de todo o
+ * catálogo e tempo médio de buscas com termos raros, comuns e combinados.
+ * <p>
+ * Uso: {@code java Testes.benchmark.BuscaEventosBenchmark [eventos] [repeticoes]}.
+ */
+public class BuscaEventosBenchmark {
+    private static final String[] TIPOS = {"Show", "Festival", "Teatro", "Concerto", "Stand-up", "Ópera", "Balé", "Exposição"};
+    private static final String[] PALAVRAS = {"rock", "jazz", "samba", "clássica", "acústico", "infantil", "nacional",
+            "internacional", "orquestra", "banda", "comédia", "dança", "música", "arte", "cinema", "poesia", "pagode",
+            "eletrônica", "forró", "sertanejo", "instrumental", "coral", "circo", "mágica", "improviso"};
+    private static final int LIMITE = 50;
+
+    public static void main(String[] args) throws IOException {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int repeticoes = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+        Path pasta = Files.createTempDirectory("benchmark-busca");
+        try {
+            EventoFileManager eventos = new EventoFileManager(new File(pasta.toFile(), "eventos.json").getPath());
+            Random aleatorio = new Random(42);
+            List<Evento> lista = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                String nome = TIPOS[aleatorio.nextInt(TIPOS.length)] + " " + PALAVRAS[aleatorio.nextInt(PALAVRAS.length)] + " " + i;
+                StringBuilder descricao = new StringBuilder("Uma noite de");
+                for (int palavra = 0; palavra < 12; palavra++) {
+                    descricao.append(' ').append(PALAVRAS[aleatorio.nextInt(PALAVRAS.length)]);
+                }
+                lista.add(new Evento(nome, descricao.toString(), new Date(), 50.0));
+            }
+            eventos.saveAll(lista);
+
+            // Um FileManager novo relê o arquivo e reconstrói todos os índices
+            EventoFileManager relido = new EventoFileManager(new File(pasta.toFile(), "eventos.json").getPath());
+            long inicio = System.nanoTime();
+            relido.getById(lista.get(0).getId());
+            System.out.printf("leitura e indexação de %d eventos: %.0f ms%n", quantidade, (System.nanoTime() - inicio) / 1e6);
+
+            System.out.printf("%-40s %12s %14s%n", "busca", "resultados", "us/busca");
+            medir(relido, "nome completo", lista.get(quantidade / 2).getNome(), repeticoes);
+            medir(relido, "termo comum", "jazz", repeticoes);
+            medir(relido, "dois termos", "ópera jazz", repeticoes);
+            medir(relido, "três termos", "teatro samba poesia", repeticoes);
+        } finally {
+            try (Stream<Path> arquivos = Files.walk(pasta)) {
+                arquivos.sorted(Comparator.reverseOrder()).forEach(arquivo -> arquivo.toFile().delete());
+            }
+        }
+    }
+
+    private static void medir(EventoFileManager eventos, String rotulo, String texto, int repeticoes) {
+        // Aquecimento, para medir o código já compilado pelo JIT
+        for (int i = 0; i < Math.min(repeticoes, 200); i++) {
+            eventos.findByTexto(EventoFileManager.INDICE_TEXTO, texto, evento -> true, LIMITE);
+        }
+        int resultados = 0;
+        long inicio = System.nanoTime();
+        for (int i = 0; i < repeticoes; i++) {
+            resultados = eventos.findByTexto(EventoFileManager.INDICE_TEXTO, texto, evento -> true, LIMITE).size();
+        }
+        System.out.printf("%-40s %12d %14.1f%n", rotulo + " (" + texto + ")", resultados, (System.nanoTime() - inicio) / 1e3 / repeticoes);
+    }
+}
@@ -0,0 +1,81 @@
+package Testes.benchmark;
+
+import aplication.filemanagement.EventoFileManager;
+import aplication.model.ConsultaEventos;
+import aplication.model.Evento;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark das consultas de eventos: a varredura de todos os eventos em memória, como era feita a listagem de
+ * eventos futuros, contra as consultas sobre os índices ordenados de {@link EventoFileManager}.
+ * <p>
+ * Uso: {@code java Testes.benchmark.ConsultaEventosBenchmark [eventos] [repeticoes]}.
+ */
+public class ConsultaEventosBenchmark {
+    private static final int PAGINA = 50;
+
+    public static void main(String[] args) throws IOException {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int repeticoes = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+        Path pasta = Files.createTempDirectory("benchmark-consultas");
+        try {
+            EventoFileManager eventos = new EventoFileManager(new File(pasta.toFile(), "eventos.json").getPath());
+            long agora = System.currentTimeMillis();
+            List<Evento> lista = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                // Metade dos eventos já aconteceu; os futuros se espalham pelos próximos dias
+                long data = agora + (i % 2 == 0 ? -1 : 1) * (i + 1) * 60_000L;
+                lista.add(new Evento("Evento " + i, "Descrição " + i, new Date(data), 10.0 + i % 500));
+            }
+            eventos.saveAll(lista);
+
+            System.out.printf("%-26s %14s%n", "consulta", "us/consulta");
+            medir("varredura: futuros", repeticoes, () -> {
+                Date hoje = new Date();
+                try (Stream<Evento> todos = eventos.stream()) {
+                    return todos.filter(evento -> hoje.before(evento.getData())).limit(PAGINA).collect(Collectors.toList());
+                }
+            });
+            medir("indice: futuros", repeticoes, () -> eventos.consultar(
+                    ConsultaEventos.construtor().futuros().pagina(0, PAGINA).construir(), evento -> true));
+            medir("varredura: preco <= 12", repeticoes, () -> {
+                try (Stream<Evento> todos = eventos.stream()) {
+                    return todos.filter(evento -> evento.getPreco() <= 12.0)
+                            .sorted(Comparator.comparingDouble(Evento::getPreco)).limit(PAGINA).collect(Collectors.toList());
+                }
+            });
+            medir("indice: preco <= 12", repeticoes, () -> eventos.consultar(ConsultaEventos.construtor().precoMaximo(12.0)
+                    .ordenarPor(ConsultaEventos.Ordem.PRECO).pagina(0, PAGINA).construir(), evento -> true));
+        } finally {
+            try (Stream<Path> arquivos = Files.walk(pasta)) {
+                arquivos.sorted(Comparator.reverseOrder()).forEach(arquivo -> arquivo.toFile().delete());
+            }
+        }
+    }
+
+    private static void medir(String rotulo, int repeticoes, Supplier<List<Evento>> consulta) {
+        // Aquecimento, para medir o código já compilado pelo JIT
+        for (int i = 0; i < Math.min(repeticoes, 200); i++) {
+            consulta.get();
+        }
+        long inicio = System.nanoTime();
+        for (int i = 0; i < repeticoes; i++) {
+            if (consulta.get().size() != PAGINA) {
+                throw new IllegalStateException("Página incompleta: " + rotulo);
+            }
+        }
+        System.out.printf("%-26s %14.1f%n", rotulo, (System.nanoTime() - inicio) / 1e3 / repeticoes);
+    }
+}
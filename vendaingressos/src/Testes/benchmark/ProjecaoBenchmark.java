@@ -0,0 +1,81 @@
+package Testes.benchmark;
+
+import aplication.filemanagement.Armazenamento;
+import aplication.filemanagement.ArmazenamentoJson;
+import aplication.filemanagement.EventoFileManager;
+import aplication.filemanagement.FileManager;
+import aplication.model.Evento;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark da listagem de eventos lida do arquivo JSON: eventos completos ({@link Armazenamento#percorrer()})
+ * contra a projeção {@link EventoFileManager#RESUMO}, que descarta a descrição sem convertê-la em string.
+ * Mede a vazão e os bytes alocados por evento lido.
+ * <p>
+ * Uso: {@code java Testes.benchmark.ProjecaoBenchmark [eventos] [repeticoes] [tamanho da descrição]}.
+ */
+public class ProjecaoBenchmark {
+    private static final Type TIPO = new TypeToken<List<Evento>>() {}.getType();
+
+    public static void main(String[] args) throws IOException {
+        int eventos = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int repeticoes = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int tamanhoDescricao = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+
+        Path pasta = Files.createTempDirectory("benchmark-projecao");
+        String caminho = new File(pasta.toFile(), "eventos.json").getPath();
+        Armazenamento<Evento> armazenamento = new ArmazenamentoJson<>(caminho, TIPO, FileManager.criarGson());
+        List<Evento> lista = new ArrayList<>();
+        String descricao = "x".repeat(tamanhoDescricao);
+        for (int i = 0; i < eventos; i++) {
+            lista.add(new Evento("Evento " + i, descricao + i, new Date(System.currentTimeMillis() + i * 60_000L), 50.0 + i));
+        }
+        armazenamento.gravar(List.of(), lista).join();
+
+        try {
+            System.out.printf("%-10s %16s %16s%n", "leitura", "itens/s", "bytes/item");
+            medir("completa", eventos, repeticoes, armazenamento::percorrer);
+            medir("projecao", eventos, repeticoes, () -> armazenamento.projetar(EventoFileManager.RESUMO));
+        } finally {
+            Files.deleteIfExists(Path.of(caminho));
+            Files.deleteIfExists(pasta);
+        }
+    }
+
+    private static void medir(String rotulo, int eventos, int repeticoes, Supplier<Stream<?>> leitura) {
+        // Aquecimento, para medir o código já compilado pelo JIT
+        for (int i = 0; i < 3; i++) {
+            contar(leitura);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long alocadoAntes = threads.getCurrentThreadAllocatedBytes();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < repeticoes; i++) {
+            if (contar(leitura) != eventos) {
+                throw new IllegalStateException("Leitura incompleta: " + rotulo);
+            }
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        long alocado = threads.getCurrentThreadAllocatedBytes() - alocadoAntes;
+        System.out.printf("%-10s %16.0f %16d%n", rotulo, eventos * (double) repeticoes / segundos,
+                alocado / ((long) eventos * repeticoes));
+    }
+
+    private static long contar(Supplier<Stream<?>> leitura) {
+        try (Stream<?> itens = leitura.get()) {
+            return itens.count();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package Testes.benchmark;
+
+import aplication.filemanagement.AdaptadorInventarioAssentos;
+import aplication.filemanagement.FileManager;
+import aplication.model.Compra;
+import aplication.model.Evento;
+import aplication.model.Ingresso;
+import aplication.model.InventarioAssentos;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Benchmark de (des)serialização das listas do modelo, comparando o Gson por reflexão, com saída indentada
+ * (configuração antiga dos arquivos), com o Gson de {@link FileManager#criarGson()}, que usa os adaptadores
+ * próprios de cada classe e saída compacta.
+ * <p>
+ * Uso: {@code java Testes.benchmark.SerializacaoBenchmark [itens] [repeticoes]}.
+ */
+public class SerializacaoBenchmark {
+
+    public static void main(String[] args) {
+        int itens = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int repeticoes = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        Gson reflexao = new GsonBuilder()
+                .setPrettyPrinting()
+                .registerTypeAdapter(InventarioAssentos.class, new AdaptadorInventarioAssentos())
+                .create();
+        Gson adaptadores = FileManager.criarGson();
+
+        List<Ingresso> ingressos = new ArrayList<>();
+        List<Compra> compras = new ArrayList<>();
+        for (int i = 0; i < itens; i++) {
+            Ingresso ingresso = new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 100.0 + i % 50, "A" + i);
+            ingressos.add(ingresso);
+            compras.add(new Compra(ingresso.getUsuarioId(), ingresso.getEventoId(), ingresso.getId(),
+                    UUID.randomUUID(), ingresso.getPreco()));
+        }
+        List<Evento> eventos = new ArrayList<>();
+        for (int i = 0; i < itens / 100; i++) {
+            Evento evento = new Evento("Evento " + i, "Descrição do evento " + i, new Date(), 50.0 + i);
+            for (int assento = 1; assento <= 500; assento++) {
+                evento.adicionarAssento("A" + assento);
+            }
+            eventos.add(evento);
+        }
+
+        System.out.printf("%-10s %-12s %16s %16s %12s%n", "tipo", "gson", "escrita (itens/s)",
+                "leitura (itens/s)", "tamanho (KB)");
+        medir("ingressos", ingressos, new TypeToken<List<Ingresso>>() {}.getType(), reflexao, adaptadores, repeticoes);
+        medir("compras", compras, new TypeToken<List<Compra>>() {}.getType(), reflexao, adaptadores, repeticoes);
+        medir("eventos", eventos, new TypeToken<List<Evento>>() {}.getType(), reflexao, adaptadores, repeticoes);
+    }
+
+    private static void medir(String nome, List<?> items, Type tipo, Gson reflexao, Gson adaptadores, int repeticoes) {
+        medir(nome, "reflexao", items, tipo, reflexao, repeticoes);
+        medir(nome, "adaptadores", items, tipo, adaptadores, repeticoes);
+    }
+
+    private static void medir(String nome, String rotulo, List<?> items, Type tipo, Gson gson, int repeticoes) {
+        // Aquecimento, para medir o código já compilado pelo JIT
+        for (int i = 0; i < 3; i++) {
+            gson.fromJson(gson.toJson(items, tipo), tipo);
+        }
+
+        String json = null;
+        long inicio = System.nanoTime();
+        for (int i = 0; i < repeticoes; i++) {
+            json = gson.toJson(items, tipo);
+        }
+        double escrita = items.size() * (double) repeticoes / ((System.nanoTime() - inicio) / 1e9);
+
+        inicio = System.nanoTime();
+        for (int i = 0; i < repeticoes; i++) {
+            List<?> lidos = gson.fromJson(json, tipo);
+            if (lidos.size() != items.size()) {
+                throw new IllegalStateException("Leitura incompleta de " + nome);
+            }
+        }
+        double leitura = items.size() * (double) repeticoes / ((System.nanoTime() - inicio) / 1e9);
+
+        System.out.printf("%-10s %-12s %16.0f %16.0f %12d%n", nome, rotulo, escrita, leitura,
+                json.getBytes(StandardCharsets.UTF_8).length / 1024);
+    }
+}
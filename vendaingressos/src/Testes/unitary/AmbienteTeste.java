@@ -0,0 +1,204 @@
+package Testes.unitary;
+
+import aplication.controller.AvaliacaoController;
+import aplication.controller.CartaoController;
+import aplication.controller.CompraController;
+import aplication.controller.EventoController;
+import aplication.controller.IngressoController;
+import aplication.controller.ReservaController;
+import aplication.controller.UsuarioController;
+import aplication.filemanagement.AvaliacaoFileManager;
+import aplication.filemanagement.CartaoFileManager;
+import aplication.filemanagement.CompraFileManager;
+import aplication.filemanagement.EventoFileManager;
+import aplication.filemanagement.IngressoFileManager;
+import aplication.filemanagement.ReciboFileManager;
+import aplication.filemanagement.UsuarioFileManager;
+import aplication.model.Evento;
+import aplication.model.Usuario;
+import org.junit.rules.ExternalResource;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Ambiente compartilhado pelos testes dos controladores: uma pasta temporária de dados, os controladores de
+ * eventos, usuários e ingressos sobre ela e um administrador já cadastrado.
+ * <p>
+ * Usado como regra do JUnit: cada teste recebe uma pasta nova, apagada ao final.
+ * <pre>
+ * &#64;Rule
+ * public AmbienteTeste ambiente = new AmbienteTeste();
+ * </pre>
+ */
+public class AmbienteTeste extends ExternalResource {
+    private final TemporaryFolder pasta = new TemporaryFolder();
+    private final long duracaoReservaMillis;
+
+    private File dados;
+    private EventoController eventoController;
+    private UsuarioController usuarioController;
+    private ReservaController reservaController;
+    private IngressoController ingressoController;
+    private AvaliacaoController avaliacaoController;
+    private Usuario admin;
+
+    /**
+     * Construtor da classe AmbienteTeste, com reservas de assentos da duração padrão.
+     */
+    public AmbienteTeste() {
+        this(ReservaController.DURACAO_PADRAO_MILLIS);
+    }
+
+    /**
+     * Construtor da classe AmbienteTeste.
+     *
+     * @param duracaoReservaMillis Tempo de cada reserva de assento, em milissegundos.
+     */
+    public AmbienteTeste(long duracaoReservaMillis) {
+        this.duracaoReservaMillis = duracaoReservaMillis;
+    }
+
+    @Override
+    protected void before() throws Throwable {
+        pasta.create();
+        dados = pasta.newFolder("jsonfiles");
+        eventoController = reabrirEventos();
+        usuarioController = new UsuarioController(new UsuarioFileManager(arquivo("usuarios.json").getPath()));
+        reservaController = new ReservaController(duracaoReservaMillis);
+        ingressoController = new IngressoController(new IngressoFileManager(arquivo("ingressos.json").getPath()),
+                eventoController, usuarioController, reservaController);
+        avaliacaoController = new AvaliacaoController(new AvaliacaoFileManager(arquivo("avaliacoes.json").getPath()),
+                usuarioController, eventoController);
+        admin = usuarioController.cadastrar("admin", "senha", "Admin", "000", "admin@example.com", true);
+    }
+
+    @Override
+    protected void after() {
+        reservaController.parar();
+        pasta.delete();
+    }
+
+    /**
+     * Retorna um arquivo dentro da pasta de dados.
+     *
+     * @param nome Nome do arquivo, como "eventos.json".
+     * @return O arquivo na pasta de dados.
+     */
+    public File arquivo(String nome) {
+        return new File(dados, nome);
+    }
+
+    /**
+     * Cria um controlador de eventos novo sobre o mesmo arquivo, que relê tudo do disco.
+     *
+     * @return Controlador de eventos sem nada em memória.
+     */
+    public EventoController reabrirEventos() {
+        return new EventoController(new EventoFileManager(arquivo("eventos.json").getPath()));
+    }
+
+    /**
+     * Retorna uma data a alguns dias de hoje.
+     *
+     * @param dias Quantidade de dias a partir de hoje; negativa para datas passadas.
+     * @return A data correspondente.
+     */
+    public static Date emDias(int dias) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.add(Calendar.DAY_OF_MONTH, dias);
+        return calendar.getTime();
+    }
+
+    /**
+     * Cadastra um evento daqui a um mês, com assentos "A1", "A2", ...
+     *
+     * @param nome     Nome do evento.
+     * @param assentos Quantidade de assentos.
+     * @return O evento cadastrado.
+     */
+    public Evento criarEvento(String nome, int assentos) {
+        return criarEvento(nome, "Evento de teste", emDias(30), 10.0, assentos);
+    }
+
+    /**
+     * Cadastra um evento com assentos "A1", "A2", ...
+     *
+     * @param nome      Nome do evento.
+     * @param descricao Descrição do evento.
+     * @param data      Data do evento.
+     * @param preco     Preço do ingresso.
+     * @param assentos  Quantidade de assentos.
+     * @return O evento cadastrado.
+     */
+    public Evento criarEvento(String nome, String descricao, Date data, double preco, int assentos) {
+        Evento evento = eventoController.cadastrar(admin, nome, descricao, data, preco);
+        if (assentos > 0) {
+            for (int i = 1; i <= assentos; i++) {
+                evento.adicionarAssento("A" + i);
+            }
+            eventoController.salvarAssentos(evento);
+        }
+        return evento;
+    }
+
+    /**
+     * Cria um controlador de compras sobre a pasta de dados, com os controladores do ambiente.
+     *
+     * @param compras Gerenciador das compras, que pode ser substituído para simular falhas de gravação.
+     * @param recibos Gerenciador dos recibos, que pode ser substituído para simular falhas de gravação.
+     * @return Controlador de compras.
+     */
+    public CompraController criarCompraController(CompraFileManager compras, ReciboFileManager recibos) {
+        return new CompraController(compras, recibos, usuarioController, ingressoController,
+                new CartaoController(new CartaoFileManager(arquivo("cartoes.json").getPath())), eventoController,
+                avaliacaoController);
+    }
+
+    /**
+     * Cria um controlador de compras sobre os arquivos de compras e de recibos da pasta de dados.
+     *
+     * @return Controlador de compras.
+     */
+    public CompraController criarCompraController() {
+        return criarCompraController(new CompraFileManager(arquivo("compras.json").getPath()),
+                new ReciboFileManager(arquivo("recibos.json").getPath()));
+    }
+
+    /** Retorna a pasta de dados do teste. */
+    public File getDados() {
+        return dados;
+    }
+
+    /** Retorna o controlador de eventos. */
+    public EventoController getEventoController() {
+        return eventoController;
+    }
+
+    /** Retorna o controlador de usuários. */
+    public UsuarioController getUsuarioController() {
+        return usuarioController;
+    }
+
+    /** Retorna o controlador das reservas de assentos, usado pelo controlador de ingressos. */
+    public ReservaController getReservaController() {
+        return reservaController;
+    }
+
+    /** Retorna o controlador de ingressos. */
+    public IngressoController getIngressoController() {
+        return ingressoController;
+    }
+
+    /** Retorna o controlador de avaliações, usado pelos controladores de compras criados pelo ambiente. */
+    public AvaliacaoController getAvaliacaoController() {
+        return avaliacaoController;
+    }
+
+    /** Retorna o administrador cadastrado, dono dos eventos criados. */
+    public Usuario getAdmin() {
+        return admin;
+    }
+}
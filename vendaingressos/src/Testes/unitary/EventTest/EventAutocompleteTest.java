@@ -0,0 +1,79 @@
+package Testes.unitary.EventTest;
+
+import Testes.unitary.AmbienteTeste;
+import aplication.controller.EventoController;
+import aplication.model.Evento;
+import aplication.model.ResumoEvento;
+import aplication.model.Usuario;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EventAutocompleteTest {
+    @Rule
+    public AmbienteTeste ambiente = new AmbienteTeste();
+
+    private EventoController eventoController;
+    private Usuario admin;
+
+    @Before
+    public void setUp() {
+        eventoController = ambiente.getEventoController();
+        admin = ambiente.getAdmin();
+    }
+
+    private Evento criarEvento(String nome, int diasAteOEvento) {
+        return ambiente.criarEvento(nome, "Descrição", AmbienteTeste.emDias(diasAteOEvento), 10.0, 0);
+    }
+
+    private static List<String> nomes(List<ResumoEvento> eventos) {
+        return eventos.stream().map(ResumoEvento::nome).toList();
+    }
+
+    @Test
+    public void suggestionsMatchWordPrefixesByUpcomingDateTest() {
+        criarEvento("Festival de Jazz", 20);
+        criarEvento("Jazz na Praça", 10);
+        criarEvento("Ópera Carmen", 5);
+        criarEvento("Show do Jazzista", 30);
+
+        assertEquals(List.of("Jazz na Praça", "Festival de Jazz", "Show do Jazzista"), nomes(eventoController.sugerir("jaz", 10)));
+        assertEquals(List.of("Jazz na Praça", "Festival de Jazz"), nomes(eventoController.sugerir("jaz", 2)));
+        assertEquals(List.of("Ópera Carmen"), nomes(eventoController.sugerir("OPE", 10)));
+        assertEquals(List.of("Festival de Jazz"), nomes(eventoController.sugerir("festival de j", 10)));
+        assertEquals(List.of("Jazz na Praça"), nomes(eventoController.sugerir("jazz na", 10)));
+        assertTrue(eventoController.sugerir("rock", 10).isEmpty());
+        assertTrue(eventoController.sugerir("  ", 10).isEmpty());
+    }
+
+    @Test
+    public void suggestionsFollowUpdatesAndDeletesTest() {
+        Evento show = criarEvento("Show de Samba", 10);
+        Evento sarau = criarEvento("Sarau de Poesia", 20);
+
+        show.setNome("Roda de Samba");
+        eventoController.update(show);
+        assertEquals(List.of("Roda de Samba"), nomes(eventoController.sugerir("samba", 10)));
+        assertEquals(List.of("Roda de Samba", "Sarau de Poesia"), nomes(eventoController.sugerir("s", 10)));
+        assertTrue(eventoController.sugerir("show", 10).isEmpty());
+
+        // Eventos que já aconteceram deixam de ser sugeridos
+        sarau.setData(new Date(System.currentTimeMillis() - 60_000));
+        eventoController.update(sarau);
+        assertTrue(eventoController.sugerir("sarau", 10).isEmpty());
+
+        eventoController.delete(admin, show.getId());
+        assertTrue(eventoController.sugerir("roda", 10).isEmpty());
+
+        Evento novo = criarEvento("Samba Enredo", 3);
+        EventoController relido = ambiente.reabrirEventos();
+        List<ResumoEvento> sugeridos = relido.sugerir("samba", 10);
+        assertEquals(1, sugeridos.size());
+        assertEquals(novo.getId(), sugeridos.get(0).id());
+    }
+}
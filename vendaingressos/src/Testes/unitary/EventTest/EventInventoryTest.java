@@ -0,0 +1,106 @@
+package Testes.unitary.EventTest;
+
+import Testes.unitary.AmbienteTeste;
+import aplication.controller.EventoController;
+import aplication.controller.IngressoController;
+import aplication.filemanagement.EventoFileManager;
+import aplication.filemanagement.IngressoFileManager;
+import aplication.filemanagement.MigracaoInventarios;
+import aplication.model.Evento;
+import aplication.model.Ingresso;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class EventInventoryTest {
+    @Rule
+    public AmbienteTeste ambiente = new AmbienteTeste();
+
+    private File dados;
+    private IngressoController ingressoController;
+
+    @Before
+    public void setUp() {
+        dados = ambiente.getDados();
+        ingressoController = ambiente.getIngressoController();
+    }
+
+    private Path inventario(UUID eventoId) {
+        return dados.toPath().resolve("inventarios").resolve(eventoId + ".json");
+    }
+
+    @Test
+    public void saleRewritesOnlyTheEventInventoryTest() throws Exception {
+        Evento show = ambiente.criarEvento("Show", 10);
+        Evento teatro = ambiente.criarEvento("Teatro", 10);
+        Path eventos = dados.toPath().resolve("eventos.json");
+        byte[] eventosAntes = Files.readAllBytes(eventos);
+        byte[] teatroAntes = Files.readAllBytes(inventario(teatro.getId()));
+        byte[] showAntes = Files.readAllBytes(inventario(show.getId()));
+
+        ingressoController.criarIngresso(show.getId(), UUID.randomUUID(), 10.0, "A3");
+
+        assertArrayEquals(eventosAntes, Files.readAllBytes(eventos));
+        assertArrayEquals(teatroAntes, Files.readAllBytes(inventario(teatro.getId())));
+        assertFalse(Arrays.equals(showAntes, Files.readAllBytes(inventario(show.getId()))));
+        assertFalse(new String(eventosAntes, StandardCharsets.UTF_8).contains("assentosDisponiveis"));
+    }
+
+    @Test
+    public void seatsAreLoadedWithTheEventTest() throws Exception {
+        Evento show = ambiente.criarEvento("Show", 5);
+        ingressoController.criarIngresso(show.getId(), UUID.randomUUID(), 10.0, "A1");
+
+        EventoController relido = ambiente.reabrirEventos();
+        Evento lido = relido.getById(show.getId());
+        assertEquals(4, lido.getQuantidadeAssentosDisponiveis());
+        assertFalse(lido.isAssentoDisponivel("A1"));
+        List<Evento> disponiveis = relido.getDisponiveis();
+        assertEquals(1, disponiveis.size());
+        assertEquals(4, disponiveis.get(0).getQuantidadeAssentosDisponiveis());
+    }
+
+    @Test
+    public void embeddedSeatsAreMigratedTest() throws Exception {
+        UUID id = UUID.randomUUID();
+        Path eventos = dados.toPath().resolve("legado").resolve("eventos.json");
+        Files.createDirectories(eventos.getParent());
+        Files.writeString(eventos, "[{\"id\":\"" + id + "\",\"nome\":\"Show\",\"descricao\":\"Antigo\","
+                + "\"data\":\"Dec 16, 2099, 3:01:50 AM\",\"preco\":10.0,\"assentosDisponiveis\":[\"A1\",\"A2\"]}]");
+
+        EventoFileManager eventoFileManager = new EventoFileManager(eventos.toString());
+        assertTrue(MigracaoInventarios.migrar(eventoFileManager));
+        assertFalse(MigracaoInventarios.migrar(eventoFileManager));
+
+        assertFalse(Files.readString(eventos).contains("assentosDisponiveis"));
+        Evento evento = new EventoController(eventoFileManager).getById(id);
+        assertEquals(List.of("A1", "A2"), evento.getAssentosDisponiveis());
+    }
+
+    @Test
+    public void longSeatLabelsAreSoldAndStoredTest() throws Exception {
+        String camarote = "CAMAROTE-NORTE-SETOR-B-FILEIRA-12";  // Maior que o campo do assento no registro do ingresso
+        Evento show = ambiente.criarEvento("Show", 0);
+        show.adicionarAssento("A1");
+        show.adicionarAssento(camarote);
+        ambiente.getEventoController().salvarAssentos(show);
+
+        ingressoController.criarIngresso(show.getId(), UUID.randomUUID(), 10.0, camarote);
+
+        List<Ingresso> ingressos = new IngressoFileManager(ambiente.arquivo("ingressos.json").getPath()).getAll();
+        assertEquals(1, ingressos.size());
+        assertEquals(camarote, ingressos.get(0).getAssento());
+        assertFalse(ambiente.reabrirEventos().getById(show.getId()).isAssentoDisponivel(camarote));
+        assertTrue(ambiente.reabrirEventos().getById(show.getId()).isAssentoDisponivel("A1"));
+    }
+}
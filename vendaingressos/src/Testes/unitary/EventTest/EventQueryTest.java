@@ -0,0 +1,84 @@
+package Testes.unitary.EventTest;
+
+import Testes.unitary.AmbienteTeste;
+import aplication.controller.EventoController;
+import aplication.model.ConsultaEventos;
+import aplication.model.Evento;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.List;
+
+import static Testes.unitary.AmbienteTeste.emDias;
+import static org.junit.Assert.*;
+
+public class EventQueryTest {
+    @Rule
+    public AmbienteTeste ambiente = new AmbienteTeste();
+
+    private EventoController eventoController;
+
+    @Before
+    public void setUp() {
+        eventoController = ambiente.getEventoController();
+    }
+
+    private Evento criarEvento(String nome, int dias, double preco, int assentos) {
+        return ambiente.criarEvento(nome, "Evento de teste", emDias(dias), preco, assentos);
+    }
+
+    private static List<String> nomes(List<Evento> eventos) {
+        return eventos.stream().map(Evento::getNome).toList();
+    }
+
+    @Test
+    public void dateWindowIsOrderedAndPagedTest() {
+        criarEvento("Festival", 30, 80.0, 1);
+        criarEvento("Show", 5, 50.0, 1);
+        criarEvento("Teatro", 10, 40.0, 1);
+        criarEvento("Circo", 60, 30.0, 1);
+
+        assertEquals(List.of("Show", "Teatro", "Festival", "Circo"), nomes(eventoController.getDisponiveis()));
+        ConsultaEventos janela = ConsultaEventos.construtor().futuros().entre(emDias(7), emDias(45)).construir();
+        assertEquals(List.of("Teatro", "Festival"), nomes(eventoController.consultar(janela)));
+        assertEquals(List.of("Teatro", "Festival"), nomes(eventoController.getDisponiveis(1, 2)));
+        assertEquals(List.of("Circo"), nomes(eventoController.getDisponiveis(3, 10)));
+    }
+
+    @Test
+    public void priceAndNamePrefixCriteriaTest() {
+        criarEvento("Ópera Carmen", 20, 120.0, 1);
+        criarEvento("Opereta", 15, 60.0, 1);
+        criarEvento("Orquestra", 25, 45.0, 1);
+
+        ConsultaEventos porPrefixo = ConsultaEventos.construtor().nomeComecandoCom("OPER")
+                .ordenarPor(ConsultaEventos.Ordem.NOME).construir();
+        assertEquals(List.of("Ópera Carmen", "Opereta"), nomes(eventoController.consultar(porPrefixo)));
+
+        ConsultaEventos baratos = ConsultaEventos.construtor().precoMaximo(60.0)
+                .ordenarPor(ConsultaEventos.Ordem.PRECO).construir();
+        assertEquals(List.of("Orquestra", "Opereta"), nomes(eventoController.consultar(baratos)));
+
+        ConsultaEventos combinada = ConsultaEventos.construtor().futuros().precoMaximo(100.0).nomeComecandoCom("ópera").construir();
+        assertTrue(eventoController.consultar(combinada).isEmpty());
+    }
+
+    @Test
+    public void seatsAndUpdatesAreReflectedTest() {
+        Evento lotado = criarEvento("Lotado", 5, 50.0, 0);
+        criarEvento("Livre", 6, 50.0, 2);
+
+        ConsultaEventos comAssentos = ConsultaEventos.construtor().comAssentos().construir();
+        assertEquals(List.of("Livre"), nomes(eventoController.consultar(comAssentos)));
+
+        lotado.setData(emDias(90));
+        eventoController.update(lotado);
+        ConsultaEventos distantes = ConsultaEventos.construtor().entre(emDias(60), null).construir();
+        assertEquals(List.of("Lotado"), nomes(eventoController.consultar(distantes)));
+        assertEquals(List.of("Livre", "Lotado"), nomes(eventoController.getDisponiveis()));
+
+        EventoController relido = ambiente.reabrirEventos();
+        assertEquals(List.of("Lotado"), nomes(relido.consultar(distantes)));
+    }
+}
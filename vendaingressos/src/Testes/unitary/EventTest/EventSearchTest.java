@@ -0,0 +1,77 @@
+package Testes.unitary.EventTest;
+
+import Testes.unitary.AmbienteTeste;
+import aplication.controller.EventoController;
+import aplication.model.Evento;
+import aplication.model.ResumoEvento;
+import aplication.model.Usuario;
+import aplication.util.NormalizacaoTexto;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EventSearchTest {
+    @Rule
+    public AmbienteTeste ambiente = new AmbienteTeste();
+
+    private EventoController eventoController;
+    private Usuario admin;
+
+    @Before
+    public void setUp() {
+        eventoController = ambiente.getEventoController();
+        admin = ambiente.getAdmin();
+    }
+
+    private Evento criarEvento(String nome, String descricao) {
+        return ambiente.criarEvento(nome, descricao, AmbienteTeste.emDias(30), 10.0, 0);
+    }
+
+    private static List<String> nomes(List<Evento> eventos) {
+        return eventos.stream().map(Evento::getNome).toList();
+    }
+
+    @Test
+    public void tokenizationFoldsAccentsAndDropsStopWordsTest() {
+        assertEquals(List.of("concerto", "orquestra", "sao", "joao", "2025"),
+                NormalizacaoTexto.tokenizar("Concerto da Orquestra de São João, 2025!"));
+        assertTrue(NormalizacaoTexto.tokenizar(null).isEmpty());
+    }
+
+    @Test
+    public void multiTermSearchIsRankedTest() {
+        criarEvento("Festival de Inverno", "Música clássica e teatro na praça");
+        criarEvento("Teatro Municipal", "Peça clássica com orquestra");
+        criarEvento("Show de Rock", "Bandas de rock nacional");
+
+        assertEquals(List.of("Teatro Municipal", "Festival de Inverno"), nomes(eventoController.buscar("teatro", 10)));
+        assertEquals(List.of("Teatro Municipal", "Festival de Inverno"), nomes(eventoController.buscar("CLÁSSICA teatro", 10)));
+        assertEquals(List.of("Teatro Municipal"), nomes(eventoController.buscar("classica orquestra", 10)));
+        assertEquals(List.of("Teatro Municipal"), nomes(eventoController.buscar("teatro", 1)));
+        assertTrue(eventoController.buscar("rock jazz", 10).isEmpty());
+        assertTrue(eventoController.buscar("de", 10).isEmpty());
+    }
+
+    @Test
+    public void indexFollowsUpdatesAndDeletesTest() {
+        Evento evento = criarEvento("Show", "Apresentação acústica");
+        Evento outro = criarEvento("Sarau", "Poesia acústica");
+
+        evento.setDescricao("Apresentação elétrica");
+        eventoController.update(evento);
+        assertEquals(List.of("Sarau"), nomes(eventoController.buscar("acustica", 10)));
+        assertEquals(List.of("Show"), nomes(eventoController.buscar("eletrica", 10)));
+
+        eventoController.delete(admin, outro.getId());
+        assertTrue(eventoController.buscar("poesia", 10).isEmpty());
+
+        EventoController relido = ambiente.reabrirEventos();
+        List<ResumoEvento> resumos = relido.buscarResumosDisponiveis("show eletrica", 10);
+        assertEquals(1, resumos.size());
+        assertEquals(evento.getId(), resumos.get(0).id());
+    }
+}
@@ -0,0 +1,63 @@
+package Testes.unitary.EventTest;
+
+import Testes.unitary.AmbienteTeste;
+import aplication.controller.EventoController;
+import aplication.controller.IngressoController;
+import aplication.model.Evento;
+import aplication.model.ResumoEvento;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class EventSummaryTest {
+    @Rule
+    public AmbienteTeste ambiente = new AmbienteTeste();
+
+    private EventoController eventoController;
+    private IngressoController ingressoController;
+
+    @Before
+    public void setUp() {
+        eventoController = ambiente.getEventoController();
+        ingressoController = ambiente.getIngressoController();
+    }
+
+    private Evento criarEvento(String nome, int assentos) {
+        return ambiente.criarEvento(nome, "Descrição de " + nome, AmbienteTeste.emDias(30), 25.0, assentos);
+    }
+
+    @Test
+    public void availableSummariesCarrySeatCountTest() throws Exception {
+        Evento show = criarEvento("Show", 3);
+        Evento teatro = criarEvento("Teatro", 2);
+        ingressoController.criarIngresso(show.getId(), UUID.randomUUID(), 25.0, "A1");
+
+        // Controlador novo: os resumos vêm do arquivo, sem o cache de eventos carregado
+        List<ResumoEvento> resumos = ambiente.reabrirEventos().getResumosDisponiveis(0, 10);
+        assertEquals(List.of(show.getId(), teatro.getId()), resumos.stream().map(ResumoEvento::id).toList());
+        assertEquals("Show", resumos.get(0).nome());
+        assertEquals(show.getData(), resumos.get(0).data());
+        assertEquals(25.0, resumos.get(0).preco(), 0.0);
+        assertEquals(2, resumos.get(0).assentosDisponiveis());
+        assertEquals(2, resumos.get(1).assentosDisponiveis());
+
+        assertEquals(List.of(teatro.getId()), eventoController.getResumosDisponiveis(1, 10).stream().map(ResumoEvento::id).toList());
+    }
+
+    @Test
+    public void summariesByIdKeepRequestedOrderTest() {
+        Evento show = criarEvento("Show", 1);
+        Evento teatro = criarEvento("Teatro", 1);
+
+        List<ResumoEvento> resumos = ambiente.reabrirEventos().getResumos(List.of(teatro.getId(), UUID.randomUUID(), show.getId()));
+        assertEquals(2, resumos.size());
+        assertEquals("Teatro", resumos.get(0).nome());
+        assertEquals("Show", resumos.get(1).nome());
+        assertTrue(resumos.get(0).isAtivo());
+    }
+}
@@ -0,0 +1,156 @@
+package Testes.unitary.EventTest;
+
+import aplication.filemanagement.FileManager;
+import aplication.model.InventarioAssentos;
+import aplication.model.InventarioAssentos.Faixa;
+import com.google.gson.Gson;
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes do inventário compacto de assentos: faixas de rótulos, disponibilidade no bitset e leitura do formato
+ * antigo, em que o evento guardava a lista com os rótulos dos assentos disponíveis.
+ */
+public class InventarioAssentosTest {
+    private final Gson gson = FileManager.criarGson();
+
+    private static InventarioAssentos comAssentos(String prefixo, int quantidade) {
+        InventarioAssentos inventario = new InventarioAssentos();
+        for (int i = 1; i <= quantidade; i++) {
+            inventario.adicionar(String.format("%s%03d", prefixo, i));
+        }
+        return inventario;
+    }
+
+    @Test
+    public void testRotulosSequenciaisFormamUmaFaixa() {
+        InventarioAssentos inventario = comAssentos("A", 500);
+
+        assertEquals(List.of(new Faixa("A", 1, 500, 3)), inventario.getFaixas());
+        assertEquals(500, inventario.getTotal());
+        assertEquals(500, inventario.getQuantidadeDisponiveis());
+        assertEquals(249, inventario.getPosicao("A250"));
+        assertEquals("A250", inventario.getRotulo(249));
+        assertEquals(-1, inventario.getPosicao("A25"));  // Mesmo número, sem os zeros à esquerda
+        assertEquals(-1, inventario.getPosicao("A501"));
+    }
+
+    @Test
+    public void testReservarEDevolverMantemAPosicao() {
+        InventarioAssentos inventario = comAssentos("A", 10);
+
+        assertTrue(inventario.reservar("A005"));
+        assertFalse(inventario.reservar("A005"));
+        assertFalse(inventario.isDisponivel("A005"));
+        assertFalse(inventario.reservar("Z1"));
+        assertEquals(9, inventario.getQuantidadeDisponiveis());
+
+        inventario.adicionar("A005");
+
+        assertTrue(inventario.isDisponivel("A005"));
+        assertEquals(4, inventario.getPosicao("A005"));
+        assertEquals(10, inventario.getTotal());
+        assertEquals("A005", inventario.getDisponiveis().get(4));
+    }
+
+    @Test
+    public void testRotulosForaDoPadraoEForaDeOrdem() {
+        InventarioAssentos inventario = new InventarioAssentos();
+        for (String assento : List.of("B2", "B1", "Camarote", "B3", "A10", "Pista 2")) {
+            inventario.adicionar(assento);
+        }
+
+        assertEquals(List.of("B2", "B1", "Camarote", "B3", "A10", "Pista 2"), inventario.getDisponiveis());
+        assertEquals(2, inventario.getPosicao("Camarote"));
+        assertEquals(3, inventario.getPosicao("B3"));
+        assertEquals(-1, inventario.getPosicao("B4"));
+        assertEquals(-1, inventario.getPosicao(null));
+        assertTrue(inventario.reservar("Pista 2"));
+        assertEquals(List.of("B2", "B1", "Camarote", "B3", "A10"), inventario.getDisponiveis());
+    }
+
+    @Test
+    public void testRotulosEmOrdemInversaSaoEncontrados() {
+        InventarioAssentos inventario = new InventarioAssentos();
+        for (int i = 5000; i >= 1; i--) {
+            inventario.adicionar("B" + i);
+        }
+
+        assertEquals(5000, inventario.getFaixas().size());  // Cada assento fora de ordem é uma faixa
+        assertEquals(0, inventario.getPosicao("B5000"));
+        assertEquals(4999, inventario.getPosicao("B1"));
+        assertEquals(2500, inventario.getPosicao("B2500"));
+        assertEquals(-1, inventario.getPosicao("B5001"));
+        assertEquals(-1, inventario.getPosicao("B0"));
+        assertTrue(inventario.reservar("B1234"));
+        assertFalse(inventario.isDisponivel("B1234"));
+    }
+
+    @Test
+    public void testLargurasDiferentesComOMesmoPrefixo() {
+        InventarioAssentos inventario = new InventarioAssentos();
+        for (int i = 8; i <= 12; i++) {
+            inventario.adicionar("A" + i);  // "A8" a "A12" formam uma faixa de largura 1
+        }
+        for (int i = 1; i <= 9; i++) {
+            inventario.adicionar("A0" + i);  // "A01" a "A09", largura 2
+        }
+        inventario.adicionar("A1");
+
+        assertEquals(List.of(new Faixa("A", 8, 5, 1), new Faixa("A", 1, 9, 2), new Faixa("A", 1, 1, 1)),
+                inventario.getFaixas());
+        assertEquals(2, inventario.getPosicao("A10"));
+        assertEquals(4, inventario.getPosicao("A12"));
+        assertEquals(5, inventario.getPosicao("A01"));
+        assertEquals(12, inventario.getPosicao("A08"));
+        assertEquals(0, inventario.getPosicao("A8"));
+        assertEquals(14, inventario.getPosicao("A1"));
+        assertEquals(-1, inventario.getPosicao("A001"));
+        assertEquals(-1, inventario.getPosicao("A2"));
+        assertEquals(-1, inventario.getPosicao("A13"));
+    }
+
+    @Test
+    public void testBitsAlemDoTotalSaoDescartados() {
+        BitSet bits = new BitSet();
+        bits.set(0, 20);
+
+        InventarioAssentos inventario = new InventarioAssentos(List.of(new Faixa("A", 1, 5, 1)), bits);
+
+        assertEquals(5, inventario.getQuantidadeDisponiveis());
+        assertEquals(List.of("A1", "A2", "A3", "A4", "A5"), inventario.getDisponiveis());
+    }
+
+    @Test
+    public void testFormatoCompactoIdaEVolta() {
+        InventarioAssentos inventario = comAssentos("A", 100);
+        inventario.adicionar("Camarote");
+        inventario.reservar("A007");
+        inventario.reservar("Camarote");
+
+        String json = gson.toJson(inventario, InventarioAssentos.class);
+        InventarioAssentos lido = gson.fromJson(json, InventarioAssentos.class);
+
+        assertTrue(json.startsWith("{\"faixas\":[[\"A\",1,100,3],[\"Camarote\"]],\"disponiveis\":"));
+        assertEquals(inventario.getFaixas(), lido.getFaixas());
+        assertEquals(inventario.getBitsDisponiveis(), lido.getBitsDisponiveis());
+        assertFalse(lido.isDisponivel("A007"));
+        assertFalse(lido.isDisponivel("Camarote"));
+        assertEquals(99, lido.getQuantidadeDisponiveis());
+    }
+
+    @Test
+    public void testFormatoAntigoComListaDeRotulos() {
+        InventarioAssentos lido = gson.fromJson("[\"A1\",\"A2\",\"A3\",\"Camarote\",\"B10\"]", InventarioAssentos.class);
+
+        assertEquals(List.of("A1", "A2", "A3", "Camarote", "B10"), lido.getDisponiveis());
+        assertEquals(List.of(new Faixa("A", 1, 3, 1), new Faixa("Camarote", 0, 1, 0), new Faixa("B", 10, 1, 2)),
+                lido.getFaixas());
+        assertTrue(gson.toJson(lido, InventarioAssentos.class).startsWith("{\"faixas\":"));  // Regravado no formato compacto
+        assertEquals(0, gson.fromJson("null", InventarioAssentos.class).getTotal());
+    }
+}
@@ -0,0 +1,120 @@
+package Testes.unitary.PurchaseTest;
+
+import Testes.unitary.AmbienteTeste;
+import aplication.controller.CompraController;
+import aplication.filemanagement.CompraFileManager;
+import aplication.filemanagement.ReciboFileManager;
+import aplication.model.Evento;
+import aplication.model.ItemHistoricoCompra;
+import aplication.model.Usuario;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes do histórico de compras, montado juntando ingressos, eventos, compras, recibos e avaliações do usuário.
+ */
+public class PurchaseHistoryTest {
+    @Rule
+    public AmbienteTeste ambiente = new AmbienteTeste();
+
+    private Usuario comprador;
+    private Evento show;
+    private Evento teatro;
+    private CompraFileManager compras;
+    private ReciboFileManager recibos;
+    private CompraController compraController;
+
+    @Before
+    public void setUp() throws Exception {
+        comprador = ambiente.getUsuarioController().cadastrar("jose", "senha", "Jose", "111", "jose@example.com", false);
+        show = ambiente.criarEvento("Show", 5);
+        teatro = ambiente.criarEvento("Teatro", 5);
+        compras = new CompraFileManager(ambiente.arquivo("compras.json").getPath());
+        recibos = new ReciboFileManager(ambiente.arquivo("recibos.json").getPath());
+        compraController = ambiente.criarCompraController(compras, recibos);
+    }
+
+    private List<UUID> comprar(Usuario usuario, Evento evento, String... assentos) throws Exception {
+        return compraController.criarRecibo(usuario.getId(), evento.getId(), List.of(assentos), 10.0, UUID.randomUUID());
+    }
+
+    private static List<String> linhas(List<ItemHistoricoCompra> historico) {
+        List<String> linhas = new ArrayList<>();
+        for (ItemHistoricoCompra item : historico) {
+            linhas.add(item.evento().nome() + " " + item.ingresso().getAssento());
+        }
+        return linhas;
+    }
+
+    @Test
+    public void historyKeepsTheTicketOrderAcrossEventsTest() throws Exception {
+        List<UUID> compraShow = comprar(comprador, show, "A1", "A2");
+        comprar(comprador, teatro, "A1");
+        comprar(comprador, show, "A3");
+        Usuario outro = ambiente.getUsuarioController().cadastrar("maria", "senha", "Maria", "222", "maria@example.com", false);
+        comprar(outro, show, "A4");
+
+        List<ItemHistoricoCompra> historico = compraController.getHistoricoCompras(comprador.getId());
+
+        assertEquals(List.of("Show A1", "Show A2", "Teatro A1", "Show A3"), linhas(historico));
+        ItemHistoricoCompra primeiro = historico.get(0);
+        assertEquals(compraShow.get(0), primeiro.compra().getId());
+        assertEquals(primeiro.ingresso().getId(), primeiro.compra().getIdIngresso());
+        assertEquals(primeiro.ingresso().getId(), primeiro.recibo().getIdIngresso());
+        assertEquals(show.getId(), primeiro.evento().id());
+        assertNull(primeiro.avaliacao());
+        assertTrue(compraController.getHistoricoCompras(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    public void missingPurchaseOrReceiptIsNullTest() throws Exception {
+        List<UUID> ids = comprar(comprador, show, "A1", "A2", "A3");
+        compras.delete(ids.get(0));
+        recibos.delete(ids.get(1));
+
+        List<ItemHistoricoCompra> historico = compraController.getHistoricoCompras(comprador.getId());
+
+        assertEquals(List.of("Show A1", "Show A2", "Show A3"), linhas(historico));
+        assertNull(historico.get(0).compra());
+        assertNotNull(historico.get(0).recibo());
+        assertNotNull(historico.get(1).compra());
+        assertNull(historico.get(1).recibo());
+        assertNotNull(historico.get(2).compra());
+        assertNotNull(historico.get(2).recibo());
+    }
+
+    @Test
+    public void ticketsOfDeletedEventsAreSkippedTest() throws Exception {
+        comprar(comprador, show, "A1");
+        comprar(comprador, teatro, "A1", "A2");
+        comprar(comprador, show, "A2");
+
+        ambiente.getEventoController().delete(ambiente.getAdmin(), teatro.getId());
+
+        assertEquals(List.of("Show A1", "Show A2"), linhas(compraController.getHistoricoCompras(comprador.getId())));
+    }
+
+    @Test
+    public void firstRatingOfEachEventIsUsedTest() throws Exception {
+        comprar(comprador, show, "A1", "A2");
+        comprar(comprador, teatro, "A1");
+        show.setData(AmbienteTeste.emDias(-1));
+        ambiente.getEventoController().update(show);
+        ambiente.getAvaliacaoController().criarAvaliacao("Ótimo", 5, comprador.getId(), show.getId());
+        ambiente.getAvaliacaoController().criarAvaliacao("Mudei de ideia", 2, comprador.getId(), show.getId());
+
+        List<ItemHistoricoCompra> historico = compraController.getHistoricoCompras(comprador.getId());
+
+        assertEquals(List.of("Show A1", "Show A2", "Teatro A1"), linhas(historico));
+        assertEquals(5, historico.get(0).avaliacao().getRating());
+        assertEquals(5, historico.get(1).avaliacao().getRating());
+        assertNull(historico.get(2).avaliacao());
+    }
+}
@@ -0,0 +1,98 @@
+package Testes.unitary.PurchaseTest;
+
+import Testes.unitary.AmbienteTeste;
+import aplication.controller.CompraController;
+import aplication.filemanagement.CompraFileManager;
+import aplication.filemanagement.IngressoFileManager;
+import aplication.filemanagement.ReciboFileManager;
+import aplication.model.Compra;
+import aplication.model.Evento;
+import aplication.model.Recibo;
+import aplication.model.Usuario;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes da compra em lote quando as compras ou os recibos não podem ser gravados: a compra é desfeita por
+ * inteiro, sem deixar assentos vendidos nem ingressos sem compra.
+ */
+public class PurchaseRollbackTest {
+    @Rule
+    public AmbienteTeste ambiente = new AmbienteTeste();
+
+    private Usuario comprador;
+    private Evento evento;
+
+    @Before
+    public void setUp() throws Exception {
+        comprador = ambiente.getUsuarioController().cadastrar("jose", "senha", "Jose", "111", "jose@example.com", false);
+        evento = ambiente.criarEvento("Show", 5);
+    }
+
+    private String caminho(String nome) {
+        return ambiente.arquivo(nome).getPath();
+    }
+
+    private void comprarComFalha(CompraController compraController) throws Exception {
+        try {
+            compraController.criarRecibo(comprador.getId(), evento.getId(), List.of("A1", "A2"), 10.0, UUID.randomUUID());
+            fail("A falha na gravação deveria ser propagada");
+        } catch (UncheckedIOException e) {
+            // Esperado
+        }
+    }
+
+    private void assertCompraDesfeita() {
+        for (Evento lido : List.of(ambiente.getEventoController().getById(evento.getId()),
+                ambiente.reabrirEventos().getById(evento.getId()))) {
+            assertTrue(lido.isAssentoDisponivel("A1"));
+            assertTrue(lido.isAssentoDisponivel("A2"));
+        }
+        assertTrue(ambiente.getIngressoController().getAll().isEmpty());
+        assertTrue(new IngressoFileManager(caminho("ingressos.json")).getAll().isEmpty());
+        assertTrue(new CompraFileManager(caminho("compras.json")).getAll().isEmpty());
+        assertTrue(new ReciboFileManager(caminho("recibos.json")).getAll().isEmpty());
+    }
+
+    @Test
+    public void failedPurchaseWriteReturnsSeatsAndDiscardsTicketsTest() throws Exception {
+        CompraFileManager semEspaco = new CompraFileManager(caminho("compras.json")) {
+            @Override
+            public void saveAll(Collection<Compra> novos) {
+                throw new UncheckedIOException(new IOException("Sem espaço no disco"));
+            }
+        };
+
+        comprarComFalha(ambiente.criarCompraController(semEspaco, new ReciboFileManager(caminho("recibos.json"))));
+
+        assertCompraDesfeita();
+    }
+
+    @Test
+    public void failedReceiptWriteAlsoRemovesThePurchasesTest() throws Exception {
+        ReciboFileManager semEspaco = new ReciboFileManager(caminho("recibos.json")) {
+            @Override
+            public void saveAll(Collection<Recibo> novos) {
+                throw new UncheckedIOException(new IOException("Sem espaço no disco"));
+            }
+        };
+
+        comprarComFalha(ambiente.criarCompraController(new CompraFileManager(caminho("compras.json")), semEspaco));
+
+        assertCompraDesfeita();
+        // Os assentos devolvidos podem ser comprados de novo
+        List<UUID> compras = ambiente.criarCompraController()
+                .criarRecibo(comprador.getId(), evento.getId(), List.of("A1", "A2"), 10.0, UUID.randomUUID());
+        assertEquals(2, compras.size());
+        assertFalse(ambiente.getEventoController().getById(evento.getId()).isAssentoDisponivel("A1"));
+    }
+}
@@ -0,0 +1,132 @@
+package Testes.unitary.PurchaseTest;
+
+import Testes.unitary.AmbienteTeste;
+import aplication.controller.CompraController;
+import aplication.filemanagement.CompraFileManager;
+import aplication.filemanagement.ReciboFileManager;
+import aplication.model.Compra;
+import aplication.model.Evento;
+import aplication.model.Ingresso;
+import aplication.model.Recibo;
+import aplication.model.Usuario;
+import aplication.view.ModeloRecibo;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes dos recibos: gravação na compra, busca pelo ingresso, criação dos recibos de compras antigas e
+ * montagem do texto exibido.
+ */
+public class ReceiptTest {
+    @Rule
+    public AmbienteTeste ambiente = new AmbienteTeste();
+
+    private Usuario comprador;
+    private Evento show;
+    private Evento teatro;
+    private CompraFileManager compras;
+    private CompraController compraController;
+
+    @Before
+    public void setUp() throws Exception {
+        comprador = ambiente.getUsuarioController().cadastrar("jose", "senha", "Jose", "111", "jose@example.com", false);
+        show = ambiente.criarEvento("Show", 5);
+        teatro = ambiente.criarEvento("Teatro", 5);
+        compras = new CompraFileManager(ambiente.arquivo("compras.json").getPath());
+        compraController = ambiente.criarCompraController(compras, recibos());
+    }
+
+    private ReciboFileManager recibos() {
+        return new ReciboFileManager(ambiente.arquivo("recibos.json").getPath());
+    }
+
+    private List<UUID> comprar(Evento evento, String... assentos) throws Exception {
+        return compraController.criarRecibo(comprador.getId(), evento.getId(), List.of(assentos), 10.0, UUID.randomUUID());
+    }
+
+    /**
+     * Simula compras feitas antes de existir o arquivo de recibos: as compras continuam gravadas, sem recibo.
+     */
+    private CompraController semRecibos() {
+        recibos().deleteAll();
+        return ambiente.criarCompraController(compras, recibos());
+    }
+
+    @Test
+    public void receiptIsFoundByTicketAfterReopeningTest() throws Exception {
+        List<UUID> ids = comprar(show, "A1", "A2");
+        Compra compra = compras.getById(ids.get(1));
+
+        Recibo recibo = ambiente.criarCompraController().getReciboPorIngresso(compra.getIdIngresso());
+
+        assertEquals(ids.get(1), recibo.getId());
+        assertEquals(compra.getIdIngresso(), recibo.getIdIngresso());
+        assertEquals(comprador.getId(), recibo.getIdUsuario());
+        assertEquals("Show", recibo.getNomeEvento());
+        assertEquals("A2", recibo.getAssento());
+        assertEquals("Boleto", recibo.getMetodoPagamento());
+        assertEquals(ids, recibos().findBy(ReciboFileManager.INDICE_USUARIO, comprador.getId()).stream()
+                .map(Recibo::getId).toList());
+        assertNull(compraController.getReciboPorIngresso(UUID.randomUUID()));
+    }
+
+    @Test
+    public void missingReceiptsAreCreatedOnceTest() throws Exception {
+        List<UUID> ids = comprar(show, "A1", "A2");
+        comprar(teatro, "A1");
+        CompraController controller = semRecibos();
+
+        assertEquals(3, controller.registrarRecibosAusentes());
+        assertEquals(0, controller.registrarRecibosAusentes());
+        assertEquals(0, ambiente.criarCompraController().registrarRecibosAusentes());
+
+        assertEquals(3, recibos().getAll().size());
+        Compra compra = compras.getById(ids.get(0));
+        Recibo recibo = controller.getReciboPorIngresso(compra.getIdIngresso());
+        assertEquals(compra.getId(), recibo.getId());
+        assertEquals("Show", recibo.getNomeEvento());
+        assertEquals("A1", recibo.getAssento());
+    }
+
+    @Test
+    public void purchasesWithoutTicketOrEventAreSkippedTest() throws Exception {
+        List<UUID> ids = comprar(show, "A1", "A2");
+        comprar(teatro, "A1");
+        Ingresso removido = ambiente.getIngressoController().getById(compras.getById(ids.get(0)).getIdIngresso());
+        ambiente.getIngressoController().delete(removido.getId());
+        ambiente.getEventoController().delete(ambiente.getAdmin(), teatro.getId());
+        CompraController controller = semRecibos();
+
+        assertEquals(1, controller.registrarRecibosAusentes());
+
+        List<Recibo> criados = recibos().getAll();
+        assertEquals(1, criados.size());
+        assertEquals(ids.get(1), criados.get(0).getId());
+        assertNull(controller.getReciboPorIngresso(removido.getId()));
+        assertEquals(0, controller.registrarRecibosAusentes());
+    }
+
+    @Test
+    public void receiptTextTest() {
+        UUID idIngresso = UUID.randomUUID();
+        UUID idCompra = UUID.randomUUID();
+        Date data = AmbienteTeste.emDias(30);
+        Recibo recibo = new Recibo(idCompra, idIngresso, comprador.getId(), "Show", data, "A1", 10.0, "Cartão");
+
+        assertEquals("Ingresso de ID: " + idIngresso + "\n"
+                + "Evento: Show\n"
+                + "Data: " + data + "\n"
+                + "Assento: A1\n"
+                + "Preço: 10.0\n"
+                + "Método de pagamento: Cartão\n"
+                + "ID da transação: " + idCompra, ModeloRecibo.renderizar(recibo));
+        assertEquals("Recibo não encontrado.", ModeloRecibo.renderizar(null));
+    }
+}
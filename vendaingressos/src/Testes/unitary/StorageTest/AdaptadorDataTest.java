@@ -0,0 +1,58 @@
+package Testes.unitary.StorageTest;
+
+import aplication.filemanagement.FileManager;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.Date;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes da conversão de datas: milissegundos desde a época na gravação e leitura do formato textual antigo.
+ */
+public class AdaptadorDataTest {
+    private final Gson gson = FileManager.criarGson();
+
+    /** 15/12/2024 às 22:00:00 no fuso padrão, como as versões anteriores gravavam. */
+    private static Date dataLegada() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2024, Calendar.DECEMBER, 15, 22, 0, 0);
+        return calendar.getTime();
+    }
+
+    @Test
+    public void testGravaMilissegundosELeDeVolta() {
+        Date data = new Date(1734310800123L);
+
+        String json = gson.toJson(data, Date.class);
+
+        assertEquals("1734310800123", json);
+        assertEquals(data, gson.fromJson(json, Date.class));
+        assertNull(gson.fromJson("null", Date.class));
+    }
+
+    @Test
+    public void testLeFormatoLegadoComVirgulaAntesDaHora() {
+        assertEquals(dataLegada(), gson.fromJson("\"Dec 15, 2024, 10:00:00 PM\"", Date.class));
+    }
+
+    @Test
+    public void testLeFormatoLegadoSemVirgulaAntesDaHora() {
+        assertEquals(dataLegada(), gson.fromJson("\"Dec 15, 2024 10:00:00 PM\"", Date.class));
+    }
+
+    @Test
+    public void testLeFormatoLegadoComEspacoEstreitoAntesDePM() {
+        assertEquals(dataLegada(), gson.fromJson("\"Dec 15, 2024, 10:00:00\u202FPM\"", Date.class));
+    }
+
+    @Test
+    public void testFormatoDesconhecidoEhRecusado() {
+        assertThrows(JsonParseException.class, () -> gson.fromJson("\"15/12/2024 22:00\"", Date.class));
+        assertThrows(JsonParseException.class, () -> gson.fromJson("\"Dec 32, 2024, 10:00:00 PM\"", Date.class));
+    }
+}
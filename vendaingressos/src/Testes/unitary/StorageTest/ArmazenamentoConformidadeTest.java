@@ -0,0 +1,180 @@
+package Testes.unitary.StorageTest;
+
+import aplication.filemanagement.Armazenamento;
+import aplication.filemanagement.FabricaArmazenamento;
+import aplication.filemanagement.FileManager;
+import aplication.filemanagement.Projecao;
+import aplication.filemanagement.TipoArmazenamento;
+import aplication.model.Ingresso;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes de conformidade executados sobre todos os formatos de armazenamento.
+ */
+@RunWith(Parameterized.class)
+public class ArmazenamentoConformidadeTest {
+    private static final Type TIPO = new TypeToken<List<Ingresso>>() {}.getType();
+
+    @Parameterized.Parameters(name = "{0}")
+    public static TipoArmazenamento[] tipos() {
+        return TipoArmazenamento.values();
+    }
+
+    @Parameterized.Parameter
+    public TipoArmazenamento tipo;
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private String caminho;
+
+    /**
+     * Gerenciador mínimo sobre um armazenamento qualquer, com um índice por usuário.
+     */
+    private static class RepositorioIngressos extends FileManager<Ingresso> {
+        RepositorioIngressos(String caminho, Armazenamento<Ingresso> armazenamento) {
+            super(caminho, TIPO, armazenamento, true);
+            registrarIndice("usuario", Ingresso::getUsuarioId, false);
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        caminho = new File(pasta.newFolder("dados"), "ingressos.json").getPath();
+    }
+
+    private RepositorioIngressos abrir() {
+        Armazenamento<Ingresso> armazenamento = FabricaArmazenamento.criar(tipo, "ingressos", caminho, TIPO);
+        return new RepositorioIngressos(caminho, armazenamento);
+    }
+
+    private static List<Ingresso> criarIngressos(UUID usuario, int quantidade) {
+        UUID evento = UUID.randomUUID();
+        List<Ingresso> ingressos = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            ingressos.add(new Ingresso(evento, usuario, 100.0 + i, "A" + i));
+        }
+        return ingressos;
+    }
+
+    private static List<UUID> ids(List<Ingresso> ingressos) {
+        return ingressos.stream().map(Ingresso::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testSalvarERecarregarMantemItensEOrdem() {
+        List<Ingresso> ingressos = criarIngressos(UUID.randomUUID(), 3);
+        RepositorioIngressos repositorio = abrir();
+        for (Ingresso ingresso : ingressos) {
+            repositorio.save(ingresso);
+        }
+
+        List<Ingresso> lidos = abrir().getAll();
+        assertEquals(ids(ingressos), ids(lidos));
+        assertEquals("A2", lidos.get(2).getAssento());
+        assertEquals(102.0, lidos.get(2).getPreco(), 0.0);
+        assertTrue(lidos.get(2).isAtivo());
+    }
+
+    @Test
+    public void testAtualizacaoPersisteNovoEstado() {
+        List<Ingresso> ingressos = criarIngressos(UUID.randomUUID(), 2);
+        RepositorioIngressos repositorio = abrir();
+        repositorio.saveAll(ingressos);
+
+        Ingresso alterado = ingressos.get(1);
+        alterado.setAtivo(false);
+        repositorio.update(alterado);
+
+        RepositorioIngressos relido = abrir();
+        assertFalse(relido.getById(alterado.getId()).isAtivo());
+        assertTrue(relido.getById(ingressos.get(0).getId()).isAtivo());
+        assertEquals(ids(ingressos), ids(relido.getAll()));
+    }
+
+    @Test
+    public void testRemocaoELimpeza() {
+        List<Ingresso> ingressos = criarIngressos(UUID.randomUUID(), 3);
+        RepositorioIngressos repositorio = abrir();
+        repositorio.saveAll(ingressos);
+
+        repositorio.delete(ingressos.get(1).getId());
+        assertEquals(List.of(ingressos.get(0).getId(), ingressos.get(2).getId()), ids(abrir().getAll()));
+
+        repositorio.deleteAll();
+        assertTrue(abrir().getAll().isEmpty());
+    }
+
+    @Test
+    public void testIndiceReconstruidoAoRecarregar() {
+        UUID usuario = UUID.randomUUID();
+        RepositorioIngressos repositorio = abrir();
+        repositorio.saveAll(criarIngressos(usuario, 4));
+        repositorio.saveAll(criarIngressos(UUID.randomUUID(), 2));
+
+        assertEquals(4, abrir().findBy("usuario", usuario).size());
+    }
+
+    @Test
+    public void testPercorrerEmStreaming() {
+        List<Ingresso> ingressos = criarIngressos(UUID.randomUUID(), 5);
+        abrir().saveAll(ingressos);
+
+        Armazenamento<Ingresso> armazenamento = FabricaArmazenamento.criar(tipo, "ingressos", caminho, TIPO);
+        try (Stream<Ingresso> itens = armazenamento.percorrer()) {
+            assertEquals(ids(ingressos), itens.map(Ingresso::getId).collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Projeção de teste com apenas dois campos do ingresso.
+     */
+    public record PrecoIngresso(UUID id, double preco) {
+    }
+
+    @Test
+    public void testProjecaoLidaDoDiscoIgualADaMemoria() {
+        List<Ingresso> ingressos = criarIngressos(UUID.randomUUID(), 5);
+        RepositorioIngressos repositorio = abrir();
+        repositorio.saveAll(ingressos);
+        Projecao<Ingresso, PrecoIngresso> projecao = new Projecao<>(PrecoIngresso.class,
+                ingresso -> new PrecoIngresso(ingresso.getId(), ingresso.getPreco()));
+
+        List<PrecoIngresso> esperados = ingressos.stream()
+                .map(ingresso -> new PrecoIngresso(ingresso.getId(), ingresso.getPreco()))
+                .collect(Collectors.toList());
+        try (Stream<PrecoIngresso> daMemoria = repositorio.projetar(projecao)) {
+            assertEquals(esperados, daMemoria.collect(Collectors.toList()));
+        }
+        try (Stream<PrecoIngresso> doDisco = abrir().projetar(projecao)) {
+            assertEquals(esperados, doDisco.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testEstadoMudaAposGravacao() {
+        Armazenamento<Ingresso> armazenamento = FabricaArmazenamento.criar(tipo, "ingressos", caminho, TIPO);
+        RepositorioIngressos repositorio = new RepositorioIngressos(caminho, armazenamento);
+        repositorio.saveAll(criarIngressos(UUID.randomUUID(), 1));
+        String antes = armazenamento.estado();
+
+        repositorio.saveAll(criarIngressos(UUID.randomUUID(), 1));
+        assertNotEquals(antes, armazenamento.estado());
+    }
+}
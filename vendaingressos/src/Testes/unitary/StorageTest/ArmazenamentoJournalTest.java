@@ -0,0 +1,171 @@
+package Testes.unitary.StorageTest;
+
+import aplication.filemanagement.Alteracao;
+import aplication.filemanagement.Armazenamento;
+import aplication.filemanagement.ArmazenamentoJournal;
+import aplication.filemanagement.ArmazenamentoJson;
+import aplication.filemanagement.FileManager;
+import aplication.model.Ingresso;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes específicos do journal: recuperação após escritas interrompidas e após falhas no meio da compactação.
+ * O comportamento comum aos formatos está em {@link ArmazenamentoConformidadeTest}.
+ */
+public class ArmazenamentoJournalTest {
+    private static final Type TIPO = new TypeToken<List<Ingresso>>() {}.getType();
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private String caminho;
+    private Path journal;
+
+    /**
+     * Gerenciador mínimo sobre um armazenamento qualquer.
+     */
+    private static class Repositorio extends FileManager<Ingresso> {
+        Repositorio(String caminho, Armazenamento<Ingresso> armazenamento) {
+            super(caminho, TIPO, armazenamento, true);
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        caminho = new File(pasta.newFolder("dados"), "ingressos.json").getPath();
+        journal = Paths.get(caminho + ".journal");
+    }
+
+    private Repositorio abrir() {
+        return new Repositorio(caminho, new ArmazenamentoJournal<>(caminho, TIPO, FileManager.criarGson()));
+    }
+
+    private static Ingresso novoIngresso(String assento) {
+        return new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 10.0, assento);
+    }
+
+    private static List<UUID> ids(List<Ingresso> ingressos) {
+        return ingressos.stream().map(Ingresso::getId).toList();
+    }
+
+    @Test
+    public void testLinhaIncompletaNoFinalEhDescartadaAntesDeNovasGravacoes() throws Exception {
+        Ingresso primeiro = novoIngresso("A1");
+        abrir().save(primeiro);
+        // Escrita interrompida: parte de um registro, sem a quebra de linha final
+        Files.writeString(journal, "{\"tipo\":\"INCLUSAO\",\"item\":{\"id\":\"", StandardOpenOption.APPEND);
+
+        Repositorio reaberto = abrir();
+        assertEquals(List.of(primeiro.getId()), ids(reaberto.getAll()));
+        Ingresso segundo = novoIngresso("A2");
+        reaberto.save(segundo);
+
+        assertEquals(List.of(primeiro.getId(), segundo.getId()), ids(abrir().getAll()));
+        assertTrue(Files.readString(journal, StandardCharsets.UTF_8).endsWith("\n"));
+    }
+
+    @Test
+    public void testLinhaIncompletaDescartadaMesmoSemLeituraAnterior() throws Exception {
+        Ingresso primeiro = novoIngresso("A1");
+        abrir().save(primeiro);
+        Files.writeString(journal, "{\"tipo\":\"INCL", StandardOpenOption.APPEND);
+
+        // Grava direto pelo armazenamento, sem carregar o estado antes
+        Ingresso segundo = novoIngresso("A2");
+        new ArmazenamentoJournal<Ingresso>(caminho, TIPO, FileManager.criarGson())
+                .gravar(List.of(Alteracao.inclusao(segundo)), List.of(primeiro, segundo)).join();
+
+        assertEquals(List.of(primeiro.getId(), segundo.getId()), ids(abrir().getAll()));
+    }
+
+    @Test
+    public void testFalhaAposRotacionarSemNovoSnapshotNaoPerdeDados() throws Exception {
+        Repositorio repositorio = abrir();
+        List<Ingresso> ingressos = List.of(novoIngresso("A1"), novoIngresso("A2"), novoIngresso("A3"));
+        repositorio.saveAll(ingressos);
+        // Falha logo após a rotação: o journal virou segmento e o snapshot ainda não foi gravado
+        Files.move(journal, Paths.get(journal + ".1"));
+
+        assertEquals(ids(ingressos), ids(abrir().getAll()));
+    }
+
+    @Test
+    public void testFalhaAposGravarSnapshotSemApagarSegmentosNaoDuplicaNemPerdeDados() throws Exception {
+        Repositorio repositorio = abrir();
+        List<Ingresso> ingressos = List.of(novoIngresso("A1"), novoIngresso("A2"), novoIngresso("A3"));
+        repositorio.saveAll(ingressos);
+        repositorio.delete(ingressos.get(1).getId());
+        // Falha no fim da compactação: o novo snapshot já contém o segmento, que não chegou a ser apagado
+        Files.move(journal, Paths.get(journal + ".1"));
+        List<Ingresso> estado = List.of(ingressos.get(0), ingressos.get(2));
+        new ArmazenamentoJson<Ingresso>(caminho, TIPO, FileManager.criarGson()).gravar(List.of(), estado).join();
+
+        Repositorio reaberto = abrir();
+        assertEquals(ids(estado), ids(reaberto.getAll()));
+        reaberto.delete(ingressos.get(0).getId());
+        assertEquals(List.of(ingressos.get(2).getId()), ids(abrir().getAll()));
+    }
+
+    @Test
+    public void testCompactacaoEmSegundoPlanoMantemGravacoesFeitasDuranteEla() throws Exception {
+        Repositorio repositorio = new Repositorio(caminho, new ArmazenamentoJournal<>(caminho, TIPO, FileManager.criarGson(), 5));
+        List<Ingresso> ingressos = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Ingresso ingresso = novoIngresso("A" + i);
+            ingressos.add(ingresso);
+            repositorio.save(ingresso); // Cada 5 gravações disparam uma rotação e, se possível, uma compactação
+        }
+
+        // Espera o compactador incorporar os segmentos rotacionados
+        long limite = System.currentTimeMillis() + 10_000;
+        while (!segmentos().isEmpty() && System.currentTimeMillis() < limite) {
+            Thread.sleep(20);
+        }
+        assertTrue(segmentos().isEmpty());
+        assertTrue(Files.size(Paths.get(caminho)) > 0);
+        assertEquals(ids(ingressos), ids(abrir().getAll()));
+    }
+
+    @Test
+    public void testCompactacaoComSnapshotCorrompidoMantemSnapshotESegmentos() throws Exception {
+        List<Ingresso> anteriores = List.of(novoIngresso("A1"), novoIngresso("A2"), novoIngresso("A3"));
+        new ArmazenamentoJson<Ingresso>(caminho, TIPO, FileManager.criarGson()).gravar(List.of(), anteriores).join();
+        // Snapshot truncado logo após um item completo: a leitura tolerante devolve só os dois primeiros
+        Path snapshot = Paths.get(caminho);
+        String original = Files.readString(snapshot, StandardCharsets.UTF_8);
+        Files.writeString(snapshot, original.substring(0, original.lastIndexOf("},") + 2), StandardCharsets.UTF_8);
+        byte[] truncado = Files.readAllBytes(snapshot);
+
+        Repositorio repositorio = new Repositorio(caminho, new ArmazenamentoJournal<>(caminho, TIPO, FileManager.criarGson(), 2));
+        repositorio.save(novoIngresso("B1"));
+        repositorio.save(novoIngresso("B2")); // Dispara a rotação e a compactação em segundo plano
+
+        Thread.sleep(500);
+        assertArrayEquals(truncado, Files.readAllBytes(snapshot));
+        assertTrue(Files.exists(Paths.get(journal + ".1")));
+    }
+
+    private List<Path> segmentos() throws Exception {
+        try (Stream<Path> arquivos = Files.list(journal.getParent())) {
+            return arquivos.filter(arquivo -> arquivo.getFileName().toString().startsWith(journal.getFileName() + ".")).toList();
+        }
+    }
+}
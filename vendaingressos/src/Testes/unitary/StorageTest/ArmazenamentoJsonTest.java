@@ -0,0 +1,147 @@
+package Testes.unitary.StorageTest;
+
+import aplication.filemanagement.Alteracao;
+import aplication.filemanagement.ArmazenamentoJson;
+import aplication.filemanagement.FileManager;
+import aplication.model.Ingresso;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes específicos do arquivo JSON: substituição atômica do arquivo e agrupamento de gravações concorrentes.
+ * O comportamento comum aos formatos está em {@link ArmazenamentoConformidadeTest}.
+ */
+public class ArmazenamentoJsonTest {
+    private static final Type TIPO = new TypeToken<List<Ingresso>>() {}.getType();
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private File dados;
+    private String caminho;
+
+    /**
+     * Arquivo JSON que conta as escritas em disco e pode segurar a primeira até ser liberado.
+     */
+    private static class ArmazenamentoContado extends ArmazenamentoJson<Ingresso> {
+        private final AtomicInteger escritas = new AtomicInteger();
+        private final CountDownLatch escrevendo = new CountDownLatch(1);
+        private final CountDownLatch liberar = new CountDownLatch(1);
+
+        ArmazenamentoContado(String caminho) {
+            super(caminho, TIPO, FileManager.criarGson());
+        }
+
+        @Override
+        protected void writeToFile(Collection<Ingresso> items) throws IOException {
+            escritas.incrementAndGet();
+            escrevendo.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            super.writeToFile(items);
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        dados = pasta.newFolder("dados");
+        caminho = new File(dados, "ingressos.json").getPath();
+    }
+
+    private static Ingresso novoIngresso(String assento) {
+        return new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 100.0, assento);
+    }
+
+    @Test
+    public void testGravacoesFeitasDuranteUmaEscritaSaoAgrupadas() throws Exception {
+        ArmazenamentoContado armazenamento = new ArmazenamentoContado(caminho);
+        List<Ingresso> estado = new ArrayList<>();
+        estado.add(novoIngresso("A0"));
+        CompletableFuture<Void> primeira = armazenamento.gravar(List.of(Alteracao.inclusao(estado.get(0))), List.copyOf(estado));
+        assertTrue(armazenamento.escrevendo.await(5, TimeUnit.SECONDS));
+
+        // Enquanto a primeira escrita está em andamento, as próximas formam um único lote
+        List<CompletableFuture<Void>> seguintes = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            Ingresso ingresso = novoIngresso("A" + i);
+            estado.add(ingresso);
+            seguintes.add(armazenamento.gravar(List.of(Alteracao.inclusao(ingresso)), List.copyOf(estado)));
+        }
+        armazenamento.liberar.countDown();
+        primeira.get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<Void> gravacao : seguintes) {
+            gravacao.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(2, armazenamento.escritas.get());
+        List<Ingresso> relidos = new ArmazenamentoJson<Ingresso>(caminho, TIPO, FileManager.criarGson()).carregar();
+        assertEquals(11, relidos.size());
+        assertEquals("A10", relidos.get(10).getAssento());
+    }
+
+    @Test
+    public void testLeitoresNuncaVeemOArquivoPelaMetade() throws Exception {
+        ArmazenamentoJson<Ingresso> armazenamento = new ArmazenamentoJson<>(caminho, TIPO, FileManager.criarGson());
+        ArmazenamentoJson<Ingresso> leitor = new ArmazenamentoJson<>(caminho, TIPO, FileManager.criarGson());
+        AtomicBoolean terminou = new AtomicBoolean();
+        AtomicReference<Throwable> erro = new AtomicReference<>();
+        AtomicInteger leituras = new AtomicInteger();
+        Thread leitura = new Thread(() -> {
+            while (!terminou.get() && erro.get() == null) {
+                try (Stream<Ingresso> itens = leitor.percorrer()) {
+                    long quantidade = itens.count();
+                    if (quantidade % 20 != 0) {
+                        erro.set(new AssertionError("Arquivo lido pela metade: " + quantidade + " itens"));
+                    }
+                    leituras.incrementAndGet();
+                } catch (RuntimeException e) {
+                    erro.set(e);
+                }
+            }
+        });
+        leitura.start();
+
+        List<Ingresso> estado = new ArrayList<>();
+        for (int lote = 0; lote < 50; lote++) {
+            List<Alteracao<Ingresso>> alteracoes = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                Ingresso ingresso = novoIngresso("L" + lote + "-" + i);
+                estado.add(ingresso);
+                alteracoes.add(Alteracao.inclusao(ingresso));
+            }
+            armazenamento.gravar(alteracoes, List.copyOf(estado)).get(5, TimeUnit.SECONDS);
+        }
+        terminou.set(true);
+        leitura.join();
+
+        assertNull(erro.get());
+        assertTrue(leituras.get() > 0);
+        assertEquals(1000, armazenamento.carregar().size());
+        String[] temporarios = dados.list((diretorio, nome) -> nome.endsWith(".tmp"));
+        assertEquals(0, temporarios.length);
+    }
+}
@@ -0,0 +1,164 @@
+package Testes.unitary.StorageTest;
+
+import aplication.filemanagement.Armazenamento;
+import aplication.filemanagement.FabricaArmazenamento;
+import aplication.filemanagement.FileManager;
+import aplication.filemanagement.TipoArmazenamento;
+import aplication.interfaces.Identificavel;
+import aplication.model.Compra;
+import aplication.model.Ingresso;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes específicos do arquivo de registros de largura fixa: atualização no lugar, campos nulos e leitura do
+ * arquivo JSON legado. O comportamento comum aos formatos está em {@link ArmazenamentoConformidadeTest}.
+ */
+public class ArmazenamentoRegistrosTest {
+    private static final Type TIPO_INGRESSOS = new TypeToken<List<Ingresso>>() {}.getType();
+    private static final Type TIPO_COMPRAS = new TypeToken<List<Compra>>() {}.getType();
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private File dados;
+
+    /**
+     * Gerenciador mínimo sobre um armazenamento qualquer.
+     */
+    private static class Repositorio<T extends Identificavel> extends FileManager<T> {
+        Repositorio(String caminho, Type tipo, Armazenamento<T> armazenamento) {
+            super(caminho, tipo, armazenamento, true);
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        dados = pasta.newFolder("dados");
+    }
+
+    private <T extends Identificavel> Repositorio<T> abrir(TipoArmazenamento tipo, String nome, Type typeOfT) {
+        String caminho = new File(dados, nome + ".json").getPath();
+        return new Repositorio<>(caminho, typeOfT, FabricaArmazenamento.criar(tipo, nome, caminho, typeOfT));
+    }
+
+    @Test
+    public void testAtualizacaoSobrescreveNoLugar() {
+        UUID evento = UUID.randomUUID();
+        List<Ingresso> ingressos = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ingressos.add(new Ingresso(evento, UUID.randomUUID(), 100.0, "A" + i));
+        }
+        Repositorio<Ingresso> repositorio = abrir(TipoArmazenamento.REGISTROS, "ingressos", TIPO_INGRESSOS);
+        repositorio.saveAll(ingressos);
+        File arquivo = new File(dados, "ingressos.dat");
+        long tamanho = arquivo.length();
+
+        Ingresso desativado = ingressos.get(4);
+        desativado.setAtivo(false);
+        repositorio.update(desativado);
+
+        assertEquals(tamanho, arquivo.length());
+        Repositorio<Ingresso> relido = abrir(TipoArmazenamento.REGISTROS, "ingressos", TIPO_INGRESSOS);
+        assertFalse(relido.getById(desativado.getId()).isAtivo());
+        assertEquals("A4", relido.getById(desativado.getId()).getAssento());
+        assertEquals(10, relido.getAll().stream().filter(i -> i.getEventoId().equals(evento)).count());
+    }
+
+    @Test
+    public void testCompraComCamposNulos() {
+        Compra boleto = new Compra(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 150.0, UUID.randomUUID());
+        Compra cartao = new Compra(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 80.0);
+        abrir(TipoArmazenamento.REGISTROS, "compras", TIPO_COMPRAS).saveAll(List.of(boleto, cartao));
+
+        Repositorio<Compra> relido = abrir(TipoArmazenamento.REGISTROS, "compras", TIPO_COMPRAS);
+        Compra lidaBoleto = relido.getById(boleto.getId());
+        assertNull(lidaBoleto.getIdCartao());
+        assertEquals(boleto.getBoleto(), lidaBoleto.getBoleto());
+        assertEquals(boleto.getMetodoPagamento(), lidaBoleto.getMetodoPagamento());
+        assertEquals(boleto.getDataCompra(), lidaBoleto.getDataCompra());
+        Compra lidaCartao = relido.getById(cartao.getId());
+        assertNull(lidaCartao.getBoleto());
+        assertEquals(cartao.getIdCartao(), lidaCartao.getIdCartao());
+        assertEquals(80.0, lidaCartao.getPreco(), 0.0);
+    }
+
+    @Test
+    public void testPrimeiraGravacaoIncluiItensDoJsonLegado() {
+        Ingresso antigo = new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 50.0, "B1");
+        abrir(TipoArmazenamento.JSON, "ingressos", TIPO_INGRESSOS).save(antigo);
+
+        Repositorio<Ingresso> repositorio = abrir(TipoArmazenamento.REGISTROS, "ingressos", TIPO_INGRESSOS);
+        assertNotNull(repositorio.getById(antigo.getId()));
+        Ingresso novo = new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 60.0, "B2");
+        repositorio.save(novo);
+
+        assertTrue(new File(dados, "ingressos.dat").exists());
+        Repositorio<Ingresso> relido = abrir(TipoArmazenamento.REGISTROS, "ingressos", TIPO_INGRESSOS);
+        List<Ingresso> lidos = relido.getAll();
+        assertEquals(List.of(antigo.getId(), novo.getId()), lidos.stream().map(Ingresso::getId).toList());
+    }
+
+    @Test
+    public void testFalhaDeGravacaoPropagaErroEDescartaItemDaMemoria() {
+        Repositorio<Ingresso> repositorio = abrir(TipoArmazenamento.REGISTROS, "ingressos", TIPO_INGRESSOS);
+        Ingresso gravado = new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 50.0, "B1");
+        repositorio.save(gravado);
+
+        // O rótulo passa do tamanho máximo de um campo de texto variável
+        Ingresso grande = new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 50.0, "B".repeat(70_000));
+        assertThrows(UncheckedIOException.class, () -> repositorio.save(grande));
+
+        assertNull(repositorio.getById(grande.getId()));
+        assertNotNull(repositorio.getById(gravado.getId()));
+        assertNull(abrir(TipoArmazenamento.REGISTROS, "ingressos", TIPO_INGRESSOS).getById(grande.getId()));
+    }
+
+    @Test
+    public void testAssentoMaiorQueALarguraUsaRegistrosDeContinuacao() {
+        Repositorio<Ingresso> repositorio = abrir(TipoArmazenamento.REGISTROS, "ingressos", TIPO_INGRESSOS);
+        Ingresso curto = new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 50.0, "A1");
+        Ingresso noLimite = new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 50.0, "ÁREA-NORTE");  // 11 bytes em UTF-8
+        Ingresso longo = new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 50.0, "CAMAROTE-NORTE-SETOR-B-FILEIRA-12");
+        Ingresso muitoLongo = new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 50.0, "Área VIP ".repeat(40).trim());
+        Ingresso depois = new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 50.0, "Z9");
+        List<Ingresso> ingressos = List.of(curto, noLimite, longo, muitoLongo, depois);
+        repositorio.saveAll(ingressos);
+        File arquivo = new File(dados, "ingressos.dat");
+        long tamanho = arquivo.length();
+
+        longo.setAtivo(false);
+        repositorio.update(longo);  // Mesmo tamanho: sobrescreve os registros no lugar
+        assertEquals(tamanho, arquivo.length());
+        repositorio.delete(muitoLongo.getId());
+        Ingresso novo = new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 50.0, "PISTA-PREMIUM-LESTE");
+        repositorio.save(novo);
+
+        Repositorio<Ingresso> relido = abrir(TipoArmazenamento.REGISTROS, "ingressos", TIPO_INGRESSOS);
+        List<Ingresso> lidos = relido.getAll();
+        assertEquals(List.of(curto.getId(), noLimite.getId(), longo.getId(), depois.getId(), novo.getId()),
+                lidos.stream().map(Ingresso::getId).toList());
+        assertEquals(List.of("A1", "ÁREA-NORTE", "CAMAROTE-NORTE-SETOR-B-FILEIRA-12", "Z9", "PISTA-PREMIUM-LESTE"),
+                lidos.stream().map(Ingresso::getAssento).toList());
+        assertFalse(relido.getById(longo.getId()).isAtivo());
+
+        // Outra instância acrescenta depois de reler as posições, inclusive as dos itens com continuação
+        relido.save(new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 50.0, muitoLongo.getAssento()));
+        Repositorio<Ingresso> reaberto = abrir(TipoArmazenamento.REGISTROS, "ingressos", TIPO_INGRESSOS);
+        List<String> assentos = reaberto.getAll().stream().map(Ingresso::getAssento).toList();
+        assertEquals(6, assentos.size());
+        assertEquals(muitoLongo.getAssento(), assentos.get(5));
+    }
+}
@@ -0,0 +1,336 @@
+package Testes.unitary.StorageTest;
+
+import aplication.filemanagement.Alteracao;
+import aplication.filemanagement.ArmazenamentoJson;
+import aplication.filemanagement.FileManager;
+import aplication.model.Ingresso;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes do gerenciador de arquivos genérico sobre o arquivo JSON padrão: cache em memória, buscas e gravações em
+ * lote. Os formatos de armazenamento são testados em {@link ArmazenamentoConformidadeTest}.
+ */
+public class FileManagerTest {
+    private static final Type TIPO = new TypeToken<List<Ingresso>>() {}.getType();
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private String caminho;
+
+    /**
+     * Gerenciador mínimo de ingressos sobre o arquivo JSON.
+     */
+    private static class Repositorio extends FileManager<Ingresso> {
+        Repositorio(String caminho, boolean cacheAtivo) {
+            super(caminho, TIPO, cacheAtivo);
+        }
+
+        Repositorio(String caminho, ArmazenamentoJson<Ingresso> armazenamento) {
+            super(caminho, TIPO, armazenamento, true);
+        }
+    }
+
+    /**
+     * Arquivo JSON que registra o tamanho de cada gravação pedida pelo gerenciador.
+     */
+    private static class ArmazenamentoContado extends ArmazenamentoJson<Ingresso> {
+        private final List<Integer> gravacoes = new ArrayList<>();
+
+        ArmazenamentoContado(String caminho) {
+            super(caminho, TIPO, FileManager.criarGson());
+        }
+
+        @Override
+        public synchronized CompletableFuture<Void> gravar(List<Alteracao<Ingresso>> alteracoes, Collection<Ingresso> estadoAtual) {
+            gravacoes.add(alteracoes.size());
+            return super.gravar(alteracoes, estadoAtual);
+        }
+    }
+
+    /**
+     * Gerenciador de ingressos com um índice por usuário e um índice único por assento.
+     */
+    private static class RepositorioIndexado extends Repositorio {
+        RepositorioIndexado(String caminho) {
+            super(caminho, true);
+            registrarIndice("usuario", Ingresso::getUsuarioId, false);
+            registrarIndice("assento", Ingresso::getAssento, true);
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        caminho = new File(pasta.newFolder("dados"), "ingressos.json").getPath();
+    }
+
+    private static Ingresso novoIngresso(String assento) {
+        return new Ingresso(UUID.randomUUID(), UUID.randomUUID(), 100.0, assento);
+    }
+
+    @Test
+    public void testCacheMantemItensEnquantoOArquivoNaoMuda() {
+        Repositorio repositorio = new Repositorio(caminho, true);
+        Ingresso ingresso = novoIngresso("A1");
+        repositorio.save(ingresso);
+
+        Ingresso lido = repositorio.getById(ingresso.getId());
+
+        assertSame(lido, repositorio.getById(ingresso.getId()));
+        assertSame(lido, repositorio.getAll().get(0));
+    }
+
+    @Test
+    public void testCacheRelidoQuandoOTamanhoDoArquivoMuda() {
+        Repositorio repositorio = new Repositorio(caminho, true);
+        Ingresso primeiro = novoIngresso("A1");
+        repositorio.save(primeiro);
+        assertEquals(1, repositorio.getAll().size());
+
+        Ingresso segundo = novoIngresso("A2");
+        new Repositorio(caminho, true).save(segundo);  // Outra instância altera o arquivo
+
+        assertEquals(2, repositorio.getAll().size());
+        assertEquals("A2", repositorio.getById(segundo.getId()).getAssento());
+    }
+
+    @Test
+    public void testCacheRelidoQuandoApenasADataDeModificacaoMuda() throws Exception {
+        Repositorio repositorio = new Repositorio(caminho, true);
+        Ingresso ingresso = novoIngresso("A1");
+        repositorio.save(ingresso);
+        assertEquals("A1", repositorio.getById(ingresso.getId()).getAssento());
+
+        // Conteúdo do mesmo tamanho, com outra data de modificação
+        Path arquivo = Path.of(caminho);
+        long tamanho = Files.size(arquivo);
+        long modificado = arquivo.toFile().lastModified();
+        String conteudo = Files.readString(arquivo, StandardCharsets.UTF_8);
+        Files.writeString(arquivo, conteudo.replace("\"A1\"", "\"B1\""), StandardCharsets.UTF_8);
+        assertTrue(arquivo.toFile().setLastModified(modificado + 5000));
+        assertEquals(tamanho, Files.size(arquivo));
+
+        assertEquals("B1", repositorio.getById(ingresso.getId()).getAssento());
+    }
+
+    @Test
+    public void testSemCacheCadaLeituraReleOArquivo() {
+        Repositorio repositorio = new Repositorio(caminho, false);
+        Ingresso ingresso = novoIngresso("A1");
+        repositorio.save(ingresso);
+
+        assertNotSame(repositorio.getById(ingresso.getId()), repositorio.getById(ingresso.getId()));
+    }
+
+    @Test
+    public void testGetByIdsMantemAOrdemPedidaEIgnoraAusentes() {
+        Repositorio repositorio = new Repositorio(caminho, true);
+        List<Ingresso> ingressos = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ingressos.add(novoIngresso("A" + i));
+        }
+        repositorio.saveAll(ingressos);
+
+        List<Ingresso> encontrados = repositorio.getByIds(List.of(ingressos.get(3).getId(), UUID.randomUUID(),
+                ingressos.get(0).getId(), ingressos.get(3).getId()));
+
+        assertEquals(3, encontrados.size());
+        assertEquals("A3", encontrados.get(0).getAssento());
+        assertEquals("A0", encontrados.get(1).getAssento());
+        assertEquals("A3", encontrados.get(2).getAssento());
+        assertTrue(repositorio.getByIds(List.of()).isEmpty());
+    }
+
+    @Test
+    public void testGetByIdsSemCacheLeOArquivoAtual() {
+        Repositorio repositorio = new Repositorio(caminho, false);
+        Ingresso primeiro = novoIngresso("A1");
+        Ingresso segundo = novoIngresso("A2");
+        repositorio.save(primeiro);
+        new Repositorio(caminho, false).save(segundo);
+
+        List<Ingresso> encontrados = repositorio.getByIds(List.of(segundo.getId(), primeiro.getId()));
+
+        assertEquals(List.of("A2", "A1"), encontrados.stream().map(Ingresso::getAssento).toList());
+    }
+
+    @Test
+    public void testIndiceAcompanhaAAtualizacaoDaChave() {
+        RepositorioIndexado repositorio = new RepositorioIndexado(caminho);
+        Ingresso ingresso = novoIngresso("A1");
+        repositorio.save(ingresso);
+        UUID novoUsuario = UUID.randomUUID();
+
+        repositorio.update(new Ingresso(ingresso.getId(), novoUsuario, ingresso.getEventoId(), 100.0, "B1", true));
+
+        assertTrue(repositorio.findBy("usuario", ingresso.getUsuarioId()).isEmpty());
+        assertEquals(ingresso.getId(), repositorio.findFirstBy("usuario", novoUsuario).getId());
+        assertNull(repositorio.findFirstBy("assento", "A1"));
+        assertEquals(ingresso.getId(), repositorio.findFirstBy("assento", "B1").getId());
+        repositorio.save(novoIngresso("A1"));  // O assento antigo ficou livre no índice único
+    }
+
+    @Test
+    public void testIndiceDescartaItensRemovidos() {
+        RepositorioIndexado repositorio = new RepositorioIndexado(caminho);
+        Ingresso primeiro = novoIngresso("A1");
+        Ingresso segundo = new Ingresso(UUID.randomUUID(), primeiro.getUsuarioId(), 100.0, "A2");
+        repositorio.saveAll(List.of(primeiro, segundo));
+        assertEquals(2, repositorio.findBy("usuario", primeiro.getUsuarioId()).size());
+
+        repositorio.delete(primeiro.getId());
+
+        assertEquals(List.of(segundo), repositorio.findBy("usuario", primeiro.getUsuarioId()));
+        assertNull(repositorio.findFirstBy("assento", "A1"));
+
+        repositorio.deleteAll();
+
+        assertTrue(repositorio.findBy("usuario", primeiro.getUsuarioId()).isEmpty());
+        assertNull(repositorio.findFirstBy("assento", "A2"));
+    }
+
+    @Test
+    public void testIndiceUnicoRecusaDuplicataSemAlterarAMemoria() {
+        RepositorioIndexado repositorio = new RepositorioIndexado(caminho);
+        Ingresso ingresso = novoIngresso("A1");
+        repositorio.save(ingresso);
+        Ingresso duplicado = novoIngresso("A1");
+
+        assertThrows(IllegalArgumentException.class, () -> repositorio.save(duplicado));
+        assertThrows(IllegalArgumentException.class, () -> repositorio.saveAll(List.of(novoIngresso("A2"), duplicado)));
+
+        assertEquals(1, repositorio.getAll().size());
+        assertNull(repositorio.findFirstBy("assento", "A2"));
+        assertEquals(ingresso.getId(), repositorio.findFirstBy("assento", "A1").getId());
+    }
+
+    @Test
+    public void testIndiceUnicoRecusaDuplicataDentroDoLote() {
+        RepositorioIndexado repositorio = new RepositorioIndexado(caminho);
+        Ingresso primeiro = novoIngresso("A1");
+        Ingresso segundo = novoIngresso("A2");
+        repositorio.saveAll(List.of(primeiro, segundo));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> repositorio.saveAll(List.of(novoIngresso("B1"), novoIngresso("B2"), novoIngresso("B1"))));
+        Ingresso primeiroAlterado = new Ingresso(primeiro.getId(), primeiro.getUsuarioId(), primeiro.getEventoId(), 100.0, "C1", true);
+        Ingresso segundoAlterado = new Ingresso(segundo.getId(), segundo.getUsuarioId(), segundo.getEventoId(), 100.0, "C1", true);
+        assertThrows(IllegalArgumentException.class, () -> repositorio.updateAll(List.of(primeiroAlterado, segundoAlterado)));
+
+        List<Ingresso> relidos = new RepositorioIndexado(caminho).getAll();
+        assertEquals(List.of("A1", "A2"), relidos.stream().map(Ingresso::getAssento).toList());
+        assertNull(repositorio.findFirstBy("assento", "B1"));
+        assertEquals(primeiro.getId(), repositorio.findFirstBy("assento", "A1").getId());
+    }
+
+    @Test
+    public void testIndiceReconstruidoQuandoOutraInstanciaAlteraOArquivo() {
+        RepositorioIndexado repositorio = new RepositorioIndexado(caminho);
+        Ingresso ingresso = novoIngresso("A1");
+        repositorio.save(ingresso);
+        assertNotNull(repositorio.findFirstBy("assento", "A1"));
+
+        RepositorioIndexado outra = new RepositorioIndexado(caminho);
+        outra.delete(ingresso.getId());
+        Ingresso novo = novoIngresso("A2");
+        outra.save(novo);
+
+        assertNull(repositorio.findFirstBy("assento", "A1"));
+        assertEquals(novo.getId(), repositorio.findFirstBy("usuario", novo.getUsuarioId()).getId());
+    }
+
+    @Test
+    public void testFindFirstSemCacheParaNaPrimeiraOcorrencia() throws Exception {
+        Repositorio repositorio = new Repositorio(caminho, false);
+        List<Ingresso> ingressos = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ingressos.add(novoIngresso("A" + i));
+        }
+        repositorio.saveAll(ingressos);
+        // Corta o arquivo no meio: só a leitura de todos os itens encontraria o JSON incompleto
+        Path arquivo = Path.of(caminho);
+        String conteudo = Files.readString(arquivo, StandardCharsets.UTF_8);
+        Files.writeString(arquivo, conteudo.substring(0, conteudo.length() / 2), StandardCharsets.UTF_8);
+        AtomicInteger avaliados = new AtomicInteger();
+
+        Ingresso encontrado = repositorio.findFirst(i -> {
+            avaliados.incrementAndGet();
+            return i.getAssento().equals("A2");
+        });
+
+        assertEquals(ingressos.get(2).getId(), encontrado.getId());
+        assertEquals(3, avaliados.get());
+        try (Stream<Ingresso> itens = repositorio.stream()) {
+            assertEquals(List.of("A0", "A1"), itens.limit(2).map(Ingresso::getAssento).toList());
+        }
+        assertThrows(RuntimeException.class, () -> repositorio.findFirst(i -> false));  // Chega ao corte
+    }
+
+    @Test
+    public void testFindFirstSemOcorrenciaRetornaNulo() {
+        Repositorio repositorio = new Repositorio(caminho, false);
+        assertNull(repositorio.findFirst(i -> true));  // Arquivo ainda não existe
+
+        repositorio.saveAll(List.of(novoIngresso("A1"), novoIngresso("A2")));
+
+        assertNull(repositorio.findFirst(i -> i.getAssento().equals("B1")));
+        assertEquals("A2", repositorio.findFirst(i -> i.getAssento().startsWith("A2")).getAssento());
+    }
+
+    @Test
+    public void testSaveAllGravaOLoteDeUmaVez() {
+        ArmazenamentoContado armazenamento = new ArmazenamentoContado(caminho);
+        Repositorio repositorio = new Repositorio(caminho, armazenamento);
+        List<Ingresso> ingressos = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ingressos.add(novoIngresso("A" + i));
+        }
+
+        repositorio.saveAll(ingressos);
+
+        assertEquals(List.of(50), armazenamento.gravacoes);
+        List<Ingresso> relidos = new Repositorio(caminho, true).getAll();
+        assertEquals(50, relidos.size());
+        assertEquals("A0", relidos.get(0).getAssento());
+        assertEquals("A49", relidos.get(49).getAssento());
+    }
+
+    @Test
+    public void testUpdateAllGravaUmaVezEIgnoraItensInexistentes() {
+        ArmazenamentoContado armazenamento = new ArmazenamentoContado(caminho);
+        Repositorio repositorio = new Repositorio(caminho, armazenamento);
+        List<Ingresso> ingressos = List.of(novoIngresso("A1"), novoIngresso("A2"), novoIngresso("A3"));
+        repositorio.saveAll(ingressos);
+        ingressos.get(0).setAtivo(false);
+        ingressos.get(2).setAtivo(false);
+
+        repositorio.updateAll(List.of(ingressos.get(0), novoIngresso("B1"), ingressos.get(2)));
+
+        assertEquals(List.of(3, 2), armazenamento.gravacoes);
+        Repositorio relido = new Repositorio(caminho, true);
+        assertEquals(3, relido.getAll().size());
+        assertFalse(relido.getById(ingressos.get(0).getId()).isAtivo());
+        assertTrue(relido.getById(ingressos.get(1).getId()).isAtivo());
+        assertFalse(relido.getById(ingressos.get(2).getId()).isAtivo());
+        assertEquals(List.of("A1", "A2", "A3"), relido.getAll().stream().map(Ingresso::getAssento).toList());
+    }
+}
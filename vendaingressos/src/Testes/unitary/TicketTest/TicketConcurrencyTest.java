@@ -0,0 +1,242 @@
+package Testes.unitary.TicketTest;
+
+import Testes.unitary.AmbienteTeste;
+import aplication.controller.EventoController;
+import aplication.controller.IngressoController;
+import aplication.filemanagement.EventoFileManager;
+import aplication.filemanagement.IngressoFileManager;
+import aplication.model.Evento;
+import aplication.model.Ingresso;
+import aplication.model.Usuario;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class TicketConcurrencyTest {
+    private static final int ASSENTOS = 30;
+    private static final int COMPRADORES = 16;
+
+    @Rule
+    public AmbienteTeste ambiente = new AmbienteTeste();
+
+    private EventoController eventoController;
+    private IngressoController ingressoController;
+    private Usuario admin;
+
+    @Before
+    public void setUp() {
+        eventoController = ambiente.getEventoController();
+        ingressoController = ambiente.getIngressoController();
+        admin = ambiente.getAdmin();
+    }
+
+    /**
+     * Todos os compradores tentam comprar todos os assentos ao mesmo tempo.
+     * Retorna quantas compras tiveram sucesso.
+     */
+    private int disputarAssentos(List<Evento> eventos) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(COMPRADORES);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger vendidos = new AtomicInteger();
+        List<Future<?>> compradores = new ArrayList<>();
+        for (int c = 0; c < COMPRADORES; c++) {
+            UUID comprador = UUID.randomUUID();
+            compradores.add(executor.submit(() -> {
+                largada.await();
+                List<String> assentos = new ArrayList<>();
+                for (int i = 1; i <= ASSENTOS; i++) {
+                    assentos.add("A" + i);
+                }
+                Collections.shuffle(assentos);
+                for (String assento : assentos) {
+                    for (Evento evento : eventos) {
+                        try {
+                            ingressoController.criarIngresso(evento.getId(), comprador, 10.0, assento);
+                            vendidos.incrementAndGet();
+                        } catch (IllegalArgumentException e) {
+                            // Assento já vendido para outro comprador
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        largada.countDown();
+        for (Future<?> comprador : compradores) {
+            comprador.get();
+        }
+        executor.shutdown();
+        return vendidos.get();
+    }
+
+    @Test
+    public void sameSeatIsSoldOnlyOnceTest() throws Exception {
+        Evento evento = ambiente.criarEvento("Show", ASSENTOS);
+
+        int vendidos = disputarAssentos(List.of(evento));
+
+        assertEquals(ASSENTOS, vendidos);
+        assertTrue(eventoController.getById(evento.getId()).getAssentosDisponiveis().isEmpty());
+
+        List<Ingresso> ingressos = ingressoController.getAll();
+        assertEquals(ASSENTOS, ingressos.size());
+        Set<String> assentos = new HashSet<>();
+        for (Ingresso ingresso : ingressos) {
+            assertTrue("Assento vendido mais de uma vez: " + ingresso.getAssento(), assentos.add(ingresso.getAssento()));
+        }
+    }
+
+    @Test
+    public void differentEventsSellInParallelWithoutOversellTest() throws Exception {
+        Evento show = ambiente.criarEvento("Show", ASSENTOS);
+        Evento teatro = ambiente.criarEvento("Teatro", ASSENTOS);
+
+        int vendidos = disputarAssentos(List.of(show, teatro));
+
+        assertEquals(2 * ASSENTOS, vendidos);
+        for (Evento evento : List.of(show, teatro)) {
+            assertTrue(eventoController.getById(evento.getId()).getAssentosDisponiveis().isEmpty());
+            Set<String> assentos = new HashSet<>();
+            for (Ingresso ingresso : ingressoController.getAll()) {
+                if (ingresso.getEventoId().equals(evento.getId())) {
+                    assertTrue(assentos.add(ingresso.getAssento()));
+                }
+            }
+            assertEquals(ASSENTOS, assentos.size());
+        }
+    }
+
+    @Test
+    public void failedTicketWriteReturnsSeatsTest() throws Exception {
+        Evento evento = ambiente.criarEvento("Show", ASSENTOS);
+        IngressoFileManager semEspaco = new IngressoFileManager(ambiente.arquivo("ingressos.json").getPath()) {
+            @Override
+            public void saveAll(Collection<Ingresso> novos) {
+                throw new UncheckedIOException(new IOException("Sem espaço no disco"));
+            }
+        };
+        IngressoController comFalha = new IngressoController(semEspaco, eventoController,
+                ambiente.getUsuarioController(), ambiente.getReservaController());
+
+        try {
+            comFalha.criarIngressos(evento.getId(), admin.getId(), 10.0, List.of("A1", "A2"));
+            fail("A falha na gravação dos ingressos deveria ser propagada");
+        } catch (UncheckedIOException e) {
+            // Esperado
+        }
+
+        Evento emMemoria = eventoController.getById(evento.getId());
+        assertTrue(emMemoria.isAssentoDisponivel("A1"));
+        assertTrue(emMemoria.isAssentoDisponivel("A2"));
+        Evento relido = ambiente.reabrirEventos().getById(evento.getId());
+        assertTrue(relido.isAssentoDisponivel("A1"));
+        assertTrue(relido.isAssentoDisponivel("A2"));
+        assertTrue(ingressoController.getAll().isEmpty());
+
+        ingressoController.criarIngresso(evento.getId(), admin.getId(), 10.0, "A1");
+        assertFalse(eventoController.getById(evento.getId()).isAssentoDisponivel("A1"));
+    }
+
+    @Test
+    public void failedInventoryWriteDiscardsTicketsTest() throws Exception {
+        Evento evento = ambiente.criarEvento("Show", ASSENTOS);
+        EventoController inventarioComFalha = new EventoController(new EventoFileManager(ambiente.arquivo("eventos.json").getPath())) {
+            @Override
+            public void salvarAssentos(Evento evento) {
+                throw new UncheckedIOException(new IOException("Sem espaço no disco"));
+            }
+        };
+        IngressoController comFalha = new IngressoController(new IngressoFileManager(ambiente.arquivo("ingressos.json").getPath()),
+                inventarioComFalha, ambiente.getUsuarioController(), ambiente.getReservaController());
+
+        try {
+            comFalha.criarIngressos(evento.getId(), admin.getId(), 10.0, List.of("A1", "A2"));
+            fail("A falha na gravação do inventário deveria ser propagada");
+        } catch (UncheckedIOException e) {
+            // Esperado
+        }
+
+        assertTrue(inventarioComFalha.getById(evento.getId()).isAssentoDisponivel("A1"));
+        assertTrue(eventoController.getById(evento.getId()).isAssentoDisponivel("A1"));
+        assertTrue(comFalha.getAll().isEmpty());
+        assertTrue(new IngressoFileManager(ambiente.arquivo("ingressos.json").getPath()).getAll().isEmpty());
+    }
+
+    @Test
+    public void failedTicketWriteOnCancelKeepsSeatSoldTest() throws Exception {
+        Evento evento = ambiente.criarEvento("Show", ASSENTOS);
+        IngressoFileManager comFalhaNaAtualizacao = new IngressoFileManager(ambiente.arquivo("ingressos.json").getPath()) {
+            @Override
+            public void update(Ingresso item) {
+                throw new UncheckedIOException(new IOException("Sem espaço no disco"));
+            }
+        };
+        IngressoController comFalha = new IngressoController(comFalhaNaAtualizacao, eventoController,
+                ambiente.getUsuarioController(), ambiente.getReservaController());
+        Ingresso ingresso = comFalha.criarIngresso(evento.getId(), admin.getId(), 10.0, "A1");
+
+        try {
+            comFalha.desativarIngresso(ingresso.getId());
+            fail("A falha na gravação do ingresso deveria ser propagada");
+        } catch (UncheckedIOException e) {
+            // Esperado
+        }
+
+        assertTrue(comFalha.getById(ingresso.getId()).isAtivo());
+        assertFalse(eventoController.getById(evento.getId()).isAssentoDisponivel("A1"));
+        assertFalse(ambiente.reabrirEventos().getById(evento.getId()).isAssentoDisponivel("A1"));
+    }
+
+    @Test
+    public void failedInventoryWriteOnCancelRestoresTicketTest() throws Exception {
+        Evento evento = ambiente.criarEvento("Show", ASSENTOS);
+        Ingresso ingresso = ingressoController.criarIngresso(evento.getId(), admin.getId(), 10.0, "A1");
+        EventoController inventarioComFalha = new EventoController(new EventoFileManager(ambiente.arquivo("eventos.json").getPath())) {
+            @Override
+            public void salvarAssentos(Evento evento) {
+                throw new UncheckedIOException(new IOException("Sem espaço no disco"));
+            }
+        };
+        IngressoController comFalha = new IngressoController(new IngressoFileManager(ambiente.arquivo("ingressos.json").getPath()),
+                inventarioComFalha, ambiente.getUsuarioController(), ambiente.getReservaController());
+
+        try {
+            comFalha.desativarIngresso(ingresso.getId());
+            fail("A falha na gravação do inventário deveria ser propagada");
+        } catch (UncheckedIOException e) {
+            // Esperado
+        }
+
+        assertFalse(inventarioComFalha.getById(evento.getId()).isAssentoDisponivel("A1"));
+        assertTrue(comFalha.getById(ingresso.getId()).isAtivo());
+        assertTrue(new IngressoFileManager(ambiente.arquivo("ingressos.json").getPath()).getById(ingresso.getId()).isAtivo());
+
+        ingressoController.desativarIngresso(ingresso.getId());
+        try {
+            comFalha.reativarIngresso(ingresso.getId());
+            fail("A falha na gravação do inventário deveria ser propagada");
+        } catch (UncheckedIOException e) {
+            // Esperado
+        }
+
+        assertTrue(inventarioComFalha.getById(evento.getId()).isAssentoDisponivel("A1"));
+        assertFalse(new IngressoFileManager(ambiente.arquivo("ingressos.json").getPath()).getById(ingresso.getId()).isAtivo());
+    }
+}
@@ -0,0 +1,138 @@
+package Testes.unitary.TicketTest;
+
+import Testes.unitary.AmbienteTeste;
+import aplication.controller.IngressoController;
+import aplication.controller.ReservaController;
+import aplication.filemanagement.IngressoFileManager;
+import aplication.model.Evento;
+import aplication.model.Ingresso;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class TicketReservationTest {
+    private static final long DURACAO_RESERVA_MILLIS = 300;
+
+    @Rule
+    public AmbienteTeste ambiente = new AmbienteTeste(DURACAO_RESERVA_MILLIS);
+
+    private IngressoController ingressoController;
+    private Evento evento;
+    private final UUID comprador = UUID.randomUUID();
+    private final UUID outroComprador = UUID.randomUUID();
+
+    @Before
+    public void setUp() {
+        ingressoController = ambiente.getIngressoController();
+        evento = ambiente.criarEvento("Show", 2);
+    }
+
+    @Test
+    public void reservedSeatCannotBeBoughtByOtherUserTest() throws Exception {
+        assertTrue(ingressoController.reservarAssento(evento.getId(), comprador, "A1"));
+        assertFalse(ingressoController.reservarAssento(evento.getId(), outroComprador, "A1"));
+        assertTrue(ingressoController.getAssentosReservadosPorOutros(evento.getId(), outroComprador).contains("A1"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ingressoController.criarIngresso(evento.getId(), outroComprador, 10.0, "A1"));
+
+        ingressoController.criarIngressos(evento.getId(), comprador, 10.0, List.of("A1"));
+        assertFalse(ingressoController.reservarAssento(evento.getId(), outroComprador, "A1"));
+        assertTrue(ingressoController.getAssentosReservadosPorOutros(evento.getId(), outroComprador).isEmpty());
+    }
+
+    @Test
+    public void releasedSeatIsAvailableAgainTest() {
+        assertTrue(ingressoController.reservarAssento(evento.getId(), comprador, "A1"));
+        assertTrue(ingressoController.reservarAssento(evento.getId(), comprador, "A2"));
+
+        ingressoController.liberarAssento(evento.getId(), comprador, "A1");
+        assertTrue(ingressoController.reservarAssento(evento.getId(), outroComprador, "A1"));
+
+        ingressoController.liberarReservas(evento.getId(), comprador);
+        assertTrue(ingressoController.reservarAssento(evento.getId(), outroComprador, "A2"));
+    }
+
+    @Test
+    public void reservationExpiresTest() throws Exception {
+        assertTrue(ingressoController.reservarAssento(evento.getId(), comprador, "A1"));
+        assertFalse(ingressoController.reservarAssento(evento.getId(), outroComprador, "A1"));
+
+        Thread.sleep(DURACAO_RESERVA_MILLIS + 400);
+
+        assertTrue(ingressoController.reservarAssento(evento.getId(), outroComprador, "A1"));
+        ingressoController.criarIngresso(evento.getId(), outroComprador, 10.0, "A1");
+    }
+
+    @Test
+    public void stoppedReservationsReleaseTheirTimerThreadTest() throws Exception {
+        Set<Thread> antes = threadsDaRoda();
+        ReservaController reservas = new ReservaController(DURACAO_RESERVA_MILLIS);
+        Set<Thread> criadas = threadsDaRoda();
+        criadas.removeAll(antes);
+        assertEquals(1, criadas.size());
+
+        reservas.parar();
+
+        Thread roda = criadas.iterator().next();
+        roda.join(2000);
+        assertFalse(roda.isAlive());
+    }
+
+    private static Set<Thread> threadsDaRoda() {
+        Set<Thread> threads = new HashSet<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("roda-temporizacao")) {
+                threads.add(thread);
+            }
+        }
+        return threads;
+    }
+
+    @Test
+    public void reservingASeatDoesNotWaitForASaleBeingWrittenTest() throws Exception {
+        CountDownLatch gravando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        IngressoFileManager lento = new IngressoFileManager(ambiente.arquivo("ingressos.json").getPath()) {
+            @Override
+            public void saveAll(Collection<Ingresso> novos) {
+                gravando.countDown();
+                try {
+                    liberar.await();  // Simula uma gravação demorada, com a trava do evento
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.saveAll(novos);
+            }
+        };
+        IngressoController vendedor = new IngressoController(lento, ambiente.getEventoController(),
+                ambiente.getUsuarioController(), ambiente.getReservaController());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Ingresso>> venda = executor.submit(() -> vendedor.criarIngressos(evento.getId(), comprador, 10.0, List.of("A1")));
+            assertTrue(gravando.await(5, TimeUnit.SECONDS));
+
+            Future<Boolean> reserva = executor.submit(() -> ingressoController.reservarAssento(evento.getId(), outroComprador, "A2"));
+            assertTrue(reserva.get(1, TimeUnit.SECONDS));  // Sem esperar a venda terminar de gravar
+
+            liberar.countDown();
+            assertEquals(1, venda.get(5, TimeUnit.SECONDS).size());
+        } finally {
+            liberar.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package Testes.unitary.UserTest;
+
+import aplication.filemanagement.CartaoFileManager;
+import aplication.filemanagement.IngressoFileManager;
+import aplication.filemanagement.MigracaoUsuarios;
+import aplication.filemanagement.UsuarioFileManager;
+import aplication.model.Cartao;
+import aplication.model.Ingresso;
+import aplication.model.Usuario;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Testes da migração do arquivo de usuários que ainda guarda cópias dos ingressos, cartões e recibos.
+ */
+public class MigracaoUsuariosTest {
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private Path usuarios;
+    private UsuarioFileManager usuarioFileManager;
+    private CartaoFileManager cartaoFileManager;
+    private IngressoFileManager ingressoFileManager;
+
+    @Before
+    public void setUp() throws Exception {
+        File dados = pasta.newFolder("jsonfiles");
+        usuarios = dados.toPath().resolve("usuarios.json");
+        usuarioFileManager = new UsuarioFileManager(usuarios.toString());
+        cartaoFileManager = new CartaoFileManager(new File(dados, "cartoes.json").getPath());
+        ingressoFileManager = new IngressoFileManager(new File(dados, "ingressos.json").getPath());
+    }
+
+    private static String ingressoJson(UUID id, UUID usuarioId, String assento) {
+        return "{\"id\":\"" + id + "\",\"usuarioId\":\"" + usuarioId + "\",\"eventoId\":\"" + UUID.randomUUID()
+                + "\",\"preco\":10.0,\"assento\":\"" + assento + "\",\"ativo\":true}";
+    }
+
+    private static String cartaoJson(UUID id, UUID usuarioId, String numero) {
+        return "{\"id\":\"" + id + "\",\"idUsuario\":\"" + usuarioId + "\",\"nome\":\"Maria\",\"numero\":\"" + numero
+                + "\",\"dataValidade\":4102444800000,\"cvv\":\"123\",\"ativo\":true}";
+    }
+
+    @Test
+    public void testCopiaOsItensAusentesERemoveAsListas() throws Exception {
+        UUID usuarioId = UUID.randomUUID();
+        UUID ingressoNovo = UUID.randomUUID();
+        Ingresso ingressoExistente = new Ingresso(UUID.randomUUID(), usuarioId, 10.0, "B1");
+        ingressoFileManager.save(ingressoExistente);
+        cartaoFileManager.save(new Cartao(usuarioId, "1111", new Date(4102444800000L), "123", "Maria"));
+        UUID cartaoNovo = UUID.randomUUID();
+        Files.writeString(usuarios, "[{\"id\":\"" + usuarioId + "\",\"login\":\"maria\",\"senha\":\"s\",\"nome\":\"Maria\","
+                + "\"cpf\":\"1\",\"email\":\"maria@example.com\",\"admin\":false,\"logado\":false,\"apelido\":\"Mari\","
+                + "\"ingressos\":[" + ingressoJson(ingressoNovo, usuarioId, "A1") + ","
+                + ingressoJson(ingressoExistente.getId(), usuarioId, "B1") + "],"
+                + "\"cartoes\":[" + cartaoJson(UUID.randomUUID(), usuarioId, "1111") + ","
+                + cartaoJson(cartaoNovo, usuarioId, "2222") + "],"
+                + "\"recibos\":[{\"valor\":10.0}]}]");
+
+        assertTrue(MigracaoUsuarios.migrar(usuarioFileManager, cartaoFileManager, ingressoFileManager));
+
+        String migrado = Files.readString(usuarios);
+        assertFalse(migrado.contains("\"ingressos\""));
+        assertFalse(migrado.contains("\"cartoes\""));
+        assertFalse(migrado.contains("\"recibos\""));
+        assertTrue(migrado.contains("\"apelido\":\"Mari\""));  // Campos desconhecidos são mantidos
+
+        assertEquals(2, ingressoFileManager.getAll().size());
+        assertEquals("A1", ingressoFileManager.getById(ingressoNovo).getAssento());
+        List<Cartao> cartoes = cartaoFileManager.findBy(CartaoFileManager.INDICE_USUARIO, usuarioId);
+        assertEquals(2, cartoes.size());  // O cartão 1111 já existia com outro ID e não foi duplicado
+        assertEquals("2222", cartaoFileManager.getById(cartaoNovo).getNumero());
+
+        Usuario usuario = usuarioFileManager.getById(usuarioId);
+        assertEquals("maria", usuario.getLogin());
+        assertFalse(MigracaoUsuarios.migrar(usuarioFileManager, cartaoFileManager, ingressoFileManager));
+        assertEquals(migrado, Files.readString(usuarios));
+    }
+
+    @Test
+    public void testArquivoAusenteOuJaMigradoNaoEhAlterado() throws Exception {
+        assertFalse(MigracaoUsuarios.migrar(usuarioFileManager, cartaoFileManager, ingressoFileManager));
+        assertFalse(Files.exists(usuarios));
+
+        usuarioFileManager.save(new Usuario("joao", "s", "João", "2", "joao@example.com", false));
+        byte[] antes = Files.readAllBytes(usuarios);
+
+        assertFalse(MigracaoUsuarios.migrar(usuarioFileManager, cartaoFileManager, ingressoFileManager));
+
+        assertArrayEquals(antes, Files.readAllBytes(usuarios));
+        assertTrue(ingressoFileManager.getAll().isEmpty());
+        assertTrue(cartaoFileManager.getAll().isEmpty());
+    }
+}
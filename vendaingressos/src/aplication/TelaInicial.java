@@ -1,5 +1,6 @@
 package aplication;
 
+import aplication.controller.ContextoAplicacao;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -43,6 +44,15 @@ public class TelaInicial extends Application {
         primaryStage.show();
     }
 
+    /**
+     * Metodo chamado quando a aplicação é fechada.
+     * Encerra o contexto da aplicação, parando as threads de segundo plano dos controladores.
+     */
+    @Override
+    public void stop() {
+        ContextoAplicacao.encerrar();
+    }
+
     /**
      * Metodo principal da aplicação. Lança a interface gráfica.
      *
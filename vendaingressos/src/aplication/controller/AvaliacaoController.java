@@ -2,7 +2,6 @@ package aplication.controller;
 
 import java.util.UUID;
 import java.util.List;
-import java.util.stream.Collectors;
 import aplication.model.Avaliacao;
 import aplication.model.Usuario;
 import aplication.model.Evento;
@@ -20,12 +19,26 @@ public class AvaliacaoController {
 
     /**
      * Construtor da classe AvaliacaoController.
-     * Inicializa o gerenciador de arquivos de avaliações e controla dependências de usuários e eventos.
+     * Usa o gerenciador de arquivos e os controladores compartilhados pelo contexto da aplicação.
      */
     public AvaliacaoController() {
-        this.avaliacaoFileManager = new AvaliacaoFileManager();
-        this.usuarioController = new UsuarioController();
-        this.eventoController = new EventoController();
+        this(ContextoAplicacao.getInstancia().getAvaliacaoFileManager(),
+                ContextoAplicacao.getInstancia().getUsuarioController(),
+                ContextoAplicacao.getInstancia().getEventoController());
+    }
+
+    /**
+     * Construtor da classe AvaliacaoController com dependências específicas.
+     *
+     * @param avaliacaoFileManager Gerenciador de arquivos de avaliações.
+     * @param usuarioController    Controlador de usuários.
+     * @param eventoController     Controlador de eventos.
+     */
+    public AvaliacaoController(AvaliacaoFileManager avaliacaoFileManager, UsuarioController usuarioController,
+                               EventoController eventoController) {
+        this.avaliacaoFileManager = avaliacaoFileManager;
+        this.usuarioController = usuarioController;
+        this.eventoController = eventoController;
     }
 
     /**
@@ -78,9 +91,7 @@ public class AvaliacaoController {
      * @return Lista de avaliações associadas ao evento.
      */
     public List<Avaliacao> getAvaliacoesEvento(UUID idEvento) {
-        return this.getAll().stream()
-                .filter(avaliacao -> avaliacao.getIdEvento().equals(idEvento))
-                .collect(Collectors.toList());
+        return avaliacaoFileManager.findBy(AvaliacaoFileManager.INDICE_EVENTO, idEvento);
     }
 
     /**
@@ -92,8 +103,8 @@ public class AvaliacaoController {
      *         ou {@code null} se nenhuma avaliação correspondente for encontrada.
      */
     public Avaliacao getAvaliacaoEventoUsuario(UUID idEvento, UUID idUsuario) {
-        return this.getAll().stream()
-                .filter(avaliacao -> avaliacao.getIdEvento().equals(idEvento) && avaliacao.getIdUsuario().equals(idUsuario))
+        return this.getAvaliacoesEvento(idEvento).stream()
+                .filter(avaliacao -> avaliacao.getIdUsuario().equals(idUsuario))
                 .findFirst()
                 .orElse(null); // Retorna null se nenhuma avaliação for encontrada
     }
@@ -107,9 +118,7 @@ public class AvaliacaoController {
      * @return Lista de avaliações feitas pelo usuário.
      */
     public List<Avaliacao> getAvaliacoesUsuario(UUID idUsuario) {
-        return this.getAll().stream()
-                .filter(avaliacao -> avaliacao.getIdUsuario().equals(idUsuario))
-                .collect(Collectors.toList());
+        return avaliacaoFileManager.findBy(AvaliacaoFileManager.INDICE_USUARIO, idUsuario);
     }
 
     /**
@@ -3,10 +3,10 @@ package aplication.controller;
 import aplication.model.Cartao;
 import aplication.filemanagement.CartaoFileManager;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.Date;
-import java.util.stream.Collectors;
 
 /**
  * Classe responsável pelo controle dos cartões de pagamento.
@@ -18,10 +18,19 @@ public class CartaoController {
 
     /**
      * Construtor da classe CartaoController.
-     * Inicializa o gerenciador de arquivos de cartões.
+     * Usa o gerenciador de arquivos de cartões compartilhado pelo contexto da aplicação.
      */
     public CartaoController() {
-        this.cartaoFileManager = new CartaoFileManager();
+        this(ContextoAplicacao.getInstancia().getCartaoFileManager());
+    }
+
+    /**
+     * Construtor da classe CartaoController com um gerenciador de arquivos específico.
+     *
+     * @param cartaoFileManager Gerenciador de arquivos de cartões.
+     */
+    public CartaoController(CartaoFileManager cartaoFileManager) {
+        this.cartaoFileManager = cartaoFileManager;
     }
 
     /**
@@ -63,10 +72,14 @@ public class CartaoController {
         return cartaoFileManager.getAll();
     }
 
+    /**
+     * Recupera os cartões de um usuário.
+     *
+     * @param idUsuario ID do usuário dono dos cartões.
+     * @return Lista de cartões do usuário.
+     */
     public List<Cartao> getByUsuarioId(UUID idUsuario) {
-        return this.getAll().stream()
-                .filter(cartao -> cartao.getIdUsuario().equals(idUsuario))
-                .collect(Collectors.toList());
+        return cartaoFileManager.findBy(CartaoFileManager.INDICE_USUARIO, idUsuario);
     }
 
     /**
@@ -77,10 +90,7 @@ public class CartaoController {
      * @return O cartão correspondente ao número e usuário, ou null se não existir.
      */
     public Cartao getCartaoByNumeroIdUsuario(String numero, UUID idUsuario) {
-        return this.getAll().stream()
-                .filter(cartao -> cartao.getNumero().equals(numero) && cartao.getIdUsuario().equals(idUsuario))
-                .findFirst()
-                .orElse(null);
+        return cartaoFileManager.findFirstBy(CartaoFileManager.INDICE_USUARIO_NUMERO, Arrays.asList(idUsuario, numero));
     }
 
     /**
@@ -91,8 +101,8 @@ public class CartaoController {
      * @return Objeto Cartao que corresponde ao nome e ID de usuário, ou null se não for encontrado.
      */
     public Cartao getCartaoByNomeIdUsuario(String nome, UUID idUsuario) {
-        return this.getAll().stream()
-                .filter(cartao -> cartao.getNome().equals(nome) && cartao.getIdUsuario().equals(idUsuario))
+        return this.getByUsuarioId(idUsuario).stream()
+                .filter(cartao -> cartao.getNome().equals(nome))
                 .findFirst()
                 .orElse(null);
     }
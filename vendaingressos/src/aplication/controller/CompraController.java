@@ -2,10 +2,18 @@ package aplication.controller;
 
 import aplication.model.*;
 import aplication.filemanagement.CompraFileManager;
+import aplication.filemanagement.ReciboFileManager;
+import aplication.util.ExecucaoAssincrona;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Classe responsável pelo controle de compras.
@@ -15,21 +23,49 @@ import java.util.List;
 public class CompraController {
 
     private final CompraFileManager compraFileManager;
+    private final ReciboFileManager reciboFileManager;
     private final UsuarioController usuarioController;
     private final IngressoController ingressoController;
     private final CartaoController cartaoController;
     private final EventoController eventoController;
+    private final AvaliacaoController avaliacaoController;
 
     /**
      * Construtor da classe CompraController.
-     * Inicializa os controladores e gerenciadores de arquivos necessários.
+     * Usa o gerenciador de arquivos e os controladores compartilhados pelo contexto da aplicação.
      */
     public CompraController() {
-        this.compraFileManager = new CompraFileManager();
-        this.usuarioController = new UsuarioController();
-        this.ingressoController = new IngressoController();
-        this.cartaoController = new CartaoController();
-        this.eventoController = new EventoController();
+        this(ContextoAplicacao.getInstancia().getCompraFileManager(),
+                ContextoAplicacao.getInstancia().getReciboFileManager(),
+                ContextoAplicacao.getInstancia().getUsuarioController(),
+                ContextoAplicacao.getInstancia().getIngressoController(),
+                ContextoAplicacao.getInstancia().getCartaoController(),
+                ContextoAplicacao.getInstancia().getEventoController(),
+                ContextoAplicacao.getInstancia().getAvaliacaoController());
+    }
+
+    /**
+     * Construtor da classe CompraController com dependências específicas.
+     *
+     * @param compraFileManager  Gerenciador de arquivos de compras.
+     * @param reciboFileManager  Gerenciador de arquivos de recibos.
+     * @param usuarioController  Controlador de usuários.
+     * @param ingressoController Controlador de ingressos.
+     * @param cartaoController   Controlador de cartões.
+     * @param eventoController   Controlador de eventos.
+     * @param avaliacaoController Controlador de avaliações.
+     */
+    public CompraController(CompraFileManager compraFileManager, ReciboFileManager reciboFileManager,
+                            UsuarioController usuarioController, IngressoController ingressoController,
+                            CartaoController cartaoController, EventoController eventoController,
+                            AvaliacaoController avaliacaoController) {
+        this.compraFileManager = compraFileManager;
+        this.reciboFileManager = reciboFileManager;
+        this.usuarioController = usuarioController;
+        this.ingressoController = ingressoController;
+        this.cartaoController = cartaoController;
+        this.eventoController = eventoController;
+        this.avaliacaoController = avaliacaoController;
     }
 
     /**
@@ -45,112 +81,259 @@ public class CompraController {
      * @throws Exception Se ocorrer algum erro ao processar a compra, criar os ingressos ou enviar o recibo.
      */
     public List<UUID> criarRecibo(UUID idUsuario, UUID idEvento, List<String> assentos, UUID idCartao, double preco) throws Exception {
-        // Recupera os dados do usuário e do evento com os IDs fornecidos
-        Usuario usuario = usuarioController.getById(idUsuario);
-        Evento evento = eventoController.getById(idEvento);
+        // Cria a compra, associando o ingresso, o usuário e o cartão de pagamento
+        return registrarCompras(idUsuario, idEvento, assentos, preco,
+                idIngresso -> new Compra(idUsuario, idEvento, idIngresso, idCartao, preco));
+    }
 
-        // Lista que armazenará os IDs dos recibos gerados
-        List<UUID> idsCompras = new ArrayList<>();
+    /**
+     * Cria múltiplos recibos de compra sem associar a um cartão de pagamento, utilizando boleto.
+     * Para cada assento selecionado, cria-se um ingresso e um recibo, enviando-o para o e-mail do usuário.
+     *
+     * @param idUsuario ID do usuário que está comprando.
+     * @param idEvento  ID do evento associado à compra.
+     * @param assentos  Lista de assentos selecionados no evento.
+     * @param preco     Preço de cada ingresso.
+     * @param boleto    ID (código) do boleto.
+     * @return Uma lista de UUIDs representando os IDs das compras criadas.
+     * @throws Exception Se houver algum erro na criação dos recibos ou ingressos.
+     */
+    public List<UUID> criarRecibo(UUID idUsuario, UUID idEvento, List<String> assentos, double preco, UUID boleto) throws Exception {
+        // Cria a compra, associando o ingresso, o usuário e o boleto de pagamento
+        return registrarCompras(idUsuario, idEvento, assentos, preco,
+                idIngresso -> new Compra(idUsuario, idEvento, idIngresso, preco, boleto));
+    }
 
-        // Itera sobre cada assento selecionado para criar ingressos e recibos
-        for (String assento : assentos) {
-            // Cria o ingresso para o evento, usuário e assento selecionado
-            Ingresso ingresso = ingressoController.criarIngresso(idEvento, idUsuario, preco, assento);
+    /**
+     * Versão assíncrona de {@link #criarRecibo(UUID, UUID, List, UUID, double)}, com pagamento por cartão.
+     * Falhas da compra completam o future excepcionalmente.
+     *
+     * @param idUsuario O ID do usuário que está realizando a compra.
+     * @param idEvento  O ID do evento.
+     * @param assentos  Lista de assentos selecionados.
+     * @param idCartao  O ID do cartão utilizado no pagamento.
+     * @param preco     O preço de cada ingresso.
+     * @return Future com os IDs dos recibos gerados.
+     */
+    public CompletableFuture<List<UUID>> criarReciboAsync(UUID idUsuario, UUID idEvento, List<String> assentos,
+                                                          UUID idCartao, double preco) {
+        return ExecucaoAssincrona.executar(() -> criarRecibo(idUsuario, idEvento, assentos, idCartao, preco));
+    }
 
-            // Cria a compra, associando o ingresso, o usuário e o cartão de pagamento
-            Compra compra = new Compra(idUsuario, idEvento, ingresso.getId(), idCartao, preco);
+    /**
+     * Versão assíncrona de {@link #criarRecibo(UUID, UUID, List, double, UUID)}, com pagamento por boleto.
+     * Falhas da compra completam o future excepcionalmente.
+     *
+     * @param idUsuario ID do usuário que está comprando.
+     * @param idEvento  ID do evento.
+     * @param assentos  Lista de assentos selecionados.
+     * @param preco     Preço de cada ingresso.
+     * @param boleto    ID (código) do boleto.
+     * @return Future com os IDs das compras criadas.
+     */
+    public CompletableFuture<List<UUID>> criarReciboAsync(UUID idUsuario, UUID idEvento, List<String> assentos,
+                                                          double preco, UUID boleto) {
+        return ExecucaoAssincrona.executar(() -> criarRecibo(idUsuario, idEvento, assentos, preco, boleto));
+    }
 
-            // Cria a string do recibo, que contém as informações da compra
-            String recibo = "Ingresso de ID: " + ingresso.getId() +
-                    "\nEvento: " + evento.getNome() +
-                    "\nData: " + evento.getData() +
-                    "\nAssento: " + assento +
-                    "\nPreço: " + preco +
-                    "\nMétodo de pagamento: " + compra.getMetodoPagamento() +
-                    "\nID da transação: " + compra.getId();
+    /**
+     * Monta o histórico de compras de um usuário, com uma linha pronta para exibição por ingresso.
+     * <p>
+     * Ingressos, eventos, compras, recibos e avaliações são buscados uma única vez cada, pelos índices, e
+     * juntados por tabelas hash. O custo é proporcional à quantidade de ingressos do usuário, e não ao
+     * tamanho dos arquivos multiplicado pela quantidade de ingressos. Dos eventos, apenas o resumo exibido
+     * (nome e data) é lido ({@link EventoController#getResumos}).
+     *
+     * @param idUsuario ID do usuário.
+     * @return Lista com uma linha por ingresso do usuário, na ordem dos ingressos.
+     */
+    public List<ItemHistoricoCompra> getHistoricoCompras(UUID idUsuario) {
+        List<Ingresso> ingressos = ingressoController.getByUsuarioId(idUsuario);
 
-            // Exibe no console que o comprovante foi enviado para o e-mail do usuário
-            System.out.println("Comprovante de compra enviado para o email: " + usuario.getEmail() + ".\n");
+        Set<UUID> idsEventos = new LinkedHashSet<>();
+        for (Ingresso ingresso : ingressos) {
+            idsEventos.add(ingresso.getEventoId());
+        }
+        Map<UUID, ResumoEvento> eventos = new HashMap<>();
+        for (ResumoEvento evento : eventoController.getResumos(idsEventos)) {
+            eventos.put(evento.id(), evento);
+        }
 
-            // Adiciona o recibo gerado ao usuário e o ingresso
-            usuario.addRecibo(recibo);
-            usuario.comprarIngresso(ingresso);
+        Map<UUID, Compra> comprasPorIngresso = new HashMap<>();
+        for (Compra compra : compraFileManager.findBy(CompraFileManager.INDICE_USUARIO, idUsuario)) {
+            comprasPorIngresso.put(compra.getIdIngresso(), compra);
+        }
 
-            // Salva a compra no sistema (ou banco de dados)
-            compraFileManager.save(compra);
+        Map<UUID, Recibo> recibosPorIngresso = new HashMap<>();
+        for (Recibo recibo : reciboFileManager.findBy(ReciboFileManager.INDICE_USUARIO, idUsuario)) {
+            recibosPorIngresso.put(recibo.getIdIngresso(), recibo);
+        }
 
-            // Adiciona o ID da compra (recibo) à lista de IDs
-            idsCompras.add(compra.getId());
+        Map<UUID, Avaliacao> avaliacoesPorEvento = new HashMap<>();
+        for (Avaliacao avaliacao : avaliacaoController.getAvaliacoesUsuario(idUsuario)) {
+            avaliacoesPorEvento.putIfAbsent(avaliacao.getIdEvento(), avaliacao);
         }
 
-        // Atualiza as informações do usuário, incluindo os recibos gerados
-        usuarioController.update(usuario, usuario.getLogin(), usuario.getSenha(), usuario.getNome(), usuario.getEmail());
+        List<ItemHistoricoCompra> historico = new ArrayList<>(ingressos.size());
+        for (Ingresso ingresso : ingressos) {
+            ResumoEvento evento = eventos.get(ingresso.getEventoId());
+            if (evento == null) {
+                continue; // Evento removido: não há o que exibir
+            }
+            historico.add(new ItemHistoricoCompra(ingresso, evento, comprasPorIngresso.get(ingresso.getId()),
+                    recibosPorIngresso.get(ingresso.getId()), avaliacoesPorEvento.get(evento.id())));
+        }
+        return historico;
+    }
 
-        // Retorna a lista de IDs das compras (recibos) geradas
-        return idsCompras;
+    /**
+     * Versão assíncrona de {@link #getHistoricoCompras(UUID)}.
+     *
+     * @param idUsuario ID do usuário.
+     * @return Future com as linhas do histórico de compras.
+     */
+    public CompletableFuture<List<ItemHistoricoCompra>> getHistoricoComprasAsync(UUID idUsuario) {
+        return ExecucaoAssincrona.executar(() -> getHistoricoCompras(idUsuario));
     }
 
     /**
-     * Cria múltiplos recibos de compra sem associar a um cartão de pagamento, utilizando boleto.
-     * Para cada assento selecionado, cria-se um ingresso e um recibo, enviando-o para o e-mail do usuário.
+     * Retorna os recibos de todas as compras de um usuário, na ordem em que as compras foram registradas.
      *
-     * @param idUsuario ID do usuário que está comprando.
-     * @param idEvento  ID do evento associado à compra.
-     * @param assentos  Lista de assentos selecionados no evento.
-     * @param preco     Preço de cada ingresso.
-     * @param boleto    ID (código) do boleto.
+     * @param idUsuario ID do usuário.
+     * @return Lista com um recibo por compra.
+     */
+    public List<Recibo> getRecibosUsuario(UUID idUsuario) {
+        return reciboFileManager.findBy(ReciboFileManager.INDICE_USUARIO, idUsuario);
+    }
+
+    /**
+     * Retorna o recibo de uma compra.
+     *
+     * @param idCompra ID da compra.
+     * @return O recibo da compra, ou null se ele não for encontrado.
+     */
+    public Recibo getRecibo(UUID idCompra) {
+        return reciboFileManager.getById(idCompra);
+    }
+
+    /**
+     * Retorna o recibo da compra de um ingresso.
+     *
+     * @param idIngresso ID do ingresso.
+     * @return O recibo do ingresso, ou null se ele não for encontrado.
+     */
+    public Recibo getReciboPorIngresso(UUID idIngresso) {
+        return reciboFileManager.findFirstBy(ReciboFileManager.INDICE_INGRESSO, idIngresso);
+    }
+
+    /**
+     * Cria os recibos das compras registradas antes de existir o arquivo de recibos.
+     * Compras que já têm recibo, ou cujo ingresso ou evento não existem mais, são ignoradas.
+     *
+     * @return Quantidade de recibos criados.
+     */
+    public int registrarRecibosAusentes() {
+        List<Compra> semRecibo = new ArrayList<>();
+        for (Compra compra : compraFileManager.getAll()) {
+            if (reciboFileManager.getById(compra.getId()) == null) {
+                semRecibo.add(compra);
+            }
+        }
+        if (semRecibo.isEmpty()) {
+            return 0;
+        }
+
+        Set<UUID> idsEventos = new LinkedHashSet<>();
+        List<UUID> idsIngressos = new ArrayList<>(semRecibo.size());
+        for (Compra compra : semRecibo) {
+            idsEventos.add(compra.getIdEvento());
+            idsIngressos.add(compra.getIdIngresso());
+        }
+        Map<UUID, Evento> eventos = new HashMap<>();
+        for (Evento evento : eventoController.getByIds(idsEventos)) {
+            eventos.put(evento.getId(), evento);
+        }
+        Map<UUID, Ingresso> ingressos = new HashMap<>();
+        for (Ingresso ingresso : ingressoController.getByIds(idsIngressos)) {
+            ingressos.put(ingresso.getId(), ingresso);
+        }
+
+        List<Recibo> recibos = new ArrayList<>(semRecibo.size());
+        for (Compra compra : semRecibo) {
+            Ingresso ingresso = ingressos.get(compra.getIdIngresso());
+            Evento evento = eventos.get(compra.getIdEvento());
+            if (ingresso != null && evento != null) {
+                recibos.add(new Recibo(compra, ingresso, evento));
+            }
+        }
+        if (!recibos.isEmpty()) {
+            reciboFileManager.saveAll(recibos);
+        }
+        return recibos.size();
+    }
+
+    /**
+     * Registra a compra de vários assentos de um evento em lote.
+     * Os ingressos e as compras são gravados uma única vez cada, de modo que o número de escritas em arquivo
+     * não cresce com a quantidade de assentos. Apenas os registros criados pela compra são gravados.
+     * Se as compras ou os recibos não puderem ser gravados, a compra é desfeita por inteiro: as compras já
+     * gravadas são removidas, os ingressos são descartados e os assentos voltam a ficar disponíveis.
+     *
+     * @param idUsuario   ID do usuário que está comprando.
+     * @param idEvento    ID do evento associado à compra.
+     * @param assentos    Lista de assentos selecionados no evento.
+     * @param preco       Preço de cada ingresso.
+     * @param criarCompra Função que cria a compra a partir do ID do ingresso, conforme a forma de pagamento.
      * @return Uma lista de UUIDs representando os IDs das compras criadas.
-     * @throws Exception Se houver algum erro na criação dos recibos ou ingressos.
+     * @throws Exception Se houver algum erro na criação dos ingressos.
      */
-    public List<UUID> criarRecibo(UUID idUsuario, UUID idEvento, List<String> assentos, double preco, UUID boleto) throws Exception {
+    private List<UUID> registrarCompras(UUID idUsuario, UUID idEvento, List<String> assentos, double preco,
+                                        Function<UUID, Compra> criarCompra) throws Exception {
         // Recupera os dados do usuário e do evento com os IDs fornecidos
         Usuario usuario = usuarioController.getById(idUsuario);
         Evento evento = eventoController.getById(idEvento);
 
-        // Lista que armazenará os IDs dos recibos gerados
-        List<UUID> idsCompras = new ArrayList<>();
+        // Cria de uma vez os ingressos de todos os assentos selecionados
+        List<Ingresso> ingressos = ingressoController.criarIngressos(idEvento, idUsuario, preco, assentos);
 
-        // Itera sobre cada assento selecionado para criar ingressos e recibos
-        for (String assento : assentos) {
-            // Cria o ingresso para o evento, usuário e assento selecionado
-            Ingresso ingresso = ingressoController.criarIngresso(idEvento, idUsuario, preco, assento);
+        // Listas que armazenarão as compras geradas, seus recibos e seus IDs
+        List<Compra> compras = new ArrayList<>(ingressos.size());
+        List<Recibo> recibos = new ArrayList<>(ingressos.size());
+        List<UUID> idsCompras = new ArrayList<>(ingressos.size());
 
-            // Cria a compra, associando o ingresso, o usuário e o boleto de pagamento
-            Compra compra = new Compra(idUsuario, idEvento, ingresso.getId(), preco, boleto);
-
-            // Cria a string do recibo, que contém as informações da compra
-            String recibo = "Ingresso de ID: " + ingresso.getId() +
-                    "\nEvento: " + evento.getNome() +
-                    "\nData: " + evento.getData() +
-                    "\nAssento: " + assento +
-                    "\nPreço: " + preco +
-                    "\nMétodo de pagamento: Boleto" +
-                    "\nID da transação: " + compra.getId();
+        for (Ingresso ingresso : ingressos) {
+            Compra compra = criarCompra.apply(ingresso.getId());
 
             // Exibe no console que o comprovante foi enviado para o e-mail do usuário
             System.out.println("Comprovante de compra enviado para o email: " + usuario.getEmail() + ".\n");
 
-            // Adiciona o recibo gerado ao usuário e o ingresso
-            usuario.addRecibo(recibo);
-            usuario.comprarIngresso(ingresso);
-            usuarioController.update(usuario, usuario.getLogin(), usuario.getSenha(), usuario.getNome(), usuario.getEmail());
-
-            // Salva a compra no sistema (ou banco de dados)
-            compraFileManager.save(compra);
-
-            // Adiciona o ID da compra (recibo) à lista de IDs
+            compras.add(compra);
+            recibos.add(new Recibo(compra, ingresso, evento));
             idsCompras.add(compra.getId());
         }
 
-        // Atualiza as informações do usuário, incluindo os recibos gerados
-        usuarioController.update(usuario, usuario.getLogin(), usuario.getSenha(), usuario.getNome(), usuario.getEmail());
+        // Salva todas as compras e seus recibos com uma gravação cada; o usuário não é regravado, pois
+        // ingressos, compras e recibos são encontrados pelo ID do usuário
+        try {
+            compraFileManager.saveAll(compras);
+            try {
+                reciboFileManager.saveAll(recibos);
+            } catch (RuntimeException e) {
+                for (UUID idCompra : idsCompras) {
+                    compraFileManager.delete(idCompra);
+                }
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            // Sem compra registrada, os ingressos não podem ficar com os assentos
+            ingressoController.desfazerIngressos(idEvento, ingressos);
+            throw e;
+        }
 
         // Retorna a lista de IDs das compras (recibos) geradas
         return idsCompras;
     }
 
-
-
     /**
      * Retorna uma compra pelo seu ID.
      *
@@ -207,9 +390,7 @@ public class CompraController {
      * @return Quantidade de recibos do usuário.
      */
     public int getRecibosSizeById(UUID id) {
-        String login = getLoginByIdCompra(id);
-        Usuario usuario = usuarioController.getByLogin(login);
-        return usuario.getRecibos().size();
+        return reciboFileManager.findBy(ReciboFileManager.INDICE_USUARIO, this.getById(id).getIdUsuario()).size();
     }
 
     /**
@@ -223,18 +404,20 @@ public class CompraController {
     }
 
     /**
-     * Deleta uma compra pelo seu ID.
+     * Deleta uma compra e o seu recibo pelo ID da compra.
      *
      * @param id ID da compra.
      */
     public void delete(UUID id) {
         compraFileManager.delete(id);
+        reciboFileManager.delete(id); // O recibo tem o mesmo ID da compra
     }
 
     /**
-     * Deleta todas as compras registradas.
+     * Deleta todas as compras registradas e os seus recibos.
      */
     public void deleteAll() {
         compraFileManager.deleteAll();
+        reciboFileManager.deleteAll();
     }
 }
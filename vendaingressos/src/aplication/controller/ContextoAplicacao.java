@@ -0,0 +1,145 @@
+package aplication.controller;
+
+import aplication.filemanagement.AvaliacaoFileManager;
+import aplication.filemanagement.CartaoFileManager;
+import aplication.filemanagement.CompraFileManager;
+import aplication.filemanagement.EventoFileManager;
+import aplication.filemanagement.IngressoFileManager;
+import aplication.filemanagement.MigracaoInventarios;
+import aplication.filemanagement.MigracaoUsuarios;
+import aplication.filemanagement.ReciboFileManager;
+import aplication.filemanagement.UsuarioFileManager;
+
+/**
+ * Contexto da aplicação, dono de um único gerenciador de arquivos e de um único controlador por entidade.
+ * <p>
+ * Todos os controladores, inclusive os das telas, obtêm seus colaboradores daqui. Assim cada arquivo JSON é
+ * lido por um só gerenciador, e os caches e índices em memória ficam coerentes em toda a aplicação: um
+ * usuário cadastrado em uma tela é encontrado pelo índice usado em outra.
+ */
+public class ContextoAplicacao {
+    private static ContextoAplicacao instancia; // Contexto compartilhado por toda a aplicação
+
+    private final UsuarioFileManager usuarioFileManager;
+    private final EventoFileManager eventoFileManager;
+    private final CartaoFileManager cartaoFileManager;
+    private final IngressoFileManager ingressoFileManager;
+    private final AvaliacaoFileManager avaliacaoFileManager;
+    private final CompraFileManager compraFileManager;
+    private final ReciboFileManager reciboFileManager;
+
+    private final UsuarioController usuarioController;
+    private final EventoController eventoController;
+    private final CartaoController cartaoController;
+    private final ReservaController reservaController;
+    private final IngressoController ingressoController;
+    private final AvaliacaoController avaliacaoController;
+    private final CompraController compraController;
+
+    /**
+     * Construtor da classe ContextoAplicacao.
+     * Cria os gerenciadores de arquivos com os caminhos padrão, migra os arquivos de usuários e de eventos antigos,
+     * se houver, e liga os controladores entre si. Compras antigas, sem recibo, recebem o seu recibo na primeira execução.
+     */
+    private ContextoAplicacao() {
+        usuarioFileManager = new UsuarioFileManager();
+        eventoFileManager = new EventoFileManager();
+        cartaoFileManager = new CartaoFileManager();
+        ingressoFileManager = new IngressoFileManager();
+        avaliacaoFileManager = new AvaliacaoFileManager();
+        compraFileManager = new CompraFileManager();
+        reciboFileManager = new ReciboFileManager();
+        MigracaoUsuarios.migrar(usuarioFileManager, cartaoFileManager, ingressoFileManager);
+        MigracaoInventarios.migrar(eventoFileManager);
+
+        usuarioController = new UsuarioController(usuarioFileManager);
+        eventoController = new EventoController(eventoFileManager);
+        cartaoController = new CartaoController(cartaoFileManager);
+        reservaController = new ReservaController();
+        ingressoController = new IngressoController(ingressoFileManager, eventoController, usuarioController,
+                reservaController);
+        avaliacaoController = new AvaliacaoController(avaliacaoFileManager, usuarioController, eventoController);
+        compraController = new CompraController(compraFileManager, reciboFileManager, usuarioController,
+                ingressoController, cartaoController, eventoController, avaliacaoController);
+        compraController.registrarRecibosAusentes();
+    }
+
+    /**
+     * Retorna o contexto da aplicação, criando-o no primeiro acesso.
+     *
+     * @return O contexto compartilhado.
+     */
+    public static synchronized ContextoAplicacao getInstancia() {
+        if (instancia == null) {
+            instancia = new ContextoAplicacao();
+        }
+        return instancia;
+    }
+
+    /**
+     * Encerra o contexto da aplicação, se ele tiver sido criado, parando a expiração das reservas de assentos.
+     * Chamado quando a aplicação é fechada.
+     */
+    public static synchronized void encerrar() {
+        if (instancia != null) {
+            instancia.reservaController.parar();
+            instancia = null;
+        }
+    }
+
+    public UsuarioFileManager getUsuarioFileManager() {
+        return usuarioFileManager;
+    }
+
+    public EventoFileManager getEventoFileManager() {
+        return eventoFileManager;
+    }
+
+    public CartaoFileManager getCartaoFileManager() {
+        return cartaoFileManager;
+    }
+
+    public IngressoFileManager getIngressoFileManager() {
+        return ingressoFileManager;
+    }
+
+    public AvaliacaoFileManager getAvaliacaoFileManager() {
+        return avaliacaoFileManager;
+    }
+
+    public CompraFileManager getCompraFileManager() {
+        return compraFileManager;
+    }
+
+    public ReciboFileManager getReciboFileManager() {
+        return reciboFileManager;
+    }
+
+    public UsuarioController getUsuarioController() {
+        return usuarioController;
+    }
+
+    public EventoController getEventoController() {
+        return eventoController;
+    }
+
+    public CartaoController getCartaoController() {
+        return cartaoController;
+    }
+
+    public ReservaController getReservaController() {
+        return reservaController;
+    }
+
+    public IngressoController getIngressoController() {
+        return ingressoController;
+    }
+
+    public AvaliacaoController getAvaliacaoController() {
+        return avaliacaoController;
+    }
+
+    public CompraController getCompraController() {
+        return compraController;
+    }
+}
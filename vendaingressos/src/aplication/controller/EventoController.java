@@ -1,28 +1,58 @@
 package aplication.controller;
 
+import aplication.model.ConsultaEventos;
 import aplication.model.Evento;
 import aplication.filemanagement.EventoFileManager;
+import aplication.filemanagement.InventarioFileManager;
+import aplication.model.ResumoEvento;
 import aplication.model.Usuario;
+import aplication.util.ExecucaoAssincrona;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Classe responsável pelo controle dos eventos.
  * Esta classe permite criar, salvar, atualizar e deletar eventos,
  * bem como obter informações sobre eventos existentes.
+ * Os dados do evento e o seu inventário de assentos são gravados em arquivos separados: os eventos retornados
+ * já vêm com o inventário associado, e uma venda regrava apenas o inventário ({@link #salvarAssentos}).
+ * Telas que exibem apenas alguns dados dos eventos usam os resumos ({@link ResumoEvento}). Listagens filtradas por
+ * data, preço, nome ou disponibilidade usam as consultas ({@link #consultar}), executadas sobre índices ordenados,
+ * a busca por palavras usa um índice invertido sobre o nome e a descrição ({@link #buscar}), e o autocompletar, um
+ * índice de prefixos sobre o nome ({@link #sugerir}).
  */
 public class EventoController {
     private final EventoFileManager eventoFileManager;
+    private final InventarioFileManager inventarios;
 
     /**
      * Construtor da classe EventoController.
-     * Inicializa o gerenciador de arquivos responsável pelos eventos.
+     * Usa o gerenciador de arquivos de eventos compartilhado pelo contexto da aplicação.
      */
     public EventoController() {
-        this.eventoFileManager = new EventoFileManager();
+        this(ContextoAplicacao.getInstancia().getEventoFileManager());
+    }
+
+    /**
+     * Construtor da classe EventoController com um gerenciador de arquivos específico.
+     *
+     * @param eventoFileManager Gerenciador de arquivos de eventos.
+     */
+    public EventoController(EventoFileManager eventoFileManager) {
+        this.eventoFileManager = eventoFileManager;
+        this.inventarios = eventoFileManager.getInventarios();
     }
 
     /**
@@ -46,6 +76,7 @@ public class EventoController {
             throw new SecurityException("Impossível cadastrar eventos em datas passadas.");
         }
         eventoFileManager.save(evento);
+        salvarAssentos(evento);
         return evento;
     }
 
@@ -57,9 +88,20 @@ public class EventoController {
      */
     public Evento salvar(Evento evento) {
         eventoFileManager.save(evento);
+        salvarAssentos(evento);
         return evento;
     }
 
+    /**
+     * Grava apenas o inventário de assentos de um evento, sem regravar o arquivo de eventos.
+     * Usado a cada venda ou devolução de ingresso.
+     *
+     * @param evento O evento cujos assentos foram alterados.
+     */
+    public void salvarAssentos(Evento evento) {
+        inventarios.salvar(evento.getId(), evento.getInventarioAssentos());
+    }
+
     /**
      * Busca um evento pelo seu ID.
      *
@@ -67,7 +109,37 @@ public class EventoController {
      * @return Evento correspondente ao ID.
      */
     public Evento getById(UUID id) {
-        return eventoFileManager.getById(id);
+        return comAssentos(eventoFileManager.getById(id));
+    }
+
+    /**
+     * Versão assíncrona de {@link #getById(UUID)}.
+     *
+     * @param id ID do evento.
+     * @return Future com o evento correspondente ao ID.
+     */
+    public CompletableFuture<Evento> getByIdAsync(UUID id) {
+        return ExecucaoAssincrona.executar(() -> getById(id));
+    }
+
+    /**
+     * Busca vários eventos pelos seus IDs em uma única passada.
+     *
+     * @param ids IDs dos eventos.
+     * @return Lista com os eventos encontrados, na ordem dos IDs informados.
+     */
+    public List<Evento> getByIds(Collection<UUID> ids) {
+        return comAssentos(eventoFileManager.getByIds(ids));
+    }
+
+    /**
+     * Versão assíncrona de {@link #getByIds(Collection)}.
+     *
+     * @param ids IDs dos eventos.
+     * @return Future com os eventos encontrados, na ordem dos IDs informados.
+     */
+    public CompletableFuture<List<Evento>> getByIdsAsync(Collection<UUID> ids) {
+        return ExecucaoAssincrona.executar(() -> getByIds(ids));
     }
 
     /**
@@ -77,11 +149,7 @@ public class EventoController {
      * @return Evento correspondente ao nome, ou null se não encontrado.
      */
     public Evento getByNome(String nome) {
-        List<Evento> eventos = eventoFileManager.getAll();
-        return eventos.stream()
-                .filter(evento -> evento.getNome().equals(nome))
-                .findFirst()
-                .orElse(null);
+        return comAssentos(eventoFileManager.findFirst(evento -> evento.getNome().equals(nome)));
     }
 
     /**
@@ -90,19 +158,226 @@ public class EventoController {
      * @return Lista de eventos.
      */
     public List<Evento> getAll() {
-        return eventoFileManager.getAll();
+        return comAssentos(eventoFileManager.getAll());
     }
 
+    /**
+     * Retorna os eventos que ainda vão acontecer, em ordem de data.
+     *
+     * @return Lista de eventos futuros.
+     */
     public List<Evento> getDisponiveis() {
-        List<Evento> eventos = eventoFileManager.getAll();
-        List<Evento> disponiveis = new ArrayList<>();
+        return consultar(ConsultaEventos.construtor().futuros().construir());
+    }
+
+    /**
+     * Retorna uma página dos eventos que ainda vão acontecer, em ordem de data.
+     * A página é lida do índice de datas a partir do primeiro evento futuro, sem percorrer os demais eventos.
+     *
+     * @param inicio     Posição do primeiro evento da página, a partir de 0.
+     * @param quantidade Quantidade máxima de eventos da página.
+     * @return Lista com os eventos da página; menor que a quantidade pedida quando não houver mais eventos.
+     */
+    public List<Evento> getDisponiveis(int inicio, int quantidade) {
+        return consultar(ConsultaEventos.construtor().futuros().pagina(inicio, quantidade).construir());
+    }
+
+    /**
+     * Versão assíncrona de {@link #getDisponiveis(int, int)}.
+     *
+     * @param inicio     Posição do primeiro evento da página, a partir de 0.
+     * @param quantidade Quantidade máxima de eventos da página.
+     * @return Future com os eventos da página.
+     */
+    public CompletableFuture<List<Evento>> getDisponiveisAsync(int inicio, int quantidade) {
+        return ExecucaoAssincrona.executar(() -> getDisponiveis(inicio, quantidade));
+    }
+
+    /**
+     * Versão assíncrona de {@link #getDisponiveis()}, para ser usada pelas telas sem bloquear a interface.
+     *
+     * @return Future com a lista de eventos que ainda vão acontecer.
+     */
+    public CompletableFuture<List<Evento>> getDisponiveisAsync() {
+        return ExecucaoAssincrona.executar(this::getDisponiveis);
+    }
+
+    /**
+     * Busca o resumo (ID, nome, data e preço) de vários eventos pelos seus IDs.
+     * Os resumos são lidos como projeção do arquivo de eventos, sem desserializar os eventos completos, e a
+     * leitura termina assim que todos os IDs forem encontrados.
+     *
+     * @param ids IDs dos eventos.
+     * @return Lista com os resumos encontrados, na ordem dos IDs informados.
+     */
+    public List<ResumoEvento> getResumos(Collection<UUID> ids) {
+        Set<UUID> procurados = new HashSet<>(ids);
+        Map<UUID, ResumoEvento> encontrados = new HashMap<>();
+        try (Stream<ResumoEvento> resumos = eventoFileManager.projetar(EventoFileManager.RESUMO)) {
+            Iterator<ResumoEvento> iterador = resumos.iterator();
+            while (encontrados.size() < procurados.size() && iterador.hasNext()) {
+                ResumoEvento resumo = iterador.next();
+                if (procurados.contains(resumo.id())) {
+                    encontrados.put(resumo.id(), resumo);
+                }
+            }
+        }
+        List<ResumoEvento> lista = new ArrayList<>(encontrados.size());
+        for (UUID id : ids) {
+            ResumoEvento resumo = encontrados.get(id);
+            if (resumo != null) {
+                lista.add(resumo);
+            }
+        }
+        return lista;
+    }
+
+    /**
+     * Retorna o resumo de uma página dos eventos que ainda vão acontecer, com a quantidade de assentos disponíveis,
+     * em ordem de data. Dos inventários, apenas os dos eventos da página são lidos.
+     *
+     * @param inicio     Posição do primeiro evento da página, a partir de 0.
+     * @param quantidade Quantidade máxima de eventos da página.
+     * @return Lista com os resumos da página; menor que a quantidade pedida quando não houver mais eventos.
+     */
+    public List<ResumoEvento> getResumosDisponiveis(int inicio, int quantidade) {
+        return consultarResumos(ConsultaEventos.construtor().futuros().pagina(inicio, quantidade).construir());
+    }
+
+    /**
+     * Versão assíncrona de {@link #getResumosDisponiveis(int, int)}.
+     *
+     * @param inicio     Posição do primeiro evento da página, a partir de 0.
+     * @param quantidade Quantidade máxima de eventos da página.
+     * @return Future com os resumos da página.
+     */
+    public CompletableFuture<List<ResumoEvento>> getResumosDisponiveisAsync(int inicio, int quantidade) {
+        return ExecucaoAssincrona.executar(() -> getResumosDisponiveis(inicio, quantidade));
+    }
+
+    /**
+     * Busca os eventos que atendem aos critérios de uma consulta, na ordem e na página pedidas.
+     * A consulta percorre apenas a faixa do índice ordenado da sua ordem (data, preço ou nome), em
+     * O(log n + k); a disponibilidade de assentos é verificada por último, só nos eventos que atendem aos demais critérios.
+     *
+     * @param consulta Critérios da consulta.
+     * @return Os eventos encontrados, já com o inventário de assentos associado.
+     */
+    public List<Evento> consultar(ConsultaEventos consulta) {
+        Predicate<Evento> filtroAssentos = consulta.isComAssentos()
+                ? evento -> comAssentos(evento).getQuantidadeAssentosDisponiveis() > 0
+                : evento -> true;
+        return comAssentos(eventoFileManager.consultar(consulta, filtroAssentos));
+    }
+
+    /**
+     * Versão assíncrona de {@link #consultar(ConsultaEventos)}.
+     *
+     * @param consulta Critérios da consulta.
+     * @return Future com os eventos encontrados.
+     */
+    public CompletableFuture<List<Evento>> consultarAsync(ConsultaEventos consulta) {
+        return ExecucaoAssincrona.executar(() -> consultar(consulta));
+    }
+
+    /**
+     * Busca o resumo dos eventos que atendem aos critérios de uma consulta, com a quantidade de assentos disponíveis.
+     *
+     * @param consulta Critérios da consulta.
+     * @return Os resumos dos eventos encontrados, na ordem da consulta.
+     */
+    public List<ResumoEvento> consultarResumos(ConsultaEventos consulta) {
+        List<Evento> eventos = consultar(consulta);
+        List<ResumoEvento> resumos = new ArrayList<>(eventos.size());
+        for (Evento evento : eventos) {
+            resumos.add(ResumoEvento.de(evento).comAssentosDisponiveis(evento.getQuantidadeAssentosDisponiveis()));
+        }
+        return resumos;
+    }
+
+    /**
+     * Versão assíncrona de {@link #consultarResumos(ConsultaEventos)}.
+     *
+     * @param consulta Critérios da consulta.
+     * @return Future com os resumos dos eventos encontrados.
+     */
+    public CompletableFuture<List<ResumoEvento>> consultarResumosAsync(ConsultaEventos consulta) {
+        return ExecucaoAssincrona.executar(() -> consultarResumos(consulta));
+    }
+
+    /**
+     * Busca eventos pelas palavras do nome e da descrição, sem diferenciar maiúsculas nem acentos.
+     * São retornados os eventos que contêm todas as palavras buscadas, dos mais relevantes (palavras no nome e
+     * palavras raras) aos menos relevantes.
+     *
+     * @param texto  Texto da busca.
+     * @param limite Quantidade máxima de eventos retornados.
+     * @return Os eventos encontrados, em ordem de relevância, já com o inventário de assentos associado.
+     */
+    public List<Evento> buscar(String texto, int limite) {
+        return comAssentos(eventoFileManager.findByTexto(EventoFileManager.INDICE_TEXTO, texto, evento -> true, limite));
+    }
+
+    /**
+     * Busca, pelas palavras do nome e da descrição, o resumo dos eventos que ainda vão acontecer, com a quantidade
+     * de assentos disponíveis.
+     *
+     * @param texto  Texto da busca.
+     * @param limite Quantidade máxima de eventos retornados.
+     * @return Os resumos dos eventos encontrados, em ordem de relevância.
+     * @see #buscar(String, int)
+     */
+    public List<ResumoEvento> buscarResumosDisponiveis(String texto, int limite) {
         Date hoje = new Date();
+        List<Evento> eventos = eventoFileManager.findByTexto(EventoFileManager.INDICE_TEXTO, texto,
+                evento -> hoje.before(evento.getData()), limite);
+        List<ResumoEvento> resumos = new ArrayList<>(eventos.size());
+        for (Evento evento : comAssentos(eventos)) {
+            resumos.add(ResumoEvento.de(evento).comAssentosDisponiveis(evento.getQuantidadeAssentosDisponiveis()));
+        }
+        return resumos;
+    }
+
+    /**
+     * Versão assíncrona de {@link #buscarResumosDisponiveis(String, int)}.
+     *
+     * @param texto  Texto da busca.
+     * @param limite Quantidade máxima de eventos retornados.
+     * @return Future com os resumos dos eventos encontrados.
+     */
+    public CompletableFuture<List<ResumoEvento>> buscarResumosDisponiveisAsync(String texto, int limite) {
+        return ExecucaoAssincrona.executar(() -> buscarResumosDisponiveis(texto, limite));
+    }
+
+    /**
+     * Sugere eventos que ainda vão acontecer para o texto que está sendo digitado: os eventos com alguma palavra
+     * do nome começando com o texto, dos mais próximos aos mais distantes.
+     * A busca usa apenas o índice de prefixos, sem ler os inventários; ainda assim, passa pela trava do gerenciador
+     * de eventos e pode reler o arquivo, então as telas usam {@link #sugerirAsync}.
+     *
+     * @param prefixo Texto digitado.
+     * @param limite  Quantidade máxima de sugestões.
+     * @return Os resumos dos eventos sugeridos, sem a quantidade de assentos disponíveis.
+     */
+    public List<ResumoEvento> sugerir(String prefixo, int limite) {
+        List<Evento> eventos = eventoFileManager.findByPrefixo(EventoFileManager.INDICE_AUTOCOMPLETAR, prefixo,
+                System.currentTimeMillis() + 1, evento -> true, limite);
+        List<ResumoEvento> resumos = new ArrayList<>(eventos.size());
         for (Evento evento : eventos) {
-            if(hoje.before(evento.getData())){
-                disponiveis.add(evento);
-            }
+            resumos.add(ResumoEvento.de(evento));
         }
-        return disponiveis;
+        return resumos;
+    }
+
+    /**
+     * Versão assíncrona de {@link #sugerir(String, int)}.
+     *
+     * @param prefixo Texto digitado.
+     * @param limite  Quantidade máxima de sugestões.
+     * @return Future com os resumos dos eventos sugeridos.
+     */
+    public CompletableFuture<List<ResumoEvento>> sugerirAsync(String prefixo, int limite) {
+        return ExecucaoAssincrona.executar(() -> sugerir(prefixo, limite));
     }
 
     /**
@@ -112,6 +387,7 @@ public class EventoController {
      */
     public void update(Evento evento) {
         eventoFileManager.update(evento);
+        salvarAssentos(evento);
     }
 
     /**
@@ -127,6 +403,7 @@ public class EventoController {
             throw new SecurityException("Somente administradores podem remover eventos.");
         }
         eventoFileManager.delete(id);
+        inventarios.remover(id);
     }
 
     /**
@@ -134,5 +411,25 @@ public class EventoController {
      */
     public void deleteAll() {
         eventoFileManager.deleteAll();
+        inventarios.removerTodos();
+    }
+
+    /**
+     * Associa a um evento lido do arquivo o seu inventário de assentos, se ainda não estiver associado.
+     * Apenas o inventário do próprio evento é lido, e cada inventário é lido uma vez enquanto o arquivo não mudar.
+     *
+     * @param evento Evento lido, ou null.
+     * @return O mesmo evento.
+     */
+    private Evento comAssentos(Evento evento) {
+        if (evento != null && !evento.isInventarioCarregado()) {
+            evento.setInventarioAssentos(inventarios.carregar(evento.getId()));
+        }
+        return evento;
+    }
+
+    private List<Evento> comAssentos(List<Evento> eventos) {
+        eventos.forEach(this::comAssentos);
+        return eventos;
     }
 }
@@ -2,14 +2,19 @@ package aplication.controller;
 
 import aplication.filemanagement.IngressoFileManager;
 import aplication.model.Ingresso;
-import aplication.model.Usuario;
 import aplication.filemanagement.EventoFileManager;
 import aplication.model.Evento;
+import aplication.util.TravasPorChave;
+import aplication.util.ExecucaoAssincrona;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.UUID;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
 
 /**
  * Classe responsável pelo controle das operações relacionadas aos ingressos.
@@ -17,18 +22,41 @@ import java.util.stream.Collectors;
  */
 public class IngressoController {
 
+    /** Travas por evento, compartilhadas por todas as instâncias: vendas do mesmo evento são serializadas. */
+    private static final TravasPorChave TRAVAS_EVENTOS = new TravasPorChave(64);
+
     private final IngressoFileManager ingressoFileManager;
     private final EventoController eventoController;
     private final UsuarioController usuarioController;
+    private final ReservaController reservaController;
 
     /**
      * Construtor da classe IngressoController.
-     * Inicializa o gerenciador de arquivos de ingressos e o controlador de eventos.
+     * Usa o gerenciador de arquivos e os controladores compartilhados pelo contexto da aplicação.
      */
     public IngressoController() {
-        ingressoFileManager = new IngressoFileManager();
-        eventoController = new EventoController();
-        usuarioController = new UsuarioController();
+        this(ContextoAplicacao.getInstancia().getIngressoFileManager(),
+                ContextoAplicacao.getInstancia().getEventoController(),
+                ContextoAplicacao.getInstancia().getUsuarioController(),
+                ContextoAplicacao.getInstancia().getReservaController());
+    }
+
+    /**
+     * Construtor da classe IngressoController com dependências específicas, incluindo as reservas de assentos.
+     * O controlador de reservas é compartilhado com quem o criou, que também é responsável por pará-lo
+     * ({@link ReservaController#parar()}); as reservas só valem entre os controladores que usam a mesma instância.
+     *
+     * @param ingressoFileManager Gerenciador de arquivos de ingressos.
+     * @param eventoController    Controlador de eventos.
+     * @param usuarioController   Controlador de usuários.
+     * @param reservaController   Controlador das reservas temporárias de assentos.
+     */
+    public IngressoController(IngressoFileManager ingressoFileManager, EventoController eventoController,
+                              UsuarioController usuarioController, ReservaController reservaController) {
+        this.ingressoFileManager = ingressoFileManager;
+        this.eventoController = eventoController;
+        this.usuarioController = usuarioController;
+        this.reservaController = reservaController;
     }
 
     /**
@@ -43,16 +71,156 @@ public class IngressoController {
      * @throws IllegalArgumentException Caso o assento não esteja disponível.
      */
     public Ingresso criarIngresso(UUID eventoId, UUID usuarioId, double preco, String assento) throws Exception {
-        Ingresso ingresso = new Ingresso(eventoId, usuarioId, preco, assento);
-        EventoController eventoController = new EventoController();
-        Evento evento = eventoController.getById(eventoId);
-        if(!evento.getAssentosDisponiveis().contains(assento)) {
-            throw new IllegalArgumentException("Esse assento não está mais disponível!");
+        return criarIngressos(eventoId, usuarioId, preco, List.of(assento)).get(0);
+    }
+
+    /**
+     * Cria os ingressos de vários assentos de um mesmo evento.
+     * Todos os assentos são verificados antes de qualquer alteração, e o inventário do evento e os ingressos
+     * são gravados uma única vez, independentemente da quantidade de assentos.
+     * A operação é feita sob a trava do evento, então cada assento é vendido no máximo uma vez
+     * mesmo com compras simultâneas; eventos diferentes vendem em paralelo.
+     * Assentos reservados por outro usuário são recusados; as reservas do próprio comprador são confirmadas.
+     * Se a gravação falhar, os assentos voltam a ficar disponíveis e nenhum ingresso é criado.
+     *
+     * @param eventoId ID do evento.
+     * @param usuarioId ID do usuário.
+     * @param preco Preço de cada ingresso.
+     * @param assentos Assentos escolhidos.
+     * @return Lista com os ingressos criados, na ordem dos assentos.
+     * @throws IllegalArgumentException Caso algum assento não esteja disponível, esteja repetido ou reservado por outro usuário.
+     * @throws java.io.UncheckedIOException Caso os ingressos ou o inventário do evento não possam ser gravados.
+     */
+    public List<Ingresso> criarIngressos(UUID eventoId, UUID usuarioId, double preco, List<String> assentos) throws Exception {
+        // Verificar e remover os assentos precisa ser atômico por evento, senão dois compradores levam o mesmo assento
+        Lock trava = TRAVAS_EVENTOS.getTrava(eventoId);
+        trava.lock();
+        try {
+            Evento evento = eventoController.getById(eventoId);
+            if (new HashSet<>(assentos).size() != assentos.size()
+                    || !assentos.stream().allMatch(evento::isAssentoDisponivel)) {
+                throw new IllegalArgumentException("Esse assento não está mais disponível!");
+            }
+            for (String assento : assentos) {
+                if (reservaController.isReservadoPorOutro(eventoId, assento, usuarioId)) {
+                    throw new IllegalArgumentException("Esse assento está reservado por outro usuário!");
+                }
+            }
+            List<Ingresso> ingressos = new ArrayList<>(assentos.size());
+            for (String assento : assentos) {
+                evento.reservarAssento(assento);
+                ingressos.add(new Ingresso(eventoId, usuarioId, preco, assento));
+            }
+            // Os ingressos são gravados antes do inventário: se a gravação falhar, nenhum assento fica vendido sem ingresso
+            try {
+                ingressoFileManager.saveAll(ingressos);
+            } catch (RuntimeException e) {
+                devolverAssentos(evento, assentos);
+                throw e;
+            }
+            try {
+                eventoController.salvarAssentos(evento);
+            } catch (RuntimeException e) {
+                devolverAssentos(evento, assentos);
+                for (Ingresso ingresso : ingressos) {
+                    ingressoFileManager.delete(ingresso.getId());
+                }
+                throw e;
+            }
+            reservaController.confirmar(eventoId, assentos, usuarioId);  // As reservas viram ingressos
+            return ingressos;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Devolve ao inventário em memória os assentos de uma compra que não pôde ser gravada,
+     * já que o evento é compartilhado pelo cache dos controladores.
+     *
+     * @param evento   Evento da compra.
+     * @param assentos Assentos retirados na compra.
+     */
+    private static void devolverAssentos(Evento evento, List<String> assentos) {
+        for (String assento : assentos) {
+            evento.adicionarAssento(assento);
+        }
+    }
+
+    /**
+     * Desfaz os ingressos criados por {@link #criarIngressos} para uma compra que não pôde ser concluída:
+     * os ingressos são removidos e os assentos voltam a ficar disponíveis no evento.
+     * Os ingressos são removidos antes de o inventário ser gravado, pelo mesmo motivo da ordem usada na criação:
+     * se a gravação falhar no meio, um assento pode ficar indisponível, mas nunca disponível com um ingresso válido.
+     *
+     * @param eventoId  ID do evento dos ingressos.
+     * @param ingressos Ingressos criados na compra.
+     * @throws java.io.UncheckedIOException Caso os ingressos ou o inventário do evento não possam ser gravados.
+     */
+    public void desfazerIngressos(UUID eventoId, List<Ingresso> ingressos) {
+        Lock trava = TRAVAS_EVENTOS.getTrava(eventoId);
+        trava.lock();
+        try {
+            List<String> assentos = new ArrayList<>(ingressos.size());
+            for (Ingresso ingresso : ingressos) {
+                ingressoFileManager.delete(ingresso.getId());
+                assentos.add(ingresso.getAssento());
+            }
+            Evento evento = eventoController.getById(eventoId);
+            devolverAssentos(evento, assentos);
+            eventoController.salvarAssentos(evento);
+        } finally {
+            trava.unlock();
         }
-        evento.removerAssento(assento);
-        eventoController.update(evento);
-        ingressoFileManager.save(ingresso);
-        return ingresso;
+    }
+
+    /**
+     * Reserva temporariamente um assento para o usuário durante a compra.
+     * Chamado a cada clique no mapa de assentos, não usa a trava do evento, que uma venda mantém durante a gravação
+     * em disco: o inventário e as reservas já são sincronizados, e uma venda concluída entre a verificação e a
+     * reserva é recusada depois por {@link #criarIngressos}, que confere de novo a disponibilidade.
+     *
+     * @param eventoId  ID do evento.
+     * @param usuarioId ID do usuário.
+     * @param assento   Assento selecionado.
+     * @return true se o assento está disponível e ficou reservado para o usuário; false caso contrário.
+     */
+    public boolean reservarAssento(UUID eventoId, UUID usuarioId, String assento) {
+        Evento evento = eventoController.getById(eventoId);
+        return evento != null && evento.isAssentoDisponivel(assento)
+                && reservaController.reservar(eventoId, assento, usuarioId);
+    }
+
+    /**
+     * Libera a reserva de um assento feita pelo usuário.
+     *
+     * @param eventoId  ID do evento.
+     * @param usuarioId ID do usuário.
+     * @param assento   Assento desmarcado.
+     */
+    public void liberarAssento(UUID eventoId, UUID usuarioId, String assento) {
+        reservaController.liberar(eventoId, assento, usuarioId);
+    }
+
+    /**
+     * Libera todas as reservas do usuário em um evento.
+     *
+     * @param eventoId  ID do evento.
+     * @param usuarioId ID do usuário.
+     */
+    public void liberarReservas(UUID eventoId, UUID usuarioId) {
+        reservaController.liberarTodas(eventoId, usuarioId);
+    }
+
+    /**
+     * Retorna os assentos do evento reservados por outros usuários, que não podem ser selecionados.
+     *
+     * @param eventoId  ID do evento.
+     * @param usuarioId ID do usuário que está consultando.
+     * @return Conjunto com os assentos reservados por outros usuários.
+     */
+    public Set<String> getAssentosReservadosPorOutros(UUID eventoId, UUID usuarioId) {
+        return reservaController.getReservadosPorOutros(eventoId, usuarioId);
     }
 
     /**
@@ -65,6 +233,16 @@ public class IngressoController {
         return ingressoFileManager.getById(id);
     }
 
+    /**
+     * Retorna vários ingressos pelos seus IDs em uma única passada.
+     *
+     * @param ids IDs dos ingressos.
+     * @return Lista com os ingressos encontrados, na ordem dos IDs informados.
+     */
+    public List<Ingresso> getByIds(Collection<UUID> ids) {
+        return ingressoFileManager.getByIds(ids);
+    }
+
     /**
      * Retorna todos os ingressos cadastrados.
      *
@@ -81,9 +259,17 @@ public class IngressoController {
      * @return Lista de objetos Ingresso que pertencem ao usuário especificado.
      */
     public List<Ingresso> getByUsuarioId(UUID usuarioId) {
-        return ingressoFileManager.getAll().stream()
-                .filter(ingresso -> ingresso.getUsuarioId().equals(usuarioId))
-                .collect(Collectors.toList());
+        return ingressoFileManager.findBy(IngressoFileManager.INDICE_USUARIO, usuarioId);
+    }
+
+    /**
+     * Versão assíncrona de {@link #getByUsuarioId(UUID)}.
+     *
+     * @param usuarioId UUID do usuário.
+     * @return Future com os ingressos do usuário.
+     */
+    public CompletableFuture<List<Ingresso>> getByUsuarioIdAsync(UUID usuarioId) {
+        return ExecucaoAssincrona.executar(() -> getByUsuarioId(usuarioId));
     }
 
 
@@ -101,44 +287,100 @@ public class IngressoController {
 
     /**
      * Desativa um ingresso, devolvendo o assento ao evento, se o evento ainda estiver ativo.
+     * Se a gravação falhar, o ingresso continua ativo e o assento continua vendido.
      *
      * @param id ID do ingresso a ser desativado.
      * @return True se o ingresso foi desativado com sucesso, false caso contrário.
+     * @throws java.io.UncheckedIOException Caso o ingresso ou o inventário do evento não possam ser gravados.
      */
     public boolean desativarIngresso(UUID id) throws Exception {
         Ingresso ingresso = this.getById(id);
-        Evento evento = eventoController.getById(ingresso.getEventoId());
-        Usuario usuario = usuarioController.getById(ingresso.getUsuarioId());
-        if(evento.isAtivo()){
-            evento.adicionarAssento(ingresso.getAssento());
-            ingresso.setAtivo(false);
-            this.update(ingresso);
-            eventoController.update(evento);
-            for (Ingresso ingressoUsuario : usuario.getIngressos()) {
-                if (ingressoUsuario.getId().equals(id)) {
-                    ingressoUsuario.setAtivo(false);
-                    break;
-                }
+        Lock trava = TRAVAS_EVENTOS.getTrava(ingresso.getEventoId());
+        trava.lock();
+        try {
+            Evento evento = eventoController.getById(ingresso.getEventoId());
+            if(evento.isAtivo()){
+                alterarSituacao(evento, ingresso, false);
+                return true;
             }
-            usuarioController.update(usuario, usuario.getLogin(), usuario.getSenha(), usuario.getNome(), usuario.getEmail());
-            return true;
+            return false;
+        } finally {
+            trava.unlock();
         }
-        return false;
+    }
+
+    /**
+     * Versão assíncrona de {@link #desativarIngresso(UUID)}.
+     *
+     * @param id ID do ingresso a ser desativado.
+     * @return Future com true se o ingresso foi desativado, false caso contrário.
+     */
+    public CompletableFuture<Boolean> desativarIngressoAsync(UUID id) {
+        return ExecucaoAssincrona.executar(() -> desativarIngresso(id));
     }
 
     /**
      * Reativa um ingresso, removendo o assento da lista de disponíveis do evento.
+     * Se a gravação falhar, o ingresso continua desativado e o assento continua disponível.
      *
      * @param id ID do ingresso a ser reativado.
+     * @throws java.io.UncheckedIOException Caso o ingresso ou o inventário do evento não possam ser gravados.
      */
     public void reativarIngresso(UUID id) {
         Ingresso ingresso = this.getById(id);
-        Evento evento = eventoController.getById(ingresso.getEventoId());
-        if(evento.isAtivo()){
-            evento.removerAssento(ingresso.getAssento());
-            ingresso.setAtivo(true);
+        Lock trava = TRAVAS_EVENTOS.getTrava(ingresso.getEventoId());
+        trava.lock();
+        try {
+            Evento evento = eventoController.getById(ingresso.getEventoId());
+            if(evento.isAtivo()){
+                alterarSituacao(evento, ingresso, true);
+            }
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Ativa ou desativa um ingresso e grava o ingresso e o inventário do evento, com a trava do evento.
+     * Como em {@link #criarIngressos}, o evento e o ingresso são compartilhados pelo cache: se o ingresso não puder
+     * ser gravado, os dois voltam ao estado anterior em memória; se o inventário falhar, o ingresso também é
+     * regravado como estava.
+     *
+     * @param evento   Evento do ingresso.
+     * @param ingresso Ingresso a ser alterado.
+     * @param ativo    true para reativar o ingresso, retirando o assento do evento; false para desativá-lo.
+     */
+    private void alterarSituacao(Evento evento, Ingresso ingresso, boolean ativo) {
+        aplicarSituacao(evento, ingresso, ativo);
+        try {
+            this.update(ingresso);
+        } catch (RuntimeException e) {
+            aplicarSituacao(evento, ingresso, !ativo);
+            throw e;
+        }
+        try {
+            eventoController.salvarAssentos(evento);
+        } catch (RuntimeException e) {
+            aplicarSituacao(evento, ingresso, !ativo);
             this.update(ingresso);
+            throw e;
+        }
+    }
+
+    /**
+     * Altera em memória a situação do ingresso e a disponibilidade do seu assento no evento.
+     *
+     * @param evento   Evento do ingresso.
+     * @param ingresso Ingresso a ser alterado.
+     * @param ativo    Nova situação do ingresso; o assento fica disponível apenas com o ingresso desativado.
+     */
+    private static void aplicarSituacao(Evento evento, Ingresso ingresso, boolean ativo) {
+        if (ativo) {
+            evento.removerAssento(ingresso.getAssento());
+        } else {
+            evento.adicionarAssento(ingresso.getAssento());
         }
+        ingresso.setAtivo(ativo);
     }
 
     /**
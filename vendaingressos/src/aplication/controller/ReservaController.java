@@ -0,0 +1,212 @@
+package aplication.controller;
+
+import aplication.util.RodaTemporizacao;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Classe responsável pelas reservas temporárias de assentos durante a compra.
+ * <p>
+ * Quando o usuário seleciona um assento, ele fica reservado em seu nome por um tempo limitado; outros usuários
+ * não conseguem comprá-lo nesse intervalo. Ao finalizar a compra, as reservas viram ingressos. Reservas não
+ * confirmadas expiram sozinhas, liberadas por uma {@link RodaTemporizacao}, que suporta centenas de milhares
+ * de reservas simultâneas com custo constante por reserva.
+ * <p>
+ * As reservas ficam apenas em memória: ao reiniciar a aplicação, todos os assentos voltam a estar livres.
+ * Cada instância mantém a thread da sua roda até {@link #parar()} ser chamado.
+ */
+public class ReservaController {
+    /** Tempo padrão de uma reserva, em milissegundos. */
+    public static final long DURACAO_PADRAO_MILLIS = 5 * 60 * 1000;
+
+    private final long duracaoMillis;
+    private final RodaTemporizacao roda;
+    private final Map<UUID, Map<String, Reserva>> reservasPorEvento = new HashMap<>();
+
+    /**
+     * Reserva de um assento por um usuário.
+     */
+    private static final class Reserva {
+        private final UUID usuarioId;
+        private RodaTemporizacao.Agendamento expiracao;
+        private long renovacoes; // Incrementado a cada renovação, invalida expirações antigas
+
+        private Reserva(UUID usuarioId) {
+            this.usuarioId = usuarioId;
+        }
+    }
+
+    /**
+     * Construtor da classe ReservaController com a duração padrão.
+     */
+    public ReservaController() {
+        this(DURACAO_PADRAO_MILLIS);
+    }
+
+    /**
+     * Construtor da classe ReservaController.
+     *
+     * @param duracaoMillis Tempo de cada reserva, em milissegundos.
+     */
+    public ReservaController(long duracaoMillis) {
+        this.duracaoMillis = duracaoMillis;
+        // Ticks de 100 ms: a reserva expira com no máximo 0,1 s de atraso
+        this.roda = new RodaTemporizacao(100, 1024);
+    }
+
+    /**
+     * Reserva um assento para um usuário ou renova a reserva que ele já possui.
+     *
+     * @param eventoId  ID do evento.
+     * @param assento   Assento a ser reservado.
+     * @param usuarioId ID do usuário.
+     * @return true se o assento ficou reservado para o usuário; false se ele está reservado para outro usuário.
+     */
+    public synchronized boolean reservar(UUID eventoId, String assento, UUID usuarioId) {
+        Map<String, Reserva> reservas = reservasPorEvento.computeIfAbsent(eventoId, id -> new HashMap<>());
+        Reserva reserva = reservas.get(assento);
+        if (reserva != null && !reserva.usuarioId.equals(usuarioId)) {
+            return false;
+        }
+        if (reserva == null) {
+            reserva = new Reserva(usuarioId);
+            reservas.put(assento, reserva);
+        } else {
+            reserva.expiracao.cancelar();  // Renova o prazo da reserva existente
+        }
+        Reserva agendada = reserva;
+        long renovacao = ++reserva.renovacoes;
+        reserva.expiracao = roda.agendar(duracaoMillis, () -> expirar(eventoId, assento, agendada, renovacao));
+        return true;
+    }
+
+    /**
+     * Verifica se um assento está reservado para um usuário diferente do informado.
+     *
+     * @param eventoId  ID do evento.
+     * @param assento   Assento a ser verificado.
+     * @param usuarioId ID do usuário que deseja o assento.
+     * @return true se outro usuário possui uma reserva válida do assento.
+     */
+    public synchronized boolean isReservadoPorOutro(UUID eventoId, String assento, UUID usuarioId) {
+        Map<String, Reserva> reservas = reservasPorEvento.get(eventoId);
+        Reserva reserva = reservas != null ? reservas.get(assento) : null;
+        return reserva != null && !reserva.usuarioId.equals(usuarioId);
+    }
+
+    /**
+     * Retorna os assentos de um evento reservados por usuários diferentes do informado.
+     *
+     * @param eventoId  ID do evento.
+     * @param usuarioId ID do usuário que está consultando.
+     * @return Conjunto com os assentos reservados por outros usuários.
+     */
+    public synchronized Set<String> getReservadosPorOutros(UUID eventoId, UUID usuarioId) {
+        Set<String> assentos = new HashSet<>();
+        Map<String, Reserva> reservas = reservasPorEvento.get(eventoId);
+        if (reservas != null) {
+            reservas.forEach((assento, reserva) -> {
+                if (!reserva.usuarioId.equals(usuarioId)) {
+                    assentos.add(assento);
+                }
+            });
+        }
+        return assentos;
+    }
+
+    /**
+     * Libera a reserva de um assento feita pelo usuário.
+     *
+     * @param eventoId  ID do evento.
+     * @param assento   Assento a ser liberado.
+     * @param usuarioId ID do usuário dono da reserva.
+     */
+    public synchronized void liberar(UUID eventoId, String assento, UUID usuarioId) {
+        Map<String, Reserva> reservas = reservasPorEvento.get(eventoId);
+        Reserva reserva = reservas != null ? reservas.get(assento) : null;
+        if (reserva != null && reserva.usuarioId.equals(usuarioId)) {
+            reserva.expiracao.cancelar();
+            remover(eventoId, reservas, assento);
+        }
+    }
+
+    /**
+     * Libera todas as reservas de um usuário em um evento, por exemplo ao sair da tela de compra.
+     *
+     * @param eventoId  ID do evento.
+     * @param usuarioId ID do usuário dono das reservas.
+     */
+    public synchronized void liberarTodas(UUID eventoId, UUID usuarioId) {
+        Map<String, Reserva> reservas = reservasPorEvento.get(eventoId);
+        if (reservas == null) {
+            return;
+        }
+        Iterator<Reserva> iterador = reservas.values().iterator();
+        while (iterador.hasNext()) {
+            Reserva reserva = iterador.next();
+            if (reserva.usuarioId.equals(usuarioId)) {
+                reserva.expiracao.cancelar();
+                iterador.remove();
+            }
+        }
+        if (reservas.isEmpty()) {
+            reservasPorEvento.remove(eventoId);
+        }
+    }
+
+    /**
+     * Confirma a venda dos assentos reservados pelo usuário, encerrando as reservas.
+     *
+     * @param eventoId  ID do evento.
+     * @param assentos  Assentos vendidos.
+     * @param usuarioId ID do usuário comprador.
+     */
+    public synchronized void confirmar(UUID eventoId, Collection<String> assentos, UUID usuarioId) {
+        for (String assento : assentos) {
+            liberar(eventoId, assento, usuarioId);
+        }
+    }
+
+    /**
+     * Para a roda de temporização e encerra a sua thread. Depois disso, as reservas não expiram mais, e o
+     * controlador não deve continuar sendo usado.
+     */
+    public void parar() {
+        roda.parar();
+    }
+
+    /**
+     * Remove uma reserva expirada, desde que ela não tenha sido renovada ou substituída.
+     *
+     * @param eventoId ID do evento.
+     * @param assento  Assento reservado.
+     * @param reserva  Reserva que expirou.
+     * @param renovacao Renovação da reserva à qual a expiração pertence.
+     */
+    private synchronized void expirar(UUID eventoId, String assento, Reserva reserva, long renovacao) {
+        Map<String, Reserva> reservas = reservasPorEvento.get(eventoId);
+        if (reservas != null && reservas.get(assento) == reserva && reserva.renovacoes == renovacao) {
+            remover(eventoId, reservas, assento);
+        }
+    }
+
+    /**
+     * Remove a reserva de um assento e descarta o mapa do evento quando ele fica vazio.
+     *
+     * @param eventoId ID do evento.
+     * @param reservas Reservas do evento.
+     * @param assento  Assento cuja reserva será removida.
+     */
+    private void remover(UUID eventoId, Map<String, Reserva> reservas, String assento) {
+        reservas.remove(assento);
+        if (reservas.isEmpty()) {
+            reservasPorEvento.remove(eventoId);
+        }
+    }
+}
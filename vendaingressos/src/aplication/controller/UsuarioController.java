@@ -2,8 +2,10 @@ package aplication.controller;
 
 import aplication.model.Usuario;
 import aplication.filemanagement.UsuarioFileManager;
+import aplication.util.ExecucaoAssincrona;
 import java.util.UUID;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Classe responsável pelo controle de operações relacionadas ao usuário.
@@ -14,10 +16,19 @@ public class UsuarioController {
 
     /**
      * Construtor da classe UsuarioController.
-     * Inicializa o gerenciador de arquivos de usuários.
+     * Usa o gerenciador de arquivos de usuários compartilhado pelo contexto da aplicação.
      */
     public UsuarioController() {
-        this.usuarioFileManager = new UsuarioFileManager();
+        this(ContextoAplicacao.getInstancia().getUsuarioFileManager());
+    }
+
+    /**
+     * Construtor da classe UsuarioController com um gerenciador de arquivos específico.
+     *
+     * @param usuarioFileManager Gerenciador de arquivos de usuários.
+     */
+    public UsuarioController(UsuarioFileManager usuarioFileManager) {
+        this.usuarioFileManager = usuarioFileManager;
     }
 
     /**
@@ -119,6 +130,17 @@ public class UsuarioController {
         return usuario.login(login, senha);
     }
 
+    /**
+     * Realiza o login de um usuário de forma assíncrona, sem bloquear a tela que o solicitou.
+     *
+     * @param login Login do usuário.
+     * @param senha Senha do usuário.
+     * @return Future com o usuário autenticado, ou com null se o login ou a senha estiverem incorretos.
+     */
+    public CompletableFuture<Usuario> loginAsync(String login, String senha) {
+        return ExecucaoAssincrona.executar(() -> login(login, senha) ? getByLogin(login) : null);
+    }
+
     /**
      * Busca um usuário pelo e-mail.
      *
@@ -126,11 +148,7 @@ public class UsuarioController {
      * @return O objeto usuário correspondente ao e-mail ou null se não encontrado.
      */
     public Usuario getByEmail(String email) {
-        List<Usuario> usuarios = usuarioFileManager.getAll();
-        return usuarios.stream()
-                .filter(usuario -> usuario.getEmail().equals(email))
-                .findFirst()
-                .orElse(null);
+        return usuarioFileManager.findFirstBy(UsuarioFileManager.INDICE_EMAIL, email);
     }
 
     /**
@@ -140,11 +158,7 @@ public class UsuarioController {
      * @return O objeto usuário correspondente ao CPF ou null se não encontrado.
      */
     public Usuario getByCpf(String cpf) {
-        List<Usuario> usuarios = usuarioFileManager.getAll();
-        return usuarios.stream()
-                .filter(usuario -> usuario.getCpf().equals(cpf))
-                .findFirst()
-                .orElse(null);
+        return usuarioFileManager.findFirstBy(UsuarioFileManager.INDICE_CPF, cpf);
     }
 
     /**
@@ -154,11 +168,7 @@ public class UsuarioController {
      * @return O objeto usuário correspondente ao login ou null se não encontrado.
      */
     public Usuario getByLogin(String login) {
-        List<Usuario> usuarios = usuarioFileManager.getAll();
-        return usuarios.stream()
-                .filter(usuario -> usuario.getLogin().equals(login))
-                .findFirst()
-                .orElse(null);
+        return usuarioFileManager.findFirstBy(UsuarioFileManager.INDICE_LOGIN, login);
     }
 
     /**
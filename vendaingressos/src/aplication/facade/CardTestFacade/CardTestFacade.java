@@ -69,6 +69,7 @@ public class CardTestFacade {
      * @param cardId O ID do cartão.
      * @return O ano de validade do cartão.
      */
+    @SuppressWarnings("deprecation") // Mantém os valores de Date esperados pelos testes
     public int getYearByCardId(UUID cardId) {
         return cartaoController.getById(cardId).getDataValidade().getYear();
     }
@@ -79,6 +80,7 @@ public class CardTestFacade {
      * @param cardId O ID do cartão.
      * @return O mês de validade do cartão.
      */
+    @SuppressWarnings("deprecation") // Mantém os valores de Date esperados pelos testes
     public int getMonthByCardId(UUID cardId) {
         return cartaoController.getById(cardId).getDataValidade().getMonth();
     }
@@ -89,6 +91,7 @@ public class CardTestFacade {
      * @param cardId O ID do cartão.
      * @return O dia de validade do cartão.
      */
+    @SuppressWarnings("deprecation") // Mantém os valores de Date esperados pelos testes
     public int getDayByCardId(UUID cardId) {
         return cartaoController.getById(cardId).getDataValidade().getDay();
     }
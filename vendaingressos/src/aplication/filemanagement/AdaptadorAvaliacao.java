@@ -0,0 +1,54 @@
+package aplication.filemanagement;
+
+import aplication.model.Avaliacao;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Converte uma {@link Avaliacao} para JSON e vice-versa, campo a campo, sem reflexão.
+ */
+public class AdaptadorAvaliacao extends TypeAdapter<Avaliacao> {
+
+    @Override
+    public void write(JsonWriter out, Avaliacao avaliacao) throws IOException {
+        if (avaliacao == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        CamposJson.escrever(out, "id", avaliacao.getId());
+        CamposJson.escrever(out, "comentarios", avaliacao.getComentarios());
+        out.name("rating").value(avaliacao.getRating());
+        CamposJson.escrever(out, "idUsuario", avaliacao.getIdUsuario());
+        CamposJson.escrever(out, "idEvento", avaliacao.getIdEvento());
+        out.endObject();
+    }
+
+    @Override
+    public Avaliacao read(JsonReader in) throws IOException {
+        if (CamposJson.lerNulo(in)) {
+            return null;
+        }
+        UUID id = null;
+        String comentarios = null;
+        int rating = 0;
+        UUID idUsuario = null;
+        UUID idEvento = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = CamposJson.lerUuid(in);
+                case "comentarios" -> comentarios = CamposJson.lerTexto(in);
+                case "rating" -> rating = in.nextInt();
+                case "idUsuario" -> idUsuario = CamposJson.lerUuid(in);
+                case "idEvento" -> idEvento = CamposJson.lerUuid(in);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Avaliacao(id, comentarios, rating, idUsuario, idEvento);
+    }
+}
@@ -0,0 +1,62 @@
+package aplication.filemanagement;
+
+import aplication.model.Cartao;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Converte um {@link Cartao} para JSON e vice-versa, campo a campo, sem reflexão.
+ * A data de validade é gravada em milissegundos desde a época ({@link AdaptadorData}).
+ */
+public class AdaptadorCartao extends TypeAdapter<Cartao> {
+
+    @Override
+    public void write(JsonWriter out, Cartao cartao) throws IOException {
+        if (cartao == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        CamposJson.escrever(out, "id", cartao.getId());
+        CamposJson.escrever(out, "idUsuario", cartao.getIdUsuario());
+        CamposJson.escrever(out, "nome", cartao.getNome());
+        CamposJson.escrever(out, "numero", cartao.getNumero());
+        CamposJson.escrever(out, "dataValidade", cartao.getDataValidade());
+        CamposJson.escrever(out, "cvv", cartao.getCvv());
+        out.name("ativo").value(cartao.getAtivo());
+        out.endObject();
+    }
+
+    @Override
+    public Cartao read(JsonReader in) throws IOException {
+        if (CamposJson.lerNulo(in)) {
+            return null;
+        }
+        UUID id = null;
+        UUID idUsuario = null;
+        String nome = null;
+        String numero = null;
+        Date dataValidade = null;
+        String cvv = null;
+        boolean ativo = false;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = CamposJson.lerUuid(in);
+                case "idUsuario" -> idUsuario = CamposJson.lerUuid(in);
+                case "nome" -> nome = CamposJson.lerTexto(in);
+                case "numero" -> numero = CamposJson.lerTexto(in);
+                case "dataValidade" -> dataValidade = CamposJson.lerData(in);
+                case "cvv" -> cvv = CamposJson.lerTexto(in);
+                case "ativo" -> ativo = in.nextBoolean();
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Cartao(id, idUsuario, nome, numero, dataValidade, cvv, ativo);
+    }
+}
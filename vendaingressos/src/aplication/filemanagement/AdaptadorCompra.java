@@ -0,0 +1,68 @@
+package aplication.filemanagement;
+
+import aplication.model.Compra;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Converte uma {@link Compra} para JSON e vice-versa, campo a campo, sem reflexão.
+ * A data da compra é gravada em milissegundos desde a época ({@link AdaptadorData}).
+ */
+public class AdaptadorCompra extends TypeAdapter<Compra> {
+
+    @Override
+    public void write(JsonWriter out, Compra compra) throws IOException {
+        if (compra == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        CamposJson.escrever(out, "id", compra.getId());
+        CamposJson.escrever(out, "idUsuario", compra.getIdUsuario());
+        CamposJson.escrever(out, "idEvento", compra.getIdEvento());
+        CamposJson.escrever(out, "idIngresso", compra.getIdIngresso());
+        CamposJson.escrever(out, "idCartao", compra.getIdCartao());
+        CamposJson.escrever(out, "boleto", compra.getBoleto());
+        CamposJson.escrever(out, "dataCompra", compra.getDataCompra());
+        out.name("preco").value(compra.getPreco());
+        CamposJson.escrever(out, "metodoPagamento", compra.getMetodoPagamento());
+        out.endObject();
+    }
+
+    @Override
+    public Compra read(JsonReader in) throws IOException {
+        if (CamposJson.lerNulo(in)) {
+            return null;
+        }
+        UUID id = null;
+        UUID idUsuario = null;
+        UUID idEvento = null;
+        UUID idIngresso = null;
+        UUID idCartao = null;
+        UUID boleto = null;
+        Date dataCompra = null;
+        double preco = 0;
+        String metodoPagamento = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = CamposJson.lerUuid(in);
+                case "idUsuario" -> idUsuario = CamposJson.lerUuid(in);
+                case "idEvento" -> idEvento = CamposJson.lerUuid(in);
+                case "idIngresso" -> idIngresso = CamposJson.lerUuid(in);
+                case "idCartao" -> idCartao = CamposJson.lerUuid(in);
+                case "boleto" -> boleto = CamposJson.lerUuid(in);
+                case "dataCompra" -> dataCompra = CamposJson.lerData(in);
+                case "preco" -> preco = in.nextDouble();
+                case "metodoPagamento" -> metodoPagamento = CamposJson.lerTexto(in);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Compra(id, idUsuario, idEvento, idIngresso, idCartao, boleto, dataCompra, preco, metodoPagamento);
+    }
+}
@@ -0,0 +1,67 @@
+package aplication.filemanagement;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Converte datas para JSON como milissegundos desde a época (epoch), sem depender de idioma ou fuso.
+ * <p>
+ * Na leitura, também aceita o formato textual gravado pelas versões anteriores, como
+ * {@code "Dec 15, 2024, 10:00:00 PM"}, interpretado no fuso horário padrão, como era gravado.
+ * O arquivo passa para o novo formato na próxima gravação.
+ */
+public class AdaptadorData extends TypeAdapter<Date> {
+    // Formatos do Gson padrão em en-US, com e sem a vírgula antes da hora (varia com a versão do JDK)
+    private static final String[] FORMATOS_LEGADOS = {"MMM d, yyyy, h:mm:ss a", "MMM d, yyyy h:mm:ss a"};
+
+    @Override
+    public void write(JsonWriter out, Date data) throws IOException {
+        if (data == null) {
+            out.nullValue();
+        } else {
+            out.value(data.getTime());
+        }
+    }
+
+    @Override
+    public Date read(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.NUMBER) {
+            return new Date(in.nextLong());
+        }
+        return lerLegado(in.nextString());
+    }
+
+    /**
+     * Interpreta uma data no formato textual antigo.
+     *
+     * @param texto Data gravada pelo Gson padrão.
+     * @return A data correspondente.
+     */
+    static Date lerLegado(String texto) {
+        String normalizado = texto.replace('\u202F', ' ').trim(); // JDKs recentes usam espaço estreito antes de AM/PM
+        for (String formato : FORMATOS_LEGADOS) {
+            DateFormat leitor = new SimpleDateFormat(formato, Locale.US);
+            leitor.setLenient(false);
+            try {
+                return leitor.parse(normalizado);
+            } catch (ParseException e) {
+                // Tenta o próximo formato
+            }
+        }
+        throw new JsonParseException("Data em formato desconhecido: " + texto);
+    }
+}
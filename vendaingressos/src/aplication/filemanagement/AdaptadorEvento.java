@@ -0,0 +1,58 @@
+package aplication.filemanagement;
+
+import aplication.model.Evento;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Converte um {@link Evento} para JSON e vice-versa, campo a campo, sem reflexão.
+ * A data é gravada em milissegundos desde a época ({@link AdaptadorData}). Os assentos não fazem parte do
+ * evento gravado: ficam no arquivo de inventário do evento ({@link InventarioFileManager}), e o evento lido
+ * vem sem o inventário carregado.
+ */
+public class AdaptadorEvento extends TypeAdapter<Evento> {
+
+    @Override
+    public void write(JsonWriter out, Evento evento) throws IOException {
+        if (evento == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        CamposJson.escrever(out, "id", evento.getId());
+        CamposJson.escrever(out, "nome", evento.getNome());
+        CamposJson.escrever(out, "descricao", evento.getDescricao());
+        CamposJson.escrever(out, "data", evento.getData());
+        out.name("preco").value(evento.getPreco());
+        out.endObject();
+    }
+
+    @Override
+    public Evento read(JsonReader in) throws IOException {
+        if (CamposJson.lerNulo(in)) {
+            return null;
+        }
+        UUID id = null;
+        String nome = null;
+        String descricao = null;
+        Date data = null;
+        double preco = 0;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = CamposJson.lerUuid(in);
+                case "nome" -> nome = CamposJson.lerTexto(in);
+                case "descricao" -> descricao = CamposJson.lerTexto(in);
+                case "data" -> data = CamposJson.lerData(in);
+                case "preco" -> preco = in.nextDouble();
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Evento(id, nome, descricao, data, preco);
+    }
+}
@@ -0,0 +1,57 @@
+package aplication.filemanagement;
+
+import aplication.model.Ingresso;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Converte um {@link Ingresso} para JSON e vice-versa, campo a campo, sem reflexão.
+ */
+public class AdaptadorIngresso extends TypeAdapter<Ingresso> {
+
+    @Override
+    public void write(JsonWriter out, Ingresso ingresso) throws IOException {
+        if (ingresso == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        CamposJson.escrever(out, "id", ingresso.getId());
+        CamposJson.escrever(out, "usuarioId", ingresso.getUsuarioId());
+        CamposJson.escrever(out, "eventoId", ingresso.getEventoId());
+        out.name("preco").value(ingresso.getPreco());
+        CamposJson.escrever(out, "assento", ingresso.getAssento());
+        out.name("ativo").value(ingresso.isAtivo());
+        out.endObject();
+    }
+
+    @Override
+    public Ingresso read(JsonReader in) throws IOException {
+        if (CamposJson.lerNulo(in)) {
+            return null;
+        }
+        UUID id = null;
+        UUID usuarioId = null;
+        UUID eventoId = null;
+        double preco = 0;
+        String assento = null;
+        boolean ativo = false;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = CamposJson.lerUuid(in);
+                case "usuarioId" -> usuarioId = CamposJson.lerUuid(in);
+                case "eventoId" -> eventoId = CamposJson.lerUuid(in);
+                case "preco" -> preco = in.nextDouble();
+                case "assento" -> assento = CamposJson.lerTexto(in);
+                case "ativo" -> ativo = in.nextBoolean();
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Ingresso(id, usuarioId, eventoId, preco, assento, ativo);
+    }
+}
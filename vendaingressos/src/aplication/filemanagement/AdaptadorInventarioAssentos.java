@@ -0,0 +1,102 @@
+package aplication.filemanagement;
+
+import aplication.model.InventarioAssentos;
+import aplication.model.InventarioAssentos.Faixa;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Converte o {@link InventarioAssentos} de um evento para JSON e vice-versa.
+ * <p>
+ * O formato compacto guarda as faixas de rótulos e os assentos disponíveis como um bitset em Base64:
+ * <pre>{"faixas":[["A",1,100,2],["Camarote"]],"disponiveis":"//8P..."}</pre>
+ * Cada faixa é [prefixo, início, quantidade, largura], ou apenas [rótulo] para um assento avulso.
+ * Na leitura, o formato antigo (um array com os rótulos dos assentos disponíveis) também é aceito,
+ * e o arquivo passa para o formato compacto na próxima gravação.
+ */
+public class AdaptadorInventarioAssentos extends TypeAdapter<InventarioAssentos> {
+
+    @Override
+    public void write(JsonWriter out, InventarioAssentos inventario) throws IOException {
+        if (inventario == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("faixas").beginArray();
+        for (Faixa faixa : inventario.getFaixas()) {
+            out.beginArray().value(faixa.prefixo());
+            if (faixa.largura() > 0) {
+                out.value(faixa.inicio()).value(faixa.quantidade()).value(faixa.largura());
+            }
+            out.endArray();
+        }
+        out.endArray();
+        out.name("disponiveis").value(Base64.getEncoder().encodeToString(inventario.getBitsDisponiveis().toByteArray()));
+        out.endObject();
+    }
+
+    @Override
+    public InventarioAssentos read(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return new InventarioAssentos();
+        }
+        if (token == JsonToken.BEGIN_ARRAY) {
+            // Formato antigo: lista com os rótulos dos assentos disponíveis
+            InventarioAssentos inventario = new InventarioAssentos();
+            in.beginArray();
+            while (in.hasNext()) {
+                inventario.adicionar(in.nextString());
+            }
+            in.endArray();
+            return inventario;
+        }
+        List<Faixa> faixas = new ArrayList<>();
+        BitSet disponiveis = new BitSet();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "faixas" -> {
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        faixas.add(lerFaixa(in));
+                    }
+                    in.endArray();
+                }
+                case "disponiveis" -> disponiveis = BitSet.valueOf(Base64.getDecoder().decode(in.nextString()));
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new InventarioAssentos(faixas, disponiveis);
+    }
+
+    /**
+     * Lê uma faixa no formato [prefixo, início, quantidade, largura] ou [rótulo].
+     *
+     * @param in Leitor posicionado no início da faixa.
+     * @return A faixa lida.
+     * @throws IOException Se o JSON estiver malformado.
+     */
+    private static Faixa lerFaixa(JsonReader in) throws IOException {
+        in.beginArray();
+        String prefixo = in.nextString();
+        Faixa faixa;
+        if (in.hasNext()) {
+            faixa = new Faixa(prefixo, in.nextInt(), in.nextInt(), in.nextInt());
+        } else {
+            faixa = new Faixa(prefixo, 0, 1, 0);
+        }
+        in.endArray();
+        return faixa;
+    }
+}
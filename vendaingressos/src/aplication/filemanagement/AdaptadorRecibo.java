@@ -0,0 +1,65 @@
+package aplication.filemanagement;
+
+import aplication.model.Recibo;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Converte um {@link Recibo} para JSON e vice-versa, campo a campo, sem reflexão.
+ * A data do evento é gravada em milissegundos desde a época ({@link AdaptadorData}).
+ */
+public class AdaptadorRecibo extends TypeAdapter<Recibo> {
+
+    @Override
+    public void write(JsonWriter out, Recibo recibo) throws IOException {
+        if (recibo == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        CamposJson.escrever(out, "id", recibo.getId());
+        CamposJson.escrever(out, "idIngresso", recibo.getIdIngresso());
+        CamposJson.escrever(out, "idUsuario", recibo.getIdUsuario());
+        CamposJson.escrever(out, "nomeEvento", recibo.getNomeEvento());
+        CamposJson.escrever(out, "dataEvento", recibo.getDataEvento());
+        CamposJson.escrever(out, "assento", recibo.getAssento());
+        out.name("preco").value(recibo.getPreco());
+        CamposJson.escrever(out, "metodoPagamento", recibo.getMetodoPagamento());
+        out.endObject();
+    }
+
+    @Override
+    public Recibo read(JsonReader in) throws IOException {
+        if (CamposJson.lerNulo(in)) {
+            return null;
+        }
+        UUID id = null;
+        UUID idIngresso = null;
+        UUID idUsuario = null;
+        String nomeEvento = null;
+        Date dataEvento = null;
+        String assento = null;
+        double preco = 0;
+        String metodoPagamento = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = CamposJson.lerUuid(in);
+                case "idIngresso" -> idIngresso = CamposJson.lerUuid(in);
+                case "idUsuario" -> idUsuario = CamposJson.lerUuid(in);
+                case "nomeEvento" -> nomeEvento = CamposJson.lerTexto(in);
+                case "dataEvento" -> dataEvento = CamposJson.lerData(in);
+                case "assento" -> assento = CamposJson.lerTexto(in);
+                case "preco" -> preco = in.nextDouble();
+                case "metodoPagamento" -> metodoPagamento = CamposJson.lerTexto(in);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Recibo(id, idIngresso, idUsuario, nomeEvento, dataEvento, assento, preco, metodoPagamento);
+    }
+}
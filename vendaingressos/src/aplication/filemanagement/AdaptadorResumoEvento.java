@@ -0,0 +1,54 @@
+package aplication.filemanagement;
+
+import aplication.model.ResumoEvento;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Lê um {@link ResumoEvento} diretamente de um evento gravado por {@link AdaptadorEvento}.
+ * Apenas o ID, o nome, a data e o preço são lidos; a descrição e qualquer outro campo são descartados pelo leitor
+ * sem serem convertidos em objetos.
+ */
+public class AdaptadorResumoEvento extends TypeAdapter<ResumoEvento> {
+
+    @Override
+    public void write(JsonWriter out, ResumoEvento resumo) throws IOException {
+        if (resumo == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        CamposJson.escrever(out, "id", resumo.id());
+        CamposJson.escrever(out, "nome", resumo.nome());
+        CamposJson.escrever(out, "data", resumo.data());
+        out.name("preco").value(resumo.preco());
+        out.endObject();
+    }
+
+    @Override
+    public ResumoEvento read(JsonReader in) throws IOException {
+        if (CamposJson.lerNulo(in)) {
+            return null;
+        }
+        UUID id = null;
+        String nome = null;
+        Date data = null;
+        double preco = 0;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = CamposJson.lerUuid(in);
+                case "nome" -> nome = CamposJson.lerTexto(in);
+                case "data" -> data = CamposJson.lerData(in);
+                case "preco" -> preco = in.nextDouble();
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new ResumoEvento(id, nome, data, preco, 0);
+    }
+}
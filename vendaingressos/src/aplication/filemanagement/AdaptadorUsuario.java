@@ -0,0 +1,64 @@
+package aplication.filemanagement;
+
+import aplication.model.Usuario;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Converte um {@link Usuario} para JSON e vice-versa, campo a campo, sem reflexão.
+ * Campos desconhecidos, como as listas embutidas de versões anteriores, são ignorados na leitura.
+ */
+public class AdaptadorUsuario extends TypeAdapter<Usuario> {
+
+    @Override
+    public void write(JsonWriter out, Usuario usuario) throws IOException {
+        if (usuario == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        CamposJson.escrever(out, "id", usuario.getId());
+        CamposJson.escrever(out, "login", usuario.getLogin());
+        CamposJson.escrever(out, "senha", usuario.getSenha());
+        CamposJson.escrever(out, "nome", usuario.getNome());
+        CamposJson.escrever(out, "cpf", usuario.getCpf());
+        CamposJson.escrever(out, "email", usuario.getEmail());
+        out.name("admin").value(usuario.isAdmin());
+        out.name("logado").value(usuario.getLogado());
+        out.endObject();
+    }
+
+    @Override
+    public Usuario read(JsonReader in) throws IOException {
+        if (CamposJson.lerNulo(in)) {
+            return null;
+        }
+        UUID id = null;
+        String login = null;
+        String senha = null;
+        String nome = null;
+        String cpf = null;
+        String email = null;
+        boolean admin = false;
+        boolean logado = false;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id" -> id = CamposJson.lerUuid(in);
+                case "login" -> login = CamposJson.lerTexto(in);
+                case "senha" -> senha = CamposJson.lerTexto(in);
+                case "nome" -> nome = CamposJson.lerTexto(in);
+                case "cpf" -> cpf = CamposJson.lerTexto(in);
+                case "email" -> email = CamposJson.lerTexto(in);
+                case "admin" -> admin = in.nextBoolean();
+                case "logado" -> logado = in.nextBoolean();
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Usuario(id, login, senha, nome, cpf, email, admin, logado);
+    }
+}
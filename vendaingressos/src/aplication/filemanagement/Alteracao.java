@@ -0,0 +1,107 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import java.util.UUID;
+
+/**
+ * Representa uma alteração feita sobre os itens de um FileManager.
+ * As alterações são entregues ao armazenamento para que ele possa gravar apenas o que mudou.
+ *
+ * @param <T> O tipo de item alterado.
+ */
+public final class Alteracao<T extends Identificavel> {
+
+    /**
+     * Tipos de alteração suportados.
+     */
+    public enum Tipo {
+        /** Um novo item foi salvo. */
+        INCLUSAO,
+        /** Um item existente foi atualizado. */
+        ATUALIZACAO,
+        /** Um item foi removido. */
+        REMOCAO,
+        /** Todos os itens foram removidos. */
+        LIMPEZA
+    }
+
+    private final Tipo tipo; // Tipo da alteração
+    private final T item; // Item incluído ou atualizado (nulo para remoção e limpeza)
+    private final UUID id; // ID do item afetado (nulo para limpeza)
+
+    private Alteracao(Tipo tipo, T item, UUID id) {
+        this.tipo = tipo;
+        this.item = item;
+        this.id = id;
+    }
+
+    /**
+     * Cria uma alteração de inclusão.
+     *
+     * @param item Item salvo.
+     * @param <T>  Tipo do item.
+     * @return A alteração correspondente.
+     */
+    public static <T extends Identificavel> Alteracao<T> inclusao(T item) {
+        return new Alteracao<>(Tipo.INCLUSAO, item, item.getId());
+    }
+
+    /**
+     * Cria uma alteração de atualização.
+     *
+     * @param item Item atualizado.
+     * @param <T>  Tipo do item.
+     * @return A alteração correspondente.
+     */
+    public static <T extends Identificavel> Alteracao<T> atualizacao(T item) {
+        return new Alteracao<>(Tipo.ATUALIZACAO, item, item.getId());
+    }
+
+    /**
+     * Cria uma alteração de remoção.
+     *
+     * @param id  ID do item removido.
+     * @param <T> Tipo do item.
+     * @return A alteração correspondente.
+     */
+    public static <T extends Identificavel> Alteracao<T> remocao(UUID id) {
+        return new Alteracao<>(Tipo.REMOCAO, null, id);
+    }
+
+    /**
+     * Cria uma alteração de limpeza, que remove todos os itens.
+     *
+     * @param <T> Tipo do item.
+     * @return A alteração correspondente.
+     */
+    public static <T extends Identificavel> Alteracao<T> limpeza() {
+        return new Alteracao<>(Tipo.LIMPEZA, null, null);
+    }
+
+    /**
+     * Retorna o tipo da alteração.
+     *
+     * @return Tipo da alteração.
+     */
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Retorna o item incluído ou atualizado.
+     *
+     * @return O item, ou null para remoções e limpezas.
+     */
+    public T getItem() {
+        return item;
+    }
+
+    /**
+     * Retorna o ID do item afetado.
+     *
+     * @return O ID, ou null para limpezas.
+     */
+    public UUID getId() {
+        return id;
+    }
+}
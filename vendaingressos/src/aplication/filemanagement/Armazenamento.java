@@ -0,0 +1,66 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Define como um FileManager lê e grava seus itens em disco.
+ * O FileManager cuida da memória e das regras de acesso; o armazenamento cuida apenas do formato persistido.
+ *
+ * @param <T> O tipo de item armazenado.
+ */
+public interface Armazenamento<T extends Identificavel> {
+
+    /**
+     * Lê do disco o estado completo dos itens.
+     *
+     * @return Lista com todos os itens persistidos (nunca nula).
+     */
+    List<T> carregar();
+
+    /**
+     * Percorre os itens persistidos sob demanda, sem exigir que todos estejam em memória ao mesmo tempo.
+     * O stream mantém o arquivo aberto e deve ser fechado após o uso.
+     * Por padrão, carrega todos os itens e percorre a lista.
+     *
+     * @return Stream com os itens persistidos.
+     */
+    default Stream<T> percorrer() {
+        return carregar().stream();
+    }
+
+    /**
+     * Percorre os itens persistidos já projetados, sob demanda.
+     * O stream deve ser fechado após o uso. Por padrão, percorre os itens completos e converte cada um; formatos
+     * que permitem ler campos isolados podem desserializar diretamente o tipo projetado.
+     *
+     * @param projecao Projeção a ser aplicada.
+     * @param <P>      O tipo projetado.
+     * @return Stream com os itens projetados, na ordem persistida.
+     */
+    default <P> Stream<P> projetar(Projecao<T, P> projecao) {
+        return percorrer().map(projecao::aPartirDe);
+    }
+
+    /**
+     * Persiste um conjunto de alterações.
+     * A gravação pode ser concluída em segundo plano, agrupada com outras; o estado atual deve ser copiado
+     * antes do retorno, pois a coleção continua sendo alterada pelo FileManager.
+     *
+     * @param alteracoes  Alterações feitas desde a última gravação, em ordem.
+     * @param estadoAtual Estado completo dos itens após as alterações.
+     * @return Tarefa concluída quando as alterações estiverem em disco, ou com erro se a escrita falhar.
+     */
+    CompletableFuture<Void> gravar(List<Alteracao<T>> alteracoes, Collection<T> estadoAtual);
+
+    /**
+     * Retorna uma assinatura do estado dos arquivos em disco (tamanho e data de modificação).
+     * Assinaturas diferentes indicam que os arquivos foram modificados desde a última leitura.
+     *
+     * @return Assinatura do estado atual dos arquivos.
+     */
+    String estado();
+}
@@ -0,0 +1,230 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import com.google.gson.FormattingStyle;
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+/**
+ * Armazenamento em um banco de dados SQL embarcado, acessado por JDBC. A aplicação traz o driver do H2 em
+ * {@code lib/} e, por padrão, usa um banco em modo arquivo ao lado dos arquivos JSON ({@link FabricaArmazenamento}).
+ * <p>
+ * Cada entidade ocupa uma tabela com o ID, a ordem de inclusão, a versão da última escrita e o item em JSON
+ * compacto. Diferente do {@link ArmazenamentoJson}, uma gravação aplica apenas as alterações, em uma transação,
+ * sem reescrever os demais itens.
+ * <p>
+ * Se a tabela for criada vazia e houver o arquivo JSON legado da entidade, os itens dele são importados.
+ *
+ * @param <T> O tipo de item armazenado.
+ */
+public class ArmazenamentoJdbc<T extends Identificavel> implements Armazenamento<T> {
+    private static final Pattern NOME_TABELA = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private final String url;
+    private final String tabela;
+    private final Gson gson; // Gson compacto, um item por linha da tabela
+    private final Type tipoItem;
+    private final ArmazenamentoJson<T> legado; // Itens importados na criação da tabela (pode ser nulo)
+    private final GravacaoEmGrupo<List<Registro>> gravacao = new GravacaoEmGrupo<>(this::aplicar);
+    private Connection conexao; // Conexão aberta no primeiro acesso
+    private long ultimaOrdem; // Maior ordem de inclusão já usada
+    private long ultimaVersao; // Maior versão já gravada
+
+    /**
+     * Alteração já convertida para a linha da tabela, copiada no momento do pedido de gravação.
+     *
+     * @param tipo  Tipo da alteração.
+     * @param id    ID do item (nulo para limpeza).
+     * @param dados Item em JSON (nulo para remoção e limpeza).
+     */
+    private record Registro(Alteracao.Tipo tipo, UUID id, String dados) {
+    }
+
+    /**
+     * Construtor da classe ArmazenamentoJdbc.
+     *
+     * @param url     URL JDBC do banco de dados.
+     * @param tabela  Nome da tabela da entidade.
+     * @param typeOfT Tipo concreto da lista de itens.
+     * @param gson    Instância do Gson usada na (des)serialização.
+     * @param legado  Armazenamento JSON importado quando a tabela ainda não existir, ou null.
+     */
+    @SuppressWarnings("this-escape") // A gravação em grupo só aplica os lotes depois da construção
+    public ArmazenamentoJdbc(String url, String tabela, Type typeOfT, Gson gson, ArmazenamentoJson<T> legado) {
+        if (!NOME_TABELA.matcher(tabela).matches()) {
+            throw new IllegalArgumentException("Nome de tabela inválido: " + tabela);
+        }
+        this.url = url;
+        this.tabela = tabela;
+        this.gson = gson.newBuilder().setFormattingStyle(FormattingStyle.COMPACT).create();
+        this.tipoItem = ((ParameterizedType) typeOfT).getActualTypeArguments()[0];
+        this.legado = legado;
+    }
+
+    @Override
+    public synchronized List<T> carregar() {
+        List<T> items = new ArrayList<>();
+        try (Statement consulta = conexao().createStatement();
+             ResultSet linhas = consulta.executeQuery("SELECT dados FROM " + tabela + " ORDER BY ordem")) {
+            while (linhas.next()) {
+                items.add(gson.fromJson(linhas.getString(1), tipoItem));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha ao ler a tabela " + tabela, e);
+        }
+        return items;
+    }
+
+    @Override
+    public CompletableFuture<Void> gravar(List<Alteracao<T>> alteracoes, Collection<T> estadoAtual) {
+        List<Registro> registros = new ArrayList<>(alteracoes.size());
+        for (Alteracao<T> alteracao : alteracoes) {
+            String dados = alteracao.getItem() == null ? null : gson.toJson(alteracao.getItem(), tipoItem);
+            registros.add(new Registro(alteracao.getTipo(), alteracao.getId(), dados));
+        }
+        return gravacao.agendar(registros);
+    }
+
+    @Override
+    public synchronized String estado() {
+        // A quantidade muda com inclusões e remoções, e a versão máxima com qualquer escrita
+        try (Statement consulta = conexao().createStatement();
+             ResultSet linha = consulta.executeQuery("SELECT COUNT(*), MAX(versao) FROM " + tabela)) {
+            linha.next();
+            return linha.getLong(1) + "@" + linha.getLong(2);
+        } catch (SQLException e) {
+            return "indisponivel";
+        }
+    }
+
+    /**
+     * Aplica as alterações de um lote em uma única transação.
+     * Executado pela gravação em grupo.
+     *
+     * @param lote Alterações dos pedidos agrupados, em ordem.
+     * @throws IOException Se o banco de dados recusar as alterações; nesse caso nenhuma é aplicada.
+     */
+    private synchronized void aplicar(List<List<Registro>> lote) throws IOException {
+        try {
+            Connection conexao = conexao();
+            try (PreparedStatement inclusao = conexao.prepareStatement(
+                         "INSERT INTO " + tabela + " (id, ordem, versao, dados) VALUES (?, ?, ?, ?)");
+                 PreparedStatement atualizacao = conexao.prepareStatement(
+                         "UPDATE " + tabela + " SET versao = ?, dados = ? WHERE id = ?");
+                 PreparedStatement remocao = conexao.prepareStatement("DELETE FROM " + tabela + " WHERE id = ?");
+                 Statement limpeza = conexao.createStatement()) {
+                for (List<Registro> registros : lote) {
+                    for (Registro registro : registros) {
+                        switch (registro.tipo()) {
+                            case INCLUSAO -> incluir(inclusao, registro);
+                            case ATUALIZACAO -> {
+                                atualizacao.setLong(1, ++ultimaVersao);
+                                atualizacao.setString(2, registro.dados());
+                                atualizacao.setString(3, registro.id().toString());
+                                if (atualizacao.executeUpdate() == 0) {
+                                    incluir(inclusao, registro); // O item foi removido por outra instância
+                                }
+                            }
+                            case REMOCAO -> {
+                                remocao.setString(1, registro.id().toString());
+                                remocao.executeUpdate();
+                            }
+                            case LIMPEZA -> limpeza.executeUpdate("DELETE FROM " + tabela);
+                        }
+                    }
+                }
+                conexao.commit();
+            } catch (SQLException e) {
+                conexao.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Falha ao gravar na tabela " + tabela, e);
+        }
+    }
+
+    private void incluir(PreparedStatement inclusao, Registro registro) throws SQLException {
+        inclusao.setString(1, registro.id().toString());
+        inclusao.setLong(2, ++ultimaOrdem);
+        inclusao.setLong(3, ++ultimaVersao);
+        inclusao.setString(4, registro.dados());
+        inclusao.executeUpdate();
+    }
+
+    /**
+     * Retorna a conexão com o banco, abrindo-a e criando a tabela no primeiro acesso.
+     *
+     * @return A conexão, sem confirmação automática.
+     * @throws SQLException Se o banco não puder ser aberto, por exemplo, por estar em uso por outro processo.
+     */
+    private Connection conexao() throws SQLException {
+        if (conexao != null) {
+            return conexao;
+        }
+        Connection nova = DriverManager.getConnection(url);
+        try {
+            nova.setAutoCommit(false);
+            boolean existia;
+            try (Statement consulta = nova.createStatement()) {
+                consulta.executeQuery("SELECT 1 FROM " + tabela + " WHERE 1 = 0").close();
+                existia = true;
+            } catch (SQLException e) {
+                nova.rollback(); // A tabela ainda não existe
+                existia = false;
+            }
+            try (Statement comando = nova.createStatement()) {
+                comando.executeUpdate("CREATE TABLE IF NOT EXISTS " + tabela
+                        + " (id VARCHAR(36) PRIMARY KEY, ordem BIGINT NOT NULL, versao BIGINT NOT NULL, dados CLOB NOT NULL)");
+                try (ResultSet maximos = comando.executeQuery("SELECT MAX(ordem), MAX(versao) FROM " + tabela)) {
+                    maximos.next();
+                    ultimaOrdem = maximos.getLong(1);
+                    ultimaVersao = maximos.getLong(2);
+                }
+            }
+            nova.commit();
+            conexao = nova;
+            if (!existia && legado != null) {
+                importarLegado();
+            }
+        } catch (SQLException e) {
+            conexao = null;
+            nova.close();
+            throw e;
+        }
+        return conexao;
+    }
+
+    /**
+     * Importa para a tabela recém-criada os itens do arquivo JSON legado.
+     *
+     * @throws SQLException Se a importação falhar.
+     */
+    private void importarLegado() throws SQLException {
+        List<Registro> registros = new ArrayList<>();
+        for (T item : legado.carregar()) {
+            registros.add(new Registro(Alteracao.Tipo.INCLUSAO, item.getId(), gson.toJson(item, tipoItem)));
+        }
+        if (registros.isEmpty()) {
+            return;
+        }
+        try {
+            aplicar(List.of(registros));
+        } catch (IOException e) {
+            throw new SQLException(e.getMessage(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import com.google.gson.FormattingStyle;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Armazenamento baseado em journal (log de alterações) somente de acréscimo.
+ * <p>
+ * Cada alteração é gravada como uma linha JSON compacta no final do arquivo de journal, de modo que o custo
+ * de uma escrita é proporcional à alteração, e não ao total de itens. O arquivo JSON original funciona como
+ * snapshot: o estado é reconstruído lendo o snapshot e reaplicando o journal em ordem.
+ * <p>
+ * Quando o journal atinge um limite de registros, ele é rotacionado para um segmento numerado e um novo
+ * snapshot é gravado em segundo plano; ao terminar, os segmentos já incorporados ao snapshot são apagados.
+ * Reaplicar um segmento sobre um snapshot que já o contém produz o mesmo estado, então uma falha no meio
+ * da compactação não perde dados.
+ * <p>
+ * Um registro só é considerado gravado quando a quebra de linha que o encerra está em disco. Uma escrita
+ * interrompida deixa no final do journal uma linha incompleta, que nunca foi confirmada a quem a gravou: antes de
+ * reaplicar o journal ou de acrescentar novos registros, o arquivo é truncado após a última linha completa, para
+ * que os próximos registros não sejam escritos em continuação à linha incompleta.
+ * <p>
+ * Acréscimos feitos em um intervalo de poucos milissegundos são agrupados ({@link GravacaoEmGrupo}) e
+ * escritos com uma única sincronização com o disco.
+ *
+ * @param <T> O tipo de item armazenado.
+ */
+public class ArmazenamentoJournal<T extends Identificavel> extends ArmazenamentoJson<T> {
+    /** Quantidade padrão de registros no journal que dispara a compactação. */
+    public static final int LIMITE_REGISTROS_PADRAO = 500;
+
+    /** Executor compartilhado que grava os snapshots em segundo plano. */
+    private static final ExecutorService COMPACTADOR = Executors.newSingleThreadExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "compactacao-journal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path snapshot; // Arquivo JSON com o estado completo
+    private final Path journal; // Arquivo de journal ativo
+    private final Gson gsonCompacto; // Gson sem pretty printing, uma alteração por linha
+    private final int limiteRegistros; // Registros no journal que disparam a compactação
+    private final AtomicBoolean compactando = new AtomicBoolean(false);
+    private final GravacaoEmGrupo<RegistrosJournal> gravacaoJournal = new GravacaoEmGrupo<>(this::acrescentar);
+    private int registrosNoJournal; // Registros gravados no journal ativo
+    private boolean finalVerificado; // Se o journal ativo já foi verificado e termina em uma linha completa
+
+    /**
+     * Construtor da classe ArmazenamentoJournal com o limite padrão de registros.
+     *
+     * @param filePath Caminho do arquivo JSON usado como snapshot.
+     * @param typeOfT  Tipo concreto da lista de itens.
+     * @param gson     Instância do Gson usada na (des)serialização.
+     */
+    @SuppressWarnings("this-escape")
+    public ArmazenamentoJournal(String filePath, Type typeOfT, Gson gson) {
+        this(filePath, typeOfT, gson, LIMITE_REGISTROS_PADRAO);
+    }
+
+    /**
+     * Construtor da classe ArmazenamentoJournal.
+     *
+     * @param filePath         Caminho do arquivo JSON usado como snapshot.
+     * @param typeOfT          Tipo concreto da lista de itens.
+     * @param gson             Instância do Gson usada na (des)serialização.
+     * @param limiteRegistros  Quantidade de registros no journal que dispara a compactação.
+     */
+    @SuppressWarnings("this-escape") // A gravação em grupo só acrescenta ao journal depois da construção
+    public ArmazenamentoJournal(String filePath, Type typeOfT, Gson gson, int limiteRegistros) {
+        super(filePath, typeOfT, gson);
+        this.snapshot = Paths.get(filePath);
+        this.journal = Paths.get(filePath + ".journal");
+        this.gsonCompacto = gson.newBuilder().setFormattingStyle(FormattingStyle.COMPACT).create();
+        this.limiteRegistros = limiteRegistros;
+    }
+
+    @Override
+    public synchronized List<T> carregar() {
+        Map<UUID, T> estado = new LinkedHashMap<>();
+        if (Files.exists(snapshot)) {
+            for (T item : super.carregar()) {
+                estado.put(item.getId(), item);
+            }
+        }
+        for (Path segmento : listarSegmentos()) {
+            reaplicar(segmento, estado);
+        }
+        try {
+            descartarFinalIncompleto();
+        } catch (IOException e) {
+            e.printStackTrace(); // A linha incompleta continua sendo ignorada pela leitura
+        }
+        registrosNoJournal = reaplicar(journal, estado);
+        return new ArrayList<>(estado.values());
+    }
+
+    @Override
+    public Stream<T> percorrer() {
+        // O estado só é conhecido após reaplicar o journal sobre o snapshot
+        return carregar().stream();
+    }
+
+    @Override
+    public <P> Stream<P> projetar(Projecao<T, P> projecao) {
+        // O snapshot sozinho pode estar desatualizado: projeta o estado reconstruído
+        return percorrer().map(projecao::aPartirDe);
+    }
+
+    @Override
+    public CompletableFuture<Void> gravar(List<Alteracao<T>> alteracoes, Collection<T> estadoAtual) {
+        StringBuilder linhas = new StringBuilder();
+        for (Alteracao<T> alteracao : alteracoes) {
+            JsonObject registro = new JsonObject();
+            registro.addProperty("tipo", alteracao.getTipo().name());
+            if (alteracao.getItem() != null) {
+                registro.add("item", gsonCompacto.toJsonTree(alteracao.getItem(), tipoItem));
+            } else if (alteracao.getId() != null) {
+                registro.addProperty("id", alteracao.getId().toString());
+            }
+            linhas.append(gsonCompacto.toJson(registro)).append('\n');
+        }
+        return gravacaoJournal.agendar(new RegistrosJournal(linhas.toString(), alteracoes.size()));
+    }
+
+    /**
+     * Acrescenta ao journal os registros de um lote com uma única escrita e uma única sincronização com o disco.
+     * Executado pela gravação em grupo.
+     *
+     * @param lote Registros dos pedidos agrupados, em ordem.
+     * @throws IOException Se a escrita falhar.
+     */
+    private synchronized void acrescentar(List<RegistrosJournal> lote) throws IOException {
+        StringBuilder linhas = new StringBuilder();
+        int quantidade = 0;
+        for (RegistrosJournal registros : lote) {
+            linhas.append(registros.linhas());
+            quantidade += registros.quantidade();
+        }
+        if (!finalVerificado) {
+            descartarFinalIncompleto();
+        }
+        try (FileChannel canal = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer dados = StandardCharsets.UTF_8.encode(linhas.toString());
+            while (dados.hasRemaining()) {
+                canal.write(dados);
+            }
+            canal.force(false);
+        } catch (IOException e) {
+            finalVerificado = false; // A escrita pode ter deixado uma linha incompleta
+            throw e;
+        }
+        registrosNoJournal += quantidade;
+
+        // Rotaciona o journal e agenda um novo snapshot, se nenhuma compactação estiver em andamento
+        if (registrosNoJournal >= limiteRegistros && compactando.compareAndSet(false, true)) {
+            try {
+                int segmento = rotacionarJournal();
+                COMPACTADOR.execute(() -> compactar(segmento));
+            } catch (IOException e) {
+                compactando.set(false);
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Override
+    public String estado() {
+        // A rotação troca o journal e a compactação troca o snapshot, então ambos bastam para detectar mudanças
+        return estadoDe(snapshot) + "|" + estadoDe(journal);
+    }
+
+    /**
+     * Move o journal ativo para um novo segmento numerado, liberando o journal para novas alterações.
+     *
+     * @return Número do segmento criado.
+     * @throws IOException Se o journal não puder ser movido.
+     */
+    private int rotacionarJournal() throws IOException {
+        int numero = 0;
+        for (Path segmento : listarSegmentos()) {
+            numero = Math.max(numero, numeroSegmento(segmento));
+        }
+        numero++;
+        Files.move(journal, caminhoSegmento(numero), StandardCopyOption.ATOMIC_MOVE);
+        registrosNoJournal = 0;
+        return numero;
+    }
+
+    /**
+     * Grava um novo snapshot e apaga os segmentos já incorporados a ele.
+     * O novo snapshot é montado a partir do disco (snapshot atual e segmentos até o informado), e não da memória.
+     * Executado em segundo plano pelo compactador, sem a trava do armazenamento: os segmentos rotacionados não
+     * mudam mais, e o snapshot é substituído por renomeação atômica, então os acréscimos ao journal ativo e as
+     * leituras continuam durante a compactação. Uma leitura que veja o snapshot novo reaplica os segmentos
+     * incorporados sem mudar o estado; apenas a remoção deles é feita com a trava, para não acontecer no meio de
+     * uma leitura.
+     * <p>
+     * Como o resultado substitui o snapshot e os segmentos são apagados, a leitura aqui é estrita: se o snapshot
+     * ou um segmento não puder ser lido por completo, a compactação é abandonada e nada é alterado no disco.
+     *
+     * @param ultimoSegmento  Número do último segmento a ser incorporado ao snapshot.
+     */
+    private void compactar(int ultimoSegmento) {
+        try {
+            Map<UUID, T> estado = new LinkedHashMap<>();
+            for (T item : carregarEstrito()) {
+                estado.put(item.getId(), item);
+            }
+            List<Path> incorporados = new ArrayList<>();
+            for (Path segmento : listarSegmentos()) {
+                if (numeroSegmento(segmento) <= ultimoSegmento) {
+                    reaplicar(segmento, estado, true);
+                    incorporados.add(segmento);
+                }
+            }
+            escreverAtomicamente(snapshot, gson.toJson(estado.values(), typeOfT));
+            synchronized (this) {
+                for (Path segmento : incorporados) {
+                    Files.deleteIfExists(segmento);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Compactação do journal " + journal + " abandonada; snapshot e segmentos mantidos: "
+                    + e.getMessage());
+        } finally {
+            compactando.set(false);
+        }
+    }
+
+    /**
+     * Trunca o journal ativo logo após a última linha completa, descartando uma linha incompleta deixada por uma
+     * escrita interrompida. O final do arquivo é lido de trás para frente até a última quebra de linha.
+     *
+     * @throws IOException Se o journal não puder ser lido ou truncado.
+     */
+    private void descartarFinalIncompleto() throws IOException {
+        if (!Files.exists(journal)) {
+            finalVerificado = true;
+            return;
+        }
+        try (FileChannel canal = FileChannel.open(journal, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long tamanho = canal.size();
+            long fimValido = 0; // Posição logo após a última quebra de linha
+            ByteBuffer bloco = ByteBuffer.allocate(4096);
+            long fim = tamanho;
+            procura:
+            while (fim > 0) {
+                long inicio = Math.max(0, fim - bloco.capacity());
+                bloco.clear().limit((int) (fim - inicio));
+                while (bloco.hasRemaining()) {
+                    if (canal.read(bloco, inicio + bloco.position()) < 0) {
+                        throw new IOException("Fim inesperado do journal: " + journal);
+                    }
+                }
+                for (int i = bloco.limit() - 1; i >= 0; i--) {
+                    if (bloco.get(i) == '\n') {
+                        fimValido = inicio + i + 1;
+                        break procura;
+                    }
+                }
+                fim = inicio;
+            }
+            if (fimValido < tamanho) {
+                canal.truncate(fimValido);
+                canal.force(true);
+                System.err.println("Registro incompleto descartado do final do journal " + journal + ": "
+                        + (tamanho - fimValido) + " bytes");
+            }
+        }
+        finalVerificado = true;
+    }
+
+    /**
+     * Reaplica as alterações de um arquivo de journal sobre o estado informado, tolerando falhas.
+     * Uma última linha sem quebra de linha (escrita interrompida) não foi confirmada e é ignorada; uma linha
+     * completa inválida é ignorada e as seguintes continuam sendo reaplicadas. Um arquivo ilegível não altera o estado.
+     *
+     * @param arquivo Arquivo de journal ou segmento.
+     * @param estado  Estado a ser atualizado, indexado pelo ID dos itens.
+     * @return Quantidade de registros reaplicados.
+     */
+    private int reaplicar(Path arquivo, Map<UUID, T> estado) {
+        try {
+            return reaplicar(arquivo, estado, false);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+    /**
+     * Reaplica as alterações de um arquivo de journal sobre o estado informado.
+     *
+     * @param arquivo Arquivo de journal ou segmento.
+     * @param estado  Estado a ser atualizado, indexado pelo ID dos itens.
+     * @param estrito Se true, um registro inválido ou incompleto interrompe a leitura; se false, ele é ignorado.
+     * @return Quantidade de registros reaplicados.
+     * @throws IOException Se o arquivo não puder ser lido ou, no modo estrito, tiver um registro inválido ou incompleto.
+     */
+    private int reaplicar(Path arquivo, Map<UUID, T> estado, boolean estrito) throws IOException {
+        byte[] conteudo;
+        try {
+            conteudo = Files.readAllBytes(arquivo);
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+        int registros = 0;
+        int inicio = 0;
+        for (int fim = 0; fim < conteudo.length; fim++) {
+            if (conteudo[fim] != '\n') {
+                continue;
+            }
+            String linha = new String(conteudo, inicio, fim - inicio, StandardCharsets.UTF_8);
+            inicio = fim + 1;
+            if (linha.isBlank()) {
+                continue;
+            }
+            try {
+                JsonObject registro = JsonParser.parseString(linha).getAsJsonObject();
+                switch (Alteracao.Tipo.valueOf(registro.get("tipo").getAsString())) {
+                    case INCLUSAO, ATUALIZACAO -> {
+                        T item = gsonCompacto.fromJson(registro.get("item"), tipoItem);
+                        estado.put(item.getId(), item);
+                    }
+                    case REMOCAO -> estado.remove(UUID.fromString(registro.get("id").getAsString()));
+                    case LIMPEZA -> estado.clear();
+                }
+                registros++;
+            } catch (RuntimeException e) { // JSON malformado ou registro sem os campos esperados
+                if (estrito) {
+                    throw new IOException("Registro inválido no journal " + arquivo + ": " + linha, e);
+                }
+                System.err.println("Registro inválido ignorado no journal " + arquivo + ": " + linha + " ("
+                        + e.getMessage() + ")");
+            }
+        }
+        if (inicio < conteudo.length) {
+            if (estrito) {
+                throw new IOException("Registro incompleto no final do journal " + arquivo);
+            }
+            System.err.println("Registro incompleto ignorado no final do journal " + arquivo);
+        }
+        return registros;
+    }
+
+    /**
+     * Lista os segmentos de journal rotacionados, em ordem crescente.
+     *
+     * @return Caminhos dos segmentos existentes.
+     */
+    private List<Path> listarSegmentos() {
+        Path diretorio = journal.toAbsolutePath().getParent();
+        String prefixo = journal.getFileName() + ".";
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos
+                    .filter(arquivo -> arquivo.getFileName().toString().startsWith(prefixo))
+                    .filter(arquivo -> numeroSegmento(arquivo) > 0)
+                    .sorted((a, b) -> Integer.compare(numeroSegmento(a), numeroSegmento(b)))
+                    .toList();
+        } catch (IOException e) {
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Retorna o caminho do segmento de número informado.
+     *
+     * @param numero Número do segmento.
+     * @return Caminho do segmento.
+     */
+    private Path caminhoSegmento(int numero) {
+        return Paths.get(journal + "." + numero);
+    }
+
+    /**
+     * Extrai o número de um segmento a partir do nome do arquivo.
+     *
+     * @param segmento Caminho do segmento.
+     * @return Número do segmento, ou 0 se o nome não for de um segmento.
+     */
+    private int numeroSegmento(Path segmento) {
+        String nome = segmento.getFileName().toString();
+        try {
+            return Integer.parseInt(nome.substring(nome.lastIndexOf('.') + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Linhas de journal de um pedido de gravação, já serializadas.
+     *
+     * @param linhas     Registros em JSON compacto, um por linha.
+     * @param quantidade Quantidade de registros.
+     */
+    private record RegistrosJournal(String linhas, int quantidade) {
+    }
+}
@@ -0,0 +1,291 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.*;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Armazenamento que mantém todos os itens em um único arquivo JSON.
+ * Cada gravação reescreve o arquivo inteiro com o estado atual dos itens.
+ * <p>
+ * O arquivo nunca é truncado no lugar: o conteúdo é escrito em um arquivo temporário no mesmo diretório,
+ * sincronizado com o disco e então renomeado atomicamente sobre o original. Uma falha no meio da escrita
+ * deixa o arquivo anterior intacto. Gravações próximas no tempo são agrupadas ({@link GravacaoEmGrupo}) e
+ * apenas o estado mais recente do lote é escrito, com uma única sincronização e uma única renomeação.
+ * <p>
+ * A leitura é feita em streaming com o {@link JsonReader} do Gson sobre um canal bufferizado: os itens do array
+ * são desserializados um a um, sem montar o conteúdo do arquivo inteiro em uma string. Projeções
+ * ({@link Projecao}) são lidas da mesma forma, desserializando cada elemento diretamente no tipo projetado.
+ *
+ * @param <T> O tipo de item armazenado.
+ */
+public class ArmazenamentoJson<T extends Identificavel> implements Armazenamento<T> {
+    protected final String filePath;
+    protected final Gson gson;
+    protected final Type typeOfT;
+    protected final Type tipoItem; // Tipo de um item individual da lista
+    private final GravacaoEmGrupo<List<T>> gravacao = new GravacaoEmGrupo<>(
+            estados -> writeToFile(estados.get(estados.size() - 1))); // Só o estado mais recente do lote importa
+
+    /**
+     * Construtor da classe ArmazenamentoJson.
+     *
+     * @param filePath Caminho do arquivo JSON.
+     * @param typeOfT  Tipo concreto da lista de itens.
+     * @param gson     Instância do Gson usada na (des)serialização.
+     */
+    @SuppressWarnings("this-escape") // A gravação em grupo só chama writeToFile depois da construção
+    public ArmazenamentoJson(String filePath, Type typeOfT, Gson gson) {
+        this.filePath = filePath;
+        this.typeOfT = typeOfT;
+        this.gson = gson;
+        this.tipoItem = ((ParameterizedType) typeOfT).getActualTypeArguments()[0];
+    }
+
+    /**
+     * Escreve a lista de itens no arquivo JSON de forma atômica.
+     *
+     * @param items Itens a serem salvos no arquivo.
+     * @throws IOException Se a escrita falhar; nesse caso o arquivo original não é alterado.
+     */
+    protected void writeToFile(Collection<T> items) throws IOException {
+        escreverAtomicamente(Paths.get(filePath), gson.toJson(items, typeOfT));
+    }
+
+    @Override
+    public List<T> carregar() {
+        List<T> items = new ArrayList<>();
+        try (Stream<T> itens = percorrer(Paths.get(filePath))) {
+            itens.forEach(items::add);  // Desserializa item a item direto na lista de T
+        } catch (UncheckedIOException e) {
+            e.printStackTrace();
+        }
+        return items;
+    }
+
+    /**
+     * Lê todos os itens do arquivo JSON sem tolerar falhas.
+     * Ao contrário de {@link #carregar()}, que devolve o que conseguiu ler, um arquivo ilegível, malformado ou
+     * truncado resulta em erro. Usado quando o resultado vai substituir o próprio arquivo, como na compactação.
+     *
+     * @return Os itens do arquivo; vazia se ele não existir.
+     * @throws IOException Se o arquivo não puder ser lido ou não contiver um array JSON completo.
+     */
+    protected List<T> carregarEstrito() throws IOException {
+        Path arquivo = Paths.get(filePath);
+        if (!Files.exists(arquivo)) {
+            return new ArrayList<>();
+        }
+        try (Reader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            List<T> items = gson.fromJson(reader, typeOfT);
+            return items != null ? items : new ArrayList<>();
+        } catch (JsonParseException e) {
+            throw new IOException("Arquivo JSON inválido: " + arquivo, e);
+        }
+    }
+
+    @Override
+    public Stream<T> percorrer() {
+        return percorrer(Paths.get(filePath));
+    }
+
+    @Override
+    public <P> Stream<P> projetar(Projecao<T, P> projecao) {
+        return percorrer(Paths.get(filePath), projecao.getTipo());
+    }
+
+    /**
+     * Percorre em streaming os itens de um arquivo contendo um array JSON.
+     * Arquivos ausentes, vazios ou com o literal null resultam em um stream vazio.
+     *
+     * @param arquivo Arquivo a ser lido.
+     * @return Stream com os itens do arquivo, que fecha o arquivo ao ser fechado.
+     */
+    protected Stream<T> percorrer(Path arquivo) {
+        return percorrer(arquivo, tipoItem);
+    }
+
+    /**
+     * Percorre em streaming os elementos de um arquivo contendo um array JSON, desserializando cada um no tipo informado.
+     *
+     * @param arquivo Arquivo a ser lido.
+     * @param tipo    Tipo de cada elemento, como o tipo do item ou de uma projeção.
+     * @param <E>     O tipo de cada elemento.
+     * @return Stream com os elementos do arquivo, que fecha o arquivo ao ser fechado.
+     */
+    private <E> Stream<E> percorrer(Path arquivo, Type tipo) {
+        JsonReader reader;
+        try {
+            FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+            reader = new JsonReader(new BufferedReader(Channels.newReader(canal, StandardCharsets.UTF_8)));
+        } catch (NoSuchFileException e) {
+            return Stream.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        IteradorJson<E> iterador = new IteradorJson<>(reader, tipo);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterador, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterador::fechar);
+    }
+
+    @Override
+    public CompletableFuture<Void> gravar(List<Alteracao<T>> alteracoes, Collection<T> estadoAtual) {
+        return gravacao.agendar(new ArrayList<>(estadoAtual));
+    }
+
+    @Override
+    public String estado() {
+        return estadoDe(Paths.get(filePath));
+    }
+
+    /**
+     * Substitui o conteúdo de um arquivo de forma atômica e durável.
+     * O conteúdo é escrito em um arquivo temporário no mesmo diretório, sincronizado com o disco e
+     * renomeado sobre o destino; por fim, o diretório é sincronizado para persistir a renomeação.
+     *
+     * @param destino  Arquivo a ser substituído.
+     * @param conteudo Novo conteúdo do arquivo.
+     * @throws IOException Se a escrita falhar; nesse caso o destino não é alterado.
+     */
+    static void escreverAtomicamente(Path destino, String conteudo) throws IOException {
+        escreverAtomicamente(destino, StandardCharsets.UTF_8.encode(conteudo));
+    }
+
+    /**
+     * Substitui o conteúdo de um arquivo de forma atômica e durável, a partir de bytes já codificados.
+     *
+     * @param destino Arquivo a ser substituído.
+     * @param dados   Novo conteúdo do arquivo, da posição atual até o limite do buffer.
+     * @throws IOException Se a escrita falhar; nesse caso o destino não é alterado.
+     * @see #escreverAtomicamente(Path, String)
+     */
+    static void escreverAtomicamente(Path destino, ByteBuffer dados) throws IOException {
+        Path diretorio = destino.toAbsolutePath().getParent();
+        Path temporario = Files.createTempFile(diretorio, destino.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.WRITE)) {
+                while (dados.hasRemaining()) {
+                    canal.write(dados);
+                }
+                canal.force(true);
+            }
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+        sincronizarDiretorio(diretorio);
+    }
+
+    /**
+     * Sincroniza a entrada de diretório com o disco, quando o sistema operacional permite.
+     *
+     * @param diretorio Diretório a ser sincronizado.
+     */
+    static void sincronizarDiretorio(Path diretorio) {
+        try (FileChannel canal = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException e) {
+            // Nem todo sistema permite abrir diretórios (por exemplo, Windows); a renomeação já é atômica
+        }
+    }
+
+    /**
+     * Obtém o tamanho e a data de modificação de um arquivo.
+     *
+     * @param caminho Caminho do arquivo.
+     * @return Uma string que identifica o estado atual do arquivo, ou "ausente" se ele não existir.
+     */
+    static String estadoDe(Path caminho) {
+        try {
+            BasicFileAttributes atributos = Files.readAttributes(caminho, BasicFileAttributes.class);
+            return atributos.size() + "@" + atributos.lastModifiedTime();
+        } catch (IOException e) {
+            return "ausente";
+        }
+    }
+
+    /**
+     * Iterador que desserializa um elemento do array JSON por vez.
+     */
+    private class IteradorJson<E> implements Iterator<E> {
+        private final JsonReader reader;
+        private final Type tipo; // Tipo em que cada elemento é desserializado
+        private boolean iniciado; // Se o início do array já foi consumido
+        private boolean terminado; // Se o fim do array (ou do arquivo) já foi alcançado
+
+        IteradorJson(JsonReader reader, Type tipo) {
+            this.reader = reader;
+            this.tipo = tipo;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (terminado) {
+                return false;
+            }
+            try {
+                if (!iniciado) {
+                    iniciado = true;
+                    JsonToken inicio = reader.peek();
+                    if (inicio != JsonToken.BEGIN_ARRAY) {
+                        terminado = true; // Literal null ou documento sem itens
+                        return false;
+                    }
+                    reader.beginArray();
+                }
+                if (reader.hasNext()) {
+                    return true;
+                }
+                terminado = true;
+                return false;
+            } catch (EOFException e) {
+                terminado = true; // Arquivo vazio
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return gson.fromJson(reader, tipo);
+        }
+
+        void fechar() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,561 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Armazenamento em um arquivo de registros de largura fixa, com acesso direto pela posição do registro.
+ * <p>
+ * O arquivo tem um cabeçalho de {@value #TAMANHO_CABECALHO} bytes (assinatura, versão, tamanho do registro e
+ * geração) seguido dos registros, cada um com um byte de situação, os 16 bytes do ID e os campos escritos pelo
+ * {@link CodecRegistro}. Como todos os registros têm o mesmo tamanho, uma inclusão é escrita no final do
+ * arquivo e uma atualização (por exemplo, a desativação de um ingresso) sobrescreve apenas o seu registro,
+ * sem reescrever os demais. Uma remoção apenas marca o registro como livre; quando os registros livres
+ * passam a ser maioria, o arquivo é compactado.
+ * <p>
+ * Um item cujos campos passam do tamanho do registro ({@link CodecRegistro#tamanho(Object)}) ocupa também os
+ * registros seguintes, marcados como continuação, com o restante dos campos; a situação do primeiro registro
+ * guarda quantos registros o item ocupa. Se uma atualização mudar essa quantidade, o item é movido para o final.
+ * <p>
+ * As posições são mantidas em memória pelo ID. A geração no cabeçalho muda a cada gravação, o que permite
+ * perceber alterações feitas por outra instância e reler as posições. Se o arquivo ainda não existir, os itens
+ * são lidos do armazenamento legado da entidade, e a primeira gravação cria o arquivo com o estado completo.
+ *
+ * @param <T> O tipo de item armazenado.
+ */
+public class ArmazenamentoRegistros<T extends Identificavel> implements Armazenamento<T> {
+    /** Assinatura no início do arquivo ("VIR1"). */
+    static final int ASSINATURA = 0x56495231;
+    /** Versão do formato dos registros; a versão 1, sem registros de continuação, continua sendo lida. */
+    static final int VERSAO = 2;
+    /** Tamanho do cabeçalho: assinatura, versão, tamanho do registro, reservado e geração. */
+    static final int TAMANHO_CABECALHO = 24;
+    /** Posição da geração no cabeçalho. */
+    private static final int POSICAO_GERACAO = 16;
+    /** Registros livres tolerados antes de considerar a compactação. */
+    private static final int LIVRES_MINIMO_COMPACTACAO = 1024;
+
+    /** Máximo de registros de um item, limitado pelo byte de situação do primeiro registro. */
+    private static final int MAXIMO_REGISTROS_ITEM = Byte.MAX_VALUE;
+
+    private static final byte LIVRE = 0;
+    private static final byte CONTINUACAO = -1; // Registro com o restante dos campos do item anterior
+
+    private final Path arquivo;
+    private final CodecRegistro<T> codec;
+    private final ArmazenamentoJson<T> legado; // Lido enquanto o arquivo não existir (pode ser nulo)
+    private final int tamanhoRegistro; // Situação, ID e campos
+    private final int capacidadeContinuacao; // Bytes de campos em um registro de continuação
+    private final GravacaoEmGrupo<Pedido> gravacao = new GravacaoEmGrupo<>(this::aplicar);
+    private Map<UUID, Local> posicoes; // Posição de cada item, lida na primeira gravação
+    private int registros; // Registros no arquivo, ocupados e livres
+    private int livres; // Registros marcados como livres
+    private long geracao; // Geração do arquivo conhecida pelas posições em memória
+
+    /**
+     * Alteração já convertida para o registro, copiada no momento do pedido de gravação.
+     *
+     * @param tipo     Tipo da alteração.
+     * @param id       ID do item (nulo para limpeza).
+     * @param registro Registro completo (nulo para remoção e limpeza).
+     */
+    private record Registro(Alteracao.Tipo tipo, UUID id, byte[] registro) {
+    }
+
+    /**
+     * Registros ocupados por um item no arquivo.
+     *
+     * @param posicao    Posição do primeiro registro.
+     * @param quantidade Quantidade de registros, incluindo os de continuação.
+     */
+    private record Local(int posicao, int quantidade) {
+    }
+
+    /**
+     * Pedido de gravação.
+     *
+     * @param registros      Alterações do pedido, em ordem.
+     * @param estadoCompleto Registros de todos os itens, quando o arquivo ainda não existia no pedido (ou nulo).
+     */
+    private record Pedido(List<Registro> registros, List<byte[]> estadoCompleto) {
+    }
+
+    /**
+     * Construtor da classe ArmazenamentoRegistros.
+     *
+     * @param filePath Caminho do arquivo de registros.
+     * @param codec    Codec de largura fixa dos campos de cada item.
+     * @param legado   Armazenamento lido enquanto o arquivo de registros não existir, ou null.
+     */
+    public ArmazenamentoRegistros(String filePath, CodecRegistro<T> codec, ArmazenamentoJson<T> legado) {
+        this.arquivo = Paths.get(filePath);
+        this.codec = codec;
+        this.legado = legado;
+        this.tamanhoRegistro = 1 + 16 + codec.tamanho();
+        this.capacidadeContinuacao = tamanhoRegistro - 1;
+    }
+
+    @Override
+    public List<T> carregar() {
+        List<T> items = new ArrayList<>();
+        try (Stream<T> itens = percorrer()) {
+            itens.forEach(items::add);
+        }
+        return items;
+    }
+
+    @Override
+    public Stream<T> percorrer() {
+        DataInputStream entrada;
+        try {
+            entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(arquivo)));
+        } catch (NoSuchFileException e) {
+            return legado != null ? legado.percorrer() : Stream.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        IteradorRegistros iterador;
+        try {
+            lerCabecalho(entrada);
+            iterador = new IteradorRegistros(entrada);
+        } catch (IOException e) {
+            fechar(entrada);
+            throw new UncheckedIOException(e);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterador, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> fechar(entrada));
+    }
+
+    @Override
+    public CompletableFuture<Void> gravar(List<Alteracao<T>> alteracoes, Collection<T> estadoAtual) {
+        try {
+            List<Registro> registros = new ArrayList<>(alteracoes.size());
+            for (Alteracao<T> alteracao : alteracoes) {
+                byte[] registro = alteracao.getItem() == null ? null : codificar(alteracao.getItem());
+                registros.add(new Registro(alteracao.getTipo(), alteracao.getId(), registro));
+            }
+            List<byte[]> estadoCompleto = null;
+            if (Files.notExists(arquivo)) {
+                // A primeira gravação cria o arquivo com todos os itens, inclusive os lidos do armazenamento legado
+                estadoCompleto = new ArrayList<>(estadoAtual.size());
+                for (T item : estadoAtual) {
+                    estadoCompleto.add(codificar(item));
+                }
+            }
+            return gravacao.agendar(new Pedido(registros, estadoCompleto));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new IOException("Item não cabe no registro de " + arquivo, e));
+        }
+    }
+
+    @Override
+    public String estado() {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer geracaoLida = ByteBuffer.allocate(Long.BYTES);
+            canal.read(geracaoLida, POSICAO_GERACAO);
+            geracaoLida.flip();
+            // Atualizações no lugar não mudam o tamanho; a geração muda a cada gravação
+            return canal.size() + "@" + (geracaoLida.remaining() == Long.BYTES ? geracaoLida.getLong() : -1);
+        } catch (NoSuchFileException e) {
+            return legado != null ? "legado:" + legado.estado() : "ausente";
+        } catch (IOException e) {
+            return "indisponivel";
+        }
+    }
+
+    /**
+     * Monta os registros completos de um item: situação, ID e campos, seguidos dos registros de continuação
+     * com os campos que não couberem no primeiro.
+     *
+     * @param item Item a ser codificado.
+     * @return Os bytes dos registros do item.
+     * @throws IllegalArgumentException Se algum campo não puder ser codificado ou o item passar de
+     *                                  {@value #MAXIMO_REGISTROS_ITEM} registros.
+     */
+    private byte[] codificar(T item) {
+        int tamanhoCampos = codec.tamanho(item);
+        ByteBuffer campos = ByteBuffer.allocate(Math.max(tamanhoCampos, codec.tamanho()));
+        codec.escrever(campos, item);
+        if (campos.position() != tamanhoCampos || tamanhoCampos < codec.tamanho()) {
+            throw new IllegalStateException("O codec escreveu uma quantidade de bytes diferente da declarada: " + codec);
+        }
+        int excedente = tamanhoCampos - codec.tamanho();
+        int quantidade = 1 + (excedente + capacidadeContinuacao - 1) / capacidadeContinuacao;
+        if (quantidade > MAXIMO_REGISTROS_ITEM) {
+            throw new IllegalArgumentException("Item maior que " + MAXIMO_REGISTROS_ITEM + " registros: " + item.getId());
+        }
+        ByteBuffer registros = ByteBuffer.allocate(quantidade * tamanhoRegistro);
+        registros.put((byte) quantidade);
+        CodecRegistro.escreverUuid(registros, item.getId());
+        registros.put(campos.array(), 0, codec.tamanho());
+        for (int inicio = codec.tamanho(); inicio < tamanhoCampos; inicio += capacidadeContinuacao) {
+            registros.put(CONTINUACAO);
+            int bytes = Math.min(capacidadeContinuacao, tamanhoCampos - inicio);
+            registros.put(campos.array(), inicio, bytes);
+            registros.position(registros.position() + capacidadeContinuacao - bytes); // O restante fica zerado
+        }
+        return registros.array();
+    }
+
+    /**
+     * Lê um item a partir dos seus registros, juntando os campos dos registros de continuação.
+     *
+     * @param registros Registros do item, lidos por {@link #lerItem}.
+     * @return O item lido.
+     */
+    private T decodificar(byte[] registros) {
+        int quantidade = registros.length / tamanhoRegistro;
+        ByteBuffer campos;
+        if (quantidade == 1) {
+            campos = ByteBuffer.wrap(registros);
+            campos.position(1 + 16);
+        } else {
+            campos = ByteBuffer.allocate(codec.tamanho() + (quantidade - 1) * capacidadeContinuacao);
+            campos.put(registros, 1 + 16, codec.tamanho());
+            for (int i = 1; i < quantidade; i++) {
+                campos.put(registros, i * tamanhoRegistro + 1, capacidadeContinuacao);
+            }
+            campos.flip();
+        }
+        return codec.ler(campos, idDe(registros));
+    }
+
+    /**
+     * Aplica as alterações de um lote no arquivo, com uma única sincronização com o disco.
+     * Executado pela gravação em grupo.
+     *
+     * @param lote Pedidos agrupados, em ordem.
+     * @throws IOException Se a escrita falhar.
+     */
+    private synchronized void aplicar(List<Pedido> lote) throws IOException {
+        FileChannel canal = null;
+        try {
+            for (Pedido pedido : lote) {
+                if (canal == null && Files.notExists(arquivo)) {
+                    criar(pedido.estadoCompleto() != null ? pedido.estadoCompleto() : List.of());
+                    if (pedido.estadoCompleto() != null) {
+                        continue; // O estado completo já inclui as alterações do pedido
+                    }
+                }
+                if (canal == null) {
+                    canal = FileChannel.open(arquivo, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                    sincronizarPosicoes(canal);
+                }
+                for (Registro registro : pedido.registros()) {
+                    aplicar(canal, registro);
+                }
+            }
+            if (canal != null) {
+                // Regrava o cabeçalho inteiro: além da nova geração, um arquivo da versão 1 passa para a atual
+                ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+                escreverCabecalho(cabecalho, ++geracao);
+                cabecalho.flip();
+                escrever(canal, cabecalho, 0);
+                canal.force(false);
+            }
+        } catch (IOException | RuntimeException e) {
+            posicoes = null; // As posições em memória podem não refletir o arquivo; são relidas na próxima gravação
+            throw e;
+        } finally {
+            if (canal != null) {
+                canal.close();
+            }
+        }
+        if (livres > LIVRES_MINIMO_COMPACTACAO && livres > registros - livres) {
+            compactar();
+        }
+    }
+
+    private void aplicar(FileChannel canal, Registro registro) throws IOException {
+        switch (registro.tipo()) {
+            case INCLUSAO, ATUALIZACAO -> {
+                int quantidade = registro.registro().length / tamanhoRegistro;
+                Local local = posicoes.get(registro.id());
+                if (local == null || local.quantidade() != quantidade) {
+                    if (local != null) {
+                        liberar(canal, local); // O item mudou de tamanho e não cabe mais no mesmo lugar
+                    }
+                    // Novos registros vão para o final, preservando a ordem de inclusão
+                    local = new Local(registros, quantidade);
+                    registros += quantidade;
+                    posicoes.put(registro.id(), local);
+                }
+                escrever(canal, ByteBuffer.wrap(registro.registro()), deslocamento(local.posicao()));
+            }
+            case REMOCAO -> {
+                Local local = posicoes.remove(registro.id());
+                if (local != null) {
+                    liberar(canal, local);
+                }
+            }
+            case LIMPEZA -> {
+                canal.truncate(TAMANHO_CABECALHO);
+                posicoes.clear();
+                registros = 0;
+                livres = 0;
+            }
+        }
+    }
+
+    /**
+     * Marca como livres todos os registros de um item.
+     *
+     * @param canal Canal aberto sobre o arquivo.
+     * @param local Registros do item.
+     * @throws IOException Se a escrita falhar.
+     */
+    private void liberar(FileChannel canal, Local local) throws IOException {
+        for (int i = 0; i < local.quantidade(); i++) {
+            escrever(canal, ByteBuffer.wrap(new byte[]{LIVRE}), deslocamento(local.posicao() + i));
+        }
+        livres += local.quantidade();
+    }
+
+    /**
+     * Cria o arquivo de forma atômica, com os itens informados em ordem, e reinicia as posições.
+     *
+     * @param conteudo Registros completos de cada item, incluindo os de continuação.
+     * @throws IOException Se a escrita falhar.
+     */
+    private void criar(List<byte[]> conteudo) throws IOException {
+        int bytes = 0;
+        for (byte[] item : conteudo) {
+            bytes += item.length;
+        }
+        ByteBuffer dados = ByteBuffer.allocate(TAMANHO_CABECALHO + bytes);
+        escreverCabecalho(dados, geracao + 1);
+        Map<UUID, Local> novas = new HashMap<>();
+        int posicao = 0;
+        for (byte[] item : conteudo) {
+            int quantidade = item.length / tamanhoRegistro;
+            novas.put(idDe(item), new Local(posicao, quantidade));
+            posicao += quantidade;
+            dados.put(item);
+        }
+        dados.flip();
+        ArmazenamentoJson.escreverAtomicamente(arquivo, dados);
+        posicoes = novas;
+        registros = posicao;
+        livres = 0;
+        geracao++;
+    }
+
+    /**
+     * Reescreve o arquivo apenas com os registros ocupados, na mesma ordem.
+     *
+     * @throws IOException Se a leitura ou a escrita falhar; nesse caso o arquivo anterior não é alterado.
+     */
+    private void compactar() throws IOException {
+        List<byte[]> ocupados = new ArrayList<>(posicoes.size());
+        try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(arquivo)))) {
+            lerCabecalho(entrada);
+            byte[] item;
+            while ((item = lerItem(entrada)) != null) {
+                if (item[0] > 0) {
+                    ocupados.add(item);
+                }
+            }
+        }
+        criar(ocupados);
+    }
+
+    /**
+     * Relê as posições dos registros se elas ainda não foram lidas ou se o arquivo foi alterado por outra instância.
+     *
+     * @param canal Canal aberto sobre o arquivo.
+     * @throws IOException Se o arquivo não puder ser lido ou for inválido.
+     */
+    private void sincronizarPosicoes(FileChannel canal) throws IOException {
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+        canal.read(cabecalho, 0);
+        cabecalho.flip();
+        long geracaoArquivo = validarCabecalho(cabecalho);
+        if (posicoes != null && geracaoArquivo == geracao) {
+            return;
+        }
+        posicoes = new HashMap<>();
+        registros = 0;
+        livres = 0;
+        try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(arquivo)))) {
+            lerCabecalho(entrada);
+            byte[] item;
+            while ((item = lerItem(entrada)) != null) {
+                int quantidade = item.length / tamanhoRegistro;
+                if (item[0] > 0) {
+                    posicoes.put(idDe(item), new Local(registros, quantidade));
+                } else {
+                    livres++;
+                }
+                registros += quantidade;
+            }
+        }
+        // Um registro ou item incompleto no final (escrita interrompida) é descartado
+        canal.truncate(deslocamento(registros));
+        geracao = geracaoArquivo;
+    }
+
+    private long deslocamento(int posicao) {
+        return TAMANHO_CABECALHO + (long) posicao * tamanhoRegistro;
+    }
+
+    private static void escrever(FileChannel canal, ByteBuffer dados, long posicao) throws IOException {
+        while (dados.hasRemaining()) {
+            posicao += canal.write(dados, posicao);
+        }
+    }
+
+    private void escreverCabecalho(ByteBuffer destino, long novaGeracao) {
+        destino.putInt(ASSINATURA);
+        destino.putInt(VERSAO);
+        destino.putInt(tamanhoRegistro);
+        destino.putInt(0);
+        destino.putLong(novaGeracao);
+    }
+
+    private void lerCabecalho(DataInputStream entrada) throws IOException {
+        byte[] cabecalho = new byte[TAMANHO_CABECALHO];
+        entrada.readFully(cabecalho);
+        validarCabecalho(ByteBuffer.wrap(cabecalho));
+    }
+
+    /**
+     * Confere a assinatura, a versão e o tamanho de registro do cabeçalho.
+     *
+     * @param cabecalho Bytes do cabeçalho.
+     * @return A geração gravada no cabeçalho.
+     * @throws IOException Se o cabeçalho não corresponder a este formato e a este codec.
+     */
+    private long validarCabecalho(ByteBuffer cabecalho) throws IOException {
+        if (cabecalho.remaining() < TAMANHO_CABECALHO || cabecalho.getInt() != ASSINATURA) {
+            throw new IOException("Arquivo de registros inválido: " + arquivo);
+        }
+        int versao = cabecalho.getInt();
+        if (versao < 1 || versao > VERSAO) {
+            throw new IOException("Versão não suportada do arquivo de registros " + arquivo + ": " + versao);
+        }
+        int tamanho = cabecalho.getInt();
+        if (tamanho != tamanhoRegistro) {
+            throw new IOException("Tamanho de registro " + tamanho + " no arquivo " + arquivo
+                    + ", mas o codec usa " + tamanhoRegistro);
+        }
+        cabecalho.getInt();
+        return cabecalho.getLong();
+    }
+
+    /**
+     * Lê o próximo registro completo.
+     *
+     * @param entrada Entrada posicionada no início de um registro.
+     * @return Os bytes do registro, ou null no fim do arquivo (ou diante de um registro incompleto).
+     * @throws IOException Se a leitura falhar.
+     */
+    private byte[] lerRegistro(DataInputStream entrada) throws IOException {
+        byte[] registro = new byte[tamanhoRegistro];
+        try {
+            entrada.readFully(registro);
+            return registro;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Lê o próximo item completo: o primeiro registro e os seus registros de continuação.
+     * Um registro livre (ou uma continuação sem o seu primeiro registro) é devolvido sozinho.
+     *
+     * @param entrada Entrada posicionada no início de um registro.
+     * @return Os bytes dos registros do item, ou null no fim do arquivo (ou diante de um item incompleto).
+     * @throws IOException Se a leitura falhar.
+     */
+    private byte[] lerItem(DataInputStream entrada) throws IOException {
+        byte[] registro = lerRegistro(entrada);
+        if (registro == null || registro[0] <= 1) {
+            return registro;
+        }
+        byte[] item = Arrays.copyOf(registro, registro[0] * tamanhoRegistro);
+        try {
+            entrada.readFully(item, tamanhoRegistro, item.length - tamanhoRegistro);
+            return item;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private static UUID idDe(byte[] registro) {
+        ByteBuffer id = ByteBuffer.wrap(registro, 1, 16);
+        return new UUID(id.getLong(), id.getLong());
+    }
+
+    private static void fechar(DataInputStream entrada) {
+        try {
+            entrada.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Iterador que lê um item por vez, ignorando os registros livres.
+     */
+    private class IteradorRegistros implements Iterator<T> {
+        private final DataInputStream entrada;
+        private T proximo; // Próximo item já lido, ou null se ainda não foi buscado
+        private boolean terminado;
+
+        IteradorRegistros(DataInputStream entrada) {
+            this.entrada = entrada;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (proximo == null && !terminado) {
+                try {
+                    byte[] item = lerItem(entrada);
+                    if (item == null) {
+                        terminado = true;
+                    } else if (item[0] > 0) {
+                        proximo = decodificar(item);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return proximo != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T item = proximo;
+            proximo = null;
+            return item;
+        }
+    }
+}
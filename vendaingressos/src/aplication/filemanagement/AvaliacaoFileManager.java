@@ -9,13 +9,31 @@ import java.util.List;
  * Esta classe herda de FileManager e é especializada para manipular dados do tipo Avaliacao.
  */
 public class AvaliacaoFileManager extends FileManager<Avaliacao> {
+    /** Índice das avaliações pelo ID do evento. */
+    public static final String INDICE_EVENTO = "evento";
+    /** Índice das avaliações pelo ID do usuário autor. */
+    public static final String INDICE_USUARIO = "usuario";
 
     /**
      * Construtor da classe AvaliacaoFileManager.
-     * Define o caminho do arquivo de avaliações e o tipo concreto de lista de avaliações.
+     * Define o caminho do arquivo de avaliações, o tipo concreto de lista de avaliações e ativa o modo cache.
      */
     public AvaliacaoFileManager() {
-        // Passa o tipo específico para o construtor da classe base
-        super("src/aplication/jsonfiles/avaliacoes.json", new TypeToken<List<Avaliacao>>() {}.getType());
+        this("src/aplication/jsonfiles/avaliacoes.json");
+    }
+
+    /**
+     * Construtor da classe AvaliacaoFileManager para um arquivo de avaliações específico.
+     * Usa o formato de armazenamento configurado para "avaliacoes" (JSON por padrão).
+     * Registra os índices por evento e por usuário.
+     *
+     * @param filePath Caminho do arquivo de avaliações.
+     */
+    @SuppressWarnings("this-escape")
+    public AvaliacaoFileManager(String filePath) {
+        // Passa o tipo específico para o construtor da classe base, com o cache em memória ativo
+        super("avaliacoes", filePath, new TypeToken<List<Avaliacao>>() {}.getType(), TipoArmazenamento.JSON);
+        registrarIndice(INDICE_EVENTO, Avaliacao::getIdEvento, false);
+        registrarIndice(INDICE_USUARIO, Avaliacao::getIdUsuario, false);
     }
 }
@@ -0,0 +1,72 @@
+package aplication.filemanagement;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Leitura e escrita dos tipos de campo comuns aos adaptadores do modelo.
+ * Campos nulos não são escritos, como no Gson padrão.
+ */
+final class CamposJson {
+    private static final AdaptadorData DATAS = new AdaptadorData();
+
+    private CamposJson() {
+    }
+
+    static void escrever(JsonWriter out, String nome, UUID valor) throws IOException {
+        if (valor != null) {
+            out.name(nome).value(valor.toString());
+        }
+    }
+
+    static void escrever(JsonWriter out, String nome, String valor) throws IOException {
+        if (valor != null) {
+            out.name(nome).value(valor);
+        }
+    }
+
+    static void escrever(JsonWriter out, String nome, Date valor) throws IOException {
+        if (valor != null) {
+            out.name(nome).value(valor.getTime());
+        }
+    }
+
+    static UUID lerUuid(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return UUID.fromString(in.nextString());
+    }
+
+    static String lerTexto(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    static Date lerData(JsonReader in) throws IOException {
+        return DATAS.read(in);
+    }
+
+    /**
+     * Consome o literal null no lugar de um objeto, se houver.
+     *
+     * @param in Leitor posicionado no início do objeto.
+     * @return true se o valor era nulo e já foi consumido.
+     * @throws IOException Se o JSON estiver malformado.
+     */
+    static boolean lerNulo(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+        return false;
+    }
+}
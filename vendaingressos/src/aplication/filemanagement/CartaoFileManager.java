@@ -2,6 +2,7 @@ package aplication.filemanagement;
 
 import aplication.model.Cartao;
 import com.google.gson.reflect.TypeToken;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -9,13 +10,31 @@ import java.util.List;
  * Esta classe herda de FileManager e é especializada para manipular dados do tipo Cartao.
  */
 public class CartaoFileManager extends FileManager<Cartao> {
+    /** Índice dos cartões pelo ID do usuário dono. */
+    public static final String INDICE_USUARIO = "usuario";
+    /** Índice único dos cartões pelo par (ID do usuário, número do cartão). */
+    public static final String INDICE_USUARIO_NUMERO = "usuarioNumero";
 
     /**
      * Construtor da classe CartaoFileManager.
-     * Define o caminho do arquivo de cartões e o tipo concreto de lista de cartões.
+     * Define o caminho do arquivo de cartões, o tipo concreto de lista de cartões e ativa o modo cache.
      */
     public CartaoFileManager() {
-        // Passa o tipo específico para o construtor da classe base
-        super("src/aplication/jsonfiles/cartoes.json", new TypeToken<List<Cartao>>() {}.getType());
+        this("src/aplication/jsonfiles/cartoes.json");
+    }
+
+    /**
+     * Construtor da classe CartaoFileManager para um arquivo de cartões específico.
+     * Usa o formato de armazenamento configurado para "cartoes" (JSON por padrão).
+     * Registra os índices por usuário e por usuário e número do cartão.
+     *
+     * @param filePath Caminho do arquivo de cartões.
+     */
+    @SuppressWarnings("this-escape")
+    public CartaoFileManager(String filePath) {
+        // Passa o tipo específico para o construtor da classe base, com o cache em memória ativo
+        super("cartoes", filePath, new TypeToken<List<Cartao>>() {}.getType(), TipoArmazenamento.JSON);
+        registrarIndice(INDICE_USUARIO, Cartao::getIdUsuario, false);
+        registrarIndice(INDICE_USUARIO_NUMERO, cartao -> Arrays.asList(cartao.getIdUsuario(), cartao.getNumero()), true);
     }
 }
@@ -0,0 +1,197 @@
+package aplication.filemanagement;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Converte um item para um registro de largura fixa e de volta, para o {@link ArmazenamentoRegistros}.
+ * <p>
+ * Todos os registros ocupam o mesmo número de bytes, o que permite localizar um registro pela posição e
+ * sobrescrevê-lo no lugar. O armazenamento grava o ID de cada registro; o codec, apenas os demais campos.
+ * Um item com um campo de tamanho variável maior que a largura reservada para ele ocupa, além do seu registro,
+ * registros de continuação logo em seguida ({@link #tamanho(Object)}).
+ * Os métodos estáticos codificam os tipos de campo mais comuns em largura fixa.
+ *
+ * @param <T> O tipo de item codificado.
+ */
+public interface CodecRegistro<T> {
+
+    /**
+     * Retorna a quantidade de bytes escrita por {@link #escrever} para qualquer item.
+     *
+     * @return Tamanho dos campos de um item, em bytes.
+     */
+    int tamanho();
+
+    /**
+     * Retorna a quantidade de bytes escrita por {@link #escrever} para um item específico, nunca menor que
+     * {@link #tamanho()}. O excedente é guardado pelo armazenamento em registros de continuação.
+     *
+     * @param item Item a ser escrito.
+     * @return Tamanho dos campos do item, em bytes.
+     */
+    default int tamanho(T item) {
+        return tamanho();
+    }
+
+    /**
+     * Escreve os campos de um item, exatamente {@link #tamanho(Object)} bytes.
+     *
+     * @param destino Buffer posicionado no início dos campos.
+     * @param item    Item a ser escrito.
+     * @throws IllegalArgumentException Se um campo não couber na largura reservada para ele.
+     */
+    void escrever(ByteBuffer destino, T item);
+
+    /**
+     * Lê um item escrito por {@link #escrever}.
+     *
+     * @param origem Buffer posicionado no início dos campos, com todos os bytes do item.
+     * @param id     ID do item, lido pelo armazenamento.
+     * @return O item lido.
+     */
+    T ler(ByteBuffer origem, UUID id);
+
+    /**
+     * Escreve um UUID em 16 bytes; o valor nulo é gravado como zeros.
+     *
+     * @param destino Buffer de destino.
+     * @param uuid    UUID a ser escrito, ou null.
+     */
+    static void escreverUuid(ByteBuffer destino, UUID uuid) {
+        destino.putLong(uuid == null ? 0 : uuid.getMostSignificantBits());
+        destino.putLong(uuid == null ? 0 : uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Lê um UUID escrito por {@link #escreverUuid}.
+     *
+     * @param origem Buffer de origem.
+     * @return O UUID, ou null se os 16 bytes forem zeros.
+     */
+    static UUID lerUuid(ByteBuffer origem) {
+        long mais = origem.getLong();
+        long menos = origem.getLong();
+        return mais == 0 && menos == 0 ? null : new UUID(mais, menos);
+    }
+
+    /**
+     * Escreve uma data em 8 bytes, como milissegundos desde a época; o valor nulo é gravado como {@link Long#MIN_VALUE}.
+     *
+     * @param destino Buffer de destino.
+     * @param data    Data a ser escrita, ou null.
+     */
+    static void escreverData(ByteBuffer destino, Date data) {
+        destino.putLong(data == null ? Long.MIN_VALUE : data.getTime());
+    }
+
+    /**
+     * Lê uma data escrita por {@link #escreverData}.
+     *
+     * @param origem Buffer de origem.
+     * @return A data, ou null.
+     */
+    static Date lerData(ByteBuffer origem) {
+        long millis = origem.getLong();
+        return millis == Long.MIN_VALUE ? null : new Date(millis);
+    }
+
+    /**
+     * Escreve um texto curto em uma largura fixa: um byte com o tamanho em UTF-8 (255 para nulo), seguido dos
+     * bytes do texto e de zeros até completar a largura.
+     *
+     * @param destino Buffer de destino.
+     * @param texto   Texto a ser escrito, ou null.
+     * @param largura Bytes reservados para o campo, incluindo o byte de tamanho.
+     * @throws IllegalArgumentException Se o texto não couber na largura.
+     */
+    static void escreverTexto(ByteBuffer destino, String texto, int largura) {
+        int inicio = destino.position();
+        if (texto == null) {
+            destino.put((byte) 0xFF);
+        } else {
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > largura - 1) {
+                throw new IllegalArgumentException("Texto maior que " + (largura - 1) + " bytes: " + texto);
+            }
+            destino.put((byte) bytes.length);
+            destino.put(bytes);
+        }
+        while (destino.position() < inicio + largura) {
+            destino.put((byte) 0);
+        }
+    }
+
+    /**
+     * Lê um texto escrito por {@link #escreverTexto}.
+     *
+     * @param origem  Buffer de origem.
+     * @param largura Bytes reservados para o campo, incluindo o byte de tamanho.
+     * @return O texto, ou null.
+     */
+    static String lerTexto(ByteBuffer origem, int largura) {
+        int inicio = origem.position();
+        int tamanho = origem.get() & 0xFF;
+        String texto = null;
+        if (tamanho != 0xFF) {
+            texto = new String(origem.array(), origem.arrayOffset() + origem.position(), tamanho, StandardCharsets.UTF_8);
+        }
+        origem.position(inicio + largura);
+        return texto;
+    }
+
+    /**
+     * Retorna quantos bytes {@link #escreverTextoVariavel} usa para um texto.
+     *
+     * @param texto   Texto a ser escrito, ou null.
+     * @param largura Bytes reservados para o campo no registro, incluindo o byte de tamanho.
+     * @return A largura, se o texto couber nela; caso contrário, a marca, o tamanho e os bytes do texto.
+     */
+    static int tamanhoTextoVariavel(String texto, int largura) {
+        int bytes = texto == null ? 0 : texto.getBytes(StandardCharsets.UTF_8).length;
+        return bytes <= largura - 1 ? largura : 1 + 2 + bytes;
+    }
+
+    /**
+     * Escreve um texto de tamanho variável a partir de um campo de largura fixa. Um texto que cabe na largura é
+     * escrito como em {@link #escreverTexto}; um maior é marcado no primeiro byte (254) e escrito em seguida, com
+     * o tamanho em 2 bytes, ocupando {@link #tamanhoTextoVariavel} bytes.
+     *
+     * @param destino Buffer de destino.
+     * @param texto   Texto a ser escrito, ou null.
+     * @param largura Bytes reservados para o campo no registro, incluindo o byte de tamanho (no máximo 254).
+     * @throws IllegalArgumentException Se o texto tiver mais de 65535 bytes em UTF-8.
+     */
+    static void escreverTextoVariavel(ByteBuffer destino, String texto, int largura) {
+        byte[] bytes = texto == null ? null : texto.getBytes(StandardCharsets.UTF_8);
+        if (bytes == null || bytes.length <= largura - 1) {
+            escreverTexto(destino, texto, largura);
+            return;
+        }
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Texto maior que " + 0xFFFF + " bytes");
+        }
+        destino.put((byte) 0xFE);
+        destino.putShort((short) bytes.length);
+        destino.put(bytes);
+    }
+
+    /**
+     * Lê um texto escrito por {@link #escreverTextoVariavel}.
+     *
+     * @param origem  Buffer de origem.
+     * @param largura Bytes reservados para o campo no registro, incluindo o byte de tamanho.
+     * @return O texto, ou null.
+     */
+    static String lerTextoVariavel(ByteBuffer origem, int largura) {
+        if ((origem.get(origem.position()) & 0xFF) != 0xFE) {
+            return lerTexto(origem, largura);
+        }
+        origem.get();
+        byte[] bytes = new byte[origem.getShort() & 0xFFFF];
+        origem.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,45 @@
+package aplication.filemanagement;
+
+import aplication.model.Compra;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Codec de largura fixa para {@link Compra}: IDs do usuário, do evento, do ingresso, do cartão e do boleto
+ * (16 bytes cada), data da compra e preço (8 bytes cada) e o método de pagamento ({@value #LARGURA_METODO} bytes).
+ */
+public class CodecRegistroCompra implements CodecRegistro<Compra> {
+    /** Bytes reservados para o método de pagamento, incluindo o byte de tamanho. */
+    public static final int LARGURA_METODO = 12;
+
+    @Override
+    public int tamanho() {
+        return 5 * 16 + 8 + 8 + LARGURA_METODO;
+    }
+
+    @Override
+    public void escrever(ByteBuffer destino, Compra compra) {
+        CodecRegistro.escreverUuid(destino, compra.getIdUsuario());
+        CodecRegistro.escreverUuid(destino, compra.getIdEvento());
+        CodecRegistro.escreverUuid(destino, compra.getIdIngresso());
+        CodecRegistro.escreverUuid(destino, compra.getIdCartao());
+        CodecRegistro.escreverUuid(destino, compra.getBoleto());
+        CodecRegistro.escreverData(destino, compra.getDataCompra());
+        destino.putDouble(compra.getPreco());
+        CodecRegistro.escreverTexto(destino, compra.getMetodoPagamento(), LARGURA_METODO);
+    }
+
+    @Override
+    public Compra ler(ByteBuffer origem, UUID id) {
+        UUID idUsuario = CodecRegistro.lerUuid(origem);
+        UUID idEvento = CodecRegistro.lerUuid(origem);
+        UUID idIngresso = CodecRegistro.lerUuid(origem);
+        UUID idCartao = CodecRegistro.lerUuid(origem);
+        UUID boleto = CodecRegistro.lerUuid(origem);
+        Date dataCompra = CodecRegistro.lerData(origem);
+        double preco = origem.getDouble();
+        String metodoPagamento = CodecRegistro.lerTexto(origem, LARGURA_METODO);
+        return new Compra(id, idUsuario, idEvento, idIngresso, idCartao, boleto, dataCompra, preco, metodoPagamento);
+    }
+}
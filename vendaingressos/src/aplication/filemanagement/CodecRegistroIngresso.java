@@ -0,0 +1,47 @@
+package aplication.filemanagement;
+
+import aplication.model.Ingresso;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Codec de largura fixa para {@link Ingresso}: IDs do usuário e do evento (16 bytes cada), preço (8 bytes),
+ * situação (1 byte) e o rótulo do assento ({@value #LARGURA_ASSENTO} bytes).
+ * Rótulos maiores que a largura reservada continuam nos registros de continuação, então o tamanho do rótulo não é
+ * limitado pelo registro.
+ */
+public class CodecRegistroIngresso implements CodecRegistro<Ingresso> {
+    /** Bytes reservados no registro para o rótulo do assento, incluindo o byte de tamanho. */
+    public static final int LARGURA_ASSENTO = 12;
+    /** Bytes dos campos anteriores ao rótulo. */
+    private static final int CAMPOS_FIXOS = 16 + 16 + 8 + 1;
+
+    @Override
+    public int tamanho() {
+        return CAMPOS_FIXOS + LARGURA_ASSENTO;
+    }
+
+    @Override
+    public int tamanho(Ingresso ingresso) {
+        return CAMPOS_FIXOS + CodecRegistro.tamanhoTextoVariavel(ingresso.getAssento(), LARGURA_ASSENTO);
+    }
+
+    @Override
+    public void escrever(ByteBuffer destino, Ingresso ingresso) {
+        CodecRegistro.escreverUuid(destino, ingresso.getUsuarioId());
+        CodecRegistro.escreverUuid(destino, ingresso.getEventoId());
+        destino.putDouble(ingresso.getPreco());
+        destino.put((byte) (ingresso.isAtivo() ? 1 : 0));
+        CodecRegistro.escreverTextoVariavel(destino, ingresso.getAssento(), LARGURA_ASSENTO);
+    }
+
+    @Override
+    public Ingresso ler(ByteBuffer origem, UUID id) {
+        UUID usuarioId = CodecRegistro.lerUuid(origem);
+        UUID eventoId = CodecRegistro.lerUuid(origem);
+        double preco = origem.getDouble();
+        boolean ativo = origem.get() != 0;
+        String assento = CodecRegistro.lerTextoVariavel(origem, LARGURA_ASSENTO);
+        return new Ingresso(id, usuarioId, eventoId, preco, assento, ativo);
+    }
+}
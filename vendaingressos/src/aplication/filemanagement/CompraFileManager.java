@@ -7,15 +7,34 @@ import java.util.List;
 /**
  * Gerenciador de arquivos para o tipo Compra.
  * Esta classe herda de FileManager e é especializada para manipular dados do tipo Compra.
+ * Por ser uma das entidades de maior volume, usa por padrão o arquivo de registros de largura fixa, em que uma
+ * inclusão é acrescentada no final e uma atualização sobrescreve apenas o seu registro.
  */
 public class CompraFileManager extends FileManager<Compra> {
+    /** Índice das compras pelo ID do usuário comprador. */
+    public static final String INDICE_USUARIO = "usuario";
+    /** Índice único das compras pelo ID do ingresso comprado. */
+    public static final String INDICE_INGRESSO = "ingresso";
 
     /**
      * Construtor da classe CompraFileManager.
-     * Define o caminho do arquivo de compras e o tipo concreto de lista de compras.
+     * Define o caminho do arquivo de compras, o tipo concreto de lista de compras e ativa o modo cache.
      */
     public CompraFileManager() {
-        // Passa o tipo específico para o construtor da classe base
-        super("src/aplication/jsonfiles/compras.json", new TypeToken<List<Compra>>() {}.getType());
+        this("src/aplication/jsonfiles/compras.json");
+    }
+
+    /**
+     * Construtor da classe CompraFileManager para um arquivo de compras específico.
+     * Usa o formato de armazenamento configurado para "compras" (registros por padrão).
+     * Registra os índices por usuário e por ingresso.
+     *
+     * @param filePath Caminho do arquivo de compras.
+     */
+    @SuppressWarnings("this-escape")
+    public CompraFileManager(String filePath) {
+        super("compras", filePath, new TypeToken<List<Compra>>() {}.getType(), TipoArmazenamento.REGISTROS);
+        registrarIndice(INDICE_USUARIO, Compra::getIdUsuario, false);
+        registrarIndice(INDICE_INGRESSO, Compra::getIdIngresso, true);
     }
 }
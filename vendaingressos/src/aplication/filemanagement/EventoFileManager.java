@@ -1,21 +1,130 @@
 package aplication.filemanagement;
 
+import aplication.model.ConsultaEventos;
 import aplication.model.Evento;
+import aplication.model.ResumoEvento;
+import aplication.util.NormalizacaoTexto;
 import com.google.gson.reflect.TypeToken;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Gerenciador de arquivos para o tipo Evento.
  * Esta classe herda de FileManager e é especializada para manipular dados do tipo Evento.
+ * O arquivo de eventos guarda apenas os dados do evento; os assentos de cada evento ficam em um arquivo próprio,
+ * na pasta "inventarios" ao lado do arquivo de eventos ({@link InventarioFileManager}).
+ * Os eventos são indexados em ordem de data, de preço e de nome, para as consultas por faixa ({@link #consultar}),
+ * pelas palavras do nome e da descrição, para a busca textual ({@link #INDICE_TEXTO}), e pelo início das palavras
+ * do nome, para o autocompletar ({@link #INDICE_AUTOCOMPLETAR}).
  */
 public class EventoFileManager extends FileManager<Evento> {
+    /** Projeção dos eventos com apenas o ID, o nome, a data e o preço, usada pelas listagens e junções. */
+    public static final Projecao<Evento, ResumoEvento> RESUMO = new Projecao<>(ResumoEvento.class, ResumoEvento::de);
+    /** Índice ordenado dos eventos pela data, em milissegundos. */
+    public static final String INDICE_DATA = "data";
+    /** Índice ordenado dos eventos pelo preço. */
+    public static final String INDICE_PRECO = "preco";
+    /** Índice ordenado dos eventos pelo nome normalizado ({@link NormalizacaoTexto}). */
+    public static final String INDICE_NOME = "nome";
+    /** Índice textual dos eventos pelas palavras do nome e da descrição. */
+    public static final String INDICE_TEXTO = "texto";
+    /** Índice de prefixos dos eventos pelas palavras do nome, com os eventos mais próximos primeiro. */
+    public static final String INDICE_AUTOCOMPLETAR = "autocompletar";
+
+    /** Peso de uma palavra do nome na busca textual; uma palavra da descrição vale 1. */
+    private static final int PESO_NOME = 3;
+
+    /** Maior caractere possível, usado para fechar a faixa das chaves que começam com um prefixo. */
+    private static final char ULTIMO_CARACTERE = Character.MAX_VALUE;
+
+    private final InventarioFileManager inventarios;
 
     /**
      * Construtor da classe EventoFileManager.
-     * Define o caminho do arquivo de eventos e o tipo concreto de lista de eventos.
+     * Define o caminho do arquivo de eventos, o tipo concreto de lista de eventos e ativa o modo cache.
      */
     public EventoFileManager() {
-        // Passa o tipo específico para o construtor da classe base
-        super("src/aplication/jsonfiles/eventos.json", new TypeToken<List<Evento>>() {}.getType());
+        this("src/aplication/jsonfiles/eventos.json");
+    }
+
+    /**
+     * Construtor da classe EventoFileManager para um arquivo de eventos específico.
+     * Usa o formato de armazenamento configurado para "eventos" (JSON por padrão).
+     *
+     * @param filePath Caminho do arquivo de eventos.
+     */
+    @SuppressWarnings("this-escape")
+    public EventoFileManager(String filePath) {
+        // Passa o tipo específico para o construtor da classe base, com o cache em memória ativo
+        super("eventos", filePath, new TypeToken<List<Evento>>() {}.getType(), TipoArmazenamento.JSON);
+        this.inventarios = new InventarioFileManager(Paths.get(filePath).resolveSibling("inventarios").toString());
+        registrarIndice(INDICE_DATA, new IndiceOrdenado<Evento, Long>(evento -> evento.getData() != null ? evento.getData().getTime() : null));
+        registrarIndice(INDICE_PRECO, new IndiceOrdenado<>(Evento::getPreco));
+        registrarIndice(INDICE_NOME, new IndiceOrdenado<>(evento -> NormalizacaoTexto.normalizar(evento.getNome())));
+        registrarIndice(INDICE_TEXTO, new IndiceTextual<>(List.of(new IndiceTextual.Campo<>(Evento::getNome, PESO_NOME),
+                new IndiceTextual.Campo<>(Evento::getDescricao, 1))));
+        registrarIndice(INDICE_AUTOCOMPLETAR, new IndicePrefixo<Evento>(Evento::getNome,
+                evento -> evento.getData() != null ? evento.getData().getTime() : null));
+    }
+
+    /**
+     * Executa uma consulta de eventos sobre os índices ordenados.
+     * O índice da ordem pedida é percorrido apenas na faixa limitada pelos critérios sobre o seu campo; os demais
+     * critérios são verificados em cada evento visitado, e a leitura termina ao completar a página.
+     *
+     * @param consulta         Critérios da consulta.
+     * @param filtroAdicional  Condição verificada por último, para critérios que dependem de outros arquivos,
+     *                         como a disponibilidade de assentos.
+     * @return Os eventos encontrados, na ordem da consulta.
+     */
+    public List<Evento> consultar(ConsultaEventos consulta, Predicate<? super Evento> filtroAdicional) {
+        Long dataMinima = consulta.getDataInicial() != null ? consulta.getDataInicial().getTime() : null;
+        if (consulta.isFuturos()) {
+            long depoisDeAgora = System.currentTimeMillis() + 1;
+            dataMinima = dataMinima == null ? depoisDeAgora : Math.max(dataMinima, depoisDeAgora);
+        }
+        Long dataMaxima = consulta.getDataFinal() != null ? consulta.getDataFinal().getTime() : null;
+        Double precoMinimo = consulta.getPrecoMinimo();
+        Double precoMaximo = consulta.getPrecoMaximo();
+        String prefixo = NormalizacaoTexto.normalizar(consulta.getPrefixoNome());
+        String fimPrefixo = prefixo != null ? prefixo + ULTIMO_CARACTERE : null;
+
+        Long dataDe = dataMinima;
+        Predicate<Evento> filtro = evento -> dentro(evento.getData() != null ? evento.getData().getTime() : null, dataDe, dataMaxima)
+                && dentro(evento.getPreco(), precoMinimo, precoMaximo)
+                && (prefixo == null || dentro(NormalizacaoTexto.normalizar(evento.getNome()), prefixo, fimPrefixo))
+                && filtroAdicional.test(evento);
+
+        return switch (consulta.getOrdem()) {
+            case DATA -> findByFaixa(INDICE_DATA, dataMinima, dataMaxima, filtro, consulta.getInicio(), consulta.getQuantidade());
+            case PRECO -> findByFaixa(INDICE_PRECO, precoMinimo, precoMaximo, filtro, consulta.getInicio(), consulta.getQuantidade());
+            case NOME -> findByFaixa(INDICE_NOME, prefixo, fimPrefixo, filtro, consulta.getInicio(), consulta.getQuantidade());
+        };
+    }
+
+    /**
+     * Verifica se um valor está entre dois limites inclusivos, em que limites nulos não restringem.
+     *
+     * @param valor Valor verificado; nulo apenas quando não há limites.
+     * @param de    Menor valor aceito, ou null.
+     * @param ate   Maior valor aceito, ou null.
+     * @param <K>   O tipo do valor.
+     * @return true se o valor estiver na faixa.
+     */
+    private static <K extends Comparable<? super K>> boolean dentro(K valor, K de, K ate) {
+        if (de == null && ate == null) {
+            return true;
+        }
+        return valor != null && (de == null || valor.compareTo(de) >= 0) && (ate == null || valor.compareTo(ate) <= 0);
+    }
+
+    /**
+     * Retorna o gerenciador dos inventários de assentos dos eventos deste arquivo.
+     *
+     * @return O gerenciador de inventários.
+     */
+    public InventarioFileManager getInventarios() {
+        return inventarios;
     }
 }
@@ -0,0 +1,174 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import aplication.model.Compra;
+import aplication.model.Ingresso;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Cria o armazenamento de cada entidade conforme a configuração.
+ * <p>
+ * O formato de uma entidade é lido, nesta ordem, da propriedade de sistema {@code armazenamento.<entidade>}
+ * (por exemplo, {@code -Darmazenamento.compras=jdbc}), do arquivo {@value #ARQUIVO_CONFIGURACAO} ou, na
+ * falta de ambos, do formato padrão informado pelo gerenciador.
+ * <p>
+ * O armazenamento JDBC usa o banco H2 de {@code lib/}, em modo arquivo: por padrão, o banco
+ * {@value #BANCO_PADRAO} na mesma pasta do arquivo JSON da entidade. Outro banco pode ser escolhido pela
+ * propriedade {@value #PROPRIEDADE_URL_JDBC}, lida da mesma forma que os formatos.
+ */
+public final class FabricaArmazenamento {
+    /** Arquivo de configuração dos formatos de armazenamento. */
+    public static final String ARQUIVO_CONFIGURACAO = "src/aplication/armazenamento.properties";
+    /** Prefixo das propriedades que escolhem o formato de cada entidade. */
+    public static final String PREFIXO = "armazenamento.";
+    /** Propriedade com a URL JDBC do banco de dados, quando não for o banco padrão. */
+    public static final String PROPRIEDADE_URL_JDBC = "armazenamento.jdbc.url";
+    /** Nome do banco H2 criado ao lado dos arquivos JSON quando nenhuma URL é configurada. */
+    public static final String BANCO_PADRAO = "vendaingressos";
+
+    private static Properties configuracao; // Conteúdo do arquivo de configuração, lido no primeiro uso
+
+    private FabricaArmazenamento() {
+    }
+
+    /**
+     * Retorna o formato configurado para uma entidade.
+     *
+     * @param entidade Nome da entidade, como "usuarios" ou "compras".
+     * @param padrao   Formato usado quando não há configuração para a entidade.
+     * @return O formato configurado.
+     */
+    public static TipoArmazenamento tipoConfigurado(String entidade, TipoArmazenamento padrao) {
+        String valor = propriedade(PREFIXO + entidade);
+        if (valor == null || valor.isBlank()) {
+            return padrao;
+        }
+        return TipoArmazenamento.valueOf(valor.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Cria o armazenamento configurado para uma entidade.
+     *
+     * @param entidade Nome da entidade, usado na configuração.
+     * @param filePath Caminho do arquivo JSON da entidade.
+     * @param typeOfT  Tipo concreto da lista de itens.
+     * @param padrao   Formato usado quando não há configuração para a entidade.
+     * @param <T>      O tipo de item armazenado.
+     * @return O armazenamento da entidade.
+     */
+    public static <T extends Identificavel> Armazenamento<T> criar(String entidade, String filePath, Type typeOfT,
+                                                                  TipoArmazenamento padrao) {
+        return criar(tipoConfigurado(entidade, padrao), entidade, filePath, typeOfT);
+    }
+
+    /**
+     * Cria um armazenamento de um formato específico.
+     * Os formatos de registros e JDBC leem o arquivo JSON da entidade enquanto ainda não tiverem dados
+     * próprios. O formato de registros só está disponível para as entidades com codec de largura fixa.
+     *
+     * @param tipo     Formato do armazenamento.
+     * @param entidade Nome da entidade, usado como nome da tabela no banco de dados.
+     * @param filePath Caminho do arquivo JSON da entidade.
+     * @param typeOfT  Tipo concreto da lista de itens.
+     * @param <T>      O tipo de item armazenado.
+     * @return O armazenamento.
+     */
+    public static <T extends Identificavel> Armazenamento<T> criar(TipoArmazenamento tipo, String entidade,
+                                                                  String filePath, Type typeOfT) {
+        return switch (tipo) {
+            case JSON -> new ArmazenamentoJson<>(filePath, typeOfT, FileManager.criarGson());
+            case JOURNAL -> new ArmazenamentoJournal<>(filePath, typeOfT, FileManager.criarGson());
+            // O journal lê tanto o JSON simples quanto o snapshot com o seu log, o formato padrão anterior
+            case REGISTROS -> new ArmazenamentoRegistros<>(caminhoRegistros(filePath), codecRegistro(typeOfT),
+                    new ArmazenamentoJournal<>(filePath, typeOfT, FileManager.criarGson()));
+            case JDBC -> new ArmazenamentoJdbc<>(urlJdbc(filePath), entidade, typeOfT, FileManager.criarGson(),
+                    new ArmazenamentoJson<>(filePath, typeOfT, FileManager.criarGson()));
+        };
+    }
+
+    /**
+     * Retorna a URL do banco de dados usado pelo armazenamento JDBC de uma entidade.
+     *
+     * @param filePath Caminho do arquivo JSON da entidade.
+     * @return A URL configurada ou, na falta dela, a do banco H2 padrão na pasta do arquivo JSON.
+     */
+    static String urlJdbc(String filePath) {
+        String url = propriedade(PROPRIEDADE_URL_JDBC);
+        if (url != null && !url.isBlank()) {
+            return url.trim();
+        }
+        Path pasta = Paths.get(filePath).toAbsolutePath().getParent();
+        return "jdbc:h2:" + pasta.resolve(BANCO_PADRAO).toString().replace('\\', '/');
+    }
+
+    /**
+     * Retorna o caminho do arquivo de registros correspondente ao arquivo JSON de uma entidade.
+     *
+     * @param filePath Caminho do arquivo JSON.
+     * @return O mesmo caminho, com a extensão .dat.
+     */
+    static String caminhoRegistros(String filePath) {
+        return trocarExtensao(filePath, ".dat");
+    }
+
+    private static String trocarExtensao(String filePath, String extensao) {
+        return (filePath.endsWith(".json") ? filePath.substring(0, filePath.length() - 5) : filePath) + extensao;
+    }
+
+    /**
+     * Retorna o codec de largura fixa do tipo de item de uma lista.
+     *
+     * @param typeOfT Tipo concreto da lista de itens.
+     * @param <T>     O tipo de item.
+     * @return O codec do tipo de item.
+     * @throws IllegalArgumentException Se o tipo não tiver codec de largura fixa.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> CodecRegistro<T> codecRegistro(Type typeOfT) {
+        Type tipoItem = ((ParameterizedType) typeOfT).getActualTypeArguments()[0];
+        if (tipoItem == Ingresso.class) {
+            return (CodecRegistro<T>) new CodecRegistroIngresso();
+        }
+        if (tipoItem == Compra.class) {
+            return (CodecRegistro<T>) new CodecRegistroCompra();
+        }
+        throw new IllegalArgumentException("O formato de registros não está disponível para " + tipoItem.getTypeName());
+    }
+
+    /**
+     * Lê uma propriedade de sistema ou, na falta dela, do arquivo de configuração.
+     *
+     * @param nome Nome da propriedade.
+     * @return O valor, ou null se não estiver definido.
+     */
+    private static String propriedade(String nome) {
+        String valor = System.getProperty(nome);
+        return valor != null ? valor : configuracao().getProperty(nome);
+    }
+
+    private static synchronized Properties configuracao() {
+        if (configuracao == null) {
+            Properties lidas = new Properties();
+            try (Reader reader = Files.newBufferedReader(Paths.get(ARQUIVO_CONFIGURACAO), StandardCharsets.UTF_8)) {
+                lidas.load(reader);
+            } catch (NoSuchFileException e) {
+                // Sem arquivo de configuração, valem os formatos padrão
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            configuracao = lidas;
+        }
+        return configuracao;
+    }
+}
@@ -1,24 +1,80 @@
 package aplication.filemanagement;
 
 import aplication.interfaces.Identificavel;
+import aplication.model.Avaliacao;
+import aplication.model.Cartao;
+import aplication.model.Compra;
+import aplication.model.Evento;
+import aplication.model.Ingresso;
+import aplication.model.InventarioAssentos;
+import aplication.model.Recibo;
+import aplication.model.ResumoEvento;
+import aplication.model.Usuario;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
-import java.io.*;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Classe genérica para gerenciar operações de leitura e escrita em arquivos JSON para itens que implementam a interface Identificavel.
+ * <p>
+ * Quando o modo cache está ativo, os itens desserializados permanecem em memória entre as chamadas.
+ * As escritas atualizam a memória e o arquivo (write-through), e a releitura do arquivo só acontece
+ * quando o tamanho ou a data de modificação do arquivo mudam, por exemplo, após a escrita de outra instância.
+ * <p>
+ * O formato em disco é definido por um {@link Armazenamento}: por padrão um único arquivo JSON reescrito a cada
+ * alteração ({@link ArmazenamentoJson}), um journal somente de acréscimo ({@link ArmazenamentoJournal}), um
+ * arquivo binário de registros de largura fixa ({@link ArmazenamentoRegistros}) ou uma tabela em um banco H2
+ * embarcado ({@link ArmazenamentoJdbc}), escolhido por entidade na configuração ({@link FabricaArmazenamento}).
+ * <p>
+ * As escritas aguardam a conclusão da gravação em disco fora da trava do FileManager, de modo que mutações
+ * concorrentes são agrupadas pelo armazenamento em uma única escrita (group commit).
+ * <p>
+ * Os itens em memória ficam em um mapa ordenado pela inserção e indexado pelo ID, de modo que buscas,
+ * atualizações e remoções por ID custam O(1) sem perder a ordem original do arquivo.
+ * <p>
+ * As subclasses podem declarar índices secundários ({@link #registrarIndice}) sobre outros campos, como e-mail ou
+ * dono do item. Os índices são atualizados a cada escrita e reconstruídos quando o arquivo é relido, e as buscas
+ * por eles ({@link #findBy}, {@link #findFirstBy}) evitam percorrer todos os itens. Índices ordenados
+ * ({@link IndiceOrdenado}) permitem ainda buscar faixas de chaves em ordem, com paginação ({@link #findByFaixa}), e
+ * índices textuais ({@link IndiceTextual}), buscar itens por palavras, em ordem de relevância ({@link #findByTexto}).
+ * Índices de prefixos ({@link IndicePrefixo}) sugerem itens a partir do início de uma palavra ({@link #findByPrefixo}).
+ * <p>
+ * Consultas sem índice podem usar {@link #stream()} e {@link #findFirst}; sem cache, elas leem o arquivo em
+ * streaming e mantêm em memória apenas o item sendo avaliado, parando na primeira ocorrência.
+ * <p>
+ * Listagens que usam apenas alguns campos podem pedir uma {@link Projecao} ({@link #projetar}): com o cache
+ * válido ela é feita a partir da memória, e caso contrário os itens projetados são lidos direto do arquivo, sem
+ * desserializar os itens completos nem carregá-los no cache.
  *
  * @param <T> O tipo de item que será gerenciado pela classe, deve implementar a interface Identificavel.
  */
 public abstract class FileManager<T extends Identificavel> {
     protected final String filePath;
     protected final Gson gson;
-    protected List<T> items;
+    protected Map<UUID, T> items; // Itens em memória, indexados pelo ID e na ordem do arquivo
     protected final Type typeOfT;
+    protected final Armazenamento<T> armazenamento;
+    private final Map<String, Indice<T>> indices = new LinkedHashMap<>(); // Índices secundários, pelo nome
+
+    private boolean cacheAtivo; // Mantém os itens em memória entre as chamadas
+    private String estadoArquivoCache; // Tamanho e data de modificação do arquivo quando o cache foi carregado
+    private int gravacoesPendentes; // Gravações entregues ao armazenamento e ainda não concluídas
+    private boolean gravacaoFalhou; // Se alguma das gravações pendentes falhou
 
     /**
      * Construtor da classe FileManager.
@@ -27,42 +83,218 @@ public abstract class FileManager<T extends Identificavel> {
      * @param typeOfT  Tipo concreto dos itens gerenciados.
      */
     public FileManager(String filePath, Type typeOfT) {
+        this(filePath, typeOfT, false);
+    }
+
+    /**
+     * Construtor da classe FileManager com escolha do modo cache.
+     *
+     * @param filePath   Caminho do arquivo onde os dados serão armazenados.
+     * @param typeOfT    Tipo concreto dos itens gerenciados.
+     * @param cacheAtivo true para manter os itens em memória entre as chamadas.
+     */
+    public FileManager(String filePath, Type typeOfT, boolean cacheAtivo) {
+        this(filePath, typeOfT, new ArmazenamentoJson<>(filePath, typeOfT, criarGson()), cacheAtivo);
+    }
+
+    /**
+     * Construtor da classe FileManager com o armazenamento configurado para a entidade e o cache ativo.
+     * O formato é escolhido por {@link FabricaArmazenamento}, a partir da configuração ou do padrão informado.
+     *
+     * @param entidade Nome da entidade na configuração, como "usuarios" ou "compras".
+     * @param filePath Caminho do arquivo JSON da entidade.
+     * @param typeOfT  Tipo concreto dos itens gerenciados.
+     * @param padrao   Formato usado quando não há configuração para a entidade.
+     */
+    protected FileManager(String entidade, String filePath, Type typeOfT, TipoArmazenamento padrao) {
+        this(filePath, typeOfT, FabricaArmazenamento.criar(entidade, filePath, typeOfT, padrao), true);
+    }
+
+    /**
+     * Construtor da classe FileManager com um armazenamento específico.
+     *
+     * @param filePath      Caminho do arquivo principal onde os dados serão armazenados.
+     * @param typeOfT       Tipo concreto dos itens gerenciados.
+     * @param armazenamento Armazenamento responsável pelo formato em disco.
+     * @param cacheAtivo    true para manter os itens em memória entre as chamadas.
+     */
+    public FileManager(String filePath, Type typeOfT, Armazenamento<T> armazenamento, boolean cacheAtivo) {
         this.filePath = filePath;
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
-        this.items = new ArrayList<>();
+        this.gson = criarGson();
+        this.items = new LinkedHashMap<>();
         this.typeOfT = typeOfT;
+        this.armazenamento = armazenamento;
+        this.cacheAtivo = cacheAtivo;
+    }
+
+    /**
+     * Cria a instância do Gson usada pelos gerenciadores e armazenamentos.
+     * Cada classe do modelo tem um adaptador próprio, que lê e escreve os campos sem reflexão; o JSON é
+     * compacto e as datas são gravadas em milissegundos desde a época, aceitando ainda o formato textual antigo.
+     *
+     * @return Gson configurado para os arquivos da aplicação.
+     */
+    public static Gson criarGson() {
+        return new GsonBuilder()
+                .registerTypeAdapter(Date.class, new AdaptadorData())
+                .registerTypeAdapter(InventarioAssentos.class, new AdaptadorInventarioAssentos())
+                .registerTypeAdapter(Evento.class, new AdaptadorEvento())
+                .registerTypeAdapter(ResumoEvento.class, new AdaptadorResumoEvento())
+                .registerTypeAdapter(Ingresso.class, new AdaptadorIngresso())
+                .registerTypeAdapter(Compra.class, new AdaptadorCompra())
+                .registerTypeAdapter(Recibo.class, new AdaptadorRecibo())
+                .registerTypeAdapter(Usuario.class, new AdaptadorUsuario())
+                .registerTypeAdapter(Cartao.class, new AdaptadorCartao())
+                .registerTypeAdapter(Avaliacao.class, new AdaptadorAvaliacao())
+                .create();
+    }
+
+    /**
+     * Indica se o modo cache está ativo.
+     *
+     * @return true se os itens são mantidos em memória entre as chamadas.
+     */
+    public boolean isCacheAtivo() {
+        return cacheAtivo;
+    }
+
+    /**
+     * Ativa ou desativa o modo cache. Ao desativar, a memória é descartada e a próxima leitura vai ao arquivo.
+     *
+     * @param cacheAtivo true para manter os itens em memória entre as chamadas.
+     */
+    public synchronized void setCacheAtivo(boolean cacheAtivo) {
+        this.cacheAtivo = cacheAtivo;
+        this.estadoArquivoCache = null;
+    }
+
+    /**
+     * Registra um índice secundário sobre os itens. Deve ser chamado no construtor da subclasse.
+     *
+     * @param nome     Nome do índice, usado nas buscas.
+     * @param extrator Função que extrai a chave de um item; itens com chave nula não são indexados.
+     * @param unico    true se cada chave pode pertencer a apenas um item.
+     */
+    protected void registrarIndice(String nome, Function<T, ?> extrator, boolean unico) {
+        registrarIndice(nome, new IndiceSecundario<>(nome, extrator, unico));
     }
 
     /**
-     * Lê os dados do arquivo JSON e retorna como uma string.
+     * Registra um índice qualquer sobre os itens. Deve ser chamado no construtor da subclasse; como apenas guarda o
+     * índice, sem chamar métodos da subclasse, esses construtores suprimem o aviso {@code this-escape}.
      *
-     * @return Dados lidos do arquivo como string JSON.
+     * @param nome   Nome do índice.
+     * @param indice Índice a ser mantido junto com os itens.
      */
-    protected String readFromFile() {
-        StringBuilder jsonData = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                jsonData.append(line);
+    protected synchronized void registrarIndice(String nome, Indice<T> indice) {
+        indices.put(nome, indice);
+        estadoArquivoCache = null; // Força a releitura para que o novo índice seja preenchido
+    }
+
+    /**
+     * Retorna um índice registrado, já sincronizado com os itens em memória.
+     *
+     * @param nome Nome do índice.
+     * @return O índice correspondente.
+     * @throws IllegalArgumentException Se não houver índice com esse nome.
+     */
+    protected Indice<T> getIndice(String nome) {
+        carregarItens();
+        Indice<T> indice = indices.get(nome);
+        if (indice == null) {
+            throw new IllegalArgumentException("Índice não registrado: " + nome);
+        }
+        return indice;
+    }
+
+    /**
+     * Persiste uma alteração por meio do armazenamento e mantém o cache válido.
+     *
+     * @param alteracao Alteração feita sobre os itens em memória.
+     * @return Tarefa concluída quando a alteração estiver em disco.
+     */
+    protected CompletableFuture<Void> gravar(Alteracao<T> alteracao) {
+        return gravar(List.of(alteracao));
+    }
+
+    /**
+     * Persiste um lote de alterações em uma única gravação e mantém o cache válido.
+     * Deve ser chamado com a trava do FileManager; a espera pela escrita ({@link #aguardar}) deve ser feita
+     * fora dela, para que mutações concorrentes entrem no mesmo lote da gravação em grupo.
+     * <p>
+     * Se a gravação falhar, a memória tem alterações que não chegaram ao disco: o cache é invalidado e os itens
+     * são relidos do disco no próximo acesso, depois que as gravações pendentes terminarem.
+     *
+     * @param alteracoes Alterações feitas sobre os itens em memória, em ordem.
+     * @return Tarefa concluída quando as alterações estiverem em disco, ou com erro se a escrita falhar.
+     */
+    protected CompletableFuture<Void> gravar(List<Alteracao<T>> alteracoes) {
+        if (alteracoes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        gravacoesPendentes++;
+        return armazenamento.gravar(alteracoes, items.values()).whenComplete((resultado, erro) -> {
+            synchronized (this) {
+                gravacoesPendentes--;
+                gravacaoFalhou |= erro != null;
+                if (gravacoesPendentes == 0) {
+                    // Sem falhas, o disco agora reflete a memória, então o cache continua válido
+                    estadoArquivoCache = cacheAtivo && !gravacaoFalhou ? armazenamento.estado() : null;
+                    gravacaoFalhou = false;
+                }
+            }
+        });
+    }
+
+    /**
+     * Aguarda a conclusão de uma gravação e repassa a quem alterou os itens uma falha de escrita.
+     *
+     * @param gravacao Tarefa retornada por {@link #gravar}.
+     * @throws UncheckedIOException Se a escrita falhar; as alterações não estão em disco.
+     */
+    protected static void aguardar(CompletableFuture<Void> gravacao) {
+        try {
+            gravacao.join();
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof UncheckedIOException erro) {
+                throw erro;
             }
-        } catch (IOException e) {
-            e.printStackTrace();
+            if (causa instanceof IOException erro) {
+                throw new UncheckedIOException(erro);
+            }
+            throw new UncheckedIOException(new IOException("Falha ao gravar os itens", causa));
         }
-        return jsonData.toString();
     }
 
     /**
-     * Escreve a lista de itens no arquivo JSON.
+     * Retorna os itens em memória indexados pelo ID, relendo o arquivo apenas quando necessário.
+     * Sem cache, o arquivo é relido a cada chamada, como no comportamento original.
+     * Enquanto houver gravações pendentes, a memória é a versão mais recente e o arquivo não é relido.
      *
-     * @param items Lista de itens a serem salvos no arquivo.
+     * @return Mapa de itens residente em memória.
      */
-    protected void writeToFile(List<T> items) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            String json = gson.toJson(items);
-            writer.write(json);
-        } catch (IOException e) {
-            e.printStackTrace();
+    protected Map<UUID, T> carregarItens() {
+        if (gravacoesPendentes > 0) {
+            return items;  // A memória está à frente do disco até as gravações pendentes terminarem
         }
+        String estadoAtual = armazenamento.estado();
+        if (!cacheAtivo || estadoArquivoCache == null || !estadoArquivoCache.equals(estadoAtual)) {
+            Map<UUID, T> lidos = new LinkedHashMap<>();
+            for (T item : armazenamento.carregar()) {  // Lê e desserializa os itens do disco
+                lidos.put(item.getId(), item);
+            }
+            items = lidos;
+            for (Indice<T> indice : indices.values()) {  // Reconstrói os índices a partir dos itens lidos
+                indice.limpar();
+                for (T item : lidos.values()) {
+                    indice.indexar(item);
+                }
+                indice.concluirCarga();
+            }
+            estadoArquivoCache = cacheAtivo ? estadoAtual : null;
+        }
+        return items;
     }
 
     /**
@@ -71,12 +303,27 @@ public abstract class FileManager<T extends Identificavel> {
      * @param id ID do item a ser recuperado.
      * @return O item correspondente ao ID ou null se não for encontrado.
      */
-    public T getById(UUID id) {
-        items = getAll();  // Carrega os itens do arquivo
-        return items.stream()
-                .filter(item -> item.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+    public synchronized T getById(UUID id) {
+        return carregarItens().get(id);  // Carrega os itens do arquivo ou do cache
+    }
+
+    /**
+     * Recupera vários itens pelos seus IDs em uma única passada.
+     * IDs não encontrados são ignorados e a ordem dos IDs informados é mantida.
+     *
+     * @param ids IDs dos itens a serem recuperados.
+     * @return Lista com os itens encontrados.
+     */
+    public synchronized List<T> getByIds(Collection<UUID> ids) {
+        Map<UUID, T> itens = carregarItens();
+        List<T> encontrados = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            T item = itens.get(id);
+            if (item != null) {
+                encontrados.add(item);
+            }
+        }
+        return encontrados;
     }
 
     /**
@@ -84,63 +331,322 @@ public abstract class FileManager<T extends Identificavel> {
      *
      * @return Lista de todos os itens do arquivo.
      */
-    public List<T> getAll() {
-        String jsonData = readFromFile();  // Lê os dados do arquivo JSON
-        List<T> items = new ArrayList<>();  // Cria uma nova lista para armazenar os itens
+    public synchronized List<T> getAll() {
+        // Retorna uma cópia para que alterações na lista não afetem o cache
+        return new ArrayList<>(carregarItens().values());
+    }
+
+    /**
+     * Percorre os itens em um stream.
+     * Com o cache ativo, percorre uma cópia dos itens em memória; sem cache, os itens são lidos do arquivo
+     * sob demanda. O stream deve ser fechado (por exemplo, com try-with-resources) quando não for consumido até o fim.
+     *
+     * @return Stream com os itens, na ordem do arquivo.
+     */
+    public synchronized Stream<T> stream() {
+        if (cacheAtivo || gravacoesPendentes > 0) {
+            return new ArrayList<>(carregarItens().values()).stream();
+        }
+        return armazenamento.percorrer();
+    }
+
+    /**
+     * Percorre os itens projetados em um stream.
+     * Se os itens em memória estiverem atualizados, a projeção é feita a partir deles; caso contrário, o
+     * armazenamento lê os itens já projetados do disco e o cache não é carregado, de modo que uma listagem não
+     * paga pela desserialização dos itens completos. O stream deve ser fechado quando não for consumido até o fim.
+     *
+     * @param projecao Projeção a ser aplicada.
+     * @param <P>      O tipo projetado.
+     * @return Stream com os itens projetados, na ordem do arquivo.
+     */
+    public synchronized <P> Stream<P> projetar(Projecao<T, P> projecao) {
+        boolean memoriaAtualizada = gravacoesPendentes > 0
+                || (cacheAtivo && estadoArquivoCache != null && estadoArquivoCache.equals(armazenamento.estado()));
+        if (memoriaAtualizada) {
+            return new ArrayList<>(items.values()).stream().map(projecao::aPartirDe);
+        }
+        return armazenamento.projetar(projecao);
+    }
+
+    /**
+     * Recupera o primeiro item que atende ao filtro, interrompendo a leitura assim que ele é encontrado.
+     *
+     * @param filtro Condição que o item deve atender.
+     * @return O primeiro item encontrado ou null se nenhum atender ao filtro.
+     */
+    public synchronized T findFirst(Predicate<? super T> filtro) {
+        if (cacheAtivo || gravacoesPendentes > 0) {
+            for (T item : carregarItens().values()) {
+                if (filtro.test(item)) {
+                    return item;
+                }
+            }
+            return null;
+        }
+        try (Stream<T> itens = armazenamento.percorrer()) {
+            return itens.filter(filtro).findFirst().orElse(null);
+        }
+    }
+
+    /**
+     * Recupera os itens cuja chave no índice secundário informado é igual à chave procurada.
+     *
+     * @param nomeIndice Nome do índice registrado.
+     * @param chave      Chave procurada.
+     * @return Lista com os itens encontrados, na ordem em que foram indexados.
+     */
+    public synchronized List<T> findBy(String nomeIndice, Object chave) {
+        if (!(getIndice(nomeIndice) instanceof IndiceSecundario<T> indice)) {
+            throw new IllegalArgumentException("O índice não permite busca por chave: " + nomeIndice);
+        }
+        return getByIds(indice.buscar(chave));
+    }
+
+    /**
+     * Recupera o primeiro item cuja chave no índice secundário informado é igual à chave procurada.
+     *
+     * @param nomeIndice Nome do índice registrado.
+     * @param chave      Chave procurada.
+     * @return O item encontrado ou null se nenhum item possuir a chave.
+     */
+    public synchronized T findFirstBy(String nomeIndice, Object chave) {
+        List<T> encontrados = findBy(nomeIndice, chave);
+        return encontrados.isEmpty() ? null : encontrados.get(0);
+    }
+
+    /**
+     * Recupera, em ordem da chave, os itens cuja chave no índice ordenado informado está entre os limites e que
+     * atendem ao filtro, pulando os primeiros e parando ao completar a quantidade pedida.
+     * Apenas as entradas do índice dentro da faixa são visitadas, até a página estar completa.
+     *
+     * @param nomeIndice Nome do índice ordenado registrado ({@link IndiceOrdenado}).
+     * @param de         Menor chave aceita (inclusiva), ou null para não limitar.
+     * @param ate        Maior chave aceita (inclusiva), ou null para não limitar.
+     * @param filtro     Condição adicional que o item deve atender.
+     * @param inicio     Quantidade de itens encontrados a pular, a partir de 0.
+     * @param quantidade Quantidade máxima de itens retornados.
+     * @return Lista com os itens encontrados, em ordem da chave.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized List<T> findByFaixa(String nomeIndice, Object de, Object ate, Predicate<? super T> filtro,
+                                            int inicio, int quantidade) {
+        if (!(getIndice(nomeIndice) instanceof IndiceOrdenado<T, ?> indice)) {
+            throw new IllegalArgumentException("O índice não permite busca por faixa: " + nomeIndice);
+        }
+        IndiceOrdenado<T, Comparable<Object>> ordenado = (IndiceOrdenado<T, Comparable<Object>>) indice;
+        List<T> encontrados = new ArrayList<>();
+        int pular = inicio;
+        Iterator<UUID> ids = ordenado.buscarFaixa((Comparable<Object>) de, (Comparable<Object>) ate);
+        while (encontrados.size() < quantidade && ids.hasNext()) {
+            T item = items.get(ids.next());
+            if (item == null || !filtro.test(item)) {
+                continue;
+            }
+            if (pular > 0) {
+                pular--;
+            } else {
+                encontrados.add(item);
+            }
+        }
+        return encontrados;
+    }
 
-        if (jsonData != null && !jsonData.isEmpty()) {
-            items = gson.fromJson(jsonData, typeOfT);  // Desserializa o JSON diretamente na lista de T
+    /**
+     * Busca os itens que contêm todos os termos de um texto no índice textual informado, do mais relevante ao
+     * menos relevante.
+     *
+     * @param nomeIndice Nome do índice textual registrado ({@link IndiceTextual}).
+     * @param texto      Texto da busca.
+     * @param filtro     Condição adicional que o item deve atender.
+     * @param limite     Quantidade máxima de itens retornados.
+     * @return Lista com os itens encontrados, em ordem de relevância.
+     */
+    public synchronized List<T> findByTexto(String nomeIndice, String texto, Predicate<? super T> filtro, int limite) {
+        if (!(getIndice(nomeIndice) instanceof IndiceTextual<T> indice)) {
+            throw new IllegalArgumentException("O índice não permite busca textual: " + nomeIndice);
         }
-        return items;  // Retorna a lista de itens
+        return getByIds(indice.buscar(texto, id -> filtro.test(items.get(id)), limite));
+    }
+
+    /**
+     * Busca no índice de prefixos informado os itens com alguma palavra começando com o texto digitado, da menor
+     * para a maior classificação, a partir de uma classificação mínima.
+     *
+     * @param nomeIndice          Nome do índice de prefixos registrado ({@link IndicePrefixo}).
+     * @param prefixo             Texto digitado.
+     * @param classificacaoMinima Menor classificação aceita.
+     * @param filtro              Condição adicional que o item deve atender.
+     * @param limite              Quantidade máxima de itens retornados.
+     * @return Lista com os itens encontrados, em ordem de classificação.
+     */
+    public synchronized List<T> findByPrefixo(String nomeIndice, String prefixo, long classificacaoMinima,
+                                              Predicate<? super T> filtro, int limite) {
+        if (!(getIndice(nomeIndice) instanceof IndicePrefixo<T> indice)) {
+            throw new IllegalArgumentException("O índice não permite busca por prefixo: " + nomeIndice);
+        }
+        return getByIds(indice.buscar(prefixo, classificacaoMinima, id -> filtro.test(items.get(id)), limite));
     }
 
     /**
      * Salva um novo item no arquivo.
      *
      * @param item Item a ser salvo.
+     * @throws UncheckedIOException Se a gravação falhar; a memória volta a ser lida do disco no próximo acesso.
      */
     public void save(T item) {
-        items = getAll();  // Carrega os itens existentes
-        items.add(item);   // Adiciona o novo item
-        writeToFile(items); // Escreve no arquivo
+        CompletableFuture<Void> gravacao;
+        synchronized (this) {
+            items = carregarItens();  // Carrega os itens existentes
+            validarIndices(item);  // Verifica os índices únicos antes de alterar a memória
+            items.put(item.getId(), item);   // Adiciona o novo item
+            indexar(item);
+            gravacao = gravar(Alteracao.inclusao(item)); // Escreve no arquivo
+        }
+        aguardar(gravacao);
+    }
+
+    /**
+     * Salva vários itens novos com uma única gravação no arquivo.
+     *
+     * @param novos Itens a serem salvos.
+     * @throws UncheckedIOException Se a gravação falhar; a memória volta a ser lida do disco no próximo acesso.
+     */
+    public void saveAll(Collection<T> novos) {
+        CompletableFuture<Void> gravacao;
+        synchronized (this) {
+            items = carregarItens();
+            validarIndices(novos);  // Verifica o lote contra os itens salvos e entre si antes de alterar a memória
+            List<Alteracao<T>> alteracoes = new ArrayList<>(novos.size());
+            for (T item : novos) {
+                items.put(item.getId(), item);
+                indexar(item);
+                alteracoes.add(Alteracao.inclusao(item));
+            }
+            gravacao = gravar(alteracoes);
+        }
+        aguardar(gravacao);
     }
 
     /**
      * Remove um item pelo seu ID.
      *
      * @param id ID do item a ser removido.
+     * @throws UncheckedIOException Se a gravação falhar; a memória volta a ser lida do disco no próximo acesso.
      */
     public void delete(UUID id) {
-        items.removeIf(item -> item.getId().equals(id));
-        writeToFile(items); // Atualiza o arquivo
+        CompletableFuture<Void> gravacao;
+        synchronized (this) {
+            items = carregarItens();
+            items.remove(id);
+            for (Indice<T> indice : indices.values()) {
+                indice.remover(id);
+            }
+            gravacao = gravar(Alteracao.remocao(id)); // Atualiza o arquivo
+        }
+        aguardar(gravacao);
     }
 
     /**
      * Remove todos os itens do arquivo.
+     *
+     * @throws UncheckedIOException Se a gravação falhar; a memória volta a ser lida do disco no próximo acesso.
      */
     public void deleteAll() {
-        items.clear();  // Limpa a lista
-        writeToFile(items);  // Atualiza o arquivo
+        CompletableFuture<Void> gravacao;
+        synchronized (this) {
+            items = new LinkedHashMap<>();  // Limpa os itens
+            for (Indice<T> indice : indices.values()) {
+                indice.limpar();
+            }
+            gravacao = gravar(Alteracao.limpeza());  // Atualiza o arquivo
+        }
+        aguardar(gravacao);
     }
 
     /**
      * Atualiza um item existente.
      *
      * @param item Item a ser atualizado.
+     * @throws UncheckedIOException Se a gravação falhar; a memória volta a ser lida do disco no próximo acesso.
      */
     public void update(T item) {
-        // Carrega a lista de itens do arquivo
-        items = getAll();
-        // Procura pelo item na lista para atualizar
-        for (int i = 0; i < items.size(); i++) {
-            if (items.get(i).getId().equals(item.getId())) {
-                items.set(i, item);  // Atualiza o item na lista
-                break;
+        CompletableFuture<Void> gravacao = CompletableFuture.completedFuture(null);
+        synchronized (this) {
+            // Carrega a lista de itens do arquivo ou do cache
+            items = carregarItens();
+            // Atualiza o item apenas se ele já existir, mantendo sua posição
+            if (items.containsKey(item.getId())) {
+                validarIndices(item);
+                items.put(item.getId(), item);
+                indexar(item);
+                // Salva a alteração no arquivo
+                gravacao = gravar(Alteracao.atualizacao(item));
             }
         }
-        // Salva todos os itens no arquivo
-        writeToFile(items);
+        aguardar(gravacao);
     }
 
+    /**
+     * Atualiza vários itens existentes com uma única gravação no arquivo.
+     * Itens que não existem no arquivo são ignorados, como em {@link #update}.
+     *
+     * @param itens Itens a serem atualizados.
+     * @throws UncheckedIOException Se a gravação falhar; a memória volta a ser lida do disco no próximo acesso.
+     */
+    public void updateAll(Collection<T> itens) {
+        CompletableFuture<Void> gravacao;
+        synchronized (this) {
+            items = carregarItens();
+            List<T> existentes = new ArrayList<>(itens.size());
+            for (T item : itens) {
+                if (items.containsKey(item.getId())) {
+                    existentes.add(item);
+                }
+            }
+            validarIndices(existentes);
+            List<Alteracao<T>> alteracoes = new ArrayList<>(existentes.size());
+            for (T item : existentes) {
+                items.put(item.getId(), item);
+                indexar(item);
+                alteracoes.add(Alteracao.atualizacao(item));
+            }
+            gravacao = gravar(alteracoes);
+        }
+        aguardar(gravacao);
+    }
+
+    /**
+     * Verifica se o item respeita as restrições de todos os índices.
+     *
+     * @param item Item que será salvo ou atualizado.
+     */
+    private void validarIndices(T item) {
+        for (Indice<T> indice : indices.values()) {
+            indice.validar(item);
+        }
+    }
 
+    /**
+     * Verifica se um lote de itens respeita as restrições de todos os índices, incluindo chaves únicas
+     * repetidas dentro do próprio lote.
+     *
+     * @param itens Itens que serão salvos ou atualizados juntos.
+     */
+    private void validarIndices(Collection<T> itens) {
+        for (Indice<T> indice : indices.values()) {
+            indice.validar(itens);
+        }
+    }
+
+    /**
+     * Atualiza a entrada do item em todos os índices.
+     *
+     * @param item Item salvo ou atualizado.
+     */
+    private void indexar(T item) {
+        for (Indice<T> indice : indices.values()) {
+            indice.indexar(item);
+        }
+    }
 }
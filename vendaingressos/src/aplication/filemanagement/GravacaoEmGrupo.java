@@ -0,0 +1,122 @@
+package aplication.filemanagement;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agrupa gravações feitas em um curto intervalo de tempo (group commit).
+ * <p>
+ * Cada pedido de gravação entra em uma fila e recebe uma tarefa que é concluída quando ele estiver em disco.
+ * A primeira gravação de um lote agenda a escrita para depois de uma janela de alguns milissegundos; os pedidos
+ * que chegam nesse intervalo são escritos juntos, com uma única sincronização com o disco.
+ * Os lotes de uma mesma instância são sempre escritos na ordem em que os pedidos chegaram.
+ *
+ * @param <P> O tipo de pedido de gravação.
+ */
+final class GravacaoEmGrupo<P> {
+    /** Janela padrão, em milissegundos, durante a qual os pedidos são acumulados em um lote. */
+    static final long JANELA_PADRAO_MILLIS = 2;
+
+    /** Executor compartilhado que escreve os lotes de todos os arquivos. */
+    private static final ScheduledExecutorService ESCRITOR = Executors.newScheduledThreadPool(2, tarefa -> {
+        Thread thread = new Thread(tarefa, "gravacao-em-grupo");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Escreve um lote de pedidos em disco.
+     *
+     * @param <P> O tipo de pedido de gravação.
+     */
+    interface Escritor<P> {
+        /**
+         * Escreve os pedidos do lote, na ordem em que foram feitos, e só retorna quando eles estiverem em disco.
+         *
+         * @param pedidos Pedidos do lote (nunca vazio).
+         * @throws IOException Se a escrita falhar.
+         */
+        void escrever(List<P> pedidos) throws IOException;
+    }
+
+    private final Escritor<P> escritor;
+    private final long janelaMillis;
+    private final Object trava = new Object(); // Protege a fila de pedidos
+    private final Object travaEscrita = new Object(); // Garante um lote escrito por vez, em ordem
+    private List<P> pedidos = new ArrayList<>();
+    private List<CompletableFuture<Void>> aguardando = new ArrayList<>();
+    private boolean agendado; // Se já existe uma escrita agendada para o lote atual
+
+    /**
+     * Construtor da classe GravacaoEmGrupo com a janela padrão.
+     *
+     * @param escritor Responsável por escrever cada lote.
+     */
+    GravacaoEmGrupo(Escritor<P> escritor) {
+        this(escritor, JANELA_PADRAO_MILLIS);
+    }
+
+    /**
+     * Construtor da classe GravacaoEmGrupo.
+     *
+     * @param escritor     Responsável por escrever cada lote.
+     * @param janelaMillis Tempo, em milissegundos, durante o qual os pedidos são acumulados.
+     */
+    GravacaoEmGrupo(Escritor<P> escritor, long janelaMillis) {
+        this.escritor = escritor;
+        this.janelaMillis = janelaMillis;
+    }
+
+    /**
+     * Adiciona um pedido ao lote atual.
+     *
+     * @param pedido Pedido de gravação.
+     * @return Tarefa concluída quando o pedido estiver em disco, ou com erro se a escrita falhar.
+     */
+    CompletableFuture<Void> agendar(P pedido) {
+        CompletableFuture<Void> gravacao = new CompletableFuture<>();
+        synchronized (trava) {
+            pedidos.add(pedido);
+            aguardando.add(gravacao);
+            if (!agendado) {
+                agendado = true;
+                ESCRITOR.schedule(this::escreverLote, janelaMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return gravacao;
+    }
+
+    /**
+     * Retira os pedidos acumulados e os escreve, concluindo as tarefas de quem os aguarda.
+     */
+    private void escreverLote() {
+        synchronized (travaEscrita) {
+            List<P> lote;
+            List<CompletableFuture<Void>> gravacoes;
+            synchronized (trava) {
+                lote = pedidos;
+                gravacoes = aguardando;
+                pedidos = new ArrayList<>();
+                aguardando = new ArrayList<>();
+                agendado = false;
+            }
+            if (lote.isEmpty()) {
+                return;
+            }
+            try {
+                escritor.escrever(lote);
+                gravacoes.forEach(gravacao -> gravacao.complete(null));
+            } catch (IOException e) {
+                gravacoes.forEach(gravacao -> gravacao.completeExceptionally(new UncheckedIOException(e)));
+            } catch (RuntimeException e) {
+                gravacoes.forEach(gravacao -> gravacao.completeExceptionally(e));
+            }
+        }
+    }
+}
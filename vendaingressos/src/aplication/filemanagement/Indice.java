@@ -0,0 +1,62 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Índice mantido por um FileManager em sincronia com os itens em memória.
+ * O FileManager avisa o índice sempre que um item é salvo, atualizado ou removido,
+ * e o reconstrói do zero quando os itens são relidos do disco.
+ *
+ * @param <T> O tipo de item indexado.
+ */
+public interface Indice<T extends Identificavel> {
+
+    /**
+     * Verifica se o item pode ser indexado sem violar alguma restrição do índice.
+     *
+     * @param item Item que será salvo ou atualizado.
+     * @throws IllegalArgumentException Se o item violar uma restrição do índice.
+     */
+    default void validar(T item) {
+    }
+
+    /**
+     * Verifica se um lote de itens pode ser indexado de uma vez, inclusive sem conflitos entre os próprios itens.
+     *
+     * @param itens Itens que serão salvos ou atualizados juntos.
+     * @throws IllegalArgumentException Se algum item violar uma restrição do índice.
+     */
+    default void validar(Collection<T> itens) {
+        for (T item : itens) {
+            validar(item);
+        }
+    }
+
+    /**
+     * Indexa um item, substituindo a entrada anterior do mesmo ID, se houver.
+     *
+     * @param item Item a ser indexado.
+     */
+    void indexar(T item);
+
+    /**
+     * Remove do índice a entrada do item com o ID informado.
+     *
+     * @param id ID do item removido.
+     */
+    void remover(UUID id);
+
+    /**
+     * Remove todas as entradas do índice.
+     */
+    void limpar();
+
+    /**
+     * Avisa que todos os itens relidos do disco foram indexados, após {@link #limpar()}.
+     * Índices que adiam a organização das entradas podem fazê-la aqui, uma única vez para a carga inteira.
+     */
+    default void concluirCarga() {
+    }
+}
@@ -0,0 +1,130 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Índice secundário ordenado, que mantém as chaves de um campo em uma árvore ({@link TreeMap}).
+ * <p>
+ * Além da busca por chave, permite percorrer em ordem os itens cujas chaves estão em uma faixa, como eventos
+ * entre duas datas ou até um preço, em O(log n + k): a árvore localiza o início da faixa e só as k entradas
+ * dentro dela são visitadas. Itens com a mesma chave ficam na ordem em que foram indexados.
+ * <p>
+ * Como no {@link IndiceSecundario}, a chave atual de cada item é guardada pelo índice, o que permite reindexar
+ * corretamente mesmo quando o próprio objeto em memória foi alterado antes da atualização.
+ *
+ * @param <T> O tipo de item indexado.
+ * @param <K> O tipo da chave, com ordem natural.
+ */
+public class IndiceOrdenado<T extends Identificavel, K extends Comparable<? super K>> implements Indice<T> {
+    private final Function<T, K> extrator; // Função que extrai a chave de um item
+    private final NavigableMap<K, Set<UUID>> idsPorChave = new TreeMap<>();
+    private final Map<UUID, K> chavePorId = new HashMap<>();
+
+    /**
+     * Construtor da classe IndiceOrdenado.
+     *
+     * @param extrator Função que extrai a chave de um item; chaves nulas não são indexadas.
+     */
+    public IndiceOrdenado(Function<T, K> extrator) {
+        this.extrator = extrator;
+    }
+
+    /**
+     * Percorre, em ordem crescente da chave, os IDs dos itens com chave entre os limites informados.
+     * O iterador é uma visão do índice e deve ser consumido antes da próxima alteração dos itens.
+     *
+     * @param de  Menor chave aceita (inclusiva), ou null para começar na primeira chave.
+     * @param ate Maior chave aceita (inclusiva), ou null para terminar na última chave.
+     * @return IDs dos itens na faixa, em ordem da chave.
+     */
+    public Iterator<UUID> buscarFaixa(K de, K ate) {
+        if (de != null && ate != null && de.compareTo(ate) > 0) {
+            return Collections.emptyIterator(); // O TreeMap rejeitaria os limites invertidos
+        }
+        NavigableMap<K, Set<UUID>> faixa = idsPorChave;
+        if (de != null) {
+            faixa = faixa.tailMap(de, true);
+        }
+        if (ate != null) {
+            faixa = faixa.headMap(ate, true);
+        }
+        return new IteradorFaixa(faixa.values().iterator());
+    }
+
+    @Override
+    public void indexar(T item) {
+        K chave = extrator.apply(item);
+        UUID id = item.getId();
+        K chaveAnterior = chavePorId.get(id);
+        if (chaveAnterior != null && Objects.equals(chaveAnterior, chave)) {
+            return;
+        }
+        remover(id);
+        if (chave == null) {
+            return;
+        }
+        idsPorChave.computeIfAbsent(chave, k -> new LinkedHashSet<>()).add(id);
+        chavePorId.put(id, chave);
+    }
+
+    @Override
+    public void remover(UUID id) {
+        K chave = chavePorId.remove(id);
+        if (chave == null) {
+            return;
+        }
+        Set<UUID> ids = idsPorChave.get(chave);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsPorChave.remove(chave);
+            }
+        }
+    }
+
+    @Override
+    public void limpar() {
+        idsPorChave.clear();
+        chavePorId.clear();
+    }
+
+    /**
+     * Iterador que percorre os IDs de cada chave da faixa, em ordem, sem calcular o tamanho da faixa.
+     */
+    private static class IteradorFaixa implements Iterator<UUID> {
+        private final Iterator<Set<UUID>> grupos; // IDs de cada chave da faixa
+        private Iterator<UUID> atual = Collections.emptyIterator();
+
+        IteradorFaixa(Iterator<Set<UUID>> grupos) {
+            this.grupos = grupos;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!atual.hasNext() && grupos.hasNext()) {
+                atual = grupos.next().iterator();
+            }
+            return atual.hasNext();
+        }
+
+        @Override
+        public UUID next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return atual.next();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import aplication.util.NormalizacaoTexto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Índice de prefixos para o autocompletar: encontra os itens cujo texto tem alguma palavra começando com o que
+ * foi digitado, sem diferenciar maiúsculas nem acentos.
+ * <p>
+ * Cada item gera uma chave para cada palavra do texto (exceto as palavras vazias), formada por essa palavra e
+ * pelas seguintes: "Festival de Jazz" gera "festival de jazz" e "jazz". As chaves ficam em um array ordenado, e
+ * as que começam com o texto digitado formam uma faixa contínua, localizada por duas buscas binárias. Na faixa,
+ * são escolhidos os itens de menor classificação (por exemplo, a data do evento) a partir de um mínimo, mantendo
+ * apenas os melhores em um array do tamanho do limite pedido. A classificação de cada chave fica em um array de
+ * primitivos ao lado das chaves, e a faixa é percorrida sem visitar as strings nem os itens recusados.
+ * <p>
+ * Itens indexados ou reindexados entram em uma lista de pendentes. Na carga de todos os itens, as pendentes são
+ * ordenadas de uma só vez ao fim da carga ({@link #concluirCarga}); depois, na próxima busca, poucas pendentes são
+ * inseridas nas suas posições, e muitas (como em um {@code saveAll}) são intercaladas com o array. Itens
+ * removidos ficam marcados e são ignorados pelas buscas; as suas chaves são descartadas na próxima intercalação.
+ *
+ * @param <T> O tipo de item indexado.
+ */
+public class IndicePrefixo<T extends Identificavel> implements Indice<T> {
+
+    /** Quantidade máxima de chaves pendentes inseridas uma a uma; acima dela, as pendentes são intercaladas. */
+    private static final int MAXIMO_INSERCOES = 64;
+
+    /** Maior caractere possível, usado para fechar a faixa das chaves que começam com o texto digitado. */
+    private static final char ULTIMO_CARACTERE = Character.MAX_VALUE;
+
+    /**
+     * Item indexado. As chaves apontam para o documento, e não para o ID, para que as chaves de uma versão
+     * anterior do item sejam reconhecidas como removidas.
+     */
+    private static final class Documento {
+        private final UUID id;
+        private final long classificacao;
+        private final int chaves; // Quantidade de chaves geradas pelo item
+        private boolean removido;
+
+        Documento(UUID id, long classificacao, int chaves) {
+            this.id = id;
+            this.classificacao = classificacao;
+            this.chaves = chaves;
+        }
+    }
+
+    /**
+     * Chave ainda não intercalada no array ordenado.
+     */
+    private record Entrada(String chave, Documento documento) {
+    }
+
+    private final Function<T, String> extrator; // Função que extrai o texto de um item
+    private final Function<T, Long> classificador; // Função que extrai a classificação de um item
+    private final Map<UUID, Documento> documentoPorId = new HashMap<>();
+    private String[] chaves = new String[0]; // Chaves em ordem alfabética
+    private Documento[] documentos = new Documento[0]; // Documento de cada chave
+    private long[] classificacoes = new long[0]; // Classificação do documento de cada chave
+    private int tamanho;
+    private final List<Entrada> pendentes = new ArrayList<>();
+    private int removidos; // Chaves de documentos removidos que ainda estão no array ordenado
+
+    /**
+     * Construtor da classe IndicePrefixo.
+     *
+     * @param extrator      Função que extrai o texto de um item; textos nulos não são indexados.
+     * @param classificador Função que extrai a classificação de um item, da qual os menores valores são os
+     *                      melhores; itens sem classificação não são indexados.
+     */
+    public IndicePrefixo(Function<T, String> extrator, Function<T, Long> classificador) {
+        this.extrator = extrator;
+        this.classificador = classificador;
+    }
+
+    /**
+     * Busca os itens com alguma palavra começando com o texto digitado, da menor para a maior classificação.
+     * Com várias palavras digitadas, a última pode estar incompleta e as anteriores devem aparecer em sequência.
+     *
+     * @param prefixo             Texto digitado.
+     * @param classificacaoMinima Menor classificação aceita, como o momento atual para eventos futuros.
+     * @param aceito              Condição adicional sobre o ID do item.
+     * @param limite              Quantidade máxima de itens retornados.
+     * @return IDs dos itens encontrados, em ordem de classificação; vazia se o texto não tiver palavras.
+     */
+    public List<UUID> buscar(String prefixo, long classificacaoMinima, Predicate<UUID> aceito, int limite) {
+        String procurado = String.join(" ", NormalizacaoTexto.palavras(prefixo));
+        if (procurado.isEmpty() || limite <= 0 || documentoPorId.isEmpty()) {
+            return List.of();
+        }
+        consolidar();
+
+        Documento[] melhores = new Documento[Math.min(limite, documentoPorId.size())];
+        int encontrados = 0;
+        int fim = primeiraChave(procurado + ULTIMO_CARACTERE);
+        for (int i = primeiraChave(procurado); i < fim; i++) {
+            long classificacao = classificacoes[i];
+            if (classificacao < classificacaoMinima) {
+                continue;
+            }
+            if (encontrados == melhores.length && classificacao >= melhores[encontrados - 1].classificacao) {
+                continue; // Não supera o pior dos melhores
+            }
+            Documento documento = documentos[i];
+            if (documento.removido || contem(melhores, encontrados, documento) || !aceito.test(documento.id)) {
+                continue; // Removido, já encontrado por outra palavra, ou recusado pelo filtro
+            }
+            // Inserção ordenada: o array é pequeno, do tamanho da lista de sugestões
+            int posicao = Math.min(encontrados, melhores.length - 1);
+            while (posicao > 0 && melhores[posicao - 1].classificacao > classificacao) {
+                melhores[posicao] = melhores[posicao - 1];
+                posicao--;
+            }
+            melhores[posicao] = documento;
+            encontrados = Math.min(encontrados + 1, melhores.length);
+        }
+
+        List<UUID> ids = new ArrayList<>(encontrados);
+        for (int i = 0; i < encontrados; i++) {
+            ids.add(melhores[i].id);
+        }
+        return ids;
+    }
+
+    @Override
+    public void indexar(T item) {
+        remover(item.getId());
+        String texto = extrator.apply(item);
+        Long classificacao = classificador.apply(item);
+        if (texto == null || classificacao == null) {
+            return;
+        }
+        List<String> palavras = NormalizacaoTexto.palavras(texto);
+        List<String> chavesDoItem = new ArrayList<>(palavras.size());
+        for (int i = 0; i < palavras.size(); i++) {
+            if (i == 0 || !NormalizacaoTexto.isPalavraVazia(palavras.get(i))) {
+                chavesDoItem.add(String.join(" ", palavras.subList(i, palavras.size())));
+            }
+        }
+        if (chavesDoItem.isEmpty()) {
+            return;
+        }
+        Documento documento = new Documento(item.getId(), classificacao, chavesDoItem.size());
+        documentoPorId.put(item.getId(), documento);
+        for (String chave : chavesDoItem) {
+            pendentes.add(new Entrada(chave, documento));
+        }
+    }
+
+    @Override
+    public void remover(UUID id) {
+        Documento documento = documentoPorId.remove(id);
+        if (documento != null) {
+            documento.removido = true;
+            removidos += documento.chaves;
+        }
+    }
+
+    @Override
+    public void limpar() {
+        documentoPorId.clear();
+        chaves = new String[0];
+        documentos = new Documento[0];
+        classificacoes = new long[0];
+        tamanho = 0;
+        pendentes.clear();
+        removidos = 0;
+    }
+
+    @Override
+    public void concluirCarga() {
+        consolidar();
+    }
+
+    /**
+     * Leva as chaves pendentes para o array ordenado: insere poucas nas suas posições, ou intercala muitas de uma
+     * vez, descartando as chaves de documentos removidos. A intercalação também é feita quando as chaves removidas
+     * passam a ser metade do array.
+     */
+    private void consolidar() {
+        if (removidos > tamanho / 2 || pendentes.size() > MAXIMO_INSERCOES) {
+            intercalar();
+            return;
+        }
+        for (Entrada entrada : pendentes) {
+            if (!entrada.documento().removido) {
+                inserir(entrada);
+            }
+        }
+        pendentes.clear();
+    }
+
+    /**
+     * Insere uma chave na sua posição do array ordenado, deslocando as seguintes.
+     *
+     * @param entrada Chave inserida e o seu documento.
+     */
+    private void inserir(Entrada entrada) {
+        if (tamanho == chaves.length) {
+            int capacidade = Math.max(16, tamanho + (tamanho >> 1));
+            chaves = Arrays.copyOf(chaves, capacidade);
+            documentos = Arrays.copyOf(documentos, capacidade);
+            classificacoes = Arrays.copyOf(classificacoes, capacidade);
+        }
+        int posicao = primeiraChave(entrada.chave());
+        System.arraycopy(chaves, posicao, chaves, posicao + 1, tamanho - posicao);
+        System.arraycopy(documentos, posicao, documentos, posicao + 1, tamanho - posicao);
+        System.arraycopy(classificacoes, posicao, classificacoes, posicao + 1, tamanho - posicao);
+        chaves[posicao] = entrada.chave();
+        documentos[posicao] = entrada.documento();
+        classificacoes[posicao] = entrada.documento().classificacao;
+        tamanho++;
+    }
+
+    /**
+     * Ordena as chaves pendentes e as intercala com o array ordenado em arrays novos, descartando as chaves de
+     * documentos removidos.
+     */
+    private void intercalar() {
+        pendentes.sort(Comparator.comparing(Entrada::chave));
+        int total = tamanho + pendentes.size();
+        String[] novasChaves = new String[total];
+        Documento[] novosDocumentos = new Documento[total];
+        long[] novasClassificacoes = new long[total];
+        int novoTamanho = 0;
+        int i = 0;
+        int j = 0;
+        while (i < tamanho || j < pendentes.size()) {
+            boolean doArray = j == pendentes.size() || (i < tamanho && chaves[i].compareTo(pendentes.get(j).chave()) <= 0);
+            String chave = doArray ? chaves[i] : pendentes.get(j).chave();
+            Documento documento = doArray ? documentos[i++] : pendentes.get(j++).documento();
+            if (!documento.removido) {
+                novasChaves[novoTamanho] = chave;
+                novosDocumentos[novoTamanho] = documento;
+                novasClassificacoes[novoTamanho] = documento.classificacao;
+                novoTamanho++;
+            }
+        }
+        chaves = novasChaves;
+        documentos = novosDocumentos;
+        classificacoes = novasClassificacoes;
+        tamanho = novoTamanho;
+        pendentes.clear();
+        removidos = 0;
+    }
+
+    /**
+     * Localiza, por busca binária, a primeira chave maior ou igual à procurada.
+     *
+     * @param procurado Chave procurada.
+     * @return Posição da primeira chave maior ou igual, ou o tamanho se não houver.
+     */
+    private int primeiraChave(String procurado) {
+        int inicio = 0;
+        int fim = tamanho;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (chaves[meio].compareTo(procurado) < 0) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Verifica se um documento já está entre os encontrados.
+     *
+     * @param melhores    Documentos encontrados.
+     * @param encontrados Quantidade de documentos encontrados.
+     * @param documento   Documento procurado.
+     * @return true se o documento já foi encontrado.
+     */
+    private static boolean contem(Documento[] melhores, int encontrados, Documento documento) {
+        for (int i = 0; i < encontrados; i++) {
+            if (melhores[i] == documento) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
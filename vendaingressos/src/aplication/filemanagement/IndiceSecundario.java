@@ -0,0 +1,132 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Índice secundário por hash, que associa o valor de um campo aos IDs dos itens que o possuem.
+ * Pode ser único (no máximo um item por valor) ou multivalorado.
+ * <p>
+ * A chave atual de cada item é guardada pelo índice, o que permite reindexar corretamente
+ * mesmo quando o próprio objeto em memória foi alterado antes da atualização.
+ *
+ * @param <T> O tipo de item indexado.
+ */
+public class IndiceSecundario<T extends Identificavel> implements Indice<T> {
+    private final String nome; // Nome do índice, usado nas mensagens de erro
+    private final Function<T, ?> extrator; // Função que extrai a chave de um item
+    private final boolean unico; // Se true, cada chave pertence a no máximo um item
+    private final Map<Object, Set<UUID>> idsPorChave = new HashMap<>();
+    private final Map<UUID, Object> chavePorId = new HashMap<>();
+
+    /**
+     * Construtor da classe IndiceSecundario.
+     *
+     * @param nome     Nome do índice.
+     * @param extrator Função que extrai a chave de um item; chaves nulas não são indexadas.
+     * @param unico    true se cada chave pode pertencer a apenas um item.
+     */
+    public IndiceSecundario(String nome, Function<T, ?> extrator, boolean unico) {
+        this.nome = nome;
+        this.extrator = extrator;
+        this.unico = unico;
+    }
+
+    /**
+     * Indica se o índice é único.
+     *
+     * @return true se cada chave pertence a no máximo um item.
+     */
+    public boolean isUnico() {
+        return unico;
+    }
+
+    /**
+     * Retorna os IDs dos itens associados a uma chave.
+     *
+     * @param chave Valor procurado.
+     * @return Conjunto (somente leitura) com os IDs, na ordem em que foram indexados.
+     */
+    public Set<UUID> buscar(Object chave) {
+        Set<UUID> ids = idsPorChave.get(chave);
+        return ids != null ? Collections.unmodifiableSet(ids) : Collections.emptySet();
+    }
+
+    @Override
+    public void validar(T item) {
+        if (!unico) {
+            return;
+        }
+        Object chave = extrator.apply(item);
+        Set<UUID> ids = chave != null ? idsPorChave.get(chave) : null;
+        if (ids != null && !ids.isEmpty() && !ids.contains(item.getId())) {
+            throw new IllegalArgumentException("Valor duplicado para o índice único '" + nome + "': " + chave);
+        }
+    }
+
+    @Override
+    public void validar(Collection<T> itens) {
+        Map<Object, UUID> idPorChaveNoLote = new HashMap<>();
+        for (T item : itens) {
+            validar(item);
+            Object chave = unico ? extrator.apply(item) : null;
+            if (chave == null) {
+                continue;
+            }
+            UUID anterior = idPorChaveNoLote.putIfAbsent(chave, item.getId());
+            if (anterior != null && !anterior.equals(item.getId())) {
+                // O índice manteria só o primeiro, mas os dois chegariam ao disco
+                throw new IllegalArgumentException("Valor duplicado no lote para o índice único '" + nome + "': " + chave);
+            }
+        }
+    }
+
+    @Override
+    public void indexar(T item) {
+        Object chave = extrator.apply(item);
+        UUID id = item.getId();
+        Object chaveAnterior = chavePorId.get(id);
+        if (chaveAnterior != null && Objects.equals(chaveAnterior, chave)) {
+            return;
+        }
+        remover(id);
+        if (chave == null) {
+            return;
+        }
+        Set<UUID> ids = idsPorChave.computeIfAbsent(chave, k -> new LinkedHashSet<>());
+        if (unico && !ids.isEmpty()) {
+            return; // Dados antigos com valores repetidos: mantém o primeiro item
+        }
+        ids.add(id);
+        chavePorId.put(id, chave);
+    }
+
+    @Override
+    public void remover(UUID id) {
+        Object chave = chavePorId.remove(id);
+        if (chave == null) {
+            return;
+        }
+        Set<UUID> ids = idsPorChave.get(chave);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsPorChave.remove(chave);
+            }
+        }
+    }
+
+    @Override
+    public void limpar() {
+        idsPorChave.clear();
+        chavePorId.clear();
+    }
+}
@@ -0,0 +1,263 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import aplication.util.NormalizacaoTexto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Índice invertido para busca textual: associa cada termo ({@link NormalizacaoTexto#tokenizar}) aos itens em
+ * que ele aparece.
+ * <p>
+ * Cada item indexado recebe um número de documento crescente, e as postagens de cada termo guardam os números
+ * dos documentos em ordem, em arrays de inteiros, junto com o peso do termo no documento (a soma dos pesos dos
+ * campos em que ele aparece, uma vez por ocorrência). Uma busca com vários termos retorna os itens que contêm
+ * todos eles: percorre as postagens do termo mais raro e procura cada documento nas demais por busca exponencial,
+ * avançando sempre a partir da última posição encontrada.
+ * <p>
+ * Os itens encontrados são ordenados pela relevância: a soma, para cada termo, do peso do termo no documento
+ * multiplicado pela raridade do termo (quanto menos documentos o contêm, maior). Apenas os melhores resultados
+ * são mantidos, em um heap do tamanho do limite pedido; com o heap cheio, um documento só é considerado se
+ * superar a relevância do pior deles, o que descarta a maior parte das postagens de um termo comum com uma
+ * única comparação.
+ * <p>
+ * Atualizar um item reindexa o item com um novo número de documento; o número antigo fica marcado como removido
+ * e é descartado pelas buscas. Quando os removidos passam a ser maioria, as postagens são compactadas.
+ *
+ * @param <T> O tipo de item indexado.
+ */
+public class IndiceTextual<T extends Identificavel> implements Indice<T> {
+    /** Quantidade mínima de documentos removidos para compensar uma compactação. */
+    private static final int MINIMO_COMPACTACAO = 1024;
+
+    /**
+     * Campo de texto indexado.
+     *
+     * @param extrator Função que extrai o texto do item; textos nulos não são indexados.
+     * @param peso     Peso de cada ocorrência de um termo no campo.
+     * @param <T>      O tipo de item indexado.
+     */
+    public record Campo<T>(Function<T, String> extrator, int peso) {
+    }
+
+    /**
+     * Documento encontrado por uma busca e a sua relevância.
+     */
+    private record Candidato(int documento, double relevancia) {
+    }
+
+    /** Ordem do pior para o melhor candidato; em caso de empate, documentos mais antigos são melhores. */
+    private static final Comparator<Candidato> PIOR_PRIMEIRO = Comparator.comparingDouble(Candidato::relevancia)
+            .thenComparing(Comparator.comparingInt(Candidato::documento).reversed());
+
+    /**
+     * Postagens de um termo: os documentos que o contêm, em ordem crescente, e o peso do termo em cada um.
+     */
+    private static final class Postagens {
+        private int[] documentos = new int[4];
+        private int[] pesos = new int[4];
+        private int tamanho;
+
+        void adicionar(int documento, int peso) {
+            if (tamanho == documentos.length) {
+                documentos = Arrays.copyOf(documentos, tamanho * 2);
+                pesos = Arrays.copyOf(pesos, tamanho * 2);
+            }
+            documentos[tamanho] = documento;
+            pesos[tamanho] = peso;
+            tamanho++;
+        }
+
+        /**
+         * Procura um documento a partir de uma posição, com saltos que dobram de tamanho até ultrapassá-lo e
+         * uma busca binária no último salto. Como as buscas avançam pela lista, os saltos costumam ser curtos.
+         *
+         * @param documento Documento procurado.
+         * @param inicio    Posição a partir da qual procurar.
+         * @return A posição do documento, ou {@code -(ponto de inserção) - 1} se ele não estiver na lista.
+         */
+        int procurar(int documento, int inicio) {
+            int salto = 1;
+            while (inicio + salto < tamanho && documentos[inicio + salto] < documento) {
+                salto <<= 1;
+            }
+            return Arrays.binarySearch(documentos, inicio + (salto >> 1), Math.min(inicio + salto + 1, tamanho), documento);
+        }
+    }
+
+    private final List<Campo<T>> campos;
+    private final Map<String, Postagens> postagensPorTermo = new HashMap<>();
+    private final Map<UUID, Integer> documentoPorId = new HashMap<>();
+    private final List<UUID> idPorDocumento = new ArrayList<>(); // null nos documentos removidos
+    private int removidos; // Documentos removidos que ainda aparecem nas postagens
+
+    /**
+     * Construtor da classe IndiceTextual.
+     *
+     * @param campos Campos de texto indexados, com os seus pesos.
+     */
+    public IndiceTextual(List<Campo<T>> campos) {
+        this.campos = List.copyOf(campos);
+    }
+
+    /**
+     * Busca os itens que contêm todos os termos do texto, do mais relevante ao menos relevante.
+     *
+     * @param texto   Texto da busca; palavras vazias e pontuação são ignoradas.
+     * @param aceito  Condição adicional sobre o ID do item, verificada antes da relevância.
+     * @param limite  Quantidade máxima de itens retornados.
+     * @return IDs dos itens encontrados, em ordem de relevância; vazia se o texto não tiver termos.
+     */
+    public List<UUID> buscar(String texto, Predicate<UUID> aceito, int limite) {
+        Set<String> termos = new LinkedHashSet<>(NormalizacaoTexto.tokenizar(texto));
+        if (termos.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        List<Postagens> listas = new ArrayList<>(termos.size());
+        for (String termo : termos) {
+            Postagens postagens = postagensPorTermo.get(termo);
+            if (postagens == null) {
+                return List.of(); // Algum termo não aparece em nenhum item
+            }
+            listas.add(postagens);
+        }
+        listas.sort(Comparator.comparingInt(postagens -> postagens.tamanho)); // Do termo mais raro ao mais comum
+
+        double total = documentoPorId.size();
+        double[] raridades = new double[listas.size()];
+        for (int i = 0; i < raridades.length; i++) {
+            // As postagens podem incluir documentos removidos até a compactação; a diferença é pequena
+            raridades[i] = Math.log(1 + total / listas.get(i).tamanho);
+        }
+
+        int[] cursores = new int[listas.size()]; // Posição a partir da qual procurar em cada lista
+        PriorityQueue<Candidato> melhores = new PriorityQueue<>(PIOR_PRIMEIRO);
+        double relevanciaMinima = -1; // Relevância do pior dos melhores, quando o heap está cheio
+        Postagens menor = listas.get(0);
+        proximo:
+        for (int k = 0; k < menor.tamanho; k++) {
+            int documento = menor.documentos[k];
+            double relevancia = menor.pesos[k] * raridades[0];
+            for (int j = 1; j < listas.size(); j++) {
+                Postagens outra = listas.get(j);
+                int posicao = outra.procurar(documento, cursores[j]);
+                if (posicao < 0) {
+                    cursores[j] = -posicao - 1;
+                    continue proximo;
+                }
+                cursores[j] = posicao + 1;
+                relevancia += outra.pesos[posicao] * raridades[j];
+            }
+            // Os documentos são visitados em ordem crescente: um empate com o pior dos melhores perde para ele
+            if (relevancia <= relevanciaMinima) {
+                continue;
+            }
+            UUID id = idPorDocumento.get(documento);
+            if (id == null || !aceito.test(id)) {
+                continue; // Documento removido ou recusado pelo filtro
+            }
+            melhores.add(new Candidato(documento, relevancia));
+            if (melhores.size() > limite) {
+                melhores.poll();
+            }
+            if (melhores.size() == limite) {
+                relevanciaMinima = melhores.peek().relevancia();
+            }
+        }
+
+        UUID[] encontrados = new UUID[melhores.size()];
+        for (int i = encontrados.length - 1; i >= 0; i--) {
+            encontrados[i] = idPorDocumento.get(melhores.poll().documento());
+        }
+        return Arrays.asList(encontrados);
+    }
+
+    @Override
+    public void indexar(T item) {
+        remover(item.getId());
+        Map<String, Integer> pesos = new HashMap<>();
+        for (Campo<T> campo : campos) {
+            for (String termo : NormalizacaoTexto.tokenizar(campo.extrator().apply(item))) {
+                pesos.merge(termo, campo.peso(), Integer::sum);
+            }
+        }
+        if (pesos.isEmpty()) {
+            return;
+        }
+        int documento = idPorDocumento.size();
+        idPorDocumento.add(item.getId());
+        documentoPorId.put(item.getId(), documento);
+        for (Map.Entry<String, Integer> entrada : pesos.entrySet()) {
+            postagensPorTermo.computeIfAbsent(entrada.getKey(), termo -> new Postagens()).adicionar(documento, entrada.getValue());
+        }
+    }
+
+    @Override
+    public void remover(UUID id) {
+        Integer documento = documentoPorId.remove(id);
+        if (documento == null) {
+            return;
+        }
+        idPorDocumento.set(documento, null);
+        removidos++;
+        if (removidos > MINIMO_COMPACTACAO && removidos > documentoPorId.size()) {
+            compactar();
+        }
+    }
+
+    @Override
+    public void limpar() {
+        postagensPorTermo.clear();
+        documentoPorId.clear();
+        idPorDocumento.clear();
+        removidos = 0;
+    }
+
+    /**
+     * Renumera os documentos válidos e remove das postagens os documentos removidos.
+     * Os números novos mantêm a ordem dos antigos, então as postagens continuam ordenadas.
+     */
+    private void compactar() {
+        int[] novoNumero = new int[idPorDocumento.size()];
+        List<UUID> validos = new ArrayList<>(documentoPorId.size());
+        for (int documento = 0; documento < idPorDocumento.size(); documento++) {
+            UUID id = idPorDocumento.get(documento);
+            novoNumero[documento] = id != null ? validos.size() : -1;
+            if (id != null) {
+                documentoPorId.put(id, validos.size());
+                validos.add(id);
+            }
+        }
+        Iterator<Postagens> iterador = postagensPorTermo.values().iterator();
+        while (iterador.hasNext()) {
+            Postagens postagens = iterador.next();
+            int mantidos = 0;
+            for (int k = 0; k < postagens.tamanho; k++) {
+                int numero = novoNumero[postagens.documentos[k]];
+                if (numero >= 0) {
+                    postagens.documentos[mantidos] = numero;
+                    postagens.pesos[mantidos] = postagens.pesos[k];
+                    mantidos++;
+                }
+            }
+            postagens.tamanho = mantidos;
+            if (mantidos == 0) {
+                iterador.remove(); // Termo que só aparecia em documentos removidos
+            }
+        }
+        idPorDocumento.clear();
+        idPorDocumento.addAll(validos);
+        removidos = 0;
+    }
+}
@@ -7,15 +7,30 @@ import java.util.List;
 /**
  * Gerenciador de arquivos para o tipo Ingresso.
  * Esta classe herda de FileManager e é especializada para manipular dados do tipo Ingresso.
+ * Por ser uma das entidades de maior volume, usa por padrão o arquivo de registros de largura fixa, em que uma
+ * inclusão é acrescentada no final e uma atualização, como a desativação, sobrescreve apenas o seu registro.
  */
 public class IngressoFileManager extends FileManager<Ingresso> {
+    /** Índice dos ingressos pelo ID do usuário dono. */
+    public static final String INDICE_USUARIO = "usuario";
 
     /**
      * Construtor da classe IngressoFileManager.
-     * Define o caminho do arquivo de ingressos e o tipo concreto de lista de ingressos.
+     * Define o caminho do arquivo de ingressos, o tipo concreto de lista de ingressos e o armazenamento configurado.
      */
     public IngressoFileManager() {
-        // Passa o tipo específico para o construtor da classe base
-        super("src/aplication/jsonfiles/ingressos.json", new TypeToken<List<Ingresso>>() {}.getType());
+        this("src/aplication/jsonfiles/ingressos.json");
+    }
+
+    /**
+     * Construtor da classe IngressoFileManager para um arquivo de ingressos específico.
+     * Usa o formato de armazenamento configurado para "ingressos" (registros por padrão) e registra o índice por usuário.
+     *
+     * @param filePath Caminho do arquivo JSON da entidade; os demais formatos derivam dele o nome dos seus arquivos.
+     */
+    @SuppressWarnings("this-escape")
+    public IngressoFileManager(String filePath) {
+        super("ingressos", filePath, new TypeToken<List<Ingresso>>() {}.getType(), TipoArmazenamento.REGISTROS);
+        registrarIndice(INDICE_USUARIO, Ingresso::getUsuarioId, false);
     }
 }
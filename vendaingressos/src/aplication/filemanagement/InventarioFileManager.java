@@ -0,0 +1,142 @@
+package aplication.filemanagement;
+
+import aplication.model.InventarioAssentos;
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gerenciador dos inventários de assentos dos eventos, um arquivo por evento.
+ * <p>
+ * O inventário muda a cada venda, enquanto os demais dados do evento quase nunca mudam. Separado do arquivo de
+ * eventos, vender um assento regrava apenas o inventário daquele evento, e a listagem de eventos não precisa
+ * ler os assentos de nenhum deles. Cada arquivo guarda o inventário no formato compacto de
+ * {@link AdaptadorInventarioAssentos} e é substituído de forma atômica.
+ * <p>
+ * Os inventários lidos ficam em memória e são relidos apenas se o arquivo for modificado por outra instância.
+ */
+public class InventarioFileManager {
+    private final Path pasta; // Pasta com um arquivo por evento
+    private final Gson gson;
+    private final Map<UUID, Lido> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Inventário em memória e o estado do arquivo de onde ele foi lido ou para onde foi gravado.
+     *
+     * @param inventario Inventário do evento.
+     * @param estado     Assinatura do arquivo ({@link ArmazenamentoJson#estadoDe}).
+     */
+    private record Lido(InventarioAssentos inventario, String estado) {
+    }
+
+    /**
+     * Construtor da classe InventarioFileManager.
+     *
+     * @param pasta Caminho da pasta dos arquivos de inventário; é criada na primeira gravação.
+     */
+    public InventarioFileManager(String pasta) {
+        this.pasta = Paths.get(pasta);
+        this.gson = FileManager.criarGson();
+    }
+
+    /**
+     * Retorna o inventário de um evento.
+     * Eventos sem arquivo de inventário ainda não têm assentos cadastrados e recebem um inventário vazio.
+     *
+     * @param eventoId ID do evento.
+     * @return O inventário do evento (nunca nulo).
+     */
+    public InventarioAssentos carregar(UUID eventoId) {
+        Path arquivo = arquivo(eventoId);
+        String estado = ArmazenamentoJson.estadoDe(arquivo);
+        Lido lido = cache.get(eventoId);
+        if (lido != null && lido.estado().equals(estado)) {
+            return lido.inventario();
+        }
+        InventarioAssentos inventario;
+        try (Reader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            inventario = gson.fromJson(reader, InventarioAssentos.class);
+        } catch (NoSuchFileException e) {
+            inventario = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (inventario == null) {
+            inventario = new InventarioAssentos();
+        }
+        cache.put(eventoId, new Lido(inventario, estado));
+        return inventario;
+    }
+
+    /**
+     * Indica se o evento já tem um arquivo de inventário.
+     *
+     * @param eventoId ID do evento.
+     * @return true se o arquivo existir.
+     */
+    public boolean existe(UUID eventoId) {
+        return Files.exists(arquivo(eventoId));
+    }
+
+    /**
+     * Grava o inventário de um evento, substituindo apenas o arquivo dele.
+     *
+     * @param eventoId   ID do evento.
+     * @param inventario Inventário a ser gravado.
+     */
+    public void salvar(UUID eventoId, InventarioAssentos inventario) {
+        Path arquivo = arquivo(eventoId);
+        try {
+            Files.createDirectories(pasta);
+            ArmazenamentoJson.escreverAtomicamente(arquivo, gson.toJson(inventario, InventarioAssentos.class));
+        } catch (IOException e) {
+            cache.remove(eventoId);
+            throw new UncheckedIOException(e);
+        }
+        cache.put(eventoId, new Lido(inventario, ArmazenamentoJson.estadoDe(arquivo)));
+    }
+
+    /**
+     * Remove o inventário de um evento.
+     *
+     * @param eventoId ID do evento.
+     */
+    public void remover(UUID eventoId) {
+        cache.remove(eventoId);
+        try {
+            Files.deleteIfExists(arquivo(eventoId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Remove os inventários de todos os eventos.
+     */
+    public void removerTodos() {
+        cache.clear();
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(pasta, "*.json")) {
+            for (Path arquivo : arquivos) {
+                Files.deleteIfExists(arquivo);
+            }
+        } catch (NoSuchFileException e) {
+            // Nenhum inventário foi gravado ainda
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path arquivo(UUID eventoId) {
+        return pasta.resolve(eventoId + ".json");
+    }
+}
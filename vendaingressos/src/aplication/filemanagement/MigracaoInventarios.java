@@ -0,0 +1,87 @@
+package aplication.filemanagement;
+
+import aplication.model.InventarioAssentos;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+/**
+ * Migração única do arquivo de eventos para o formato sem os assentos embutidos.
+ * <p>
+ * Versões anteriores gravavam o inventário de assentos ({@code assentosDisponiveis}) dentro de cada evento, então
+ * toda venda regravava o arquivo de eventos inteiro. A migração grava o inventário de cada evento no seu próprio
+ * arquivo ({@link InventarioFileManager}), quando ele ainda não existir, e remove o campo do arquivo de eventos.
+ * <p>
+ * Depois de migrado, o arquivo não tem mais o campo e as execuções seguintes não alteram nada.
+ */
+public final class MigracaoInventarios {
+    private static final String CAMPO_ASSENTOS = "assentosDisponiveis";
+
+    private MigracaoInventarios() {
+    }
+
+    /**
+     * Migra o arquivo de eventos, se ele ainda tiver assentos embutidos.
+     *
+     * @param eventos Gerenciador do arquivo de eventos.
+     * @return true se o arquivo foi migrado, false se já estava no formato atual.
+     */
+    public static boolean migrar(EventoFileManager eventos) {
+        Path arquivo = Paths.get(eventos.filePath);
+        if (!Files.exists(arquivo)) {
+            return false;
+        }
+        JsonElement conteudo;
+        try (Reader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            conteudo = JsonParser.parseReader(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!conteudo.isJsonArray()) {
+            return false;
+        }
+
+        Gson gson = FileManager.criarGson();
+        InventarioFileManager inventarios = eventos.getInventarios();
+        int copiados = 0;
+        boolean migrar = false;
+        for (JsonElement elemento : conteudo.getAsJsonArray()) {
+            if (!elemento.isJsonObject()) {
+                continue;
+            }
+            JsonObject evento = elemento.getAsJsonObject();
+            JsonElement assentos = evento.remove(CAMPO_ASSENTOS);
+            if (assentos == null) {
+                continue;
+            }
+            migrar = true;
+            UUID id = UUID.fromString(evento.get("id").getAsString());
+            // Um inventário já separado é mais recente que a cópia embutida
+            if (!assentos.isJsonNull() && !inventarios.existe(id)) {
+                inventarios.salvar(id, gson.fromJson(assentos, InventarioAssentos.class));
+                copiados++;
+            }
+        }
+        if (!migrar) {
+            return false;
+        }
+
+        // Regrava os eventos sem os assentos, mantendo os demais campos como estavam
+        try {
+            ArmazenamentoJson.escreverAtomicamente(arquivo, gson.toJson(conteudo));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.out.println("Arquivo de eventos migrado: " + copiados + " inventários de assentos copiados para seus próprios arquivos.");
+        return true;
+    }
+}
@@ -0,0 +1,134 @@
+package aplication.filemanagement;
+
+import aplication.model.Cartao;
+import aplication.model.Ingresso;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Migração única do arquivo de usuários para o formato sem cópias embutidas.
+ * <p>
+ * Versões anteriores gravavam dentro de cada usuário as listas {@code ingressos}, {@code cartoes} e
+ * {@code recibos}, duplicando o conteúdo de ingressos.json, cartoes.json e compras.json. A migração copia para
+ * os respectivos arquivos os ingressos e cartões embutidos que ainda não estiverem lá e remove as listas do
+ * arquivo de usuários. Os recibos são descartados, pois são montados a partir das compras.
+ * <p>
+ * Depois de migrado, o arquivo não tem mais essas listas e as execuções seguintes não alteram nada.
+ */
+public final class MigracaoUsuarios {
+    private static final String CAMPO_INGRESSOS = "ingressos";
+    private static final String CAMPO_CARTOES = "cartoes";
+    private static final String CAMPO_RECIBOS = "recibos";
+
+    private MigracaoUsuarios() {
+    }
+
+    /**
+     * Migra o arquivo de usuários, se ele ainda tiver listas embutidas.
+     *
+     * @param usuarios  Gerenciador do arquivo de usuários.
+     * @param cartoes   Gerenciador do arquivo de cartões.
+     * @param ingressos Gerenciador do arquivo de ingressos.
+     * @return true se o arquivo foi migrado, false se já estava no formato atual.
+     */
+    public static boolean migrar(UsuarioFileManager usuarios, CartaoFileManager cartoes, IngressoFileManager ingressos) {
+        Path arquivo = Paths.get(usuarios.filePath);
+        if (!Files.exists(arquivo)) {
+            return false;
+        }
+        JsonElement conteudo;
+        try (Reader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            conteudo = JsonParser.parseReader(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!conteudo.isJsonArray()) {
+            return false;
+        }
+
+        Gson gson = FileManager.criarGson();
+        List<Cartao> cartoesEmbutidos = new ArrayList<>();
+        List<Ingresso> ingressosEmbutidos = new ArrayList<>();
+        boolean migrar = false;
+        for (JsonElement elemento : conteudo.getAsJsonArray()) {
+            if (!elemento.isJsonObject()) {
+                continue;
+            }
+            JsonObject usuario = elemento.getAsJsonObject();
+            JsonElement listaCartoes = usuario.remove(CAMPO_CARTOES);
+            JsonElement listaIngressos = usuario.remove(CAMPO_INGRESSOS);
+            JsonElement listaRecibos = usuario.remove(CAMPO_RECIBOS);
+            migrar |= listaCartoes != null || listaIngressos != null || listaRecibos != null;
+            adicionarItens(gson, listaCartoes, Cartao.class, cartoesEmbutidos);
+            adicionarItens(gson, listaIngressos, Ingresso.class, ingressosEmbutidos);
+        }
+        if (!migrar) {
+            return false;
+        }
+
+        // Preserva os registros que só existiam como cópia dentro do usuário
+        List<Cartao> cartoesAusentes = new ArrayList<>();
+        for (Cartao cartao : cartoesEmbutidos) {
+            if (cartoes.getById(cartao.getId()) == null && cartoes.findFirstBy(CartaoFileManager.INDICE_USUARIO_NUMERO,
+                    Arrays.asList(cartao.getIdUsuario(), cartao.getNumero())) == null) {
+                cartoesAusentes.add(cartao);
+            }
+        }
+        List<Ingresso> ingressosAusentes = new ArrayList<>();
+        for (Ingresso ingresso : ingressosEmbutidos) {
+            if (ingressos.getById(ingresso.getId()) == null) {
+                ingressosAusentes.add(ingresso);
+            }
+        }
+        if (!cartoesAusentes.isEmpty()) {
+            cartoes.saveAll(cartoesAusentes);
+        }
+        if (!ingressosAusentes.isEmpty()) {
+            ingressos.saveAll(ingressosAusentes);
+        }
+
+        // Regrava os usuários sem as listas, mantendo os demais campos como estavam
+        try {
+            ArmazenamentoJson.escreverAtomicamente(arquivo, gson.toJson(conteudo));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.out.println("Arquivo de usuários migrado: " + cartoesAusentes.size() + " cartões e "
+                + ingressosAusentes.size() + " ingressos copiados para seus próprios arquivos.");
+        return true;
+    }
+
+    /**
+     * Desserializa os itens de uma lista embutida, ignorando listas ausentes ou nulas.
+     *
+     * @param gson    Gson usado na desserialização.
+     * @param lista   Lista JSON removida do usuário.
+     * @param tipo    Classe dos itens.
+     * @param destino Lista que recebe os itens desserializados.
+     * @param <T>     Tipo dos itens.
+     */
+    private static <T> void adicionarItens(Gson gson, JsonElement lista, Class<T> tipo, List<T> destino) {
+        if (lista == null || !lista.isJsonArray()) {
+            return;
+        }
+        for (JsonElement item : lista.getAsJsonArray()) {
+            T valor = gson.fromJson(item, tipo);
+            if (valor != null) {
+                destino.add(valor);
+            }
+        }
+    }
+}
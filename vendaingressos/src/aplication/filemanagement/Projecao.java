@@ -0,0 +1,51 @@
+package aplication.filemanagement;
+
+import aplication.interfaces.Identificavel;
+import java.lang.reflect.Type;
+import java.util.function.Function;
+
+/**
+ * Projeção dos itens armazenados em um tipo menor, com apenas os campos que uma consulta usa.
+ * <p>
+ * O tipo projetado deve ter um adaptador registrado em {@link FileManager#criarGson()} que leia só os seus campos
+ * e descarte os demais com {@code skipValue}, sem criar strings, datas ou listas para eles. Assim, uma listagem
+ * ou junção lida direto do arquivo JSON não desserializa o item completo. Quando os itens já estão em memória,
+ * ou o formato em disco não permite ler campos isolados, a projeção é feita a partir do item com o conversor.
+ *
+ * @param <T> O tipo de item armazenado.
+ * @param <P> O tipo projetado.
+ */
+public final class Projecao<T extends Identificavel, P> {
+    private final Class<P> tipo;
+    private final Function<? super T, ? extends P> conversor;
+
+    /**
+     * Construtor da classe Projecao.
+     *
+     * @param tipo      Tipo projetado, lido diretamente do arquivo pelo seu adaptador.
+     * @param conversor Converte um item completo no tipo projetado.
+     */
+    public Projecao(Class<P> tipo, Function<? super T, ? extends P> conversor) {
+        this.tipo = tipo;
+        this.conversor = conversor;
+    }
+
+    /**
+     * Retorna o tipo projetado.
+     *
+     * @return O tipo projetado.
+     */
+    public Type getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Projeta um item já desserializado.
+     *
+     * @param item Item completo.
+     * @return O item projetado.
+     */
+    public P aPartirDe(T item) {
+        return conversor.apply(item);
+    }
+}
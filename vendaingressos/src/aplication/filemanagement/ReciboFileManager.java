@@ -0,0 +1,40 @@
+package aplication.filemanagement;
+
+import aplication.model.Recibo;
+import com.google.gson.reflect.TypeToken;
+import java.util.List;
+
+/**
+ * Gerenciador de arquivos para o tipo Recibo.
+ * Esta classe herda de FileManager e é especializada para manipular dados do tipo Recibo.
+ * Como as compras, os recibos só crescem com as vendas, então usam por padrão o armazenamento em journal.
+ */
+public class ReciboFileManager extends FileManager<Recibo> {
+    /** Índice dos recibos pelo ID do usuário comprador. */
+    public static final String INDICE_USUARIO = "usuario";
+    /** Índice único dos recibos pelo ID do ingresso comprado. */
+    public static final String INDICE_INGRESSO = "ingresso";
+
+    /**
+     * Construtor da classe ReciboFileManager.
+     * Define o caminho do arquivo de recibos, o tipo concreto de lista de recibos e ativa o modo cache.
+     */
+    public ReciboFileManager() {
+        this("src/aplication/jsonfiles/recibos.json");
+    }
+
+    /**
+     * Construtor da classe ReciboFileManager para um arquivo de recibos específico.
+     * Usa o formato de armazenamento configurado para "recibos" (journal por padrão).
+     * Registra os índices por usuário e por ingresso.
+     *
+     * @param filePath Caminho do arquivo de recibos.
+     */
+    @SuppressWarnings("this-escape")
+    public ReciboFileManager(String filePath) {
+        // O journal exige os itens em memória; o construtor da classe base mantém o cache ativo
+        super("recibos", filePath, new TypeToken<List<Recibo>>() {}.getType(), TipoArmazenamento.JOURNAL);
+        registrarIndice(INDICE_USUARIO, Recibo::getIdUsuario, false);
+        registrarIndice(INDICE_INGRESSO, Recibo::getIdIngresso, true);
+    }
+}
@@ -0,0 +1,16 @@
+package aplication.filemanagement;
+
+/**
+ * Formatos de armazenamento disponíveis para os gerenciadores de arquivos.
+ * O formato de cada entidade é escolhido na configuração ({@link FabricaArmazenamento}).
+ */
+public enum TipoArmazenamento {
+    /** Um único arquivo JSON reescrito a cada alteração ({@link ArmazenamentoJson}). */
+    JSON,
+    /** Snapshot JSON e journal somente de acréscimo ({@link ArmazenamentoJournal}). */
+    JOURNAL,
+    /** Arquivo binário de registros de largura fixa, com atualização no lugar ({@link ArmazenamentoRegistros}). */
+    REGISTROS,
+    /** Tabela em um banco de dados H2 embarcado, em modo arquivo ({@link ArmazenamentoJdbc}). */
+    JDBC
+}
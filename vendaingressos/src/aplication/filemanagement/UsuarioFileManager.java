@@ -9,13 +9,34 @@ import java.util.List;
  * Esta classe herda de FileManager e é especializada para manipular dados do tipo Usuario.
  */
 public class UsuarioFileManager extends FileManager<Usuario> {
+    /** Índice único de usuários pelo e-mail. */
+    public static final String INDICE_EMAIL = "email";
+    /** Índice único de usuários pelo login. */
+    public static final String INDICE_LOGIN = "login";
+    /** Índice único de usuários pelo CPF. */
+    public static final String INDICE_CPF = "cpf";
 
     /**
      * Construtor da classe UsuarioFileManager.
-     * Define o caminho do arquivo de usuários e o tipo concreto de lista de usuários.
+     * Define o caminho do arquivo de usuários, o tipo concreto de lista de usuários e ativa o modo cache.
      */
     public UsuarioFileManager() {
-        // Passa o tipo específico para o construtor da classe base
-        super("src/aplication/jsonfiles/usuarios.json", new TypeToken<List<Usuario>>() {}.getType());
+        this("src/aplication/jsonfiles/usuarios.json");
+    }
+
+    /**
+     * Construtor da classe UsuarioFileManager para um arquivo de usuários específico.
+     * Usa o formato de armazenamento configurado para "usuarios" (JSON por padrão) e registra os índices únicos
+     * de e-mail, login e CPF.
+     *
+     * @param filePath Caminho do arquivo de usuários.
+     */
+    @SuppressWarnings("this-escape")
+    public UsuarioFileManager(String filePath) {
+        // Passa o tipo específico para o construtor da classe base, com o cache em memória ativo
+        super("usuarios", filePath, new TypeToken<List<Usuario>>() {}.getType(), TipoArmazenamento.JSON);
+        registrarIndice(INDICE_EMAIL, Usuario::getEmail, true);
+        registrarIndice(INDICE_LOGIN, Usuario::getLogin, true);
+        registrarIndice(INDICE_CPF, Usuario::getCpf, true);
     }
 }
@@ -30,6 +30,23 @@ public class Avaliacao implements Identificavel {
         this.idEvento = idEvento;
     }
 
+    /**
+     * Construtor da classe Avaliacao com todos os campos, usado na leitura dos arquivos.
+     *
+     * @param id          O ID já atribuído à avaliação.
+     * @param comentarios O comentário sobre o evento.
+     * @param rating      A nota da avaliação.
+     * @param idUsuario   O ID do usuário autor.
+     * @param idEvento    O ID do evento avaliado.
+     */
+    public Avaliacao(UUID id, String comentarios, int rating, UUID idUsuario, UUID idEvento) {
+        this.id = id;
+        this.comentarios = comentarios;
+        this.rating = rating;
+        this.idUsuario = idUsuario;
+        this.idEvento = idEvento;
+    }
+
     /**
      * Obtém o identificador único da avaliação.
      *
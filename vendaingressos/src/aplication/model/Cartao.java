@@ -36,6 +36,27 @@ public class Cartao implements Identificavel {
         this.ativo = true;
     }
 
+    /**
+     * Construtor da classe Cartao com todos os campos, usado na leitura dos arquivos.
+     *
+     * @param id           O ID já atribuído ao cartão.
+     * @param idUsuario    O ID do usuário dono do cartão.
+     * @param nome         O nome do cartão.
+     * @param numero       O número do cartão.
+     * @param dataValidade A data de validade do cartão.
+     * @param cvv          O código de segurança do cartão.
+     * @param ativo        Se o cartão está ativo.
+     */
+    public Cartao(UUID id, UUID idUsuario, String nome, String numero, Date dataValidade, String cvv, boolean ativo) {
+        this.id = id;
+        this.idUsuario = idUsuario;
+        this.nome = nome;
+        this.numero = numero;
+        this.dataValidade = dataValidade;
+        this.cvv = cvv;
+        this.ativo = ativo;
+    }
+
     // Getters
     /**
      * Retorna o ID do cartão.
@@ -62,6 +62,32 @@ public class Compra implements Identificavel {
         this.metodoPagamento = "Boleto"; // Metodo de pagamento específico
     }
 
+    /**
+     * Construtor da classe Compra com todos os campos, usado na leitura dos arquivos.
+     *
+     * @param id              ID já atribuído à compra.
+     * @param idUsuario       ID do usuário que realizou a compra.
+     * @param idEvento        ID do evento.
+     * @param idIngresso      ID do ingresso comprado.
+     * @param idCartao        ID do cartão utilizado, ou null se o pagamento foi via boleto.
+     * @param boleto          ID (código) do boleto, ou null se o pagamento foi via cartão.
+     * @param dataCompra      Data da compra.
+     * @param preco           Preço total da compra.
+     * @param metodoPagamento Metodo de pagamento (Cartão ou Boleto).
+     */
+    public Compra(UUID id, UUID idUsuario, UUID idEvento, UUID idIngresso, UUID idCartao, UUID boleto, Date dataCompra,
+                  double preco, String metodoPagamento) {
+        this.id = id;
+        this.idUsuario = idUsuario;
+        this.idEvento = idEvento;
+        this.idIngresso = idIngresso;
+        this.idCartao = idCartao;
+        this.boleto = boleto;
+        this.dataCompra = dataCompra;
+        this.preco = preco;
+        this.metodoPagamento = metodoPagamento;
+    }
+
     /**
      * Retorna o ID da compra.
      *
@@ -108,6 +134,15 @@ public class Compra implements Identificavel {
         return idCartao;
     }
 
+    /**
+     * Retorna o ID (código) do boleto usado no pagamento (pode ser nulo).
+     *
+     * @return UUID do boleto, ou null se o pagamento foi via cartão.
+     */
+    public UUID getBoleto() {
+        return boleto;
+    }
+
     /**
      * Retorna a data da compra.
      *
@@ -0,0 +1,282 @@
+package aplication.model;
+
+import java.util.Date;
+
+/**
+ * Critérios de uma consulta de eventos, montados com o {@link Construtor}.
+ * <p>
+ * Todos os critérios são opcionais e combinados com "e". Os eventos encontrados vêm na ordem escolhida
+ * ({@link Ordem}, pela data por padrão) e podem ser paginados. A consulta é executada por
+ * {@code EventoController#consultar}, sobre os índices ordenados do arquivo de eventos.
+ * <pre>{@code
+ * ConsultaEventos consulta = ConsultaEventos.construtor()
+ *         .futuros()
+ *         .precoMaximo(100.0)
+ *         .comAssentos()
+ *         .pagina(0, 20)
+ *         .construir();
+ * }</pre>
+ */
+public final class ConsultaEventos {
+
+    /**
+     * Ordem dos eventos encontrados. O índice da ordem escolhida conduz a consulta: quando ela também limita esse
+     * campo (datas na ordem por data, preços na ordem por preço, prefixo na ordem por nome), só a faixa do índice
+     * correspondente é visitada.
+     */
+    public enum Ordem {
+        /** Pela data do evento, do mais próximo ao mais distante. */
+        DATA,
+        /** Pelo preço do ingresso, do mais barato ao mais caro. */
+        PRECO,
+        /** Pelo nome do evento, sem diferenciar maiúsculas nem acentos. */
+        NOME
+    }
+
+    private final boolean futuros;
+    private final Date dataInicial;
+    private final Date dataFinal;
+    private final Double precoMinimo;
+    private final Double precoMaximo;
+    private final boolean comAssentos;
+    private final String prefixoNome;
+    private final Ordem ordem;
+    private final int inicio;
+    private final int quantidade;
+
+    private ConsultaEventos(Construtor construtor) {
+        this.futuros = construtor.futuros;
+        this.dataInicial = construtor.dataInicial;
+        this.dataFinal = construtor.dataFinal;
+        this.precoMinimo = construtor.precoMinimo;
+        this.precoMaximo = construtor.precoMaximo;
+        this.comAssentos = construtor.comAssentos;
+        this.prefixoNome = construtor.prefixoNome;
+        this.ordem = construtor.ordem;
+        this.inicio = construtor.inicio;
+        this.quantidade = construtor.quantidade;
+    }
+
+    /**
+     * Cria um construtor de consulta sem critérios, que encontra todos os eventos em ordem de data.
+     *
+     * @return Um novo construtor.
+     */
+    public static Construtor construtor() {
+        return new Construtor();
+    }
+
+    /**
+     * Indica se apenas eventos que ainda vão acontecer, no momento da execução, são aceitos.
+     *
+     * @return true se apenas eventos futuros são aceitos.
+     */
+    public boolean isFuturos() {
+        return futuros;
+    }
+
+    /**
+     * Retorna a menor data aceita (inclusiva).
+     *
+     * @return A data inicial, ou null se não houver limite.
+     */
+    public Date getDataInicial() {
+        return dataInicial;
+    }
+
+    /**
+     * Retorna a maior data aceita (inclusiva).
+     *
+     * @return A data final, ou null se não houver limite.
+     */
+    public Date getDataFinal() {
+        return dataFinal;
+    }
+
+    /**
+     * Retorna o menor preço aceito (inclusivo).
+     *
+     * @return O preço mínimo, ou null se não houver limite.
+     */
+    public Double getPrecoMinimo() {
+        return precoMinimo;
+    }
+
+    /**
+     * Retorna o maior preço aceito (inclusivo).
+     *
+     * @return O preço máximo, ou null se não houver limite.
+     */
+    public Double getPrecoMaximo() {
+        return precoMaximo;
+    }
+
+    /**
+     * Indica se apenas eventos com algum assento disponível são aceitos.
+     *
+     * @return true se apenas eventos com assentos são aceitos.
+     */
+    public boolean isComAssentos() {
+        return comAssentos;
+    }
+
+    /**
+     * Retorna o início exigido do nome do evento, comparado sem diferenciar maiúsculas nem acentos.
+     *
+     * @return O prefixo do nome, ou null se não houver.
+     */
+    public String getPrefixoNome() {
+        return prefixoNome;
+    }
+
+    /**
+     * Retorna a ordem dos eventos encontrados.
+     *
+     * @return A ordem da consulta.
+     */
+    public Ordem getOrdem() {
+        return ordem;
+    }
+
+    /**
+     * Retorna a quantidade de eventos encontrados a pular, para paginação.
+     *
+     * @return Posição do primeiro evento retornado, a partir de 0.
+     */
+    public int getInicio() {
+        return inicio;
+    }
+
+    /**
+     * Retorna a quantidade máxima de eventos retornados.
+     *
+     * @return A quantidade máxima; {@link Integer#MAX_VALUE} quando não há paginação.
+     */
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * Construtor de {@link ConsultaEventos}. Cada método acrescenta um critério e retorna o próprio construtor.
+     */
+    public static final class Construtor {
+        private boolean futuros;
+        private Date dataInicial;
+        private Date dataFinal;
+        private Double precoMinimo;
+        private Double precoMaximo;
+        private boolean comAssentos;
+        private String prefixoNome;
+        private Ordem ordem = Ordem.DATA;
+        private int inicio;
+        private int quantidade = Integer.MAX_VALUE;
+
+        private Construtor() {
+        }
+
+        /**
+         * Aceita apenas eventos que ainda vão acontecer.
+         *
+         * @return Este construtor.
+         */
+        public Construtor futuros() {
+            this.futuros = true;
+            return this;
+        }
+
+        /**
+         * Aceita apenas eventos entre duas datas, inclusive.
+         *
+         * @param dataInicial Menor data aceita, ou null para não limitar.
+         * @param dataFinal   Maior data aceita, ou null para não limitar.
+         * @return Este construtor.
+         */
+        public Construtor entre(Date dataInicial, Date dataFinal) {
+            this.dataInicial = dataInicial;
+            this.dataFinal = dataFinal;
+            return this;
+        }
+
+        /**
+         * Aceita apenas eventos com preço até o valor informado, inclusive.
+         *
+         * @param precoMaximo Maior preço aceito.
+         * @return Este construtor.
+         */
+        public Construtor precoMaximo(double precoMaximo) {
+            this.precoMaximo = precoMaximo;
+            return this;
+        }
+
+        /**
+         * Aceita apenas eventos com preço a partir do valor informado, inclusive.
+         *
+         * @param precoMinimo Menor preço aceito.
+         * @return Este construtor.
+         */
+        public Construtor precoMinimo(double precoMinimo) {
+            this.precoMinimo = precoMinimo;
+            return this;
+        }
+
+        /**
+         * Aceita apenas eventos com pelo menos um assento disponível.
+         *
+         * @return Este construtor.
+         */
+        public Construtor comAssentos() {
+            this.comAssentos = true;
+            return this;
+        }
+
+        /**
+         * Aceita apenas eventos cujo nome começa com o texto informado, sem diferenciar maiúsculas nem acentos.
+         *
+         * @param prefixo Início do nome; vazio ou null não limita.
+         * @return Este construtor.
+         */
+        public Construtor nomeComecandoCom(String prefixo) {
+            this.prefixoNome = prefixo == null || prefixo.isEmpty() ? null : prefixo;
+            return this;
+        }
+
+        /**
+         * Define a ordem dos eventos encontrados.
+         *
+         * @param ordem A ordem da consulta.
+         * @return Este construtor.
+         */
+        public Construtor ordenarPor(Ordem ordem) {
+            if (ordem == null) {
+                throw new IllegalArgumentException("A ordem da consulta não pode ser nula.");
+            }
+            this.ordem = ordem;
+            return this;
+        }
+
+        /**
+         * Limita o resultado a uma página dos eventos encontrados.
+         *
+         * @param inicio     Posição do primeiro evento da página, a partir de 0.
+         * @param quantidade Quantidade máxima de eventos da página.
+         * @return Este construtor.
+         */
+        public Construtor pagina(int inicio, int quantidade) {
+            if (inicio < 0 || quantidade < 0) {
+                throw new IllegalArgumentException("O início e a quantidade da página não podem ser negativos.");
+            }
+            this.inicio = inicio;
+            this.quantidade = quantidade;
+            return this;
+        }
+
+        /**
+         * Cria a consulta com os critérios informados.
+         *
+         * @return A consulta.
+         */
+        public ConsultaEventos construir() {
+            return new ConsultaEventos(this);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package aplication.model;
 
 import aplication.interfaces.Identificavel;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -16,7 +15,7 @@ public class Evento implements Identificavel {
     private String descricao;
     private Date data;
     private double preco;
-    private final List<String> assentosDisponiveis;
+    private InventarioAssentos assentosDisponiveis; // Assentos cadastrados e disponíveis (nulo até ser carregado)
 
     /**
      * Construtor da classe Evento.
@@ -31,7 +30,25 @@ public class Evento implements Identificavel {
         this.descricao = descricao;
         this.data = data;
         this.preco = preco;
-        this.assentosDisponiveis = new ArrayList<>();
+        this.assentosDisponiveis = new InventarioAssentos();
+    }
+
+    /**
+     * Construtor da classe Evento com os dados gravados no arquivo de eventos, usado na leitura dos arquivos.
+     * O inventário de assentos fica em um arquivo próprio e é associado depois, com {@link #setInventarioAssentos}.
+     *
+     * @param id        O ID já atribuído ao evento.
+     * @param nome      O nome do evento.
+     * @param descricao A descrição do evento.
+     * @param data      A data do evento.
+     * @param preco     O preço do evento.
+     */
+    public Evento(UUID id, String nome, String descricao, Date data, double preco) {
+        this.id = id;
+        this.nome = nome;
+        this.descricao = descricao;
+        this.data = data;
+        this.preco = preco;
     }
 
     /**
@@ -109,11 +126,61 @@ public class Evento implements Identificavel {
 
     /**
      * Retorna a lista de assentos disponíveis para o evento.
+     * A lista é montada a partir do inventário a cada chamada; alterá-la não afeta o evento.
      *
      * @return Uma lista de assentos disponíveis.
      */
     public List<String> getAssentosDisponiveis() {
-        return assentosDisponiveis;
+        return assentos().getDisponiveis();
+    }
+
+    /**
+     * Retorna uma cópia do inventário de assentos do evento, com todos os assentos cadastrados e a
+     * disponibilidade de cada um. Usada pelo mapa de assentos, que desenha o evento a partir das posições.
+     *
+     * @return Uma cópia do inventário; alterá-la não afeta o evento.
+     */
+    public InventarioAssentos getInventarioAssentos() {
+        InventarioAssentos assentos = assentos();
+        return new InventarioAssentos(assentos.getFaixas(), assentos.getBitsDisponiveis());
+    }
+
+    /**
+     * Associa ao evento o inventário de assentos lido do seu arquivo.
+     *
+     * @param assentosDisponiveis O inventário de assentos do evento.
+     */
+    public void setInventarioAssentos(InventarioAssentos assentosDisponiveis) {
+        this.assentosDisponiveis = assentosDisponiveis;
+    }
+
+    /**
+     * Indica se o inventário de assentos já foi associado ao evento.
+     * Eventos criados na aplicação já têm o inventário; os lidos do arquivo de eventos, não.
+     *
+     * @return true se o inventário estiver carregado.
+     */
+    public boolean isInventarioCarregado() {
+        return assentosDisponiveis != null;
+    }
+
+    /**
+     * Retorna a quantidade de assentos disponíveis, sem montar a lista de rótulos.
+     *
+     * @return A quantidade de assentos disponíveis.
+     */
+    public int getQuantidadeAssentosDisponiveis() {
+        return assentos().getQuantidadeDisponiveis();
+    }
+
+    /**
+     * Verifica se um assento está disponível.
+     *
+     * @param assento O assento a ser verificado.
+     * @return true se o assento existir e estiver disponível.
+     */
+    public boolean isAssentoDisponivel(String assento) {
+        return assentos().isDisponivel(assento);
     }
 
     /**
@@ -122,7 +189,7 @@ public class Evento implements Identificavel {
      * @param assento O assento a ser adicionado.
      */
     public void adicionarAssento(String assento) {
-        assentosDisponiveis.add(assento);
+        assentos().adicionar(assento);
     }
 
     /**
@@ -131,7 +198,24 @@ public class Evento implements Identificavel {
      * @param assento O assento a ser removido.
      */
     public void removerAssento(String assento) {
-        assentosDisponiveis.remove(assento);
+        assentos().remover(assento);
+    }
+
+    /**
+     * Reserva um assento, removendo-o dos disponíveis somente se ele ainda estiver disponível.
+     *
+     * @param assento O assento a ser reservado.
+     * @return true se o assento estava disponível e foi reservado; false caso contrário.
+     */
+    public boolean reservarAssento(String assento) {
+        return assentos().reservar(assento);
+    }
+
+    private InventarioAssentos assentos() {
+        if (assentosDisponiveis == null) {
+            throw new IllegalStateException("O inventário de assentos do evento " + id + " não foi carregado.");
+        }
+        return assentosDisponiveis;
     }
 
     /**
@@ -33,6 +33,25 @@ public class Ingresso implements Identificavel {
         this.ativo = true;
     }
 
+    /**
+     * Construtor da classe Ingresso com todos os campos, usado na leitura dos arquivos.
+     *
+     * @param id        O ID já atribuído ao ingresso.
+     * @param usuarioId O ID do usuário dono do ingresso.
+     * @param eventoId  O ID do evento.
+     * @param preco     O preço do ingresso.
+     * @param assento   O assento do ingresso.
+     * @param ativo     Se o ingresso está ativo.
+     */
+    public Ingresso(UUID id, UUID usuarioId, UUID eventoId, double preco, String assento, boolean ativo) {
+        this.id = id;
+        this.usuarioId = usuarioId;
+        this.eventoId = eventoId;
+        this.preco = preco;
+        this.assento = assento;
+        this.ativo = ativo;
+    }
+
     /**
      * Retorna o ID do ingresso.
      *
@@ -0,0 +1,346 @@
+package aplication.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Inventário compacto dos assentos de um evento.
+ * <p>
+ * Cada assento recebe uma posição fixa, na ordem em que foi cadastrado, e a disponibilidade fica em um
+ * {@link BitSet} indexado por essa posição: verificar, vender ou devolver um assento custa O(1).
+ * <p>
+ * Os rótulos não são guardados um a um. Rótulos sequenciais com o mesmo prefixo, como "A01", "A02", ..., "A100",
+ * formam uma única {@link Faixa}, então um estádio de 50.000 lugares ocupa poucas faixas e um bitset de
+ * cerca de 6 KB. Rótulos que não seguem o padrão prefixo + número ficam em faixas literais de um assento.
+ * <p>
+ * Para encontrar a posição de um rótulo, as faixas numeradas ficam agrupadas por prefixo e largura e ordenadas
+ * pelo primeiro número; como as faixas de um mesmo grupo não se sobrepõem, uma busca binária encontra a única
+ * candidata. Os rótulos literais ficam em um mapa. Assim, assentos cadastrados fora de ordem, que formam muitas
+ * faixas pequenas, não tornam a busca linear.
+ */
+public class InventarioAssentos {
+    private final List<Faixa> faixas = new ArrayList<>(); // Faixas de rótulos, na ordem de cadastro
+    private final List<Integer> inicioFaixas = new ArrayList<>(); // Posição do primeiro assento de cada faixa
+    private final Map<GrupoFaixas, TreeMap<Integer, Integer>> faixasPorGrupo = new HashMap<>(); // Número inicial -> índice da faixa
+    private final Map<String, Integer> posicaoLiterais = new HashMap<>(); // Rótulo -> posição, para as faixas literais
+    private final BitSet disponiveis = new BitSet(); // Bit ligado = assento disponível
+    private int total; // Quantidade de assentos cadastrados
+
+    /**
+     * Sequência de rótulos com o mesmo prefixo e números consecutivos, formatados com uma largura mínima.
+     * Uma faixa com largura 0 é literal: representa um único assento cujo rótulo é o próprio prefixo.
+     *
+     * @param prefixo    Parte do rótulo antes do número (ou o rótulo inteiro, se a faixa for literal).
+     * @param inicio     Número do primeiro assento da faixa.
+     * @param quantidade Quantidade de assentos da faixa.
+     * @param largura    Quantidade mínima de dígitos do número, completada com zeros à esquerda.
+     */
+    public record Faixa(String prefixo, int inicio, int quantidade, int largura) {
+
+        /**
+         * Retorna o rótulo do assento na posição informada dentro da faixa.
+         *
+         * @param deslocamento Posição do assento na faixa, a partir de 0.
+         * @return O rótulo do assento.
+         */
+        public String rotulo(int deslocamento) {
+            if (largura == 0) {
+                return prefixo;
+            }
+            String numero = Integer.toString(inicio + deslocamento);
+            StringBuilder rotulo = new StringBuilder(prefixo);
+            for (int i = numero.length(); i < largura; i++) {
+                rotulo.append('0');
+            }
+            return rotulo.append(numero).toString();
+        }
+    }
+
+    /**
+     * Faixas numeradas com o mesmo prefixo e a mesma largura. Como cada número gera um único rótulo nessa largura
+     * e os rótulos não se repetem, as faixas de um grupo cobrem números disjuntos.
+     */
+    private record GrupoFaixas(String prefixo, int largura) {
+    }
+
+    /**
+     * Cria um inventário vazio.
+     */
+    public InventarioAssentos() {
+    }
+
+    /**
+     * Cria um inventário a partir das faixas de rótulos e dos assentos disponíveis.
+     *
+     * @param faixas      Faixas de rótulos, na ordem de cadastro.
+     * @param disponiveis Posições dos assentos disponíveis.
+     */
+    public InventarioAssentos(List<Faixa> faixas, BitSet disponiveis) {
+        for (Faixa faixa : faixas) {
+            adicionarFaixa(faixa);
+        }
+        this.disponiveis.or(disponiveis);
+        this.disponiveis.clear(total, Math.max(total, this.disponiveis.length()));
+    }
+
+    /**
+     * Adiciona um assento ao inventário como disponível.
+     * Se o assento já estiver cadastrado, apenas volta a ficar disponível, mantendo sua posição.
+     *
+     * @param assento Rótulo do assento.
+     */
+    public synchronized void adicionar(String assento) {
+        int posicao = posicaoDe(assento);
+        if (posicao < 0) {
+            posicao = cadastrar(assento);
+        }
+        disponiveis.set(posicao);
+    }
+
+    /**
+     * Torna um assento indisponível.
+     *
+     * @param assento Rótulo do assento.
+     */
+    public synchronized void remover(String assento) {
+        reservar(assento);
+    }
+
+    /**
+     * Torna um assento indisponível, informando se ele estava disponível (teste e limpeza em uma só operação).
+     *
+     * @param assento Rótulo do assento.
+     * @return true se o assento estava disponível e agora foi reservado; false caso contrário.
+     */
+    public synchronized boolean reservar(String assento) {
+        int posicao = posicaoDe(assento);
+        if (posicao < 0 || !disponiveis.get(posicao)) {
+            return false;
+        }
+        disponiveis.clear(posicao);
+        return true;
+    }
+
+    /**
+     * Verifica se um assento está disponível.
+     *
+     * @param assento Rótulo do assento.
+     * @return true se o assento existir e estiver disponível.
+     */
+    public synchronized boolean isDisponivel(String assento) {
+        int posicao = posicaoDe(assento);
+        return posicao >= 0 && disponiveis.get(posicao);
+    }
+
+    /**
+     * Retorna a quantidade de assentos disponíveis.
+     *
+     * @return Quantidade de assentos disponíveis.
+     */
+    public synchronized int getQuantidadeDisponiveis() {
+        return disponiveis.cardinality();
+    }
+
+    /**
+     * Retorna a quantidade de assentos cadastrados, disponíveis ou não.
+     *
+     * @return Quantidade de assentos cadastrados.
+     */
+    public synchronized int getTotal() {
+        return total;
+    }
+
+    /**
+     * Retorna a posição de um assento, na ordem de cadastro.
+     *
+     * @param assento Rótulo do assento.
+     * @return Posição do assento, ou -1 se ele não estiver cadastrado.
+     */
+    public synchronized int getPosicao(String assento) {
+        return posicaoDe(assento);
+    }
+
+    /**
+     * Retorna o rótulo do assento em uma posição.
+     *
+     * @param posicao Posição do assento, entre 0 e {@link #getTotal()} - 1.
+     * @return O rótulo do assento.
+     * @throws IndexOutOfBoundsException Se a posição não corresponder a um assento cadastrado.
+     */
+    public synchronized String getRotulo(int posicao) {
+        if (posicao < 0 || posicao >= total) {
+            throw new IndexOutOfBoundsException("Posição de assento inválida: " + posicao);
+        }
+        return rotuloDe(posicao);
+    }
+
+    /**
+     * Verifica se o assento em uma posição está disponível.
+     *
+     * @param posicao Posição do assento.
+     * @return true se a posição corresponder a um assento disponível.
+     */
+    public synchronized boolean isDisponivel(int posicao) {
+        return posicao >= 0 && disponiveis.get(posicao);
+    }
+
+    /**
+     * Retorna os rótulos dos assentos disponíveis, na ordem de cadastro.
+     *
+     * @return Uma nova lista com os assentos disponíveis.
+     */
+    public synchronized List<String> getDisponiveis() {
+        List<String> assentos = new ArrayList<>(disponiveis.cardinality());
+        for (int posicao = disponiveis.nextSetBit(0); posicao >= 0; posicao = disponiveis.nextSetBit(posicao + 1)) {
+            assentos.add(rotuloDe(posicao));
+        }
+        return assentos;
+    }
+
+    /**
+     * Retorna as faixas de rótulos do inventário, usadas na serialização.
+     *
+     * @return Uma nova lista com as faixas, na ordem de cadastro.
+     */
+    public synchronized List<Faixa> getFaixas() {
+        return new ArrayList<>(faixas);
+    }
+
+    /**
+     * Retorna as posições dos assentos disponíveis, usadas na serialização.
+     *
+     * @return Uma cópia do bitset de disponibilidade.
+     */
+    public synchronized BitSet getBitsDisponiveis() {
+        return (BitSet) disponiveis.clone();
+    }
+
+    /**
+     * Cadastra um novo rótulo, estendendo a última faixa quando ele for o próximo número da sequência.
+     *
+     * @param assento Rótulo do assento.
+     * @return Posição atribuída ao assento.
+     */
+    private int cadastrar(String assento) {
+        int inicioNumero = inicioNumero(assento);
+        if (inicioNumero < 0) {
+            adicionarFaixa(new Faixa(assento, 0, 1, 0));
+            return total - 1;
+        }
+        String prefixo = assento.substring(0, inicioNumero);
+        int numero = Integer.parseInt(assento.substring(inicioNumero));
+        if (!faixas.isEmpty()) {
+            int ultima = faixas.size() - 1;
+            Faixa faixa = faixas.get(ultima);
+            if (faixa.largura() > 0 && faixa.prefixo().equals(prefixo)
+                    && numero == faixa.inicio() + faixa.quantidade()
+                    && faixa.rotulo(faixa.quantidade()).equals(assento)) {
+                faixas.set(ultima, new Faixa(prefixo, faixa.inicio(), faixa.quantidade() + 1, faixa.largura()));
+                total++;
+                return total - 1;
+            }
+        }
+        adicionarFaixa(new Faixa(prefixo, numero, 1, assento.length() - inicioNumero));
+        return total - 1;
+    }
+
+    /**
+     * Acrescenta uma faixa ao final do inventário.
+     *
+     * @param faixa Faixa a ser acrescentada.
+     */
+    private void adicionarFaixa(Faixa faixa) {
+        if (faixa.largura() == 0) {
+            posicaoLiterais.putIfAbsent(faixa.prefixo(), total);
+        } else {
+            faixasPorGrupo.computeIfAbsent(new GrupoFaixas(faixa.prefixo(), faixa.largura()), g -> new TreeMap<>())
+                    .put(faixa.inicio(), faixas.size());
+        }
+        faixas.add(faixa);
+        inicioFaixas.add(total);
+        total += faixa.quantidade();
+    }
+
+    /**
+     * Encontra a posição de um assento a partir do seu rótulo.
+     * Um rótulo numerado só pode estar nas faixas do seu prefixo cuja largura produz exatamente os seus dígitos:
+     * a própria quantidade de dígitos ou, sem zeros à esquerda, qualquer largura menor. Em cada uma dessas larguras
+     * (no máximo nove), a faixa candidata é a última que começa no número do rótulo ou antes dele.
+     *
+     * @param assento Rótulo do assento.
+     * @return Posição do assento, ou -1 se ele não estiver cadastrado.
+     */
+    private int posicaoDe(String assento) {
+        if (assento == null) {
+            return -1;
+        }
+        Integer literal = posicaoLiterais.get(assento);
+        if (literal != null) {
+            return literal;
+        }
+        int inicioNumero = inicioNumero(assento);
+        if (inicioNumero < 0) {
+            return -1;
+        }
+        String prefixo = assento.substring(0, inicioNumero);
+        int digitos = assento.length() - inicioNumero;
+        int numero = Integer.parseInt(assento.substring(inicioNumero));
+        int menorLargura = Integer.toString(numero).length() == digitos ? 1 : digitos;
+        for (int largura = menorLargura; largura <= digitos; largura++) {
+            TreeMap<Integer, Integer> grupo = faixasPorGrupo.get(new GrupoFaixas(prefixo, largura));
+            Map.Entry<Integer, Integer> candidata = grupo == null ? null : grupo.floorEntry(numero);
+            if (candidata == null) {
+                continue;
+            }
+            int indice = candidata.getValue();
+            int deslocamento = numero - faixas.get(indice).inicio();
+            if (deslocamento < faixas.get(indice).quantidade()) {
+                return inicioFaixas.get(indice) + deslocamento;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o rótulo do assento em uma posição.
+     *
+     * @param posicao Posição do assento.
+     * @return O rótulo do assento.
+     */
+    private String rotuloDe(int posicao) {
+        // Busca binária pela última faixa que começa antes ou na posição
+        int baixo = 0;
+        int alto = inicioFaixas.size() - 1;
+        while (baixo < alto) {
+            int meio = (baixo + alto + 1) >>> 1;
+            if (inicioFaixas.get(meio) <= posicao) {
+                baixo = meio;
+            } else {
+                alto = meio - 1;
+            }
+        }
+        return faixas.get(baixo).rotulo(posicao - inicioFaixas.get(baixo));
+    }
+
+    /**
+     * Encontra onde começa o número no final de um rótulo.
+     *
+     * @param assento Rótulo do assento.
+     * @return Índice do primeiro dígito final, ou -1 se o rótulo não terminar em um número representável.
+     */
+    private static int inicioNumero(String assento) {
+        int inicio = assento.length();
+        while (inicio > 0 && assento.charAt(inicio - 1) >= '0' && assento.charAt(inicio - 1) <= '9') {
+            inicio--;
+        }
+        int digitos = assento.length() - inicio;
+        if (digitos == 0 || digitos > 9) {
+            return -1;
+        }
+        return inicio;
+    }
+}
@@ -0,0 +1,14 @@
+package aplication.model;
+
+/**
+ * Linha do histórico de compras de um usuário, pronta para ser exibida.
+ * Reúne o ingresso e os dados relacionados a ele, já buscados pelo controlador.
+ *
+ * @param ingresso  O ingresso comprado.
+ * @param evento    O resumo do evento do ingresso.
+ * @param compra    A compra que gerou o ingresso, ou null se ela não for encontrada.
+ * @param recibo    O recibo do ingresso, ou null se ele não for encontrado.
+ * @param avaliacao A avaliação do usuário para o evento, ou null se ele ainda não avaliou.
+ */
+public record ItemHistoricoCompra(Ingresso ingresso, ResumoEvento evento, Compra compra, Recibo recibo, Avaliacao avaliacao) {
+}
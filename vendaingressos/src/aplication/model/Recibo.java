@@ -0,0 +1,116 @@
+package aplication.model;
+
+import java.util.Date;
+import java.util.UUID;
+import aplication.interfaces.Identificavel;
+
+/**
+ * Classe que representa o recibo de uma compra.
+ * O recibo guarda apenas os campos exibidos ao usuário, copiados no momento da compra; o texto é montado
+ * somente quando o recibo é exibido. Cada compra tem um único recibo, que usa o mesmo ID da compra.
+ */
+public class Recibo implements Identificavel {
+    // Atributos
+    private final UUID id; // ID da compra que gerou o recibo
+    private final UUID idIngresso; // ID do ingresso comprado
+    private final UUID idUsuario; // ID do usuário que fez a compra
+    private final String nomeEvento; // Nome do evento na data da compra
+    private final Date dataEvento; // Data do evento na data da compra
+    private final String assento; // Assento comprado
+    private final double preco; // Preço pago
+    private final String metodoPagamento; // Metodo de pagamento (Cartão ou Boleto)
+
+    /**
+     * Construtor da classe Recibo, a partir da compra e dos dados relacionados a ela.
+     *
+     * @param compra   A compra que gerou o recibo.
+     * @param ingresso O ingresso comprado.
+     * @param evento   O evento do ingresso.
+     */
+    public Recibo(Compra compra, Ingresso ingresso, Evento evento) {
+        this.id = compra.getId();
+        this.idIngresso = ingresso.getId();
+        this.idUsuario = compra.getIdUsuario();
+        this.nomeEvento = evento.getNome();
+        this.dataEvento = evento.getData();
+        this.assento = ingresso.getAssento();
+        this.preco = compra.getPreco();
+        this.metodoPagamento = compra.getMetodoPagamento();
+    }
+
+    /**
+     * Construtor da classe Recibo com todos os campos, usado na leitura dos arquivos.
+     *
+     * @param id              ID da compra que gerou o recibo.
+     * @param idIngresso      ID do ingresso comprado.
+     * @param idUsuario       ID do usuário que fez a compra.
+     * @param nomeEvento      Nome do evento na data da compra.
+     * @param dataEvento      Data do evento na data da compra.
+     * @param assento         Assento comprado.
+     * @param preco           Preço pago.
+     * @param metodoPagamento Metodo de pagamento (Cartão ou Boleto).
+     */
+    public Recibo(UUID id, UUID idIngresso, UUID idUsuario, String nomeEvento, Date dataEvento, String assento,
+                  double preco, String metodoPagamento) {
+        this.id = id;
+        this.idIngresso = idIngresso;
+        this.idUsuario = idUsuario;
+        this.nomeEvento = nomeEvento;
+        this.dataEvento = dataEvento;
+        this.assento = assento;
+        this.preco = preco;
+        this.metodoPagamento = metodoPagamento;
+    }
+
+    /**
+     * Retorna o ID do recibo, que é o ID da compra.
+     *
+     * @return UUID da compra.
+     */
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    // Getters
+
+    public UUID getIdIngresso() {
+        return idIngresso;
+    }
+
+    public UUID getIdUsuario() {
+        return idUsuario;
+    }
+
+    public String getNomeEvento() {
+        return nomeEvento;
+    }
+
+    public Date getDataEvento() {
+        return dataEvento;
+    }
+
+    public String getAssento() {
+        return assento;
+    }
+
+    public double getPreco() {
+        return preco;
+    }
+
+    public String getMetodoPagamento() {
+        return metodoPagamento;
+    }
+
+    @Override
+    public String toString() {
+        return "Recibo{" +
+                "id=" + id +
+                ", idIngresso=" + idIngresso +
+                ", nomeEvento='" + nomeEvento + '\'' +
+                ", assento='" + assento + '\'' +
+                ", preco=" + preco +
+                ", metodoPagamento='" + metodoPagamento + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,47 @@
+package aplication.model;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Dados de um evento usados pelas listagens e pelo histórico de compras, sem a descrição e sem o inventário.
+ * Lido do arquivo de eventos como projeção ({@link aplication.filemanagement.Projecao}), descartando os demais campos.
+ *
+ * @param id                  ID do evento.
+ * @param nome                Nome do evento.
+ * @param data                Data do evento.
+ * @param preco               Preço do ingresso.
+ * @param assentosDisponiveis Quantidade de assentos disponíveis. Não faz parte do arquivo de eventos: é preenchida
+ *                            a partir do inventário pelas consultas que a exibem, e vale 0 nas demais.
+ */
+public record ResumoEvento(UUID id, String nome, Date data, double preco, int assentosDisponiveis) {
+
+    /**
+     * Cria o resumo de um evento completo, sem a quantidade de assentos.
+     *
+     * @param evento O evento.
+     * @return O resumo do evento.
+     */
+    public static ResumoEvento de(Evento evento) {
+        return new ResumoEvento(evento.getId(), evento.getNome(), evento.getData(), evento.getPreco(), 0);
+    }
+
+    /**
+     * Retorna uma cópia do resumo com a quantidade de assentos disponíveis informada.
+     *
+     * @param quantidade Quantidade de assentos disponíveis.
+     * @return O novo resumo.
+     */
+    public ResumoEvento comAssentosDisponiveis(int quantidade) {
+        return new ResumoEvento(id, nome, data, preco, quantidade);
+    }
+
+    /**
+     * Verifica se o evento está ativo, ou seja, se a data do evento ainda não passou.
+     *
+     * @return true se o evento estiver ativo, false caso contrário.
+     */
+    public boolean isAtivo() {
+        return data.after(new Date());
+    }
+}
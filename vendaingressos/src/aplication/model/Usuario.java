@@ -2,14 +2,13 @@ package aplication.model;
 
 import aplication.interfaces.Identificavel;
 import java.util.Objects;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 
 /**
  * Classe que representa um usuário do sistema.
  * Um usuário possui um ID único, login, senha, nome, CPF, e-mail e pode ser um administrador.
- * O usuário também possui listas de ingressos, cartões e recibos, além de métodos para gerenciar seu estado de login.
+ * Ingressos, cartões e compras do usuário não ficam copiados aqui: cada um guarda o ID do seu dono e é
+ * buscado pelos índices dos respectivos controladores, como {@code IngressoController.getByUsuarioId}.
  */
 public class Usuario implements Identificavel {
     private final UUID id; // ID aleatório e imutável
@@ -20,9 +19,6 @@ public class Usuario implements Identificavel {
     private String email;
     private boolean admin;
     private boolean logado;
-    public List<Ingresso> ingressos;
-    public List<Cartao> cartoes;
-    public List<String> recibos;
 
     /**
      * Construtor da classe Usuario.
@@ -43,9 +39,29 @@ public class Usuario implements Identificavel {
         this.email = email;
         this.admin = admin;
         this.logado = false;
-        this.ingressos = new ArrayList<>();
-        this.cartoes = new ArrayList<>();
-        this.recibos = new ArrayList<>();
+    }
+
+    /**
+     * Construtor da classe Usuario com todos os campos, usado na leitura dos arquivos.
+     *
+     * @param id     O ID já atribuído ao usuário.
+     * @param login  O login do usuário.
+     * @param senha  A senha do usuário.
+     * @param nome   O nome do usuário.
+     * @param cpf    O CPF do usuário.
+     * @param email  O e-mail do usuário.
+     * @param admin  Indica se o usuário tem privilégios de administrador.
+     * @param logado Indica se o usuário está logado.
+     */
+    public Usuario(UUID id, String login, String senha, String nome, String cpf, String email, boolean admin, boolean logado) {
+        this.id = id;
+        this.login = login;
+        this.senha = senha;
+        this.nome = nome;
+        this.cpf = cpf;
+        this.email = email;
+        this.admin = admin;
+        this.logado = logado;
     }
 
     /**
@@ -84,22 +100,10 @@ public class Usuario implements Identificavel {
         return senha;
     }
 
-    public List<String> getRecibos() {
-        return recibos;
-    }
-
-    public List<Ingresso> getIngressos() {
-        return ingressos;
-    }
-
     public boolean getLogado() {
         return logado;
     }
 
-    public List<Cartao> getCartoes() {
-        return cartoes;
-    }
-
     public void setLogin(String login) {
         this.login = login;
     }
@@ -120,15 +124,6 @@ public class Usuario implements Identificavel {
         this.senha = novaSenha;
     }
 
-    /**
-     * Adiciona um recibo à lista de recibos do usuário.
-     *
-     * @param recibo O recibo a ser adicionado.
-     */
-    public void addRecibo(String recibo) {
-        this.recibos.add(recibo);
-    }
-
     /**
      * Realiza o login do usuário com base em login e senha fornecidos.
      *
@@ -148,46 +143,6 @@ public class Usuario implements Identificavel {
         this.logado = false;
     }
 
-    /**
-     * Adiciona um ingresso à lista de ingressos do usuário.
-     *
-     * @param ingresso O ingresso a ser adicionado.
-     */
-    public void comprarIngresso(Ingresso ingresso) {
-        this.ingressos.add(ingresso);
-    }
-
-    public void setIngressos(List<Ingresso> ingressos) {
-        this.ingressos = ingressos;
-    }
-
-    /**
-     * Remove um ingresso da lista de ingressos do usuário.
-     *
-     * @param ingresso O ingresso a ser removido.
-     */
-    public void removerIngresso(Ingresso ingresso) {
-        this.ingressos.remove(ingresso);
-    }
-
-    /**
-     * Adiciona um cartão à lista de cartões do usuário.
-     *
-     * @param cartao O cartão a ser adicionado.
-     */
-    public void addCartao(Cartao cartao) {
-        this.cartoes.add(cartao);
-    }
-
-    /**
-     * Remove um cartão da lista de cartões do usuário.
-     *
-     * @param cartao O cartão a ser removido.
-     */
-    public void removerCartao(Cartao cartao) {
-        this.cartoes.remove(cartao);
-    }
-
     @Override
     public String toString() {
         return "Usuário{" +
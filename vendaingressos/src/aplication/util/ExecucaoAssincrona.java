@@ -0,0 +1,74 @@
+package aplication.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executa operações dos controladores fora da thread que as solicitou, devolvendo um {@link CompletableFuture}.
+ * <p>
+ * As telas JavaFX usam as variantes assíncronas dos controladores para que a leitura e a gravação dos
+ * arquivos não bloqueiem a JavaFX Application Thread. As tarefas rodam em um pool limitado de threads
+ * daemon: os gerenciadores de arquivos já serializam o acesso a cada arquivo, então mais threads não
+ * aceleram a E/S, apenas acumulariam threads bloqueadas.
+ */
+public final class ExecucaoAssincrona {
+    private static final int QUANTIDADE_THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private static final AtomicInteger CONTADOR_THREADS = new AtomicInteger();
+
+    // Threads daemon, para não impedir o encerramento da aplicação
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(QUANTIDADE_THREADS, tarefa -> {
+        Thread thread = new Thread(tarefa, "servico-assincrono-" + CONTADOR_THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Operação que produz um resultado e pode lançar exceções verificadas, como as dos controladores.
+     *
+     * @param <T> Tipo do resultado.
+     */
+    @FunctionalInterface
+    public interface Operacao<T> {
+        T executar() throws Exception;
+    }
+
+    private ExecucaoAssincrona() {
+    }
+
+    /**
+     * Executa uma operação em segundo plano.
+     * Exceções lançadas pela operação completam o future excepcionalmente, envolvidas em {@link CompletionException}.
+     *
+     * @param operacao Operação a ser executada.
+     * @param <T>      Tipo do resultado.
+     * @return Um future completado com o resultado da operação.
+     */
+    public static <T> CompletableFuture<T> executar(Operacao<T> operacao) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return operacao.executar();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, EXECUTOR);
+    }
+
+    /**
+     * Retorna a causa original de uma falha assíncrona, sem os envoltórios do {@link CompletableFuture}.
+     *
+     * @param erro Erro recebido pelo future.
+     * @return A exceção lançada pela operação.
+     */
+    public static Throwable causa(Throwable erro) {
+        while (erro instanceof CompletionException && erro.getCause() != null) {
+            erro = erro.getCause();
+        }
+        return erro;
+    }
+}
@@ -0,0 +1,140 @@
+package aplication.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de textos digitados pelo usuário para comparação e busca.
+ * <p>
+ * O texto é convertido para minúsculas e perde os acentos e o cedilha, de modo que "Ópera", "opera" e "OPERA"
+ * sejam iguais. Usada nas chaves dos índices por nome de evento e na busca textual, em que a consulta e o valor
+ * indexado precisam passar pela mesma normalização.
+ * <p>
+ * Para a busca, o texto normalizado é ainda dividido em termos ({@link #tokenizar}): sequências de letras e
+ * dígitos, sem as palavras mais comuns do português (artigos, preposições e conjunções), que aparecem em quase
+ * todo texto e não ajudam a distinguir um evento de outro.
+ */
+public final class NormalizacaoTexto {
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+"); // Acentos separados pela decomposição
+
+    /** Palavras ignoradas pela busca, já normalizadas. */
+    private static final Set<String> PALAVRAS_VAZIAS = Set.of(
+            "a", "o", "as", "os", "um", "uma", "uns", "umas", "e", "ou", "de", "do", "da", "dos", "das",
+            "em", "no", "na", "nos", "nas", "num", "numa", "ao", "aos", "pelo", "pela", "pelos", "pelas",
+            "por", "para", "pra", "com", "sem", "que", "se", "sua", "seu", "suas", "seus", "mais");
+
+    /**
+     * Forma normalizada de cada caractere do Latin-1 (U+0000 a U+00FF), que cobre as letras acentuadas do português.
+     * Calculada uma vez com a mesma decomposição usada para os demais caracteres.
+     */
+    private static final char[] LATIN1 = new char[256];
+
+    static {
+        for (char c = 0; c < LATIN1.length; c++) {
+            String dobrado = dobrar(String.valueOf(c));
+            LATIN1[c] = dobrado.length() == 1 ? dobrado.charAt(0) : Character.toLowerCase(c);
+        }
+    }
+
+    private NormalizacaoTexto() {
+    }
+
+    /**
+     * Normaliza um texto para comparação.
+     * Textos apenas com caracteres do Latin-1, como os nomes e descrições em português, são convertidos por
+     * tabela, caractere a caractere; os demais passam pela decomposição Unicode completa.
+     *
+     * @param texto Texto original, ou null.
+     * @return O texto em minúsculas e sem acentos, ou null se o texto for null.
+     */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        char[] caracteres = new char[texto.length()];
+        for (int i = 0; i < caracteres.length; i++) {
+            char c = texto.charAt(i);
+            if (c >= LATIN1.length) {
+                return dobrar(texto);
+            }
+            caracteres[i] = LATIN1[c];
+        }
+        return new String(caracteres);
+    }
+
+    /**
+     * Remove os acentos pela decomposição Unicode e converte para minúsculas.
+     *
+     * @param texto Texto original.
+     * @return O texto normalizado.
+     */
+    private static String dobrar(String texto) {
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        return MARCAS.matcher(decomposto).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Divide um texto nos termos usados pela busca: normalizados, sem pontuação e sem as palavras vazias.
+     * Termos repetidos aparecem uma vez para cada ocorrência.
+     *
+     * @param texto Texto original, ou null.
+     * @return Lista com os termos do texto, na ordem em que aparecem (vazia se o texto for null).
+     */
+    public static List<String> tokenizar(String texto) {
+        return dividir(texto, true);
+    }
+
+    /**
+     * Divide um texto em palavras normalizadas e sem pontuação, mantendo as palavras vazias.
+     * Usada pelo autocompletar, em que o usuário digita o nome do evento como ele é escrito.
+     *
+     * @param texto Texto original, ou null.
+     * @return Lista com as palavras do texto, na ordem em que aparecem (vazia se o texto for null).
+     */
+    public static List<String> palavras(String texto) {
+        return dividir(texto, false);
+    }
+
+    /**
+     * Verifica se uma palavra normalizada é uma das palavras vazias ignoradas pela busca.
+     *
+     * @param palavra Palavra normalizada.
+     * @return true se a palavra for ignorada pela busca.
+     */
+    public static boolean isPalavraVazia(String palavra) {
+        return PALAVRAS_VAZIAS.contains(palavra);
+    }
+
+    /**
+     * Divide o texto normalizado nas sequências de letras e dígitos.
+     *
+     * @param texto             Texto original, ou null.
+     * @param semPalavrasVazias Se as palavras vazias devem ser descartadas.
+     * @return Lista com as palavras do texto.
+     */
+    private static List<String> dividir(String texto, boolean semPalavrasVazias) {
+        List<String> termos = new ArrayList<>();
+        String normalizado = normalizar(texto);
+        if (normalizado == null) {
+            return termos;
+        }
+        int inicio = -1;
+        for (int i = 0; i <= normalizado.length(); i++) {
+            boolean parteDoTermo = i < normalizado.length() && Character.isLetterOrDigit(normalizado.charAt(i));
+            if (parteDoTermo && inicio < 0) {
+                inicio = i;
+            } else if (!parteDoTermo && inicio >= 0) {
+                String termo = normalizado.substring(inicio, i);
+                if (!semPalavrasVazias || !PALAVRAS_VAZIAS.contains(termo)) {
+                    termos.add(termo);
+                }
+                inicio = -1;
+            }
+        }
+        return termos;
+    }
+}
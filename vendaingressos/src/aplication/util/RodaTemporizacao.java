@@ -0,0 +1,129 @@
+package aplication.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Roda de temporização com hash (hashed timing wheel) para agendar grandes quantidades de expirações.
+ * <p>
+ * O tempo é dividido em ticks de duração fixa e a roda tem um número fixo de posições. Uma tarefa com atraso
+ * de N ticks vai para a posição (tick atual + N) módulo o tamanho da roda, junto com o número de voltas
+ * completas que ainda faltam. A cada tick apenas a posição atual é visitada, então agendar e cancelar custam
+ * O(1) e o custo por tick depende só das tarefas daquela posição, e não do total de tarefas pendentes.
+ * A precisão é de um tick: uma tarefa é executada até um tick depois do seu prazo.
+ */
+public class RodaTemporizacao {
+    private final long duracaoTickMillis;
+    private final List<Set<Agendamento>> posicoes;
+    private final ScheduledExecutorService relogio;
+    private long tickAtual; // Ticks já processados desde a criação da roda
+
+    /**
+     * Tarefa agendada na roda, que pode ser cancelada antes de expirar.
+     */
+    public final class Agendamento {
+        private final Runnable tarefa;
+        private final int posicao;
+        private long voltasRestantes;
+        private boolean ativo = true;
+
+        private Agendamento(Runnable tarefa, int posicao, long voltasRestantes) {
+            this.tarefa = tarefa;
+            this.posicao = posicao;
+            this.voltasRestantes = voltasRestantes;
+        }
+
+        /**
+         * Cancela a tarefa, se ela ainda não tiver sido executada.
+         *
+         * @return true se a tarefa foi cancelada; false se ela já tinha sido executada ou cancelada.
+         */
+        public boolean cancelar() {
+            synchronized (RodaTemporizacao.this) {
+                if (!ativo) {
+                    return false;
+                }
+                ativo = false;
+                return posicoes.get(posicao).remove(this);
+            }
+        }
+    }
+
+    /**
+     * Construtor da classe RodaTemporizacao. Inicia uma thread daemon que avança a roda a cada tick.
+     *
+     * @param duracaoTickMillis Duração de um tick, em milissegundos (precisão das expirações).
+     * @param quantidadePosicoes Quantidade de posições da roda.
+     */
+    public RodaTemporizacao(long duracaoTickMillis, int quantidadePosicoes) {
+        if (duracaoTickMillis <= 0 || quantidadePosicoes <= 0) {
+            throw new IllegalArgumentException("A duração do tick e a quantidade de posições devem ser positivas.");
+        }
+        this.duracaoTickMillis = duracaoTickMillis;
+        this.posicoes = new ArrayList<>(quantidadePosicoes);
+        for (int i = 0; i < quantidadePosicoes; i++) {
+            posicoes.add(new LinkedHashSet<>());
+        }
+        this.relogio = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "roda-temporizacao");
+            thread.setDaemon(true);
+            return thread;
+        });
+        relogio.scheduleAtFixedRate(this::avancar, duracaoTickMillis, duracaoTickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Agenda uma tarefa para ser executada após um atraso.
+     *
+     * @param atrasoMillis Atraso, em milissegundos.
+     * @param tarefa       Tarefa a ser executada na thread da roda; deve ser rápida.
+     * @return O agendamento, que permite cancelar a tarefa.
+     */
+    public synchronized Agendamento agendar(long atrasoMillis, Runnable tarefa) {
+        long ticks = Math.max(1, (atrasoMillis + duracaoTickMillis - 1) / duracaoTickMillis);
+        long prazo = tickAtual + ticks;
+        int posicao = (int) (prazo % posicoes.size());
+        Agendamento agendamento = new Agendamento(tarefa, posicao, (ticks - 1) / posicoes.size());
+        posicoes.get(posicao).add(agendamento);
+        return agendamento;
+    }
+
+    /**
+     * Interrompe a roda; tarefas pendentes não serão mais executadas.
+     */
+    public void parar() {
+        relogio.shutdownNow();
+    }
+
+    /**
+     * Avança um tick e executa as tarefas cuja última volta terminou.
+     */
+    private void avancar() {
+        List<Runnable> vencidas = new ArrayList<>();
+        synchronized (this) {
+            tickAtual++;
+            Set<Agendamento> posicao = posicoes.get((int) (tickAtual % posicoes.size()));
+            posicao.removeIf(agendamento -> {
+                if (agendamento.voltasRestantes > 0) {
+                    agendamento.voltasRestantes--;
+                    return false;
+                }
+                agendamento.ativo = false;
+                vencidas.add(agendamento.tarefa);
+                return true;
+            });
+        }
+        for (Runnable tarefa : vencidas) {
+            try {
+                tarefa.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace(); // Uma tarefa com erro não pode parar a roda
+            }
+        }
+    }
+}
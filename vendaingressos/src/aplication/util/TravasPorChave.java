@@ -0,0 +1,42 @@
+package aplication.util;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Conjunto fixo de travas distribuídas por chave (striped locks).
+ * <p>
+ * Cada chave é associada sempre à mesma trava, escolhida pelo hash da chave. Operações sobre a mesma chave
+ * são serializadas, enquanto chaves diferentes costumam cair em travas diferentes e executam em paralelo,
+ * sem que seja preciso criar e descartar uma trava por chave.
+ */
+public class TravasPorChave {
+    private final Lock[] travas;
+
+    /**
+     * Construtor da classe TravasPorChave.
+     *
+     * @param quantidade Quantidade de travas; quanto maior, menor a chance de duas chaves dividirem a mesma trava.
+     */
+    public TravasPorChave(int quantidade) {
+        if (quantidade <= 0) {
+            throw new IllegalArgumentException("A quantidade de travas deve ser positiva.");
+        }
+        travas = new Lock[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            travas[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Retorna a trava associada a uma chave.
+     *
+     * @param chave Chave protegida pela trava, por exemplo o ID de um evento.
+     * @return A trava da chave; a mesma chave sempre recebe a mesma trava.
+     */
+    public Lock getTrava(Object chave) {
+        int hash = chave.hashCode();
+        hash ^= (hash >>> 16); // Espalha os bits altos, como no HashMap
+        return travas[Math.floorMod(hash, travas.length)];
+    }
+}
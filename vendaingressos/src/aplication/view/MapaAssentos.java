@@ -0,0 +1,277 @@
+package aplication.view;
+
+import aplication.model.InventarioAssentos;
+import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Mapa de assentos desenhado em um {@link Canvas}, para eventos com dezenas de milhares de lugares.
+ * <p>
+ * Os assentos são desenhados em uma grade, na ordem do inventário, sem criar um nó por assento: apenas
+ * as linhas visíveis são desenhadas e a rolagem é feita por uma barra própria. O clique é convertido em
+ * linha e coluna com aritmética, a seleção fica em um {@link BitSet} indexado pela posição do assento e,
+ * ao selecionar ou desselecionar, somente o retângulo do assento alterado é redesenhado.
+ */
+public class MapaAssentos extends Region {
+    private static final double LARGURA_ASSENTO = 60;
+    private static final double ALTURA_ASSENTO = 40;
+    private static final double ESPACO = 10;
+    private static final double PASSO_X = LARGURA_ASSENTO + ESPACO;
+    private static final double PASSO_Y = ALTURA_ASSENTO + ESPACO;
+
+    private static final Color COR_FUNDO = Color.web("#34495e");
+    private static final Color COR_DISPONIVEL = Color.web("#34495e");
+    private static final Color COR_BORDA = Color.web("#7f8c8d");
+    private static final Color COR_SELECIONADO = Color.web("#27ae60");
+    private static final Color COR_INDISPONIVEL = Color.web("#2c3e50");
+    private static final Color COR_TEXTO = Color.web("#ecf0f1");
+    private static final Color COR_TEXTO_INDISPONIVEL = Color.web("#7f8c8d");
+
+    private final Canvas canvas = new Canvas();
+    private final ScrollBar barraRolagem = new ScrollBar();
+
+    private InventarioAssentos inventario = new InventarioAssentos();
+    private final BitSet selecionados = new BitSet(); // Posições dos assentos selecionados
+    private final BitSet bloqueados = new BitSet(); // Posições de assentos disponíveis que não podem ser selecionados
+    private int colunas = 1;
+
+    private Predicate<String> aoSelecionar = assento -> true;
+    private Consumer<String> aoDesselecionar = assento -> { };
+
+    /**
+     * Construtor da classe MapaAssentos, com um mapa vazio.
+     */
+    @SuppressWarnings("this-escape") // Os tratadores de eventos só rodam depois da construção
+    public MapaAssentos() {
+        barraRolagem.setOrientation(Orientation.VERTICAL);
+        barraRolagem.setMin(0);
+        barraRolagem.valueProperty().addListener((obs, antigo, novo) -> desenharTudo());
+        getChildren().addAll(canvas, barraRolagem);
+
+        canvas.setOnMouseClicked(this::clicar);
+        setOnScroll(e -> barraRolagem.setValue(
+                Math.max(0, Math.min(barraRolagem.getMax(), barraRolagem.getValue() - e.getDeltaY()))));
+        getStyleClass().add("mapa-assentos");
+    }
+
+    /**
+     * Define os assentos exibidos pelo mapa e limpa a seleção.
+     *
+     * @param inventario Inventário com todos os assentos do evento; os indisponíveis aparecem desabilitados.
+     * @param bloqueados Assentos disponíveis no inventário que também não podem ser selecionados,
+     *                   como os reservados por outros usuários.
+     */
+    public void setAssentos(InventarioAssentos inventario, Collection<String> bloqueados) {
+        this.inventario = inventario;
+        this.selecionados.clear();
+        this.bloqueados.clear();
+        for (String assento : bloqueados) {
+            int posicao = inventario.getPosicao(assento);
+            if (posicao >= 0) {
+                this.bloqueados.set(posicao);
+            }
+        }
+        barraRolagem.setValue(0);
+        atualizarBarraRolagem();
+        desenharTudo();
+    }
+
+    /**
+     * Define a ação executada antes de selecionar um assento, por exemplo reservá-lo.
+     * Se a ação retornar false, o assento não é selecionado e passa a ser exibido como indisponível.
+     *
+     * @param aoSelecionar Ação que recebe o rótulo do assento e informa se ele pode ser selecionado.
+     */
+    public void setAoSelecionar(Predicate<String> aoSelecionar) {
+        this.aoSelecionar = aoSelecionar;
+    }
+
+    /**
+     * Define a ação executada depois de desselecionar um assento, por exemplo liberar sua reserva.
+     *
+     * @param aoDesselecionar Ação que recebe o rótulo do assento.
+     */
+    public void setAoDesselecionar(Consumer<String> aoDesselecionar) {
+        this.aoDesselecionar = aoDesselecionar;
+    }
+
+    /**
+     * Retorna os rótulos dos assentos selecionados, na ordem do inventário.
+     *
+     * @return Uma nova lista com os assentos selecionados.
+     */
+    public List<String> getSelecionados() {
+        List<String> assentos = new ArrayList<>(selecionados.cardinality());
+        for (int posicao = selecionados.nextSetBit(0); posicao >= 0; posicao = selecionados.nextSetBit(posicao + 1)) {
+            assentos.add(inventario.getRotulo(posicao));
+        }
+        return assentos;
+    }
+
+    @Override
+    protected void layoutChildren() {
+        Insets margem = getInsets();
+        double largura = getWidth() - margem.getLeft() - margem.getRight();
+        double altura = getHeight() - margem.getTop() - margem.getBottom();
+        double larguraBarra = barraRolagem.prefWidth(-1);
+        double larguraCanvas = Math.max(0, largura - larguraBarra);
+
+        canvas.setWidth(larguraCanvas);
+        canvas.setHeight(Math.max(0, altura));
+        canvas.relocate(margem.getLeft(), margem.getTop());
+        barraRolagem.resizeRelocate(margem.getLeft() + larguraCanvas, margem.getTop(), larguraBarra, altura);
+
+        colunas = Math.max(1, (int) ((larguraCanvas - ESPACO) / PASSO_X));
+        atualizarBarraRolagem();
+        desenharTudo();
+    }
+
+    @Override
+    protected double computePrefWidth(double altura) {
+        return 600;
+    }
+
+    @Override
+    protected double computePrefHeight(double largura) {
+        return 220;
+    }
+
+    /**
+     * Ajusta o intervalo da barra de rolagem à altura total da grade.
+     */
+    private void atualizarBarraRolagem() {
+        int linhas = (inventario.getTotal() + colunas - 1) / colunas;
+        double alturaConteudo = ESPACO + linhas * PASSO_Y;
+        double maximo = Math.max(0, alturaConteudo - canvas.getHeight());
+        barraRolagem.setMax(maximo);
+        barraRolagem.setVisibleAmount(canvas.getHeight());
+        barraRolagem.setUnitIncrement(PASSO_Y);
+        barraRolagem.setBlockIncrement(Math.max(PASSO_Y, canvas.getHeight() - PASSO_Y));
+        barraRolagem.setValue(Math.min(barraRolagem.getValue(), maximo));
+        barraRolagem.setDisable(maximo == 0);
+    }
+
+    /**
+     * Redesenha as linhas visíveis da grade.
+     */
+    private void desenharTudo() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(COR_FUNDO);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        double deslocamento = barraRolagem.getValue();
+        int primeiraLinha = (int) Math.max(0, (deslocamento - ESPACO) / PASSO_Y);
+        int ultimaLinha = (int) ((deslocamento + canvas.getHeight()) / PASSO_Y);
+        int total = inventario.getTotal();
+        for (int linha = primeiraLinha; linha <= ultimaLinha; linha++) {
+            for (int coluna = 0; coluna < colunas; coluna++) {
+                int posicao = linha * colunas + coluna;
+                if (posicao >= total) {
+                    return;
+                }
+                desenharAssento(gc, posicao);
+            }
+        }
+    }
+
+    /**
+     * Desenha um único assento, limpando antes apenas o seu retângulo.
+     *
+     * @param gc      Contexto gráfico do canvas.
+     * @param posicao Posição do assento no inventário.
+     */
+    private void desenharAssento(GraphicsContext gc, int posicao) {
+        double x = ESPACO + (posicao % colunas) * PASSO_X;
+        double y = ESPACO + (posicao / colunas) * PASSO_Y - barraRolagem.getValue();
+        if (y + ALTURA_ASSENTO < 0 || y > canvas.getHeight()) {
+            return; // Fora da área visível
+        }
+        boolean selecionavel = isSelecionavel(posicao);
+        boolean selecionado = selecionados.get(posicao);
+
+        gc.setFill(COR_FUNDO);
+        gc.fillRect(x - 1, y - 1, LARGURA_ASSENTO + 2, ALTURA_ASSENTO + 2);
+        gc.setFill(selecionado ? COR_SELECIONADO : selecionavel ? COR_DISPONIVEL : COR_INDISPONIVEL);
+        gc.fillRoundRect(x, y, LARGURA_ASSENTO, ALTURA_ASSENTO, 5, 5);
+        if (!selecionado) {
+            gc.setStroke(COR_BORDA);
+            gc.strokeRoundRect(x + 0.5, y + 0.5, LARGURA_ASSENTO - 1, ALTURA_ASSENTO - 1, 5, 5);
+        }
+
+        gc.setFill(selecionavel || selecionado ? COR_TEXTO : COR_TEXTO_INDISPONIVEL);
+        gc.setFont(Font.getDefault());
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.fillText(inventario.getRotulo(posicao), x + LARGURA_ASSENTO / 2, y + ALTURA_ASSENTO / 2, LARGURA_ASSENTO - 6);
+    }
+
+    /**
+     * Seleciona ou desseleciona o assento sob o cursor.
+     *
+     * @param evento Clique do mouse no canvas.
+     */
+    private void clicar(MouseEvent evento) {
+        if (isDisabled()) {
+            return;
+        }
+        double x = evento.getX() - ESPACO;
+        double y = evento.getY() + barraRolagem.getValue() - ESPACO;
+        if (x < 0 || y < 0 || x % PASSO_X > LARGURA_ASSENTO || y % PASSO_Y > ALTURA_ASSENTO) {
+            return; // Clique no espaço entre os assentos
+        }
+        int coluna = (int) (x / PASSO_X);
+        int posicao = (int) (y / PASSO_Y) * colunas + coluna;
+        if (coluna >= colunas || posicao >= inventario.getTotal()) {
+            return;
+        }
+        alternar(posicao);
+    }
+
+    /**
+     * Alterna a seleção de um assento e redesenha somente ele.
+     *
+     * @param posicao Posição do assento no inventário.
+     */
+    private void alternar(int posicao) {
+        String assento = inventario.getRotulo(posicao);
+        if (selecionados.get(posicao)) {
+            selecionados.clear(posicao);
+            aoDesselecionar.accept(assento);
+        } else if (isSelecionavel(posicao)) {
+            if (aoSelecionar.test(assento)) {
+                selecionados.set(posicao);
+            } else {
+                bloqueados.set(posicao); // Outro usuário chegou antes
+            }
+        } else {
+            return;
+        }
+        desenharAssento(canvas.getGraphicsContext2D(), posicao);
+    }
+
+    /**
+     * Verifica se um assento pode ser selecionado.
+     *
+     * @param posicao Posição do assento no inventário.
+     * @return true se o assento está disponível e não está bloqueado.
+     */
+    private boolean isSelecionavel(int posicao) {
+        return inventario.isDisponivel(posicao) && !bloqueados.get(posicao);
+    }
+}
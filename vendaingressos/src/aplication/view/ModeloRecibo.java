@@ -0,0 +1,35 @@
+package aplication.view;
+
+import aplication.model.Recibo;
+
+/**
+ * Modelo de texto usado para exibir os recibos.
+ * Os recibos são armazenados apenas com seus campos; o texto é montado aqui, no momento da exibição.
+ */
+public final class ModeloRecibo {
+    private static final String MODELO = """
+            Ingresso de ID: %s
+            Evento: %s
+            Data: %s
+            Assento: %s
+            Preço: %s
+            Método de pagamento: %s
+            ID da transação: %s""";
+
+    private ModeloRecibo() {
+    }
+
+    /**
+     * Monta o texto de um recibo.
+     *
+     * @param recibo O recibo a ser exibido.
+     * @return O texto do recibo, ou uma mensagem indicando que ele não foi encontrado.
+     */
+    public static String renderizar(Recibo recibo) {
+        if (recibo == null) {
+            return "Recibo não encontrado.";
+        }
+        return MODELO.formatted(recibo.getIdIngresso(), recibo.getNomeEvento(), recibo.getDataEvento(),
+                recibo.getAssento(), recibo.getPreco(), recibo.getMetodoPagamento(), recibo.getId());
+    }
+}
@@ -1,6 +1,7 @@
 package aplication.view.controller;
 
 import aplication.controller.EventoController;
+import aplication.controller.ContextoAplicacao;
 import aplication.model.Usuario;
 import aplication.model.Evento;
 import javafx.fxml.FXML;
@@ -18,7 +19,7 @@ import java.util.Date;
  */
 public class TelaAdicionarEventoController {
 
-    private final EventoController eventoController = new EventoController();
+    private final EventoController eventoController = ContextoAplicacao.getInstancia().getEventoController();
     private Usuario usuarioAtual;
     private Evento evento;
 
@@ -271,7 +272,7 @@ public class TelaAdicionarEventoController {
                 evento.adicionarAssento("A" + (i + 1));
             }
         }
-        eventoController.update(evento);
+        eventoController.salvarAssentos(evento);
 
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("Sucesso");
@@ -7,6 +7,7 @@ import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.stage.Stage;
 import aplication.controller.UsuarioController;
+import aplication.controller.ContextoAplicacao;
 import aplication.model.Usuario;
 
 import java.io.IOException;
@@ -62,7 +63,7 @@ public class TelaCadastroController {
      * Construtor padrão, inicializa o controlador de usuários.
      */
     public TelaCadastroController() {
-        this.usuarioController = new UsuarioController();
+        this.usuarioController = ContextoAplicacao.getInstancia().getUsuarioController();
     }
 
     /**
@@ -1,5 +1,7 @@
 package aplication.view.controller;
 
+import aplication.controller.CartaoController;
+import aplication.controller.ContextoAplicacao;
 import aplication.model.Cartao;
 import aplication.model.Usuario;
 import javafx.fxml.FXML;
@@ -15,6 +17,8 @@ import java.text.SimpleDateFormat;
 
 public class TelaCartoesController {
 
+    private final CartaoController cartaoController = ContextoAplicacao.getInstancia().getCartaoController();
+
     @FXML
     private VBox cartoesContainer;
 
@@ -49,7 +53,7 @@ public class TelaCartoesController {
     private void carregarCartoes() {
         cartoesContainer.getChildren().clear();
 
-        for (Cartao cartao : usuarioAtual.getCartoes()) {
+        for (Cartao cartao : cartaoController.getByUsuarioId(usuarioAtual.getId())) {
             VBox cartaoBox = criarBoxCartao(cartao);
             cartoesContainer.getChildren().add(cartaoBox);
         }
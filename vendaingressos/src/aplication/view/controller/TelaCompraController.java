@@ -3,6 +3,9 @@ package aplication.view.controller;
 import aplication.controller.*;
 import aplication.model.Cartao;
 import aplication.model.Usuario;
+import aplication.util.ExecucaoAssincrona;
+import aplication.view.MapaAssentos;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
@@ -10,7 +13,6 @@ import javafx.geometry.Pos;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
@@ -20,6 +22,7 @@ import javafx.stage.StageStyle;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controlador para a tela de compra de ingressos.
@@ -27,10 +30,9 @@ import java.util.*;
 public class TelaCompraController {
 
     private Usuario usuarioAtual;
-    private CompraController compraController = new CompraController();
-    private CartaoController cartaoController = new CartaoController();
-    private IngressoController ingressoController = new IngressoController();
-    private UsuarioController usuarioController = new UsuarioController();
+    private CompraController compraController = ContextoAplicacao.getInstancia().getCompraController();
+    private CartaoController cartaoController = ContextoAplicacao.getInstancia().getCartaoController();
+    private IngressoController ingressoController = ContextoAplicacao.getInstancia().getIngressoController();
 
     private Stage stageConfirmacaoCompra;
 
@@ -43,7 +45,7 @@ public class TelaCompraController {
     private Label detalhesEvento;
 
     @FXML
-    private FlowPane assentosContainer;
+    private MapaAssentos mapaAssentos;
 
     @FXML
     private Label opcaoBoleto;
@@ -90,6 +92,12 @@ public class TelaCompraController {
     @FXML
     private Button carregarCartao;
 
+    @FXML
+    private Button botaoConfirmarCompra;
+
+    @FXML
+    private ProgressIndicator indicadorProcessamento;
+
     private Evento eventoAtual;
     private Scene cenaAnterior;
 
@@ -127,31 +135,34 @@ public class TelaCompraController {
     }
 
     /**
-     * Carrega os assentos disponíveis para o evento.
+     * Carrega os assentos do evento no mapa de assentos.
      */
     private void carregarAssentos() {
-        assentosContainer.getChildren().clear();
-        List<String> assentosDisponiveis = eventoAtual.getAssentosDisponiveis();
-
-        for (String nomeAssento : assentosDisponiveis) {
-            Label assento = new Label(nomeAssento);
-            assento.getStyleClass().add("assento");
-            assento.setOnMouseClicked(e -> selecionarAssento(assento));
-            assentosContainer.getChildren().add(assento);
-        }
+        // Assentos reservados por quem está no meio de outra compra não podem ser selecionados
+        Set<String> reservados = ingressoController.getAssentosReservadosPorOutros(eventoAtual.getId(), usuarioAtual.getId());
+        mapaAssentos.setAssentos(eventoAtual.getInventarioAssentos(), reservados);
     }
 
     /**
-     * Seleciona ou desseleciona um assento.
+     * Reserva um assento selecionado no mapa para o usuário, por tempo limitado.
      * @param assento Assento clicado.
+     * @return true se o assento foi reservado; false se ele não está mais disponível.
      */
-    private void selecionarAssento(Label assento) {
-        String selecionado = "-fx-background-color: #27ae60; -fx-text-fill: #ecf0f1;";
-        String naoSelecionado = "-fx-background-color: #34495e; -fx-text-fill: #ecf0f1; -fx-border-color: #7f8c8d;";
+    private boolean selecionarAssento(String assento) {
+        if (ingressoController.reservarAssento(eventoAtual.getId(), usuarioAtual.getId(), assento)) {
+            erroAssento.setText("");
+            return true;
+        }
+        erroAssento.setText("O assento " + assento + " não está mais disponível.");
+        return false;
+    }
 
-        assento.setStyle(
-                assento.getStyle().contains("background-color: #27ae60;") ? naoSelecionado : selecionado
-        );
+    /**
+     * Libera a reserva de um assento desselecionado no mapa.
+     * @param assento Assento clicado.
+     */
+    private void desselecionarAssento(String assento) {
+        ingressoController.liberarAssento(eventoAtual.getId(), usuarioAtual.getId(), assento);
     }
 
     /**
@@ -168,6 +179,8 @@ public class TelaCompraController {
         containerBoleto.setManaged(false);
         carregarCartao.setVisible(false);
         carregarCartao.setOnAction(e -> carregarCartoes());
+        mapaAssentos.setAoSelecionar(this::selecionarAssento);
+        mapaAssentos.setAoDesselecionar(this::desselecionarAssento);
 
         configurarNumeroCartao();
         configurarCvvCartao();
@@ -310,16 +323,7 @@ public class TelaCompraController {
      * @return Lista de assentos selecionados.
      */
     private List<String> obterAssentosSelecionados() {
-        List<String> assentos = new ArrayList<>();
-        for (var node : assentosContainer.getChildren()) {
-            if (node instanceof Label) {
-                Label assento = (Label) node;
-                if (assento.getStyle().contains("#27ae60")) {
-                    assentos.add(assento.getText());
-                }
-            }
-        }
-        return assentos;
+        return mapaAssentos.getSelecionados();
     }
 
     /**
@@ -455,7 +459,7 @@ public class TelaCompraController {
                     return;
                 }
 
-                List<Cartao> cartoesUsuario = usuarioAtual.getCartoes();
+                List<Cartao> cartoesUsuario = cartaoController.getByUsuarioId(usuarioAtual.getId());
                 for (Cartao encontrarCartao : cartoesUsuario) {
                     SimpleDateFormat formato = new SimpleDateFormat("MM/yy");
                     String dataValidade = formato.format(encontrarCartao.getDataValidade());
@@ -487,6 +491,8 @@ public class TelaCompraController {
      */
     @FXML
     private void voltarParaEventos() {
+        // Libera os assentos que o usuário reservou e não comprou
+        ingressoController.liberarReservas(eventoAtual.getId(), usuarioAtual.getId());
         try {
             Stage stage = (Stage) labelEvento.getScene().getWindow();
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/aplication/view/fxml/TelaEventos.fxml"));
@@ -494,7 +500,6 @@ public class TelaCompraController {
 
             TelaEventosController eventosController = loader.getController();
 
-            usuarioAtual.setIngressos(ingressoController.getByUsuarioId(usuarioAtual.getId()));
             eventosController.setUsuarioAtual(usuarioAtual);
             eventosController.carregarEventos();
 
@@ -597,7 +602,7 @@ public class TelaCompraController {
      *
      * Dependendo da forma de pagamento, o metodo realiza o processamento do boleto
      * ou do pagamento via cartão de crédito, e em seguida gera os recibos correspondentes.
-     * Após a compra, a lista de ingressos do usuário é atualizada.
+     * O processamento acontece em segundo plano; enquanto isso, a tela fica bloqueada com um indicador de progresso.
      *
      * @param pagamento Forma de pagamento selecionada.
      * @param assentos Lista de assentos selecionados.
@@ -606,44 +611,76 @@ public class TelaCompraController {
      * @param dataValidade Data de validade do cartão.
      * @param nome Nome do titular do cartão.
      * @param cartao Objeto Cartão correspondente.
-     * @throws Exception Se ocorrer algum erro durante o processo de finalização da compra.
      */
     @FXML
-    private void finalizarCompra(String pagamento, List<String> assentos, String numero, String cvv, Date dataValidade, String nome, Cartao cartao) throws Exception {
+    private void finalizarCompra(String pagamento, List<String> assentos, String numero, String cvv, Date dataValidade, String nome, Cartao cartao) {
+        UUID idUsuario = usuarioAtual.getId();
+        CompletableFuture<Void> compra;
+        exibirProcessamento(true);
+
         if (formaPagamentoSelecionada.equals("Boleto")) {
             UUID idBoleto = UUID.randomUUID();
-            List<UUID> recibos = compraController.criarRecibo(
-                    usuarioAtual.getId(),
+            compra = compraController.criarReciboAsync(
+                    idUsuario,
                     eventoAtual.getId(),
                     assentos,
                     eventoAtual.getPreco(),
                     idBoleto
-            );
-            mostrarAlerta("Aguardando pagamento do boleto", "Recibos Enviados para o e-mail", "\nID do Boleto: " + idBoleto);
-        } else if (formaPagamentoSelecionada.equals("Cartão")) {
-            if (cartao == null) {
-                cartao = cartaoController.criarCartao(
-                        usuarioAtual.getId(),
-                        numero,
-                        cvv,
-                        dataValidade,
-                        nome
-                );
-                usuarioAtual.addCartao(cartao);
-                usuarioController.update(usuarioAtual, usuarioAtual.getLogin(), usuarioAtual.getSenha(),
-                        usuarioAtual.getNome(), usuarioAtual.getEmail());
+            ).thenAcceptAsync(recibos -> mostrarAlerta("Aguardando pagamento do boleto", "Recibos Enviados para o e-mail",
+                    "\nID do Boleto: " + idBoleto), Platform::runLater);
+        } else {
+            compra = obterCartaoAsync(numero, cvv, dataValidade, nome, cartao)
+                    .thenCompose(cartaoPagamento -> compraController.criarReciboAsync(
+                            idUsuario,
+                            eventoAtual.getId(),
+                            assentos,
+                            cartaoPagamento.getId(),
+                            eventoAtual.getPreco()
+                    )).thenAcceptAsync(idsRecibos -> mostrarAlerta("Compra Confirmada", "Recibos Gerados com Sucesso",
+                            "IDs dos recibos: " + idsRecibos), Platform::runLater);
+        }
+
+        compra.whenComplete((concluida, erro) -> Platform.runLater(() -> {
+            exibirProcessamento(false);
+            if (erro != null) {
+                Throwable causa = ExecucaoAssincrona.causa(erro);
+                causa.printStackTrace();
+                mostrarAlerta("Erro", "Falha ao Finalizar Compra", "Erro: " + causa.getMessage());
+                return;
             }
-            List<UUID> idsRecibos = compraController.criarRecibo(
-                    usuarioAtual.getId(),
-                    eventoAtual.getId(),
-                    assentos,
-                    cartao.getId(),
-                    eventoAtual.getPreco()
-            );
-            mostrarAlerta("Compra Confirmada", "Recibos Gerados com Sucesso", "IDs dos recibos: " + idsRecibos);
+            voltarParaEventos();
+        }));
+    }
+
+    /**
+     * Retorna o cartão usado no pagamento, cadastrando-o em segundo plano caso ainda não pertença ao usuário.
+     *
+     * @param numero Número do cartão de crédito.
+     * @param cvv CVV do cartão.
+     * @param dataValidade Data de validade do cartão.
+     * @param nome Nome do titular do cartão.
+     * @param cartao Cartão já cadastrado correspondente aos dados, ou null.
+     * @return Future com o cartão do pagamento.
+     */
+    private CompletableFuture<Cartao> obterCartaoAsync(String numero, String cvv, Date dataValidade, String nome, Cartao cartao) {
+        if (cartao != null) {
+            return CompletableFuture.completedFuture(cartao);
         }
-        usuarioAtual.setIngressos(ingressoController.getByUsuarioId(usuarioAtual.getId()));
-        voltarParaEventos();
+        // O cartão guarda o ID do dono, então apenas o novo cartão é gravado
+        return ExecucaoAssincrona.executar(() ->
+                cartaoController.criarCartao(usuarioAtual.getId(), numero, cvv, dataValidade, nome));
+    }
+
+    /**
+     * Exibe ou oculta o indicador de progresso, bloqueando a confirmação enquanto a compra é processada.
+     *
+     * @param processando true para exibir o indicador e bloquear a confirmação.
+     */
+    private void exibirProcessamento(boolean processando) {
+        indicadorProcessamento.setVisible(processando);
+        indicadorProcessamento.setManaged(processando);
+        botaoConfirmarCompra.setDisable(processando);
+        mapaAssentos.setDisable(processando);
     }
 
 
@@ -658,7 +695,7 @@ public class TelaCompraController {
      */
     @FXML
     private void carregarCartoes() {
-        if (usuarioAtual.getCartoes().isEmpty()) {
+        if (cartaoController.getByUsuarioId(usuarioAtual.getId()).isEmpty()) {
             erroFormaPagamento.setVisible(true);
             erroFormaPagamento.setText("Você não tem cartões cadastrados!");
             return;
@@ -1,5 +1,9 @@
 package aplication.view.controller;
 
+import aplication.controller.CompraController;
+import aplication.controller.ContextoAplicacao;
+import aplication.model.Recibo;
+import aplication.view.ModeloRecibo;
 import aplication.view.WindowState;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -24,6 +28,8 @@ import java.io.IOException;
  */
 public class TelaDadosUsuarioController {
 
+    private final CompraController compraController = ContextoAplicacao.getInstancia().getCompraController();
+
     @FXML
     private Label labelLogin;
 
@@ -195,8 +201,8 @@ public class TelaDadosUsuarioController {
         contentBox.setSpacing(15);
         contentBox.setPadding(new Insets(15));
 
-        for (String recibo : usuarioAtual.getRecibos()) {
-            TextArea reciboArea = new TextArea(recibo);
+        for (Recibo recibo : compraController.getRecibosUsuario(usuarioAtual.getId())) {
+            TextArea reciboArea = new TextArea(ModeloRecibo.renderizar(recibo));
             reciboArea.setEditable(false);
             reciboArea.setWrapText(true);
             reciboArea.setPrefHeight(150);
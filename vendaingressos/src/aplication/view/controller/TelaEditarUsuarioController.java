@@ -8,6 +8,7 @@ import javafx.scene.control.*;
 import javafx.stage.Stage;
 import aplication.model.Usuario;
 import aplication.controller.UsuarioController;
+import aplication.controller.ContextoAplicacao;
 
 import java.io.IOException;
 import java.util.regex.Matcher;
@@ -102,7 +103,7 @@ public class TelaEditarUsuarioController {
         if (erro) return;
 
         try {
-            UsuarioController usuarioController = new UsuarioController();
+            UsuarioController usuarioController = ContextoAplicacao.getInstancia().getUsuarioController();
             usuarioController.update(usuarioAtual, novoLogin, novaSenha, novoNome, novoEmail);
 
             Alert alert = new Alert(Alert.AlertType.INFORMATION);
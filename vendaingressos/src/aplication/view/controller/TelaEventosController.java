@@ -1,21 +1,38 @@
 package aplication.view.controller;
 
 import aplication.view.WindowState;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
+import javafx.geometry.Side;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.TextField;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import aplication.controller.EventoController;
+import aplication.controller.ContextoAplicacao;
 import aplication.model.Evento;
+import aplication.model.ResumoEvento;
 import aplication.model.Usuario;
+import aplication.util.ExecucaoAssincrona;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Controlador para a tela de exibição de eventos.
@@ -25,9 +42,9 @@ public class TelaEventosController {
 
     private Stage telaAdicionarEventoStage;
 
-    /** Contêiner que lista os eventos disponíveis. */
+    /** Lista virtualizada dos eventos disponíveis. */
     @FXML
-    private VBox eventosContainer;
+    private ListView<ResumoEvento> listaEventos;
 
     /** Botão para adicionar novos eventos (visível apenas para administradores). */
     @FXML
@@ -45,12 +62,58 @@ public class TelaEventosController {
     @FXML
     private Button iconeUsuario;
 
+    /** Campo de busca de eventos pelo nome e pela descrição. */
+    @FXML
+    private TextField campoBusca;
+
     /** Controlador para gerenciar os eventos. */
-    private final EventoController eventoController = new EventoController();
+    private final EventoController eventoController = ContextoAplicacao.getInstancia().getEventoController();
 
     /** Usuário atualmente logado. */
     private Usuario usuarioAtual;
 
+    /** Quantidade de eventos buscados por página. */
+    private static final int TAMANHO_PAGINA = 50;
+
+    /** Quantidade de itens restantes abaixo da área visível que dispara a busca da próxima página. */
+    private static final int LIMIAR_PROXIMA_PAGINA = 10;
+
+    /** Quantidade máxima de eventos exibidos como resultado de uma busca. */
+    private static final int LIMITE_BUSCA = 100;
+
+    /** Quantidade máxima de sugestões exibidas abaixo do campo de busca. */
+    private static final int LIMITE_SUGESTOES = 8;
+
+    /** Espera após a última tecla digitada antes de buscar, para não buscar a cada caractere. */
+    private final PauseTransition esperaBusca = new PauseTransition(Duration.millis(200));
+
+    /** Espera após a última tecla digitada antes de buscar as sugestões; mais curta que a da busca. */
+    private final PauseTransition esperaSugestoes = new PauseTransition(Duration.millis(80));
+
+    /** Sugestões de eventos para o texto digitado, atualizadas enquanto o usuário digita. */
+    private final ContextMenu sugestoes = new ContextMenu();
+
+    /** Número da última busca de sugestões solicitada, para descartar resultados antigos. */
+    private int sugestaoAtual;
+
+    /** Indica se o texto do campo de busca está sendo preenchido por uma sugestão escolhida. */
+    private boolean preenchendoSugestao;
+
+    /** Resumos dos eventos já carregados, exibidos pela lista; o evento completo só é buscado na compra. */
+    private final ObservableList<ResumoEvento> eventos = FXCollections.observableArrayList();
+
+    /** Número do último carregamento de eventos solicitado, para descartar resultados antigos. */
+    private int carregamentoAtual;
+
+    /** Indica se uma página está sendo buscada. */
+    private boolean carregandoPagina;
+
+    // Evita abrir a tela de compra duas vezes enquanto o evento é buscado
+    private boolean abrindoCompra;
+
+    /** Indica se a última página já foi carregada. */
+    private boolean todosCarregados;
+
     /**
      * Inicializa o controlador, configurando elementos visuais e carregando eventos.
      */
@@ -59,6 +122,21 @@ public class TelaEventosController {
         // Inicialmente oculta o botão de cadastrar eventos
         botaoCadastrar.setVisible(false);
         botaoCadastrar.setManaged(false);
+        listaEventos.setItems(eventos);
+        listaEventos.setCellFactory(lista -> new CelulaEvento());
+        listaEventos.setFocusTraversable(false);
+        esperaBusca.setOnFinished(e -> carregarEventos());
+        esperaSugestoes.setOnFinished(e -> mostrarSugestoes(campoBusca.getText()));
+        campoBusca.textProperty().addListener((observavel, anterior, atual) -> {
+            sugestaoAtual++; // Descarta as sugestões ainda em andamento para o texto anterior
+            if (preenchendoSugestao || atual == null || atual.isBlank()) {
+                esperaSugestoes.stop();
+                sugestoes.hide();
+            } else {
+                esperaSugestoes.playFromStart();
+            }
+            esperaBusca.playFromStart();
+        });
         carregarEventos();
     }
 
@@ -85,7 +163,7 @@ public class TelaEventosController {
     @FXML
     private void desconectar() {
         try {
-            Stage stage = (Stage) eventosContainer.getScene().getWindow();
+            Stage stage = (Stage) listaEventos.getScene().getWindow();
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/aplication/view/fxml/TelaInicial.fxml"));
             Parent root = loader.load();
 
@@ -105,7 +183,7 @@ public class TelaEventosController {
     @FXML
     private void mostrarDadosUsuario() {
         try {
-            Stage stage = (Stage) eventosContainer.getScene().getWindow();
+            Stage stage = (Stage) listaEventos.getScene().getWindow();
 
             WindowState.saveState(stage);
 
@@ -114,7 +192,7 @@ public class TelaEventosController {
 
             TelaDadosUsuarioController controller = loader.getController();
             controller.setUsuario(usuarioAtual);
-            controller.setSceneAnterior(eventosContainer.getScene());
+            controller.setSceneAnterior(listaEventos.getScene());
 
             Scene novaCena = new Scene(root);
             String css = getClass().getResource("/aplication/view/estilos.css").toExternalForm();
@@ -129,77 +207,225 @@ public class TelaEventosController {
     }
 
     /**
-     * Carrega a lista de eventos disponíveis no contêiner da interface.
+     * Recarrega a lista de eventos disponíveis a partir da primeira página.
+     * As páginas seguintes são buscadas em segundo plano à medida que o usuário rola a lista.
+     * Com texto no campo de busca, a lista exibe apenas os eventos encontrados pela busca.
      */
     public void carregarEventos() {
-        eventosContainer.getChildren().clear();
-
-        for (Evento evento : eventoController.getDisponiveis()) {
-            VBox eventoBox = criarBoxEvento(evento);
-            eventosContainer.getChildren().add(eventoBox);
+        carregamentoAtual++;
+        carregandoPagina = false;
+        todosCarregados = false;
+        eventos.clear();
+        listaEventos.setPlaceholder(new ProgressIndicator());
+        String busca = campoBusca.getText();
+        if (busca != null && !busca.isBlank()) {
+            buscarEventos(busca);
+        } else {
+            carregarProximaPagina();
         }
     }
 
     /**
-     * Cria uma representação visual de um evento na interface.
+     * Busca em segundo plano os eventos disponíveis que contêm as palavras digitadas, em ordem de relevância.
+     * Os resultados vêm de uma só vez, sem paginação.
      *
-     * @param evento o evento a ser exibido.
-     * @return um contêiner visual representando o evento.
+     * @param texto o texto digitado no campo de busca.
      */
-    private VBox criarBoxEvento(Evento evento) {
-        VBox box = new VBox(5);
-        box.getStyleClass().add("evento-box");
-        box.setPadding(new Insets(10));
-        box.setStyle("-fx-background-color: #34495e; -fx-border-color: #ecf0f1; -fx-border-radius: 5;");
-
-        Label nome = new Label("Nome: " + evento.getNome());
-        Label descricao = new Label("Descrição: " + evento.getDescricao());
-        Label data = new Label("Data: " + evento.getData().toString());
-        Label preco = new Label("Preço: R$ " + evento.getPreco());
-        Label capacidade = new Label("Capacidade: " + evento.getAssentosDisponiveis().size());
-
-        nome.setStyle("-fx-font-weight: bold;");
-
-        HBox linhaInferior = new HBox(10);
-
-        Button botaoComprar = new Button("Comprar Ingresso");
-        botaoComprar.getStyleClass().add(
-                evento.getAssentosDisponiveis().isEmpty() ? "botao-desativado" : "botao"
-        );
-        botaoComprar.setOnAction(e -> {
-            if (!evento.getAssentosDisponiveis().isEmpty()) {
-                comprarIngresso(evento);
+    private void buscarEventos(String texto) {
+        todosCarregados = true;
+        int carregamento = carregamentoAtual;
+
+        eventoController.buscarResumosDisponiveisAsync(texto, LIMITE_BUSCA).whenComplete((encontrados, erro) -> Platform.runLater(() -> {
+            if (carregamento != carregamentoAtual) {
+                return; // O texto mudou enquanto a busca era feita
             }
-        });
+            if (erro != null) {
+                ExecucaoAssincrona.causa(erro).printStackTrace();
+                listaEventos.setPlaceholder(new Label("Não foi possível buscar os eventos."));
+                return;
+            }
+            eventos.setAll(encontrados);
+            listaEventos.setPlaceholder(new Label("Nenhum evento encontrado."));
+        }));
+    }
 
-        linhaInferior.setStyle("-fx-alignment: center-right;");
-        linhaInferior.getChildren().addAll(preco, botaoComprar);
+    /**
+     * Exibe abaixo do campo de busca os eventos futuros com alguma palavra do nome começando com o texto digitado.
+     * As sugestões são buscadas em segundo plano, como a busca, para que a trava e a leitura do arquivo de eventos
+     * não bloqueiem a digitação.
+     *
+     * @param texto o texto digitado no campo de busca.
+     */
+    private void mostrarSugestoes(String texto) {
+        int sugestao = ++sugestaoAtual;
 
-        box.getChildren().addAll(nome, descricao, data, capacidade, linhaInferior);
+        eventoController.sugerirAsync(texto, LIMITE_SUGESTOES).whenComplete((sugeridos, erro) -> Platform.runLater(() -> {
+            if (sugestao != sugestaoAtual) {
+                return; // O texto mudou enquanto as sugestões eram buscadas
+            }
+            if (erro != null) {
+                ExecucaoAssincrona.causa(erro).printStackTrace();
+                sugestoes.hide();
+                return;
+            }
+            if (sugeridos.isEmpty()) {
+                sugestoes.hide();
+                return;
+            }
+            List<MenuItem> itens = new ArrayList<>(sugeridos.size());
+            for (ResumoEvento evento : sugeridos) {
+                MenuItem item = new MenuItem(evento.nome());
+                item.setOnAction(e -> escolherSugestao(evento));
+                itens.add(item);
+            }
+            sugestoes.getItems().setAll(itens);
+            if (!sugestoes.isShowing()) {
+                sugestoes.show(campoBusca, Side.BOTTOM, 0, 0);
+            }
+        }));
+    }
 
-        return box;
+    /**
+     * Preenche o campo de busca com o nome do evento sugerido; a busca é feita normalmente após a espera.
+     *
+     * @param evento o evento sugerido escolhido.
+     */
+    private void escolherSugestao(ResumoEvento evento) {
+        preenchendoSugestao = true;
+        campoBusca.setText(evento.nome());
+        campoBusca.positionCaret(evento.nome().length());
+        preenchendoSugestao = false;
+    }
+
+    /**
+     * Busca a próxima página de eventos, se nenhuma busca estiver em andamento e ainda houver eventos.
+     */
+    private void carregarProximaPagina() {
+        if (carregandoPagina || todosCarregados) {
+            return;
+        }
+        carregandoPagina = true;
+        int carregamento = carregamentoAtual;
+
+        eventoController.getResumosDisponiveisAsync(eventos.size(), TAMANHO_PAGINA).whenComplete((pagina, erro) -> Platform.runLater(() -> {
+            if (carregamento != carregamentoAtual) {
+                return; // A lista foi recarregada enquanto a página era buscada
+            }
+            carregandoPagina = false;
+            if (erro != null) {
+                ExecucaoAssincrona.causa(erro).printStackTrace();
+                todosCarregados = true;
+                listaEventos.setPlaceholder(new Label("Não foi possível carregar os eventos."));
+                return;
+            }
+            todosCarregados = pagina.size() < TAMANHO_PAGINA;
+            eventos.addAll(pagina);
+            listaEventos.setPlaceholder(new Label("Nenhum evento disponível."));
+        }));
+    }
+
+    /**
+     * Célula da lista de eventos. Os componentes são criados uma única vez por célula e reaproveitados
+     * para exibir qualquer evento que entre na área visível.
+     */
+    private class CelulaEvento extends ListCell<ResumoEvento> {
+        private final VBox box = new VBox(5);
+        private final Label nome = new Label();
+        private final Label data = new Label();
+        private final Label preco = new Label();
+        private final Label capacidade = new Label();
+        private final Button botaoComprar = new Button("Comprar Ingresso");
+
+        private CelulaEvento() {
+            box.getStyleClass().add("evento-box");
+            box.setPadding(new Insets(10));
+            box.setStyle("-fx-background-color: #34495e; -fx-border-color: #ecf0f1; -fx-border-radius: 5;");
+
+            nome.setStyle("-fx-font-weight: bold;");
+
+            HBox linhaInferior = new HBox(10);
+            linhaInferior.setStyle("-fx-alignment: center-right;");
+            linhaInferior.getChildren().addAll(preco, botaoComprar);
+
+            botaoComprar.setOnAction(e -> {
+                ResumoEvento evento = getItem();
+                if (evento != null && evento.assentosDisponiveis() > 0) {
+                    comprarIngresso(evento);
+                }
+            });
+
+            box.getChildren().addAll(nome, data, capacidade, linhaInferior);
+        }
+
+        @Override
+        protected void updateItem(ResumoEvento evento, boolean vazia) {
+            super.updateItem(evento, vazia);
+            if (vazia || evento == null) {
+                setGraphic(null);
+                return;
+            }
+            nome.setText("Nome: " + evento.nome());
+            data.setText("Data: " + evento.data().toString());
+            preco.setText("Preço: R$ " + evento.preco());
+            int disponiveis = evento.assentosDisponiveis();
+            capacidade.setText("Capacidade: " + disponiveis);
+            botaoComprar.getStyleClass().setAll("button", disponiveis == 0 ? "botao-desativado" : "botao");
+            setGraphic(box);
+
+            // Perto do fim da lista, busca a próxima página antes que o usuário chegue lá
+            if (getIndex() >= eventos.size() - LIMIAR_PROXIMA_PAGINA) {
+                carregarProximaPagina();
+            }
+        }
     }
 
     /**
      * Inicia o processo de compra de ingressos para o evento selecionado.
+     * O evento completo, com a descrição e o inventário de assentos, é buscado apenas neste momento, em segundo
+     * plano; cliques repetidos enquanto a busca não termina são ignorados.
+     *
+     * @param resumo o resumo do evento para o qual o ingresso será comprado.
+     */
+    private void comprarIngresso(ResumoEvento resumo) {
+        if (abrindoCompra) {
+            return;
+        }
+        abrindoCompra = true;
+
+        eventoController.getByIdAsync(resumo.id()).whenComplete((evento, erro) -> Platform.runLater(() -> {
+            abrindoCompra = false;
+            if (erro != null) {
+                ExecucaoAssincrona.causa(erro).printStackTrace();
+                return;
+            }
+            if (evento == null) {
+                carregarEventos(); // O evento foi removido desde que a página foi carregada
+                return;
+            }
+            abrirTelaCompra(evento);
+        }));
+    }
+
+    /**
+     * Abre a tela de compra para o evento buscado.
      *
-     * @param evento o evento para o qual o ingresso será comprado.
+     * @param evento o evento completo, com o inventário de assentos.
      */
-    private void comprarIngresso(Evento evento) {
+    private void abrirTelaCompra(Evento evento) {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/aplication/view/fxml/TelaCompra.fxml"));
             Parent root = loader.load();
 
             TelaCompraController controller = loader.getController();
-            controller.setEvento(evento);
             controller.setUsuario(usuarioAtual);
-            controller.setCenaAnterior(eventosContainer.getScene());
+            controller.setEvento(evento);
+            controller.setCenaAnterior(listaEventos.getScene());
 
             Scene novaCena = new Scene(root);
             String css = getClass().getResource("/aplication/view/estilos.css").toExternalForm();
             novaCena.getStylesheets().add(css);
 
-            Stage stage = (Stage) eventosContainer.getScene().getWindow();
+            Stage stage = (Stage) listaEventos.getScene().getWindow();
 
             WindowState.saveState(stage);
 
@@ -1,13 +1,18 @@
 package aplication.view.controller;
 
 import aplication.controller.UsuarioController;
+import aplication.controller.ContextoAplicacao;
 import aplication.model.Usuario;
+import aplication.util.ExecucaoAssincrona;
 import aplication.view.WindowState;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
+import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.PasswordField;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.stage.Stage;
 
@@ -20,7 +25,7 @@ import java.io.IOException;
 public class TelaInicialController {
 
     /** Controlador de lógica relacionado aos usuários. */
-    private final UsuarioController usuarioController = new UsuarioController();
+    private final UsuarioController usuarioController = ContextoAplicacao.getInstancia().getUsuarioController();
 
     /** Campo de entrada para o login do usuário. */
     @FXML
@@ -38,6 +43,14 @@ public class TelaInicialController {
     @FXML
     private Label erroSenha;
 
+    /** Botão de login, desabilitado enquanto as credenciais são verificadas. */
+    @FXML
+    private Button botaoEntrar;
+
+    /** Indicador exibido enquanto as credenciais são verificadas. */
+    @FXML
+    private ProgressIndicator indicadorCarregamento;
+
     /**
      * Metodo acionado ao tentar realizar o login.
      * Valida os campos de entrada e verifica as credenciais do usuário no sistema.
@@ -66,17 +79,34 @@ public class TelaInicialController {
         if (!valido) {
             return;
         }
-        // Verificação de login no back-end
-        boolean loginValido = usuarioController.login(login, senha);
-        Usuario usuarioLogado = usuarioController.getByLogin(login);
-
-        if (loginValido && usuarioLogado != null) {
-            abrirTelaEventos(usuarioLogado);
-        } else {
-            erroSenha.setText("Login ou senha incorretos!");
-            campoLogin.setStyle("-fx-border-color: red;");
-            campoSenha.setStyle("-fx-border-color: red;");
-        }
+        // Verificação de login no back-end, em segundo plano
+        exibirCarregamento(true);
+        usuarioController.loginAsync(login, senha).whenComplete((usuarioLogado, erro) -> Platform.runLater(() -> {
+            exibirCarregamento(false);
+            if (erro != null) {
+                ExecucaoAssincrona.causa(erro).printStackTrace();
+                erroSenha.setText("Não foi possível verificar o login. Tente novamente.");
+            } else if (usuarioLogado != null) {
+                abrirTelaEventos(usuarioLogado);
+            } else {
+                erroSenha.setText("Login ou senha incorretos!");
+                campoLogin.setStyle("-fx-border-color: red;");
+                campoSenha.setStyle("-fx-border-color: red;");
+            }
+        }));
+    }
+
+    /**
+     * Exibe ou oculta o indicador de carregamento, bloqueando o formulário enquanto o login é verificado.
+     *
+     * @param carregando true para exibir o indicador e bloquear o formulário.
+     */
+    private void exibirCarregamento(boolean carregando) {
+        indicadorCarregamento.setVisible(carregando);
+        indicadorCarregamento.setManaged(carregando);
+        botaoEntrar.setDisable(carregando);
+        campoLogin.setDisable(carregando);
+        campoSenha.setDisable(carregando);
     }
 
     /**
@@ -1,10 +1,11 @@
 package aplication.view.controller;
 
-import aplication.controller.EventoController;
-import aplication.controller.UsuarioController;
+import aplication.controller.CompraController;
 import aplication.controller.IngressoController;
 import aplication.controller.AvaliacaoController;
+import aplication.controller.ContextoAplicacao;
 import aplication.model.Avaliacao;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -14,7 +15,11 @@ import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import aplication.model.Ingresso;
+import aplication.model.ItemHistoricoCompra;
+import aplication.model.ResumoEvento;
 import aplication.model.Usuario;
+import aplication.util.ExecucaoAssincrona;
+import aplication.view.ModeloRecibo;
 import javafx.stage.Stage;
 
 import java.util.ArrayList;
@@ -26,10 +31,9 @@ import java.util.List;
  */
 public class TelaMinhasComprasController {
 
-    private EventoController eventoController = new EventoController();
-    private UsuarioController usuarioController = new UsuarioController();
-    private IngressoController ingressoController = new IngressoController();
-    private AvaliacaoController avaliacaoController = new AvaliacaoController();
+    private CompraController compraController = ContextoAplicacao.getInstancia().getCompraController();
+    private IngressoController ingressoController = ContextoAplicacao.getInstancia().getIngressoController();
+    private AvaliacaoController avaliacaoController = ContextoAplicacao.getInstancia().getAvaliacaoController();
 
     private int rating = 0;
 
@@ -38,6 +42,7 @@ public class TelaMinhasComprasController {
 
     private Usuario usuarioAtual;
     private Scene cenaAnterior;
+    private int carregamentoAtual; // Último carregamento de compras solicitado, para descartar resultados antigos
 
     /**
      * Define o usuário atual para o controlador.
@@ -69,39 +74,47 @@ public class TelaMinhasComprasController {
 
     /**
      * Carrega as compras realizadas pelo usuário atual.
+     * O histórico é montado em segundo plano; enquanto isso, um indicador de carregamento é exibido.
      */
     private void carregarCompras() {
-        comprasContainer.getChildren().clear();
+        int carregamento = ++carregamentoAtual;
+        comprasContainer.getChildren().setAll(new ProgressIndicator());
 
-        for (Ingresso ingresso : usuarioAtual.getIngressos()) {
-            VBox ingressoBox = criarBoxIngresso(ingresso);
-            comprasContainer.getChildren().add(ingressoBox);
-        }
+        compraController.getHistoricoComprasAsync(usuarioAtual.getId()).whenComplete((historico, erro) -> Platform.runLater(() -> {
+            if (carregamento != carregamentoAtual) {
+                return; // Um carregamento mais recente já foi solicitado
+            }
+            comprasContainer.getChildren().clear();
+            if (erro != null) {
+                ExecucaoAssincrona.causa(erro).printStackTrace();
+                comprasContainer.getChildren().add(new Label("Não foi possível carregar suas compras."));
+                return;
+            }
+            for (ItemHistoricoCompra item : historico) {
+                comprasContainer.getChildren().add(criarBoxIngresso(item));
+            }
+        }));
     }
 
     /**
      * Cria um componente visual para exibir informações de um ingresso.
      *
-     * @param ingresso o ingresso a ser exibido.
+     * @param item a linha do histórico com o ingresso, seu evento, recibo e avaliação.
      * @return um VBox contendo os detalhes do ingresso.
      */
-    private VBox criarBoxIngresso(Ingresso ingresso) {
+    private VBox criarBoxIngresso(ItemHistoricoCompra item) {
+        Ingresso ingresso = item.ingresso();
+        ResumoEvento evento = item.evento();
         VBox box = new VBox(5);
         box.getStyleClass().add("ingresso-box");
         box.setPadding(new Insets(10));
         box.setStyle("-fx-background-color: #34495e; -fx-border-color: #ecf0f1; -fx-border-radius: 5;");
-        String reciboIngresso = null;
-
-        for (String reciboTemp : usuarioAtual.getRecibos()) {
-            if (reciboTemp.contains(ingresso.getId().toString())) {
-                reciboIngresso = reciboTemp;
-            }
-        }
+        String reciboIngresso = ModeloRecibo.renderizar(item.recibo());
 
-        Label nomeEvento = new Label("Evento: " + eventoController.getById(ingresso.getEventoId()).getNome());
+        Label nomeEvento = new Label("Evento: " + evento.nome());
         Label ingressoAtivo = new Label("Status do ingresso: " + (ingresso.isAtivo() ? "Ativo" : "Inativo"));
         Label assento = new Label("Assento: " + ingresso.getAssento());
-        Label dataEvento = new Label("Data: " + eventoController.getById(ingresso.getEventoId()).getData().toString());
+        Label dataEvento = new Label("Data: " + evento.data().toString());
         Label preco = new Label("Preço: R$ " + ingresso.getPreco());
         Label recibo = new Label("Recibo: \n" + reciboIngresso);
 
@@ -111,16 +124,16 @@ public class TelaMinhasComprasController {
         dadosIngressoBox.getChildren().addAll(nomeEvento, ingressoAtivo, assento, dataEvento, preco, recibo);
 
         Node elementoLateral;
-        if (!eventoController.getById(ingresso.getEventoId()).isAtivo()) {
-            elementoLateral = criarAvaliacaoBox(ingresso);
-        } else if (!ingresso.isAtivo() && eventoController.getById(ingresso.getEventoId()).isAtivo()) {
+        if (!evento.isAtivo()) {
+            elementoLateral = criarAvaliacaoBox(item);
+        } else if (!ingresso.isAtivo() && evento.isAtivo()) {
             Button botaoCancelar = new Button("Cancelar Compra");
             botaoCancelar.setDisable(true);
             botaoCancelar.getStyleClass().add("botao-desativado");
             elementoLateral = botaoCancelar;
         } else {
             Button botaoCancelar = new Button("Cancelar Compra");
-            botaoCancelar.setOnAction(e -> exibirConfirmacaoCancelar(ingresso, botaoCancelar));
+            botaoCancelar.setOnAction(e -> exibirConfirmacaoCancelar(item, botaoCancelar));
             botaoCancelar.getStyleClass().add("botao");
             elementoLateral = botaoCancelar;
         }
@@ -136,10 +149,11 @@ public class TelaMinhasComprasController {
     /**
      * Cria um componente visual para avaliação de um evento associado a um ingresso.
      *
-     * @param ingresso o ingresso relacionado ao evento a ser avaliado.
+     * @param item a linha do histórico com o ingresso e a avaliação já feita pelo usuário, se houver.
      * @return um HBox contendo os elementos de avaliação.
      */
-    private HBox criarAvaliacaoBox(Ingresso ingresso) {
+    private HBox criarAvaliacaoBox(ItemHistoricoCompra item) {
+        Ingresso ingresso = item.ingresso();
         Label labelAvaliacao = new Label("Sua avaliação:");
         HBox estrelasBox = new HBox(5);
         estrelasBox.setStyle("-fx-alignment: center-left;");
@@ -163,9 +177,7 @@ public class TelaMinhasComprasController {
         comentario.setMaxHeight(Double.MAX_VALUE);
         comentario.getStyleClass().add("campo-texto");
 
-        Avaliacao avaliacaoExistente = avaliacaoController.getAvaliacaoEventoUsuario(
-                ingresso.getEventoId(), usuarioAtual.getId()
-        );
+        Avaliacao avaliacaoExistente = item.avaliacao();
 
         if (avaliacaoExistente != null) {
             rating = avaliacaoExistente.getRating();
@@ -203,7 +215,7 @@ public class TelaMinhasComprasController {
     private void salvarAvaliacao(Ingresso ingresso, int estrelas, String comentario, Avaliacao avaliacao) {
         if (avaliacao == null) {
             avaliacao = avaliacaoController.criarAvaliacao(comentario, estrelas, usuarioAtual.getId(),
-                    ingressoController.getEventoById(ingresso.getId()).getId());
+                    ingresso.getEventoId());
         } else {
             avaliacaoController.update(avaliacao.getId(), comentario, estrelas);
         }
@@ -231,10 +243,10 @@ public class TelaMinhasComprasController {
     /**
      * Exibe uma caixa de diálogo de confirmação para cancelar a compra de um ingresso.
      *
-     * @param ingresso o ingresso a ser cancelado.
+     * @param item a linha do histórico com o ingresso a ser cancelado.
      * @param botaoCancelar o botão associado ao cancelamento.
      */
-    private void exibirConfirmacaoCancelar(Ingresso ingresso, Button botaoCancelar) {
+    private void exibirConfirmacaoCancelar(ItemHistoricoCompra item, Button botaoCancelar) {
         Alert confirmacao = new Alert(Alert.AlertType.CONFIRMATION);
         confirmacao.setTitle("Confirmação");
         confirmacao.setHeaderText("Deseja realmente cancelar este ingresso?");
@@ -242,46 +254,59 @@ public class TelaMinhasComprasController {
 
         confirmacao.showAndWait().ifPresent(resposta -> {
             if (resposta == ButtonType.OK) {
-                try {
-                    cancelarCompra(ingresso, botaoCancelar);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
+                cancelarCompra(item, botaoCancelar);
             }
         });
     }
 
     /**
      * Cancela a compra de um ingresso.
+     * O ingresso é desativado em segundo plano, pois a gravação do ingresso e do inventário do evento pode esperar
+     * por outras vendas do mesmo evento; enquanto isso, o botão de cancelamento fica desabilitado.
      *
-     * @param ingresso o ingresso a ser cancelado.
+     * @param item a linha do histórico com o ingresso a ser cancelado.
      * @param botaoCancelar o botão associado ao cancelamento.
-     * @throws Exception se houver um erro ao cancelar a compra.
      */
-    private void cancelarCompra(Ingresso ingresso, Button botaoCancelar) throws Exception {
-        // Desativa o ingresso e garante a atualização do evento
-        boolean canceladoComSucesso = ingressoController.desativarIngresso(ingresso.getId());
+    private void cancelarCompra(ItemHistoricoCompra item, Button botaoCancelar) {
+        Ingresso ingresso = item.ingresso();
+        botaoCancelar.setDisable(true);
 
-        if (canceladoComSucesso) {
-            // Desativa o botão de cancelamento após a confirmação
-            botaoCancelar.setDisable(true);
-            botaoCancelar.getStyleClass().add("botao-desativado");
+        // Desativa o ingresso e garante a atualização do evento
+        ingressoController.desativarIngressoAsync(ingresso.getId()).whenComplete((canceladoComSucesso, falha) -> Platform.runLater(() -> {
+            if (falha != null) {
+                Throwable causa = ExecucaoAssincrona.causa(falha);
+                causa.printStackTrace();
+                botaoCancelar.setDisable(false);
+                mostrarErroCancelamento("Não foi possível cancelar o ingresso: " + causa.getMessage());
+                return;
+            }
+            if (canceladoComSucesso) {
+                // Mantém o botão de cancelamento desativado após a confirmação
+                botaoCancelar.getStyleClass().add("botao-desativado");
 
-            // Recarrega os ingressos do usuário a partir do metodo getByUsuarioId
-            usuarioAtual.setIngressos(ingressoController.getByUsuarioId(usuarioAtual.getId()));
+                // Atualiza a lista de compras para refletir a mudança
+                carregarCompras();
 
-            // Atualiza a lista de compras para refletir a mudança
-            carregarCompras();
+                System.out.println("Compra do ingresso para o evento " + item.evento().nome() + " cancelada.");
+            } else {
+                // Se o ingresso não puder ser cancelado (evento inativo), exibe uma mensagem
+                botaoCancelar.setDisable(false);
+                mostrarErroCancelamento("O ingresso não pode ser cancelado, pois o evento já está inativo.");
+            }
+        }));
+    }
 
-            System.out.println("Compra do ingresso para o evento " + eventoController.getById(ingresso.getEventoId()).getNome() + " cancelada.");
-        } else {
-            // Se o ingresso não puder ser cancelado (evento inativo), exibe uma mensagem
-            Alert erro = new Alert(Alert.AlertType.ERROR);
-            erro.setTitle("Erro");
-            erro.setHeaderText("Erro ao cancelar ingresso");
-            erro.setContentText("O ingresso não pode ser cancelado, pois o evento já está inativo.");
-            erro.showAndWait();
-        }
+    /**
+     * Exibe uma mensagem de erro sobre o cancelamento de um ingresso.
+     *
+     * @param mensagem o texto explicando por que o ingresso não foi cancelado.
+     */
+    private void mostrarErroCancelamento(String mensagem) {
+        Alert erro = new Alert(Alert.AlertType.ERROR);
+        erro.setTitle("Erro");
+        erro.setHeaderText("Erro ao cancelar ingresso");
+        erro.setContentText(mensagem);
+        erro.showAndWait();
     }
 
 